@@ -16,12 +16,18 @@
  */
 package org.apache.dubbo.spring.boot.actuate.autoconfigure;
 
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboAllocatorEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboCompressionEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboConfigsMetadataEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboConnectionsEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboDispatchEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboPropertiesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboReferencesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboServicesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboShutdownEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboSlowInvocationsEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboWarmUpEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.condition.CompatibleConditionalOnEnabledEndpoint;
 
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -85,4 +91,46 @@ public class DubboEndpointAnnotationAutoConfiguration {
         return new DubboShutdownEndpoint();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboSlowInvocationsEndpoint dubboSlowInvocationsEndpoint() {
+        return new DubboSlowInvocationsEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboAllocatorEndpoint dubboAllocatorEndpoint() {
+        return new DubboAllocatorEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboCompressionEndpoint dubboCompressionEndpoint() {
+        return new DubboCompressionEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboDispatchEndpoint dubboDispatchEndpoint() {
+        return new DubboDispatchEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboConnectionsEndpoint dubboConnectionsEndpoint() {
+        return new DubboConnectionsEndpoint();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @CompatibleConditionalOnEnabledEndpoint
+    public DubboWarmUpEndpoint dubboWarmUpEndpoint() {
+        return new DubboWarmUpEndpoint();
+    }
+
 }
@@ -18,12 +18,18 @@ package org.apache.dubbo.spring.boot.actuate.autoconfigure;
 
 import org.apache.dubbo.config.annotation.DubboService;
 import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboAllocatorEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboCompressionEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboConfigsMetadataEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboConnectionsEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboDispatchEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboPropertiesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboReferencesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboServicesMetadataEndpoint;
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboShutdownEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboSlowInvocationsEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.DubboWarmUpEndpoint;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -74,6 +80,12 @@ import java.util.function.Supplier;
                 "management.endpoint.dubboservices.enabled = true",
                 "management.endpoint.dubboreferences.enabled = true",
                 "management.endpoint.dubboproperties.enabled = true",
+                "management.endpoint.dubboslow.enabled = true",
+                "management.endpoint.dubboallocator.enabled = true",
+                "management.endpoint.dubbocompression.enabled = true",
+                "management.endpoint.dubbodispatch.enabled = true",
+                "management.endpoint.dubboconnections.enabled = true",
+                "management.endpoint.dubbowarmup.enabled = true",
                 "management.endpoints.web.exposure.include = *",
         })
 @EnableAutoConfiguration
@@ -97,6 +109,24 @@ public class DubboEndpointAnnotationAutoConfigurationTest {
     @Autowired
     private DubboShutdownEndpoint dubboShutdownEndpoint;
 
+    @Autowired
+    private DubboSlowInvocationsEndpoint dubboSlowInvocationsEndpoint;
+
+    @Autowired
+    private DubboAllocatorEndpoint dubboAllocatorEndpoint;
+
+    @Autowired
+    private DubboCompressionEndpoint dubboCompressionEndpoint;
+
+    @Autowired
+    private DubboDispatchEndpoint dubboDispatchEndpoint;
+
+    @Autowired
+    private DubboConnectionsEndpoint dubboConnectionsEndpoint;
+
+    @Autowired
+    private DubboWarmUpEndpoint dubboWarmUpEndpoint;
+
     private RestTemplate restTemplate = new RestTemplate();
 
     @Autowired
@@ -207,6 +237,83 @@ public class DubboEndpointAnnotationAutoConfigurationTest {
         Assert.assertEquals("org.apache.dubbo.spring.boot.actuate.autoconfigure", properties.get("dubbo.scan.basePackages"));
     }
 
+    @Test
+    public void testSlowInvocations() {
+
+        Map<String, Object> slowInvocations = dubboSlowInvocationsEndpoint.slowInvocations();
+
+        Assert.assertEquals(Boolean.FALSE, slowInvocations.get("enabled"));
+        Assert.assertEquals(1, slowInvocations.size());
+
+    }
+
+    @Test
+    public void testAllocator() {
+
+        Map<String, Object> allocator = dubboAllocatorEndpoint.allocator();
+
+        Assert.assertNotNull(allocator.get("leakDetection"));
+        Assert.assertNotNull(allocator.get("directMemory"));
+
+        Map<String, Object> protocols = (Map<String, Object>) allocator.get("protocols");
+        Map<String, Object> protocol = (Map<String, Object>) protocols.get("my-protocol");
+
+        Assert.assertEquals("dubbo", protocol.get("name"));
+        Assert.assertEquals(20880, protocol.get("port"));
+        Assert.assertEquals("netty", protocol.get("transporter"));
+
+        Map<String, Object> allocatorData = (Map<String, Object>) protocol.get("allocator");
+
+        Assert.assertEquals("pooled", allocatorData.get("type"));
+        Assert.assertNotNull(allocatorData.get("chunkSize"));
+
+        Map<String, Object> eventLoops = (Map<String, Object>) allocator.get("eventLoops");
+
+        Assert.assertEquals(Boolean.FALSE, eventLoops.get("shared"));
+        Assert.assertNotNull(eventLoops.get("owned"));
+
+    }
+
+    @Test
+    public void testCompression() {
+
+        Map<String, Object> compression = dubboCompressionEndpoint.compression();
+
+        Assert.assertEquals(Boolean.FALSE, compression.get("enabled"));
+        Assert.assertEquals(1, compression.size());
+
+    }
+
+    @Test
+    public void testDispatch() {
+
+        Map<String, Object> dispatch = dubboDispatchEndpoint.dispatch();
+
+        Assert.assertEquals(Boolean.FALSE, dispatch.get("enabled"));
+        Assert.assertEquals(1, dispatch.size());
+
+    }
+
+    @Test
+    public void testConnections() {
+
+        Map<String, Object> connections = dubboConnectionsEndpoint.connections();
+
+        Assert.assertEquals(Boolean.FALSE, connections.get("enabled"));
+        Assert.assertEquals(1, connections.size());
+
+    }
+
+    @Test
+    public void testWarmUp() {
+
+        Map<String, Object> warmUp = dubboWarmUpEndpoint.warmUp();
+
+        Assert.assertEquals(Boolean.FALSE, warmUp.get("enabled"));
+        Assert.assertEquals(1, warmUp.size());
+
+    }
+
     @Test
     public void testHttpEndpoints() throws JsonProcessingException {
 //        testHttpEndpoint("/dubbo", dubboEndpoint::invoke);
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.EventLoopResources;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.ReactorNettyEventLoopResources;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorResourceFactory;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyProtocolConfigCustomizer.SHARE_EVENT_LOOPS_PROPERTY;
+
+/**
+ * Dubbo Reactor Netty Auto-{@link Configuration}, the servers and clients of {@link TunableNettyTransporter} share
+ * the event loops of Reactor Netty if "dubbo.transport.share-event-loops" is <code>true</code>, so that the
+ * applications of Spring WebFlux don't have two sets of IO threads. The {@link LoopResources} of
+ * {@link ReactorResourceFactory} bean is used if present, otherwise the global one of {@link HttpResources}.
+ *
+ * @see ReactorNettyEventLoopResources
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(name = SHARE_EVENT_LOOPS_PROPERTY)
+@ConditionalOnClass(name = {
+        "reactor.netty.resources.LoopResources",
+        "org.springframework.http.client.reactive.ReactorResourceFactory"
+})
+@Configuration
+public class DubboReactorNettyAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = EventLoopResources.BEAN_NAME)
+    @Bean(name = EventLoopResources.BEAN_NAME)
+    public ReactorNettyEventLoopResources dubboEventLoopResources(ObjectProvider<ReactorResourceFactory> resourceFactory) {
+        ReactorResourceFactory factory = resourceFactory.getIfAvailable();
+        LoopResources loopResources = factory != null ? factory.getLoopResources() : HttpResources.get();
+        return new ReactorNettyEventLoopResources(loopResources);
+    }
+}
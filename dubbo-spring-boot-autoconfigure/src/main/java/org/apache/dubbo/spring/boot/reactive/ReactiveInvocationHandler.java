@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.reactive;
+
+import org.apache.dubbo.common.utils.ReflectUtils;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.TimeoutException;
+import org.apache.dubbo.rpc.InvokeMode;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.ConsumerModel;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.apache.dubbo.rpc.Constants.CONSUMER_MODEL;
+import static org.apache.dubbo.rpc.Constants.METHOD_MODEL;
+import static org.apache.dubbo.spring.boot.reactive.ReactiveProxyFactoryWrapper.REACTIVE_VIEW_KEY;
+
+/**
+ * The {@link InvocationHandler} of reactive consumer proxies, it invokes the reactive methods in
+ * {@link InvokeMode#FUTURE future mode} on subscription, and delegates the others to the original proxy, including
+ * the synchronous methods of reactive view.
+ * <p>
+ * The invocation is sent without blocking the subscribing thread, and the result is emitted by the callback thread
+ * of consumer, the attachments of {@link RpcContext} are captured when the method is called. The result of
+ * {@link Mono} is decoded as its element type, and the result of {@link Flux} is decoded as a {@link List} of its
+ * element type, which is emitted one by one, as well as the arrays and {@link Iterable iterables} returned by
+ * the synchronous methods of a reactive view. Cancelling the subscription discards the result, and the pending
+ * request is released by the invocation timeout like the synchronous ones.
+ *
+ * @see ReactiveProxyFactoryWrapper
+ * @since 2.7.10
+ */
+class ReactiveInvocationHandler implements InvocationHandler {
+
+    private final Invoker<?> invoker;
+
+    private final Object proxy;
+
+    private final Map<Method, ReactiveMethod> reactiveMethods;
+
+    /**
+     * The methods of service interface to delegate the synchronous methods of reactive view
+     */
+    private final Map<Method, Method> targetMethods;
+
+    private final String protocolServiceKey;
+
+    private final ConsumerModel consumerModel;
+
+    private ReactiveInvocationHandler(Invoker<?> invoker, Object proxy, Map<Method, ReactiveMethod> reactiveMethods,
+                                      Map<Method, Method> targetMethods) {
+        this.invoker = invoker;
+        this.proxy = proxy;
+        this.reactiveMethods = reactiveMethods;
+        this.targetMethods = targetMethods;
+        this.protocolServiceKey = invoker.getUrl().getProtocolServiceKey();
+        String serviceKey = invoker.getUrl().getServiceKey();
+        this.consumerModel = serviceKey == null ? null : ApplicationModel.getConsumerModel(serviceKey);
+    }
+
+    /**
+     * Create a reactive proxy if the reactive view is specified, or any interface of the original proxy has reactive
+     * methods
+     *
+     * @param invoker the invoker of service
+     * @param proxy   the original proxy
+     * @return the reactive proxy, or the original proxy if none of methods is reactive
+     * @throws IllegalStateException if a method of reactive view is absent in the service interface
+     */
+    static Object newProxyIfReactive(Invoker<?> invoker, Object proxy) {
+        Class<?> serviceType = invoker.getInterface();
+        Set<Class<?>> interfaces = new LinkedHashSet<>(Arrays.asList(proxy.getClass().getInterfaces()));
+        String reactiveView = invoker.getUrl().getParameter(REACTIVE_VIEW_KEY);
+        if (StringUtils.isNotEmpty(reactiveView)) {
+            // The methods of view may conflict with the ones of service interface
+            interfaces.remove(serviceType);
+            interfaces.add(ReflectUtils.forName(reactiveView));
+        }
+        Map<Method, ReactiveMethod> reactiveMethods = new HashMap<>();
+        Map<Method, Method> targetMethods = new HashMap<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                if (isReactive(method.getReturnType())) {
+                    reactiveMethods.put(method, new ReactiveMethod(getTargetMethod(serviceType, method), method));
+                } else if (!method.getDeclaringClass().isInstance(proxy)) {
+                    targetMethods.put(method, getTargetMethod(serviceType, method));
+                }
+            }
+        }
+        if (reactiveMethods.isEmpty() && targetMethods.isEmpty()) {
+            return proxy;
+        }
+        return Proxy.newProxyInstance(proxy.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+                new ReactiveInvocationHandler(invoker, proxy, reactiveMethods, targetMethods));
+    }
+
+    private static Method getTargetMethod(Class<?> serviceType, Method method) {
+        if (method.getDeclaringClass().isAssignableFrom(serviceType)) {
+            return method;
+        }
+        try {
+            return serviceType.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("The method " + method + " of reactive view is absent in the service "
+                    + "interface " + serviceType.getName(), e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        ReactiveMethod reactiveMethod = reactiveMethods.get(method);
+        if (reactiveMethod == null) {
+            try {
+                return targetMethods.getOrDefault(method, method).invoke(this.proxy, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+        Map<String, Object> attachments = new HashMap<>(RpcContext.getContext().getObjectAttachments());
+        Mono<Object> mono = Mono.create(sink -> {
+            CompletableFuture<Object> future = invokeAsync(reactiveMethod, args, attachments);
+            sink.onCancel(() -> future.cancel(false));
+            future.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    sink.error(throwable);
+                } else {
+                    sink.success(value);
+                }
+            });
+        });
+        return reactiveMethod.flux ? mono.flatMapIterable(ReactiveInvocationHandler::toIterable) : mono;
+    }
+
+    private CompletableFuture<Object> invokeAsync(ReactiveMethod reactiveMethod, Object[] args,
+                                                  Map<String, Object> attachments) {
+        Method method = reactiveMethod.targetMethod;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        try {
+            RpcInvocation invocation = new RpcInvocation(method, invoker.getInterface().getName(),
+                    protocolServiceKey, args, new HashMap<>(attachments), new HashMap<>());
+            invocation.setTargetServiceUniqueName(invoker.getUrl().getServiceKey());
+            invocation.setInvokeMode(InvokeMode.FUTURE);
+            if (reactiveMethod.returnTypes != null) {
+                invocation.setReturnType((Class<?>) reactiveMethod.returnTypes[0]);
+                invocation.setReturnTypes(reactiveMethod.returnTypes);
+            }
+            RpcContext.setRpcContext(invoker.getUrl());
+            if (consumerModel != null) {
+                invocation.put(CONSUMER_MODEL, consumerModel);
+                invocation.put(METHOD_MODEL, consumerModel.getMethodModel(method));
+            }
+            invoker.invoke(invocation).whenCompleteWithContext((result, throwable) -> {
+                if (throwable != null) {
+                    future.completeExceptionally(toRpcException(method, throwable));
+                } else if (result.hasException()) {
+                    future.completeExceptionally(result.getException());
+                } else {
+                    future.complete(result.getValue());
+                }
+            });
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private RpcException toRpcException(Method method, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
+        if (cause instanceof RpcException) {
+            return (RpcException) cause;
+        }
+        int code = cause instanceof TimeoutException ? RpcException.TIMEOUT_EXCEPTION :
+                cause instanceof RemotingException ? RpcException.NETWORK_EXCEPTION : RpcException.UNKNOWN_EXCEPTION;
+        return new RpcException(code, "Failed to invoke remote method: " + method.getName() + ", provider: "
+                + invoker.getUrl() + ", cause: " + cause.getMessage(), cause);
+    }
+
+    private static Iterable<?> toIterable(Object value) {
+        if (value instanceof Iterable) {
+            return (Iterable<?>) value;
+        }
+        if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        }
+        return Collections.singletonList(value);
+    }
+
+    static boolean isReactive(Class<?> type) {
+        return Mono.class == type || Flux.class == type;
+    }
+
+    private static class ReactiveMethod {
+
+        private final Method targetMethod;
+
+        private final boolean flux;
+
+        /**
+         * The return types to decode the result, or <code>null</code> if the target method is synchronous
+         */
+        private final Type[] returnTypes;
+
+        private ReactiveMethod(Method targetMethod, Method method) {
+            this.targetMethod = targetMethod;
+            this.flux = Flux.class == method.getReturnType();
+            this.returnTypes = isReactive(targetMethod.getReturnType()) ? getReturnTypes(targetMethod) : null;
+        }
+
+        private static Type[] getReturnTypes(Method method) {
+            Type returnType = method.getGenericReturnType();
+            Type elementType = returnType instanceof ParameterizedType ?
+                    ((ParameterizedType) returnType).getActualTypeArguments()[0] : Object.class;
+            if (Flux.class == method.getReturnType()) {
+                return new Type[]{List.class, new ListType(elementType)};
+            }
+            if (elementType instanceof ParameterizedType) {
+                return new Type[]{((ParameterizedType) elementType).getRawType(), elementType};
+            }
+            return elementType instanceof Class ? new Type[]{elementType, elementType} :
+                    new Type[]{Object.class, Object.class};
+        }
+    }
+
+    /**
+     * The {@link ParameterizedType} of {@link List} of the elements of {@link Flux}
+     */
+    private static class ListType implements ParameterizedType {
+
+        private final Type elementType;
+
+        private ListType(Type elementType) {
+            this.elementType = elementType;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return new Type[]{elementType};
+        }
+
+        @Override
+        public Type getRawType() {
+            return List.class;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return List.class.getName() + "<" + elementType.getTypeName() + ">";
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.reactive;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.ReflectUtils;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The provider {@link Invoker} completes the responses of the methods returning {@link Mono} or {@link Flux}
+ * asynchronously when the returned publisher emits, thus the worker thread is released as soon as the method returns
+ * rather than waiting for the reactive pipeline. The result of {@link Flux} is responded as a {@link java.util.List}
+ * of its elements.
+ * <p>
+ * The methods returning {@link CompletableFuture} are completed asynchronously by Dubbo itself.
+ *
+ * @see ReactiveProxyFactoryWrapper
+ * @since 2.7.10
+ */
+class ReactiveInvoker<T> implements Invoker<T> {
+
+    private final Invoker<T> invoker;
+
+    /**
+     * The names and parameter descriptors of reactive methods
+     */
+    private final Set<String> reactiveMethods;
+
+    private ReactiveInvoker(Invoker<T> invoker, Set<String> reactiveMethods) {
+        this.invoker = invoker;
+        this.reactiveMethods = reactiveMethods;
+    }
+
+    /**
+     * Wrap the invoker if the service interface has reactive methods
+     *
+     * @param invoker the invoker of service
+     * @param <T>     the type of service
+     * @return the reactive invoker, or the original invoker if none of methods is reactive
+     */
+    static <T> Invoker<T> wrapIfReactive(Invoker<T> invoker) {
+        Set<String> reactiveMethods = new HashSet<>();
+        for (Method method : invoker.getInterface().getMethods()) {
+            if (ReactiveInvocationHandler.isReactive(method.getReturnType())) {
+                reactiveMethods.add(getMethodKey(method.getName(), method.getParameterTypes()));
+            }
+        }
+        return reactiveMethods.isEmpty() ? invoker : new ReactiveInvoker<>(invoker, reactiveMethods);
+    }
+
+    private static String getMethodKey(String methodName, Class<?>[] parameterTypes) {
+        return methodName + ReflectUtils.getDesc(parameterTypes);
+    }
+
+    @Override
+    public Result invoke(Invocation invocation) throws RpcException {
+        Result result = invoker.invoke(invocation);
+        if (!reactiveMethods.contains(getMethodKey(invocation.getMethodName(), invocation.getParameterTypes()))
+                || result.hasException()) {
+            return result;
+        }
+        Object value = result.getValue();
+        CompletableFuture<?> future;
+        if (value instanceof Mono) {
+            future = ((Mono<?>) value).toFuture();
+        } else if (value instanceof Flux) {
+            future = ((Flux<?>) value).collectList().toFuture();
+        } else {
+            return result;
+        }
+        CompletableFuture<AppResponse> appResponseFuture = future.handle((obj, t) -> {
+            AppResponse appResponse = new AppResponse(invocation);
+            if (t != null) {
+                appResponse.setException(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            } else {
+                appResponse.setValue(obj);
+            }
+            return appResponse;
+        });
+        return new AsyncRpcResult(appResponseFuture, invocation);
+    }
+
+    @Override
+    public Class<T> getInterface() {
+        return invoker.getInterface();
+    }
+
+    @Override
+    public URL getUrl() {
+        return invoker.getUrl();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return invoker.isAvailable();
+    }
+
+    @Override
+    public void destroy() {
+        invoker.destroy();
+    }
+
+    @Override
+    public String toString() {
+        return invoker.toString();
+    }
+}
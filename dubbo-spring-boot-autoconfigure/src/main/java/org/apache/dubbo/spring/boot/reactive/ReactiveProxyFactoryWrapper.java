@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.reactive;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+
+import static org.apache.dubbo.common.utils.ClassUtils.isPresent;
+
+/**
+ * The wrapper of {@link ProxyFactory} adapts the methods returning {@link reactor.core.publisher.Mono} or
+ * {@link reactor.core.publisher.Flux} of the consumer proxies onto the asynchronous invocations, thus the reactive
+ * consumers, e.g. WebFlux controllers, never block their event loop threads on Dubbo services.
+ * <p>
+ * Such methods could be declared by the service interface itself, or by a reactive view of the service interface,
+ * which is an interface of the same methods returning {@link reactor.core.publisher.Mono} or
+ * {@link reactor.core.publisher.Flux} instead, and is implemented by the proxy in place of the service interface if
+ * it's specified by "{@value #REACTIVE_VIEW_KEY}" parameter of the reference, e.g.
+ * <pre>
+ * &#64;DubboReference(interfaceClass = DemoService.class,
+ *         parameters = {"reactive-view", "com.acme.ReactiveDemoService"})
+ * private ReactiveDemoService demoService;
+ * </pre>
+ * On the provider side, the invokers of services with reactive methods respond asynchronously when the returned
+ * publishers emit, thus the implementations could return {@link reactor.core.publisher.Mono} or
+ * {@link reactor.core.publisher.Flux} without holding the worker threads while the reactive pipelines wait on IO.
+ * <p>
+ * The wrapper is applied to all proxy factories by Dubbo SPI, and it doesn't touch the proxies and invokers of
+ * services without reactive methods, or if Reactor is absent.
+ *
+ * @see ReactiveInvocationHandler
+ * @see ReactiveInvoker
+ * @since 2.7.10
+ */
+public class ReactiveProxyFactoryWrapper implements ProxyFactory {
+
+    /**
+     * The parameter key of the reactive view of service interface
+     */
+    public static final String REACTIVE_VIEW_KEY = "reactive-view";
+
+    private static final boolean REACTOR_PRESENT = isPresent("reactor.core.publisher.Mono",
+            ReactiveProxyFactoryWrapper.class.getClassLoader());
+
+    private final ProxyFactory proxyFactory;
+
+    public ReactiveProxyFactoryWrapper(ProxyFactory proxyFactory) {
+        this.proxyFactory = proxyFactory;
+    }
+
+    @Override
+    public <T> T getProxy(Invoker<T> invoker) throws RpcException {
+        return getProxy(invoker, false);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getProxy(Invoker<T> invoker, boolean generic) throws RpcException {
+        T proxy = proxyFactory.getProxy(invoker, generic);
+        if (!REACTOR_PRESENT || generic) {
+            return proxy;
+        }
+        // The proxy of reactive view isn't an instance of the service interface
+        return (T) ReactiveInvocationHandler.newProxyIfReactive(invoker, proxy);
+    }
+
+    @Override
+    public <T> Invoker<T> getInvoker(T proxy, Class<T> type, URL url) throws RpcException {
+        Invoker<T> invoker = proxyFactory.getInvoker(proxy, type, url);
+        return REACTOR_PRESENT ? ReactiveInvoker.wrapIfReactive(invoker) : invoker;
+    }
+}
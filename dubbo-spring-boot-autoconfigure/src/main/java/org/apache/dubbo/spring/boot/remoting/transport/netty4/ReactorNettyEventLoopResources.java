@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * The {@link EventLoopResources} of Reactor Netty {@link LoopResources}, the event loops of Dubbo are shared with the
+ * servers and clients of Reactor Netty, for example Spring WebFlux and WebClient. The native transport follows
+ * Reactor Netty, it's epoll if available unless "reactor.netty.native" is <code>false</code>.
+ *
+ * @see LoopResources
+ * @since 2.7.10
+ */
+public class ReactorNettyEventLoopResources implements EventLoopResources {
+
+    private final LoopResources loopResources;
+
+    private final boolean useNative;
+
+    public ReactorNettyEventLoopResources(LoopResources loopResources) {
+        this.loopResources = loopResources;
+        this.useNative = LoopResources.DEFAULT_NATIVE && LoopResources.hasNativeSupport();
+    }
+
+    @Override
+    public EventLoopGroup getServerSelectGroup() {
+        return loopResources.onServerSelect(useNative);
+    }
+
+    @Override
+    public EventLoopGroup getServerGroup() {
+        return loopResources.onServer(useNative);
+    }
+
+    @Override
+    public EventLoopGroup getClientGroup() {
+        return loopResources.onClient(useNative);
+    }
+
+    @Override
+    public ServerChannel newServerChannel(EventLoopGroup group) {
+        return loopResources.onChannel(ServerSocketChannel.class, group);
+    }
+
+    @Override
+    public Channel newChannel(EventLoopGroup group) {
+        return loopResources.onChannel(SocketChannel.class, group);
+    }
+
+    public LoopResources getLoopResources() {
+        return loopResources;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.EventLoopResources;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.NettyEventLoops;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.ReactorNettyEventLoopResources;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.netty.http.HttpResources;
+
+/**
+ * {@link DubboReactorNettyAutoConfiguration} Test
+ *
+ * @since 2.7.10
+ */
+public class DubboReactorNettyAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DubboReactorNettyAutoConfiguration.class));
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    @After
+    public void destroy() {
+        new TunableNettyTransporter().setDubboEventLoopResources(null);
+        protocol.destroy();
+    }
+
+    @Test
+    public void testDisabled() {
+        contextRunner.run(context -> Assert.assertFalse(context.containsBean(EventLoopResources.BEAN_NAME)));
+    }
+
+    @Test
+    public void testSharedEventLoops() {
+        contextRunner.withPropertyValues("dubbo.transport.share-event-loops = true").run(context -> {
+            ReactorNettyEventLoopResources eventLoopResources = context.getBean(EventLoopResources.BEAN_NAME,
+                    ReactorNettyEventLoopResources.class);
+            Assert.assertSame(HttpResources.get(), eventLoopResources.getLoopResources());
+            new TunableNettyTransporter().setDubboEventLoopResources(eventLoopResources);
+            int ownedEventLoops = NettyEventLoops.getOwnedEventLoops();
+
+            URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                    + EchoService.class.getName() + "?server=tunable-netty&client=tunable-netty");
+            ApplicationModel.getServiceRepository().registerService(EchoService.class);
+            Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                    EchoService.class, url));
+            Invoker<EchoService> invoker = protocol.refer(EchoService.class, url);
+            try {
+                Assert.assertEquals("Hello", proxyFactory.getProxy(invoker).echo("Hello"));
+                Assert.assertEquals(ownedEventLoops, NettyEventLoops.getOwnedEventLoops());
+            } finally {
+                invoker.destroy();
+                exporter.unexport();
+            }
+            Assert.assertFalse(eventLoopResources.getServerGroup().isShuttingDown());
+        });
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+}
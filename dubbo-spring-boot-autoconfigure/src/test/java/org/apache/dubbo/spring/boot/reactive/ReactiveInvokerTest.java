@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.reactive;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ReactiveInvoker} Test
+ *
+ * @since 2.7.10
+ */
+public class ReactiveInvokerTest {
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final CompletableFuture<String> released = new CompletableFuture<>();
+
+    private Exporter<ReactiveEchoService> exporter;
+
+    private Invoker<ReactiveEchoService> invoker;
+
+    @Before
+    public void init() {
+        // The only worker thread must not be held by the pending invocations
+        URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                + ReactiveEchoService.class.getName() + "?timeout=5000&threadpool=fixed&threads=1&queues=16");
+        ApplicationModel.getServiceRepository().registerService(ReactiveEchoService.class);
+        Invoker<ReactiveEchoService> serviceInvoker = proxyFactory.getInvoker(new PendingEchoService(),
+                ReactiveEchoService.class, url);
+        Assert.assertTrue(serviceInvoker instanceof ReactiveInvoker);
+        exporter = protocol.export(serviceInvoker);
+        invoker = protocol.refer(ReactiveEchoService.class, url);
+    }
+
+    @After
+    public void destroy() {
+        released.complete("");
+        invoker.destroy();
+        exporter.unexport();
+        protocol.destroy();
+    }
+
+    @Test
+    public void testMono() throws Exception {
+        ReactiveEchoService echoService = proxyFactory.getProxy(invoker);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(echoService.echo("Hello," + i).toFuture());
+        }
+        while (invocations.get() < 4) {
+            Thread.sleep(10);
+        }
+        released.complete("!");
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals("Hello," + i + "!", futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testFlux() {
+        released.complete("");
+        ReactiveEchoService echoService = proxyFactory.getProxy(invoker);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), echoService.split("a,b,c").collectList().block());
+        Assert.assertEquals(Arrays.asList("a", "b"),
+                echoService.split("a,b,c").take(2).collectList().block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testCompletableFuture() throws Exception {
+        ReactiveEchoService echoService = proxyFactory.getProxy(invoker);
+        CompletableFuture<String> first = echoService.echoAsync("Hello,0");
+        CompletableFuture<String> second = echoService.echoAsync("Hello,1");
+        while (invocations.get() < 2) {
+            Thread.sleep(10);
+        }
+        released.complete("!");
+        Assert.assertEquals("Hello,0!", first.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals("Hello,1!", second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testError() {
+        released.complete("");
+        ReactiveEchoService echoService = proxyFactory.getProxy(invoker);
+        try {
+            echoService.echo(null).block(Duration.ofSeconds(5));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("The message is null", e.getMessage());
+        }
+        Assert.assertNull(echoService.echo("").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void testNonReactive() {
+        Invoker<EchoService> serviceInvoker = proxyFactory.getInvoker(message -> message, EchoService.class,
+                invoker.getUrl());
+        Assert.assertFalse(serviceInvoker instanceof ReactiveInvoker);
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+
+    public interface ReactiveEchoService {
+
+        Mono<String> echo(String message);
+
+        CompletableFuture<String> echoAsync(String message);
+
+        Flux<String> split(String message);
+    }
+
+    private class PendingEchoService implements ReactiveEchoService {
+
+        @Override
+        public Mono<String> echo(String message) {
+            invocations.incrementAndGet();
+            if (message == null) {
+                return Mono.error(new IllegalArgumentException("The message is null"));
+            }
+            return message.isEmpty() ? Mono.empty() : Mono.fromFuture(released).map(suffix -> message + suffix);
+        }
+
+        @Override
+        public CompletableFuture<String> echoAsync(String message) {
+            invocations.incrementAndGet();
+            return released.thenApply(suffix -> message + suffix);
+        }
+
+        @Override
+        public Flux<String> split(String message) {
+            return Flux.fromArray(message.split(","));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.reactive;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.apache.dubbo.spring.boot.reactive.ReactiveProxyFactoryWrapper.REACTIVE_VIEW_KEY;
+
+/**
+ * {@link ReactiveProxyFactoryWrapper} Test
+ *
+ * @since 2.7.10
+ */
+public class ReactiveProxyFactoryWrapperTest {
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    private Exporter<EchoService> exporter;
+
+    private Invoker<EchoService> invoker;
+
+    @Before
+    public void init() {
+        URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + EchoService.class.getName()
+                + "?timeout=5000&" + REACTIVE_VIEW_KEY + "=" + ReactiveEchoService.class.getName());
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+        exporter = protocol.export(proxyFactory.getInvoker(new BlockingEchoService(), EchoService.class, url));
+        invoker = protocol.refer(EchoService.class, url);
+    }
+
+    @After
+    public void destroy() {
+        released.countDown();
+        invoker.destroy();
+        exporter.unexport();
+        protocol.destroy();
+    }
+
+    @Test
+    public void testMono() throws Exception {
+        released.countDown();
+        ReactiveEchoService echoService = getReactiveProxy(invoker);
+        Mono<String> mono = echoService.echo("Hello");
+        Assert.assertEquals(0, invocations.get());
+        Assert.assertEquals("Hello", mono.block());
+        Assert.assertEquals("Hello", echoService.echoAsync("Hello").get());
+        Assert.assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testFlux() {
+        released.countDown();
+        ReactiveEchoService echoService = getReactiveProxy(invoker);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), echoService.split("a,b,c").collectList().block());
+        Assert.assertEquals(Arrays.asList("a", "b"), echoService.split("a,b,").collectList().block());
+    }
+
+    @Test
+    public void testNonBlocking() throws Exception {
+        ReactiveEchoService echoService = getReactiveProxy(invoker);
+        AtomicReference<String> message = new AtomicReference<>();
+        CountDownLatch emitted = new CountDownLatch(1);
+        echoService.echo("Hello").subscribe(value -> {
+            message.set(value);
+            emitted.countDown();
+        });
+        // The subscribing thread isn't blocked by the pending invocation
+        Assert.assertNull(message.get());
+        released.countDown();
+        Assert.assertTrue(emitted.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("Hello", message.get());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        ReactiveEchoService echoService = getReactiveProxy(invoker);
+        AtomicReference<Object> signal = new AtomicReference<>();
+        Disposable disposable = echoService.echo("Hello").subscribe(signal::set, signal::set);
+        while (invocations.get() == 0) {
+            Thread.sleep(10);
+        }
+        disposable.dispose();
+        released.countDown();
+        Assert.assertEquals("Hello", echoService.echo("Hello").block());
+        Assert.assertNull(signal.get());
+    }
+
+    @Test
+    public void testError() {
+        released.countDown();
+        ReactiveEchoService echoService = getReactiveProxy(invoker);
+        try {
+            echoService.echo(null).block(Duration.ofSeconds(5));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("The message is null", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTimeout() {
+        URL url = invoker.getUrl().addParameter("timeout", 100);
+        Invoker<EchoService> timeoutInvoker = protocol.refer(EchoService.class, url);
+        try {
+            ReactiveEchoService echoService = getReactiveProxy(timeoutInvoker);
+            echoService.echo("Hello").block(Duration.ofSeconds(5));
+            Assert.fail();
+        } catch (RpcException e) {
+            Assert.assertTrue(e.isTimeout());
+        } finally {
+            timeoutInvoker.destroy();
+        }
+    }
+
+    @Test
+    public void testNonReactive() {
+        URL url = invoker.getUrl().removeParameter(REACTIVE_VIEW_KEY);
+        Invoker<EchoService> nonReactiveInvoker = protocol.refer(EchoService.class, url);
+        try {
+            EchoService echoService = proxyFactory.getProxy(nonReactiveInvoker);
+            Assert.assertFalse(Proxy.isProxyClass(echoService.getClass()));
+        } finally {
+            nonReactiveInvoker.destroy();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAbsentMethod() {
+        URL url = invoker.getUrl().addParameter(REACTIVE_VIEW_KEY, AbsentEchoService.class.getName());
+        Invoker<EchoService> absentInvoker = protocol.refer(EchoService.class, url);
+        try {
+            getReactiveProxy(absentInvoker);
+        } finally {
+            absentInvoker.destroy();
+        }
+    }
+
+    private ReactiveEchoService getReactiveProxy(Invoker<?> invoker) {
+        return (ReactiveEchoService) proxyFactory.getProxy(invoker);
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+
+        CompletableFuture<String> echoAsync(String message);
+
+        List<String> split(String message);
+    }
+
+    public interface ReactiveEchoService {
+
+        Mono<String> echo(String message);
+
+        CompletableFuture<String> echoAsync(String message);
+
+        Flux<String> split(String message);
+    }
+
+    public interface AbsentEchoService {
+
+        Mono<String> absent(String message);
+    }
+
+    private class BlockingEchoService implements EchoService {
+
+        @Override
+        public String echo(String message) {
+            invocations.incrementAndGet();
+            if (message == null) {
+                throw new IllegalArgumentException("The message is null");
+            }
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return message;
+        }
+
+        @Override
+        public CompletableFuture<String> echoAsync(String message) {
+            return CompletableFuture.completedFuture(echo(message));
+        }
+
+        @Override
+        public List<String> split(String message) {
+            return Arrays.asList(message.split(","));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.EventLoopResources;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.NettyEventLoops;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.internal.PlatformDependent;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DUBBO;
+
+/**
+ * Dubbo Allocator Metadata, reports the effective Netty allocator of each {@link ProtocolConfig protocol} and its usage
+ * in bytes, and the event loops of "tunable-netty" transporter
+ *
+ * @since 2.7.10
+ */
+@Component
+public class DubboAllocatorMetadata extends AbstractDubboMetadata {
+
+    private static final String DEFAULT_TRANSPORTER = "netty";
+
+    private static final String TUNABLE_NETTY_TRANSPORTER = "tunable-netty";
+
+    public Map<String, Object> allocator() {
+
+        Map<String, Object> allocatorData = new LinkedHashMap<>();
+
+        allocatorData.put("leakDetection", ResourceLeakDetector.getLevel().name());
+
+        Map<String, Object> directMemoryData = new LinkedHashMap<>();
+        directMemoryData.put("used", PlatformDependent.usedDirectMemory());
+        directMemoryData.put("max", PlatformDependent.maxDirectMemory());
+        allocatorData.put("directMemory", directMemoryData);
+
+        Map<String, Object> protocolsData = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ProtocolConfig> entry : getProtocolConfigsBeanMap().entrySet()) {
+            protocolsData.put(entry.getKey(), resolveProtocolData(entry.getValue()));
+        }
+
+        allocatorData.put("protocols", protocolsData);
+
+        Map<String, Object> eventLoopsData = new LinkedHashMap<>();
+        eventLoopsData.put("shared", applicationContext.containsBean(EventLoopResources.BEAN_NAME));
+        eventLoopsData.put("owned", NettyEventLoops.getOwnedEventLoops());
+        allocatorData.put("eventLoops", eventLoopsData);
+
+        return allocatorData;
+    }
+
+    private Map<String, Object> resolveProtocolData(ProtocolConfig protocolConfig) {
+        Map<String, Object> protocolData = new LinkedHashMap<>();
+        String name = protocolConfig.getName();
+        String transporter = protocolConfig.getServer();
+        if (!StringUtils.hasText(transporter)) {
+            transporter = protocolConfig.getTransporter();
+        }
+        if (!StringUtils.hasText(transporter) && (name == null || DUBBO.equals(name))) {
+            transporter = DEFAULT_TRANSPORTER;
+        }
+        protocolData.put("name", name);
+        protocolData.put("port", protocolConfig.getPort());
+        protocolData.put("transporter", transporter);
+        ByteBufAllocator allocator = resolveAllocator(transporter);
+        protocolData.put("allocator", allocator == null ? null : resolveAllocatorData(allocator));
+        return protocolData;
+    }
+
+    private ByteBufAllocator resolveAllocator(String transporter) {
+        if (TUNABLE_NETTY_TRANSPORTER.equals(transporter)) {
+            return ByteBufAllocator.DEFAULT;
+        }
+        if (DEFAULT_TRANSPORTER.equals(transporter) || "netty4".equals(transporter)) {
+            return PooledByteBufAllocator.DEFAULT;
+        }
+        // The allocator of other transporters is unknown
+        return null;
+    }
+
+    private Map<String, Object> resolveAllocatorData(ByteBufAllocator allocator) {
+        Map<String, Object> allocatorData = new LinkedHashMap<>();
+        String type = allocator instanceof PooledByteBufAllocator ? "pooled" :
+                allocator instanceof UnpooledByteBufAllocator ? "unpooled" : allocator.getClass().getName();
+        allocatorData.put("type", type);
+        ByteBuf probe = allocator.buffer(0);
+        try {
+            allocatorData.put("direct", probe.isDirect());
+        } finally {
+            probe.release();
+        }
+        if (allocator instanceof ByteBufAllocatorMetricProvider) {
+            ByteBufAllocatorMetric metric = ((ByteBufAllocatorMetricProvider) allocator).metric();
+            if (metric instanceof PooledByteBufAllocatorMetric) {
+                PooledByteBufAllocatorMetric pooledMetric = (PooledByteBufAllocatorMetric) metric;
+                allocatorData.put("heapArenas", pooledMetric.numHeapArenas());
+                allocatorData.put("directArenas", pooledMetric.numDirectArenas());
+                allocatorData.put("chunkSize", pooledMetric.chunkSize());
+                allocatorData.put("threadLocalCaches", pooledMetric.numThreadLocalCaches());
+            }
+            allocatorData.put("usedHeapMemory", metric.usedHeapMemory());
+            allocatorData.put("usedDirectMemory", metric.usedDirectMemory());
+        }
+        return allocatorData;
+    }
+}
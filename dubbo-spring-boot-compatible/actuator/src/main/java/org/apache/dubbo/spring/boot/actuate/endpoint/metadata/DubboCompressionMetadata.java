@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.spring.boot.compression.CompressionStatistics;
+import org.apache.dubbo.spring.boot.compression.ResponseCompressor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dubbo Compression Metadata, the sizes are in bytes
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+@Component
+public class DubboCompressionMetadata extends AbstractDubboMetadata {
+
+    public Map<String, Object> compression() {
+
+        Map<String, Object> compressionData = new LinkedHashMap<>();
+
+        ResponseCompressor compressor = getResponseCompressor();
+
+        compressionData.put("enabled", compressor != null);
+
+        if (compressor == null) {
+            return compressionData;
+        }
+
+        compressionData.put("codecs", compressor.getCodecs());
+        compressionData.put("compressed", resolveStatisticsData(compressor.getCompressionStatistics()));
+        compressionData.put("decompressed", resolveStatisticsData(compressor.getDecompressionStatistics()));
+
+        Map<String, Object> skippedData = new LinkedHashMap<>();
+        skippedData.put("count", compressor.getSkippedCount());
+        skippedData.put("bytes", compressor.getSkippedBytes());
+        compressionData.put("skipped", skippedData);
+
+        return compressionData;
+    }
+
+    private Map<String, Object> resolveStatisticsData(Map<String, CompressionStatistics> statisticsMap) {
+        Map<String, Object> statisticsData = new LinkedHashMap<>();
+        for (Map.Entry<String, CompressionStatistics> entry : statisticsMap.entrySet()) {
+            CompressionStatistics statistics = entry.getValue();
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("count", statistics.getCount());
+            data.put("uncompressedBytes", statistics.getUncompressedBytes());
+            data.put("compressedBytes", statistics.getCompressedBytes());
+            statisticsData.put(entry.getKey(), data);
+        }
+        return statisticsData;
+    }
+
+    private ResponseCompressor getResponseCompressor() {
+        return applicationContext.containsBean(ResponseCompressor.BEAN_NAME) ?
+                applicationContext.getBean(ResponseCompressor.BEAN_NAME, ResponseCompressor.class) : null;
+    }
+
+}
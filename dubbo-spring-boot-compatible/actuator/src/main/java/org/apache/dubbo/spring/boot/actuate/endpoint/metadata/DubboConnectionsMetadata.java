@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.spring.boot.connection.SharedConnections;
+import org.apache.dubbo.spring.boot.connection.SharedConnectionsProtocolWrapper;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dubbo Connections Metadata, the shared connections and the references which share them by provider address
+ *
+ * @see SharedConnectionsProtocolWrapper
+ * @since 2.7.10
+ */
+@Component
+public class DubboConnectionsMetadata extends AbstractDubboMetadata {
+
+    public Map<String, Object> connections() {
+
+        Map<String, Object> connectionsData = new LinkedHashMap<>();
+
+        SharedConnections sharedConnections = getSharedConnections();
+
+        connectionsData.put("enabled", sharedConnections != null);
+
+        if (sharedConnections == null) {
+            return connectionsData;
+        }
+
+        connectionsData.put("addresses", sharedConnections.getAddressConnections());
+
+        return connectionsData;
+    }
+
+    private SharedConnections getSharedConnections() {
+        return applicationContext.containsBean(SharedConnections.BEAN_NAME) ?
+                applicationContext.getBean(SharedConnections.BEAN_NAME, SharedConnections.class) : null;
+    }
+
+}
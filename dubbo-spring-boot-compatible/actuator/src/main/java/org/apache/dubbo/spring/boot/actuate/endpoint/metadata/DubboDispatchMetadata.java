@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.spring.boot.dispatch.DirectDispatchStatistics;
+import org.apache.dubbo.spring.boot.dispatch.MethodDirectDispatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dubbo Dispatch Metadata, the "direct" requests run on the IO threads without the thread handoff
+ *
+ * @see MethodDirectDispatcher
+ * @since 2.7.10
+ */
+@Component
+public class DubboDispatchMetadata extends AbstractDubboMetadata {
+
+    public Map<String, Object> dispatch() {
+
+        Map<String, Object> dispatchData = new LinkedHashMap<>();
+
+        DirectDispatchStatistics statistics = getDirectDispatchStatistics();
+
+        dispatchData.put("enabled", statistics != null);
+
+        if (statistics == null) {
+            return dispatchData;
+        }
+
+        dispatchData.put("direct", statistics.getDirectCount());
+        dispatchData.put("dispatched", statistics.getDispatchedCount());
+        dispatchData.put("methods", statistics.getDirectCounts());
+
+        return dispatchData;
+    }
+
+    private DirectDispatchStatistics getDirectDispatchStatistics() {
+        return applicationContext.containsBean(DirectDispatchStatistics.BEAN_NAME) ?
+                applicationContext.getBean(DirectDispatchStatistics.BEAN_NAME, DirectDispatchStatistics.class) : null;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.spring.boot.slow.SlowInvocation;
+import org.apache.dubbo.spring.boot.slow.SlowInvocationRecorder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.dubbo.spring.boot.slow.SlowInvocation.UNAVAILABLE;
+
+/**
+ * Dubbo Slow Invocations Metadata, the durations are in milliseconds
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+@Component
+public class DubboSlowInvocationsMetadata extends AbstractDubboMetadata {
+
+    private static Double toMillis(long nanos) {
+        return nanos == UNAVAILABLE ? null : nanos / 1000000.0d;
+    }
+
+    public Map<String, Object> slowInvocations() {
+
+        Map<String, Object> slowInvocationsData = new LinkedHashMap<>();
+
+        SlowInvocationRecorder recorder = getSlowInvocationRecorder();
+
+        slowInvocationsData.put("enabled", recorder != null);
+
+        if (recorder == null) {
+            return slowInvocationsData;
+        }
+
+        slowInvocationsData.put("threshold", recorder.getThreshold());
+        slowInvocationsData.put("top", recorder.getTop());
+        slowInvocationsData.put("recorded", recorder.getRecordedCount());
+
+        Map<String, List<Map<String, Object>>> invocationsData = new LinkedHashMap<>();
+
+        for (Map.Entry<String, List<SlowInvocation>> entry : recorder.getSlowestInvocations().entrySet()) {
+            List<Map<String, Object>> invocations = new ArrayList<>(entry.getValue().size());
+            for (SlowInvocation invocation : entry.getValue()) {
+                invocations.add(resolveSlowInvocationData(invocation));
+            }
+            invocationsData.put(entry.getKey(), invocations);
+        }
+
+        slowInvocationsData.put("invocations", invocationsData);
+
+        return slowInvocationsData;
+    }
+
+    private Map<String, Object> resolveSlowInvocationData(SlowInvocation invocation) {
+        Map<String, Object> invocationData = new LinkedHashMap<>();
+        invocationData.put("timestamp", invocation.getTimestamp());
+        invocationData.put("elapsed", toMillis(invocation.getElapsed()));
+        invocationData.put("decode", toMillis(invocation.getDecode()));
+        invocationData.put("queueWait", toMillis(invocation.getQueueWait()));
+        invocationData.put("execute", toMillis(invocation.getExecute()));
+        invocationData.put("encode", toMillis(invocation.getEncode()));
+        invocationData.put("remoteAddress", invocation.getRemoteAddress());
+        invocationData.put("arguments", invocation.getArguments());
+        invocationData.put("attachments", invocation.getAttachments());
+        invocationData.put("exception", invocation.getException());
+        return invocationData;
+    }
+
+    private SlowInvocationRecorder getSlowInvocationRecorder() {
+        return applicationContext.containsBean(SlowInvocationRecorder.BEAN_NAME) ?
+                applicationContext.getBean(SlowInvocationRecorder.BEAN_NAME, SlowInvocationRecorder.class) : null;
+    }
+
+}
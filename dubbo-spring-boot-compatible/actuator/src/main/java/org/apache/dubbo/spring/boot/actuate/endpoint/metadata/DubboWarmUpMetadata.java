@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.actuate.endpoint.metadata;
+
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUp;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dubbo Warm-Up Metadata, the state of warm-up phase, the connected providers and the sample invocations
+ *
+ * @see DubboWarmUp
+ * @since 2.7.10
+ */
+@Component
+public class DubboWarmUpMetadata extends AbstractDubboMetadata {
+
+    public Map<String, Object> warmUp() {
+
+        Map<String, Object> warmUpData = new LinkedHashMap<>();
+
+        DubboWarmUp dubboWarmUp = getDubboWarmUp();
+
+        warmUpData.put("enabled", dubboWarmUp != null);
+
+        if (dubboWarmUp == null) {
+            return warmUpData;
+        }
+
+        warmUpData.putAll(dubboWarmUp.getReport());
+
+        return warmUpData;
+    }
+
+    private DubboWarmUp getDubboWarmUp() {
+        return applicationContext.containsBean(DubboWarmUp.BEAN_NAME) ?
+                applicationContext.getBean(DubboWarmUp.BEAN_NAME, DubboWarmUp.class) : null;
+    }
+
+}
@@ -17,11 +17,17 @@
 package org.apache.dubbo.spring.boot.actuate.endpoint.mvc;
 
 import org.apache.dubbo.spring.boot.actuate.endpoint.DubboEndpoint;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboAllocatorMetadata;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboCompressionMetadata;
 import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboConfigsMetadata;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboConnectionsMetadata;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboDispatchMetadata;
 import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboPropertiesMetadata;
 import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboReferencesMetadata;
 import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboServicesMetadata;
 import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboShutdownMetadata;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboSlowInvocationsMetadata;
+import org.apache.dubbo.spring.boot.actuate.endpoint.metadata.DubboWarmUpMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +60,18 @@ public class DubboMvcEndpoint extends EndpointMvcAdapter {
 
     public static final String DUBBO_PROPERTIES_ENDPOINT_URI = "/properties";
 
+    public static final String DUBBO_SLOW_INVOCATIONS_ENDPOINT_URI = "/slow";
+
+    public static final String DUBBO_ALLOCATOR_ENDPOINT_URI = "/allocator";
+
+    public static final String DUBBO_COMPRESSION_ENDPOINT_URI = "/compression";
+
+    public static final String DUBBO_DISPATCH_ENDPOINT_URI = "/dispatch";
+
+    public static final String DUBBO_CONNECTIONS_ENDPOINT_URI = "/connections";
+
+    public static final String DUBBO_WARM_UP_ENDPOINT_URI = "/warmup";
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     @Autowired
@@ -71,6 +89,24 @@ public class DubboMvcEndpoint extends EndpointMvcAdapter {
     @Autowired
     private DubboPropertiesMetadata dubboPropertiesMetadata;
 
+    @Autowired
+    private DubboSlowInvocationsMetadata dubboSlowInvocationsMetadata;
+
+    @Autowired
+    private DubboAllocatorMetadata dubboAllocatorMetadata;
+
+    @Autowired
+    private DubboCompressionMetadata dubboCompressionMetadata;
+
+    @Autowired
+    private DubboDispatchMetadata dubboDispatchMetadata;
+
+    @Autowired
+    private DubboConnectionsMetadata dubboConnectionsMetadata;
+
+    @Autowired
+    private DubboWarmUpMetadata dubboWarmUpMetadata;
+
     public DubboMvcEndpoint(DubboEndpoint dubboEndpoint) {
         super(dubboEndpoint);
     }
@@ -108,4 +144,40 @@ public class DubboMvcEndpoint extends EndpointMvcAdapter {
         return dubboPropertiesMetadata.properties();
 
     }
+
+    @RequestMapping(value = DUBBO_SLOW_INVOCATIONS_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> slowInvocations() {
+        return dubboSlowInvocationsMetadata.slowInvocations();
+    }
+
+    @RequestMapping(value = DUBBO_ALLOCATOR_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> allocator() {
+        return dubboAllocatorMetadata.allocator();
+    }
+
+    @RequestMapping(value = DUBBO_COMPRESSION_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> compression() {
+        return dubboCompressionMetadata.compression();
+    }
+
+    @RequestMapping(value = DUBBO_DISPATCH_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> dispatch() {
+        return dubboDispatchMetadata.dispatch();
+    }
+
+    @RequestMapping(value = DUBBO_CONNECTIONS_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> connections() {
+        return dubboConnectionsMetadata.connections();
+    }
+
+    @RequestMapping(value = DUBBO_WARM_UP_ENDPOINT_URI, method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Map<String, Object> warmUp() {
+        return dubboWarmUpMetadata.warmUp();
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * The fixed-layout record of {@link AccessLogRingBuffer}, the entries are pre-allocated and reused,
+ * thus recording an invocation only copies the references and the primitive values into the slot.
+ *
+ * @since 2.7.10
+ */
+public final class AccessLogEntry {
+
+    private static final AtomicLongFieldUpdater<AccessLogEntry> PUBLISHED_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(AccessLogEntry.class, "published");
+
+    /**
+     * The sequence of last published record in this slot
+     */
+    private volatile long published = -1L;
+
+    long sequence;
+
+    long timestamp;
+
+    long elapsedNanos;
+
+    InetSocketAddress remoteAddress;
+
+    String serviceName;
+
+    String version;
+
+    String group;
+
+    String methodName;
+
+    Object[] arguments;
+
+    Throwable error;
+
+    boolean isPublished(long sequence) {
+        return published == sequence;
+    }
+
+    void publish() {
+        PUBLISHED_UPDATER.lazySet(this, sequence);
+    }
+
+    void clear() {
+        remoteAddress = null;
+        serviceName = null;
+        version = null;
+        group = null;
+        methodName = null;
+        arguments = null;
+        error = null;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
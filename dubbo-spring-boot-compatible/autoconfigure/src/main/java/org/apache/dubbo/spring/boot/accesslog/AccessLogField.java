@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+/**
+ * The fields of access log record
+ *
+ * @since 2.7.10
+ */
+public enum AccessLogField {
+
+    /**
+     * The time when the invocation is completed, e.g. "2020-12-01 12:00:00.000"
+     */
+    TIMESTAMP("timestamp"),
+
+    /**
+     * The address of consumer, e.g. "127.0.0.1:54321"
+     */
+    REMOTE("remote"),
+
+    /**
+     * The name of service interface
+     */
+    SERVICE("service"),
+
+    /**
+     * The version of service
+     */
+    VERSION("version"),
+
+    /**
+     * The group of service
+     */
+    GROUP("group"),
+
+    /**
+     * The name of invoked method
+     */
+    METHOD("method"),
+
+    /**
+     * The elapsed time of invocation in microseconds
+     */
+    ELAPSED("elapsed"),
+
+    /**
+     * "OK" or the class name of error
+     */
+    STATUS("status"),
+
+    /**
+     * The arguments of invocation, it's formatted asynchronously, thus the mutable arguments may be logged
+     * in the state after invocation.
+     */
+    ARGUMENTS("arguments");
+
+    private final String fieldName;
+
+    AccessLogField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    /**
+     * @return the name of field in the record
+     */
+    public String getFieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import java.net.InetSocketAddress;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The format of access log record, all records are formatted in the background thread of {@link AccessLogWriter}.
+ *
+ * @since 2.7.10
+ */
+public enum AccessLogFormat {
+
+    /**
+     * The fields are separated by space, e.g.
+     * <pre>
+     * 2020-12-01 12:00:00.000 127.0.0.1:54321 org.apache.dubbo.DemoService 1.0.0 - sayHello 125 OK
+     * </pre>
+     */
+    TEXT {
+        @Override
+        void format(AccessLogEntry entry, AccessLogField[] fields, TimestampFormatter timestampFormatter,
+                    StringBuilder builder) {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    builder.append(' ');
+                }
+                AccessLogField field = fields[i];
+                if (field == AccessLogField.TIMESTAMP) {
+                    timestampFormatter.format(entry.getTimestamp(), builder);
+                } else if (field == AccessLogField.ELAPSED) {
+                    builder.append(TimeUnit.NANOSECONDS.toMicros(entry.getElapsedNanos()));
+                } else if (field == AccessLogField.ARGUMENTS) {
+                    appendArguments(entry.getArguments(), builder, false);
+                } else {
+                    String value = getValue(entry, field);
+                    builder.append(value == null || value.isEmpty() ? "-" : value);
+                }
+            }
+            builder.append('\n');
+        }
+    },
+
+    /**
+     * One JSON object per line, e.g.
+     * <pre>
+     * {"timestamp":"2020-12-01 12:00:00.000","remote":"127.0.0.1:54321","method":"sayHello","elapsed":125}
+     * </pre>
+     */
+    JSON {
+        @Override
+        void format(AccessLogEntry entry, AccessLogField[] fields, TimestampFormatter timestampFormatter,
+                    StringBuilder builder) {
+            builder.append('{');
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                AccessLogField field = fields[i];
+                builder.append('"').append(field.getFieldName()).append("\":");
+                if (field == AccessLogField.TIMESTAMP) {
+                    builder.append('"');
+                    timestampFormatter.format(entry.getTimestamp(), builder);
+                    builder.append('"');
+                } else if (field == AccessLogField.ELAPSED) {
+                    builder.append(TimeUnit.NANOSECONDS.toMicros(entry.getElapsedNanos()));
+                } else if (field == AccessLogField.ARGUMENTS) {
+                    appendArguments(entry.getArguments(), builder, true);
+                } else {
+                    appendJsonString(getValue(entry, field), builder);
+                }
+            }
+            builder.append("}\n");
+        }
+    };
+
+    /**
+     * Formats the entry into the builder, the line separator is appended.
+     */
+    abstract void format(AccessLogEntry entry, AccessLogField[] fields, TimestampFormatter timestampFormatter,
+                         StringBuilder builder);
+
+    private static String getValue(AccessLogEntry entry, AccessLogField field) {
+        switch (field) {
+            case REMOTE:
+                InetSocketAddress address = entry.getRemoteAddress();
+                return address == null ? null : address.getAddress().getHostAddress() + ":" + address.getPort();
+            case SERVICE:
+                return entry.getServiceName();
+            case VERSION:
+                return entry.getVersion();
+            case GROUP:
+                return entry.getGroup();
+            case METHOD:
+                return entry.getMethodName();
+            case STATUS:
+                return entry.getError() == null ? "OK" : entry.getError().getClass().getName();
+            default:
+                return null;
+        }
+    }
+
+    private static void appendArguments(Object[] arguments, StringBuilder builder, boolean json) {
+        builder.append('[');
+        if (arguments != null) {
+            for (int i = 0; i < arguments.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                String value = toString(arguments[i]);
+                if (json) {
+                    appendJsonString(value, builder);
+                } else {
+                    builder.append(value);
+                }
+            }
+        }
+        builder.append(']');
+    }
+
+    /**
+     * The arguments are the user's objects, their failures don't break the record
+     */
+    private static String toString(Object argument) {
+        try {
+            return String.valueOf(argument);
+        } catch (Throwable e) {
+            return argument.getClass().getName() + "[toString() failed : " + e + "]";
+        }
+    }
+
+    private static void appendJsonString(String value, StringBuilder builder) {
+        if (value == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    /**
+     * Formats the timestamp as "yyyy-MM-dd HH:mm:ss.SSS", the part of seconds is cached.
+     */
+    static class TimestampFormatter {
+
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+        private long cachedSeconds = Long.MIN_VALUE;
+
+        private String cachedText;
+
+        void format(long timestamp, StringBuilder builder) {
+            long seconds = timestamp / 1000;
+            if (seconds != cachedSeconds) {
+                cachedSeconds = seconds;
+                cachedText = dateFormat.format(new Date(seconds * 1000));
+            }
+            int millis = (int) (timestamp % 1000);
+            builder.append(cachedText).append('.');
+            if (millis < 100) {
+                builder.append('0');
+            }
+            if (millis < 10) {
+                builder.append('0');
+            }
+            builder.append(millis);
+        }
+    }
+}
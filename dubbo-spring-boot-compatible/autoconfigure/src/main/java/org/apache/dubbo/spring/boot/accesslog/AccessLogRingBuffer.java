@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bounded, lock-free ring buffer of {@link AccessLogEntry} for multiple producers and a single consumer.
+ * <p>
+ * The producers claim the slots by CAS, and the records are dropped rather than blocking the producers
+ * when the buffer is full.
+ *
+ * @since 2.7.10
+ */
+public class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] entries;
+
+    private final int mask;
+
+    private final AtomicLong producerSequence = new AtomicLong();
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * The sequence of next entry to consume, it's only written by the consumer
+     */
+    private volatile long consumerSequence;
+
+    /**
+     * @param capacity the capacity of buffer, it will be rounded up to the power of 2
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of ring buffer must be positive : " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.entries = new AccessLogEntry[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new AccessLogEntry();
+        }
+    }
+
+    /**
+     * Claims an entry to write, the entry must be {@link #publish(AccessLogEntry) published} after writing
+     *
+     * @return <code>null</code> if the buffer is full, and the record is counted as dropped
+     */
+    public AccessLogEntry claim() {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence >= entries.length) {
+                droppedCount.increment();
+                return null;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        AccessLogEntry entry = entries[(int) sequence & mask];
+        entry.sequence = sequence;
+        return entry;
+    }
+
+    /**
+     * Publishes the claimed entry to the consumer
+     *
+     * @param entry the claimed entry
+     */
+    public void publish(AccessLogEntry entry) {
+        entry.publish();
+    }
+
+    /**
+     * Drains the published entries in order, it must be invoked by a single consumer thread.
+     *
+     * @param consumer   the consumer of entries, the entry must not be referenced after consuming
+     * @param maxEntries the maximum count of entries to drain
+     * @return the count of drained entries
+     */
+    public int drain(EntryConsumer consumer, int maxEntries) {
+        long next = consumerSequence;
+        int count = 0;
+        while (count < maxEntries) {
+            AccessLogEntry entry = entries[(int) next & mask];
+            if (!entry.isPublished(next)) {
+                break;
+            }
+            consumer.accept(entry);
+            entry.clear();
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            consumerSequence = next;
+        }
+        return count;
+    }
+
+    /**
+     * @return <code>true</code> if no entry is claimed but unconsumed
+     */
+    public boolean isEmpty() {
+        return producerSequence.get() == consumerSequence;
+    }
+
+    public int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * @return the count of records dropped because of overflow
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * The consumer of {@link AccessLogEntry}
+     */
+    public interface EntryConsumer {
+
+        void accept(AccessLogEntry entry);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+
+/**
+ * The asynchronous access log writer, the Dubbo's threads only copy the invocations into {@link AccessLogRingBuffer},
+ * and a background thread drains the records in batches, formats and writes them to {@link RollingAccessLogFile}.
+ * <p>
+ * The records are dropped when the buffer overflows, see {@link #getDroppedCount()}.
+ *
+ * @see AsyncAccessLogFilter
+ * @see DubboAccessLogProperties
+ * @since 2.7.10
+ */
+public class AccessLogWriter implements InitializingBean, DisposableBean {
+
+    /**
+     * The bean name of {@link AccessLogWriter}, it's also the property name that {@link AsyncAccessLogFilter}
+     * is injected by
+     */
+    public static final String BEAN_NAME = "dubboAccessLogWriter";
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final DubboAccessLogProperties properties;
+
+    private final AccessLogRingBuffer ringBuffer;
+
+    private final AccessLogField[] fields;
+
+    private final AccessLogFormat format;
+
+    private final int samplingThreshold;
+
+    private final boolean argumentsRecorded;
+
+    private final AccessLogFormat.TimestampFormatter timestampFormatter = new AccessLogFormat.TimestampFormatter();
+
+    private final StringBuilder builder = new StringBuilder(4096);
+
+    private final AccessLogRingBuffer.EntryConsumer formatter;
+
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private ByteBuffer byteBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private RollingAccessLogFile file;
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    private long reportedDroppedCount;
+
+    /**
+     * The count of entries failed to format in current batch, it's only accessed by the writer thread
+     */
+    private int batchFailedCount;
+
+    public AccessLogWriter(DubboAccessLogProperties properties) {
+        this.properties = properties;
+        this.ringBuffer = new AccessLogRingBuffer(properties.getBufferSize());
+        this.fields = properties.getFields().toArray(new AccessLogField[0]);
+        this.format = properties.getFormat();
+        this.samplingThreshold = (int) (properties.getSamplingRate() * 10000);
+        this.argumentsRecorded = Arrays.asList(fields).contains(AccessLogField.ARGUMENTS);
+        this.formatter = this::format;
+    }
+
+    /**
+     * Decides whether the invocation is recorded by the sampling rate
+     *
+     * @return <code>true</code> if recorded
+     */
+    public boolean isSampled() {
+        return samplingThreshold >= 10000 || ThreadLocalRandom.current().nextInt(10000) < samplingThreshold;
+    }
+
+    /**
+     * Records the completed invocation, it never blocks.
+     *
+     * @param invoker       {@link Invoker}
+     * @param invocation    {@link Invocation}
+     * @param remoteAddress the address of consumer
+     * @param startNanos    the start time of invocation by {@link System#nanoTime()}
+     * @param error         the error of invocation, may be <code>null</code>
+     * @return <code>false</code> if the record is dropped
+     */
+    public boolean append(Invoker<?> invoker, Invocation invocation, InetSocketAddress remoteAddress,
+                          long startNanos, Throwable error) {
+        AccessLogEntry entry = ringBuffer.claim();
+        if (entry == null) {
+            return false;
+        }
+        URL url = invoker.getUrl();
+        entry.elapsedNanos = System.nanoTime() - startNanos;
+        entry.timestamp = System.currentTimeMillis();
+        entry.remoteAddress = remoteAddress;
+        entry.serviceName = invocation.getServiceName();
+        entry.version = url.getParameter(VERSION_KEY);
+        entry.group = url.getParameter(GROUP_KEY);
+        entry.methodName = invocation.getMethodName();
+        // The array may be reused or modified by the caller once the invocation completes
+        Object[] arguments = argumentsRecorded ? invocation.getArguments() : null;
+        entry.arguments = arguments == null || arguments.length == 0 ? arguments : arguments.clone();
+        entry.error = error;
+        ringBuffer.publish(entry);
+        return true;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        file = new RollingAccessLogFile(new File(properties.getFile()), properties.getMaxFileSize(),
+                properties.getMaxHistory(), properties.isMemoryMapped(), properties.getMappedRegionSize());
+        running = true;
+        thread = new Thread(this::run, "Dubbo-access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        int batchSize = properties.getBatchSize();
+        try {
+            while (running) {
+                int count = drain(batchSize);
+                if (count == 0) {
+                    reportDroppedCount();
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+            }
+            // Drains the remaining records
+            int count;
+            do {
+                count = drain(batchSize);
+            } while (count > 0);
+            reportDroppedCount();
+        } finally {
+            // Closed by the writer thread itself, it may still be draining when destroy() gives up waiting
+            closeFile();
+        }
+    }
+
+    private void closeFile() {
+        try {
+            file.close();
+        } catch (Throwable e) {
+            logger.error("The access log file " + properties.getFile() + " can't be closed", e);
+        }
+    }
+
+    private int drain(int batchSize) {
+        int count = ringBuffer.drain(formatter, batchSize);
+        if (count > 0) {
+            int formattedCount = count - batchFailedCount;
+            failedCount.addAndGet(batchFailedCount);
+            batchFailedCount = 0;
+            try {
+                write();
+                writtenCount.addAndGet(formattedCount);
+            } catch (Throwable e) {
+                failedCount.addAndGet(formattedCount);
+                logger.error("The access log can't be written to " + properties.getFile(), e);
+            } finally {
+                builder.setLength(0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Formats the entry, a failed entry is skipped rather than stopping the writer thread
+     */
+    private void format(AccessLogEntry entry) {
+        int length = builder.length();
+        try {
+            format.format(entry, fields, timestampFormatter, builder);
+        } catch (Throwable e) {
+            builder.setLength(length);
+            batchFailedCount++;
+            logger.error("The access log of " + entry.getServiceName() + "#" + entry.getMethodName()
+                    + " can't be formatted", e);
+        }
+    }
+
+    private void write() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(builder);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, byteBuffer, true);
+            if (result.isOverflow()) {
+                if (byteBuffer.position() == 0) {
+                    byteBuffer = ByteBuffer.allocateDirect(byteBuffer.capacity() * 2);
+                    continue;
+                }
+                flushByteBuffer();
+            } else {
+                encoder.flush(byteBuffer);
+                flushByteBuffer();
+                break;
+            }
+        }
+    }
+
+    private void flushByteBuffer() throws IOException {
+        // The methods of Buffer, as the covariant overrides of ByteBuffer don't exist before Java 9
+        ((Buffer) byteBuffer).flip();
+        file.write(byteBuffer);
+        ((Buffer) byteBuffer).clear();
+    }
+
+    private void reportDroppedCount() {
+        long droppedCount = ringBuffer.getDroppedCount();
+        if (droppedCount > reportedDroppedCount) {
+            logger.warn("{} access log records were dropped because the buffer[size : {}] overflowed, total : {}",
+                    droppedCount - reportedDroppedCount, ringBuffer.getCapacity(), droppedCount);
+            reportedDroppedCount = droppedCount;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+            if (thread.isAlive()) {
+                logger.warn("The access log writer is still draining the records, {} will be closed once it's done",
+                        properties.getFile());
+            }
+        }
+    }
+
+    /**
+     * @return the count of records dropped because the buffer overflowed
+     */
+    public long getDroppedCount() {
+        return ringBuffer.getDroppedCount();
+    }
+
+    /**
+     * @return the count of written records
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return the count of records failed to write
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.apache.dubbo.spring.boot.accesslog.DubboAccessLogProperties.PREFIX;
+
+/**
+ * Dubbo Access Log Properties
+ *
+ * @see AccessLogWriter
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboAccessLogProperties {
+
+    /**
+     * The prefix of {@link DubboAccessLogProperties}
+     */
+    public static final String PREFIX = "dubbo.accesslog";
+
+    /**
+     * Whether the asynchronous access log is enabled or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The path of access log file
+     */
+    private String file = "logs/dubbo-access.log";
+
+    /**
+     * The format of records
+     */
+    private AccessLogFormat format = AccessLogFormat.TEXT;
+
+    /**
+     * The fields of records in order
+     */
+    private Set<AccessLogField> fields = new LinkedHashSet<>(Arrays.asList(AccessLogField.TIMESTAMP,
+            AccessLogField.REMOTE, AccessLogField.SERVICE, AccessLogField.VERSION, AccessLogField.GROUP,
+            AccessLogField.METHOD, AccessLogField.ELAPSED, AccessLogField.STATUS));
+
+    /**
+     * The rate of recorded invocations between 0.0 and 1.0
+     */
+    private float samplingRate = 1.0f;
+
+    /**
+     * The size of ring buffer, it will be rounded up to the power of 2. The records are dropped when it overflows.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * The maximum count of records which are written in a batch
+     */
+    private int batchSize = 512;
+
+    /**
+     * The maximum size of file in bytes before it rolls over, non-positive means unlimited
+     */
+    private long maxFileSize = 100L * 1024 * 1024;
+
+    /**
+     * The maximum count of rolled files to keep
+     */
+    private int maxHistory = 7;
+
+    /**
+     * Whether the file is written by memory-mapped regions or not
+     */
+    private boolean memoryMapped = false;
+
+    /**
+     * The size of memory-mapped region in bytes
+     */
+    private int mappedRegionSize = 32 * 1024 * 1024;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public AccessLogFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(AccessLogFormat format) {
+        this.format = format;
+    }
+
+    public Set<AccessLogField> getFields() {
+        return fields;
+    }
+
+    public void setFields(Set<AccessLogField> fields) {
+        this.fields = fields;
+    }
+
+    public float getSamplingRate() {
+        return samplingRate;
+    }
+
+    public void setSamplingRate(float samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public int getMaxHistory() {
+        return maxHistory;
+    }
+
+    public void setMaxHistory(int maxHistory) {
+        this.maxHistory = maxHistory;
+    }
+
+    public boolean isMemoryMapped() {
+        return memoryMapped;
+    }
+
+    public void setMemoryMapped(boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+    }
+
+    public int getMappedRegionSize() {
+        return mappedRegionSize;
+    }
+
+    public void setMappedRegionSize(int mappedRegionSize) {
+        this.mappedRegionSize = mappedRegionSize;
+    }
+}
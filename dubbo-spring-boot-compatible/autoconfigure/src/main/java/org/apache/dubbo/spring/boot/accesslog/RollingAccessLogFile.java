@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The access log file which rolls over by size, the rolled files are renamed to "name.1", "name.2" and so on,
+ * the file with the largest index is the oldest one.
+ * <p>
+ * In memory-mapped mode, the file is extended region by region and truncated to the written length when it's
+ * rolled or closed, thus the file may end with zeros if the process is killed.
+ * Access by the thread of {@link AccessLogWriter} only.
+ *
+ * @since 2.7.10
+ */
+class RollingAccessLogFile implements Closeable {
+
+    private final File file;
+
+    private final long maxFileSize;
+
+    private final int maxHistory;
+
+    private final boolean memoryMapped;
+
+    private final int mappedRegionSize;
+
+    private RandomAccessFile randomAccessFile;
+
+    private FileChannel channel;
+
+    private long size;
+
+    private MappedByteBuffer region;
+
+    private long regionPosition;
+
+    RollingAccessLogFile(File file, long maxFileSize, int maxHistory, boolean memoryMapped, int mappedRegionSize)
+            throws IOException {
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        this.memoryMapped = memoryMapped;
+        this.mappedRegionSize = mappedRegionSize;
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("The directory of access log can't be created : " + directory);
+        }
+        open();
+    }
+
+    private void open() throws IOException {
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        channel = randomAccessFile.getChannel();
+        size = channel.size();
+        if (memoryMapped) {
+            map(size);
+        } else {
+            channel.position(size);
+        }
+    }
+
+    private void map(long position) throws IOException {
+        regionPosition = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, mappedRegionSize);
+    }
+
+    /**
+     * Writes all remaining bytes of buffer
+     *
+     * @param buffer {@link ByteBuffer}
+     * @throws IOException if I/O error occurs
+     */
+    void write(ByteBuffer buffer) throws IOException {
+        if (maxFileSize > 0 && size > 0 && size + buffer.remaining() > maxFileSize) {
+            rollOver();
+        }
+        int length = buffer.remaining();
+        if (memoryMapped) {
+            while (buffer.hasRemaining()) {
+                if (!region.hasRemaining()) {
+                    map(regionPosition + mappedRegionSize);
+                }
+                int count = Math.min(region.remaining(), buffer.remaining());
+                int limit = buffer.limit();
+                ((Buffer) buffer).limit(buffer.position() + count);
+                region.put(buffer);
+                ((Buffer) buffer).limit(limit);
+            }
+        } else {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        size += length;
+    }
+
+    private void rollOver() throws IOException {
+        closeFile();
+        File oldest = indexedFile(maxHistory);
+        if (oldest.exists() && !oldest.delete()) {
+            throw new IOException("The rolled access log can't be deleted : " + oldest);
+        }
+        for (int i = maxHistory - 1; i > 0; i--) {
+            File source = indexedFile(i);
+            if (source.exists()) {
+                source.renameTo(indexedFile(i + 1));
+            }
+        }
+        if (maxHistory > 0) {
+            file.renameTo(indexedFile(1));
+        } else {
+            file.delete();
+        }
+        open();
+    }
+
+    private File indexedFile(int index) {
+        return new File(file.getPath() + "." + index);
+    }
+
+    private void closeFile() throws IOException {
+        if (memoryMapped) {
+            region = null;
+            channel.truncate(size);
+        }
+        channel.close();
+        randomAccessFile.close();
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeFile();
+    }
+}
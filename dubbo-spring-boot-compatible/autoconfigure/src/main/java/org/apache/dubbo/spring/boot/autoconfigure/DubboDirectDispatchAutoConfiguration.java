@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.dispatch.DirectDispatchProtocolConfigCustomizer;
+import org.apache.dubbo.spring.boot.dispatch.DirectDispatchStatistics;
+import org.apache.dubbo.spring.boot.dispatch.DirectDispatchValidator;
+import org.apache.dubbo.spring.boot.dispatch.DubboDirectDispatchProperties;
+import org.apache.dubbo.spring.boot.dispatch.MethodDirectDispatcher;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo Direct Dispatch Auto-{@link Configuration}, the {@link DirectDispatchStatistics} bean is injected into
+ * {@link MethodDirectDispatcher}.
+ *
+ * @see MethodDirectDispatcher
+ * @see DubboDirectDispatchProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboDirectDispatchProperties.PREFIX, name = "enabled")
+@Configuration
+@EnableConfigurationProperties(DubboDirectDispatchProperties.class)
+public class DubboDirectDispatchAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = DirectDispatchStatistics.BEAN_NAME)
+    @Bean(name = DirectDispatchStatistics.BEAN_NAME)
+    public DirectDispatchStatistics dubboDirectDispatchStatistics() {
+        return new DirectDispatchStatistics();
+    }
+
+    @ConditionalOnMissingBean
+    @Bean
+    public DirectDispatchProtocolConfigCustomizer directDispatchProtocolConfigCustomizer() {
+        return new DirectDispatchProtocolConfigCustomizer();
+    }
+
+    @ConditionalOnProperty(prefix = DubboDirectDispatchProperties.PREFIX, name = "validate", matchIfMissing = true)
+    @ConditionalOnMissingBean
+    @Bean
+    public DirectDispatchValidator directDispatchValidator() {
+        return new DirectDispatchValidator();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.preload.ClassPreloader;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Dubbo Class Preloading Auto-{@link Configuration}, for example :
+ * <pre>
+ * dubbo.preload.enabled = true
+ * dubbo.preload.threads = 4
+ * </pre>
+ *
+ * @see ClassPreloader
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = ClassPreloader.PREFIX, name = "enabled")
+@Configuration
+public class DubboPreloadAutoConfiguration {
+
+    /**
+     * {@link ClassPreloader} is a {@link org.springframework.beans.factory.config.BeanFactoryPostProcessor}, thus it's
+     * declared as static
+     */
+    @ConditionalOnMissingBean(name = ClassPreloader.BEAN_NAME)
+    @Bean(name = ClassPreloader.BEAN_NAME)
+    public static ClassPreloader dubboClassPreloader(Environment environment) {
+        return new ClassPreloader(environment.getProperty(ClassPreloader.THREADS_PROPERTY, Integer.class,
+                Runtime.getRuntime().availableProcessors()));
+    }
+}
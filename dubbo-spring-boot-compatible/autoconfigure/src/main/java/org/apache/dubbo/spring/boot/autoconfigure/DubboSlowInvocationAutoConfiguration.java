@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.slow.DubboSlowInvocationProperties;
+import org.apache.dubbo.spring.boot.slow.SlowInvocationDispatcherWrapper;
+import org.apache.dubbo.spring.boot.slow.SlowInvocationFilter;
+import org.apache.dubbo.spring.boot.slow.SlowInvocationRecorder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo Slow Invocation Auto-{@link Configuration}, the {@link SlowInvocationRecorder} bean is injected into
+ * {@link SlowInvocationFilter} and {@link SlowInvocationDispatcherWrapper}.
+ *
+ * @see SlowInvocationRecorder
+ * @see DubboSlowInvocationProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboSlowInvocationProperties.PREFIX, name = "enabled")
+@Configuration
+@EnableConfigurationProperties(DubboSlowInvocationProperties.class)
+public class DubboSlowInvocationAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = SlowInvocationRecorder.BEAN_NAME)
+    @Bean(name = SlowInvocationRecorder.BEAN_NAME)
+    public SlowInvocationRecorder dubboSlowInvocationRecorder(DubboSlowInvocationProperties properties) {
+        return new SlowInvocationRecorder(properties);
+    }
+}
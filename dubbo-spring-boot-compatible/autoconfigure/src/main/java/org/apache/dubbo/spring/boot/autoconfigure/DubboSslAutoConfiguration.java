@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+import org.apache.dubbo.spring.boot.ssl.DubboSslProperties;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo SSL Auto-{@link Configuration}, the {@link SslContextFactory} bean is injected into
+ * {@link TunableNettyTransporter}. It takes effect on the protocols whose parameter "ssl-enabled" is
+ * <code>true</code>, thus no switch is required.
+ *
+ * @see SslContextFactory
+ * @see DubboSslProperties
+ * @since 2.7.10
+ */
+@ConditionalOnClass(name = "io.netty.handler.ssl.SslContextBuilder")
+@Configuration
+@EnableConfigurationProperties(DubboSslProperties.class)
+public class DubboSslAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = SslContextFactory.BEAN_NAME)
+    @Bean(name = SslContextFactory.BEAN_NAME)
+    public SslContextFactory dubboSslContextFactory(DubboSslProperties properties) {
+        return new SslContextFactory(properties);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.stream.DubboStreamingProperties;
+import org.apache.dubbo.spring.boot.stream.StreamConsumerFilter;
+import org.apache.dubbo.spring.boot.stream.StreamManager;
+import org.apache.dubbo.spring.boot.stream.StreamProviderFilter;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo Streaming Auto-{@link Configuration}, the {@link StreamManager} bean is injected into
+ * {@link StreamProviderFilter} and {@link StreamConsumerFilter}.
+ *
+ * @see StreamManager
+ * @see DubboStreamingProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboStreamingProperties.PREFIX, name = "enabled")
+@Configuration
+@EnableConfigurationProperties(DubboStreamingProperties.class)
+public class DubboStreamingAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = StreamManager.BEAN_NAME)
+    @Bean(name = StreamManager.BEAN_NAME)
+    public StreamManager dubboStreamManager(DubboStreamingProperties properties) {
+        return new StreamManager(properties);
+    }
+}
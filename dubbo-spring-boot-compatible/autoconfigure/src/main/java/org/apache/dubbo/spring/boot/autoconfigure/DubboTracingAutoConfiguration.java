@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.trace.DubboTracer;
+import org.apache.dubbo.spring.boot.trace.DubboTracingProperties;
+import org.apache.dubbo.spring.boot.trace.LoggingTraceReporter;
+import org.apache.dubbo.spring.boot.trace.SimpleDubboTracer;
+import org.apache.dubbo.spring.boot.trace.TraceReporter;
+import org.apache.dubbo.spring.boot.trace.TraceSampler;
+import org.apache.dubbo.spring.boot.trace.TracingFilter;
+import org.apache.dubbo.spring.boot.trace.brave.BraveDubboTracer;
+import org.apache.dubbo.spring.boot.trace.opentelemetry.OpenTelemetryDubboTracer;
+
+import brave.Tracing;
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo Tracing Auto-{@link Configuration}, the {@link DubboTracer} bean is injected into {@link TracingFilter}.
+ * <p>
+ * Brave's {@link Tracing} (e.g. Spring Cloud Sleuth) takes precedence over {@link OpenTelemetry}, the
+ * {@link SimpleDubboTracer} is used if neither is present. The nested configurations are evaluated in order.
+ *
+ * @see TracingFilter
+ * @see DubboTracingProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboTracingProperties.PREFIX, name = "enabled")
+@Configuration
+@AutoConfigureAfter(name = {
+        "org.springframework.cloud.sleuth.autoconfig.TraceAutoConfiguration",
+        "org.springframework.cloud.sleuth.autoconfig.brave.BraveAutoConfiguration"
+})
+@EnableConfigurationProperties(DubboTracingProperties.class)
+public class DubboTracingAutoConfiguration {
+
+    @Configuration
+    @ConditionalOnClass(name = "brave.Tracing")
+    @ConditionalOnBean(type = "brave.Tracing")
+    static class BraveTracerConfiguration {
+
+        @ConditionalOnMissingBean(name = DubboTracer.BEAN_NAME)
+        @Bean(name = DubboTracer.BEAN_NAME)
+        public DubboTracer dubboTracer(Tracing tracing) {
+            return new BraveDubboTracer(tracing);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.opentelemetry.api.OpenTelemetry")
+    @ConditionalOnBean(type = "io.opentelemetry.api.OpenTelemetry")
+    static class OpenTelemetryTracerConfiguration {
+
+        @ConditionalOnMissingBean(name = DubboTracer.BEAN_NAME)
+        @Bean(name = DubboTracer.BEAN_NAME)
+        public DubboTracer dubboTracer(OpenTelemetry openTelemetry) {
+            return new OpenTelemetryDubboTracer(openTelemetry);
+        }
+    }
+
+    @Configuration
+    static class SimpleTracerConfiguration {
+
+        @ConditionalOnMissingBean(name = DubboTracer.BEAN_NAME)
+        @Bean(name = DubboTracer.BEAN_NAME)
+        public DubboTracer dubboTracer(DubboTracingProperties properties, ObjectProvider<TraceReporter> reporter) {
+            TraceReporter traceReporter = reporter.getIfAvailable();
+            return new SimpleDubboTracer(TraceSampler.create(properties.getSamplingRate()),
+                    traceReporter == null ? new LoggingTraceReporter() : traceReporter);
+        }
+    }
+}
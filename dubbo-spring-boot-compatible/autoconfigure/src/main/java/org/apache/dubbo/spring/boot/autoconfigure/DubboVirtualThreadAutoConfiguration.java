@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.env.DubboVirtualThreadEnvironmentPostProcessor;
+import org.apache.dubbo.spring.boot.threadpool.DubboVirtualThreadProperties;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreadPinnedRecording;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreadPool;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreads;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Dubbo Virtual Thread Auto-{@link Configuration}, it takes effect on Java 21+ if "dubbo.virtual-threads.enabled" is
+ * <code>true</code>. The thread pools of providers and consumers are defaulted to {@link VirtualThreadPool} by
+ * {@link DubboVirtualThreadEnvironmentPostProcessor}, and the pinned virtual threads are recorded by
+ * {@link VirtualThreadPinnedRecording}.
+ *
+ * @see VirtualThreadPool
+ * @see DubboVirtualThreadProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboVirtualThreadProperties.PREFIX, name = "enabled")
+@Conditional(DubboVirtualThreadAutoConfiguration.OnVirtualThreadsCondition.class)
+@Configuration
+@EnableConfigurationProperties(DubboVirtualThreadProperties.class)
+public class DubboVirtualThreadAutoConfiguration {
+
+    @ConditionalOnProperty(prefix = DubboVirtualThreadProperties.PREFIX, name = "pinned-recording",
+            matchIfMissing = true)
+    @ConditionalOnClass(name = "jdk.jfr.Recording")
+    @ConditionalOnMissingBean(name = VirtualThreadPinnedRecording.BEAN_NAME)
+    @Bean(name = VirtualThreadPinnedRecording.BEAN_NAME)
+    public VirtualThreadPinnedRecording dubboVirtualThreadPinnedRecording(DubboVirtualThreadProperties properties) {
+        return new VirtualThreadPinnedRecording(properties);
+    }
+
+    static class OnVirtualThreadsCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            String javaVersion = System.getProperty("java.version");
+            return VirtualThreads.isSupported() ?
+                    ConditionOutcome.match("The virtual threads are supported by Java " + javaVersion) :
+                    ConditionOutcome.noMatch("The virtual threads require Java 21+, but the current is " + javaVersion);
+        }
+    }
+}
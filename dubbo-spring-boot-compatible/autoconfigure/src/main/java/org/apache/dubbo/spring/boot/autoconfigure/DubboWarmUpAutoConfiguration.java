@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUp;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dubbo Warm-Up Auto-{@link Configuration}
+ *
+ * @see DubboWarmUp
+ * @see DubboWarmUpProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboWarmUpProperties.PREFIX, name = "enabled")
+@Configuration
+@EnableConfigurationProperties(DubboWarmUpProperties.class)
+public class DubboWarmUpAutoConfiguration {
+
+    @ConditionalOnMissingBean(name = DubboWarmUp.BEAN_NAME)
+    @Bean(name = DubboWarmUp.BEAN_NAME)
+    public DubboWarmUp dubboWarmUp(DubboWarmUpProperties properties) {
+        return new DubboWarmUp(properties);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.remoting.http.servlet.BootstrapListener;
+import org.apache.dubbo.remoting.http.servlet.DispatcherServlet;
+import org.apache.dubbo.remoting.http.servlet.ServletManager;
+import org.apache.dubbo.spring.boot.web.DubboWebServerProperties;
+import org.apache.dubbo.spring.boot.web.WebServerProtocolConfigCustomizer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.ServletListenerRegistrationBean;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Dubbo Web Server Auto-{@link Configuration}, the HTTP-based protocols are served on the web server of Spring Boot
+ * by {@link DispatcherServlet}, and the {@link javax.servlet.ServletContext} is registered into
+ * {@link ServletManager} by {@link BootstrapListener}. It requires a servlet web application, Dubbo doesn't serve its
+ * protocols on the reactive web server.
+ *
+ * @see WebServerProtocolConfigCustomizer
+ * @see DubboWebServerProperties
+ * @since 2.7.10
+ */
+@ConditionalOnProperty(prefix = DubboWebServerProperties.PREFIX, name = "enabled")
+@ConditionalOnClass(name = {
+        "javax.servlet.ServletContext",
+        "org.springframework.web.context.WebApplicationContext"
+})
+@Conditional(DubboWebServerAutoConfiguration.OnServletWebApplicationCondition.class)
+@Configuration
+@EnableConfigurationProperties(DubboWebServerProperties.class)
+public class DubboWebServerAutoConfiguration {
+
+    /**
+     * The bean name of {@link ServletRegistrationBean} for {@link DispatcherServlet}
+     */
+    public static final String DISPATCHER_SERVLET_BEAN_NAME = "dubboDispatcherServlet";
+
+    /**
+     * The bean name of {@link ServletListenerRegistrationBean} for {@link BootstrapListener}
+     */
+    public static final String BOOTSTRAP_LISTENER_BEAN_NAME = "dubboBootstrapListener";
+
+    @ConditionalOnMissingBean
+    @Bean
+    public WebServerProtocolConfigCustomizer webServerProtocolConfigCustomizer(DubboWebServerProperties properties) {
+        return new WebServerProtocolConfigCustomizer(properties);
+    }
+
+    @ConditionalOnMissingBean(name = DISPATCHER_SERVLET_BEAN_NAME)
+    @Bean(name = DISPATCHER_SERVLET_BEAN_NAME)
+    public ServletRegistrationBean dubboDispatcherServlet(WebServerProtocolConfigCustomizer customizer) {
+        ServletRegistrationBean registration = new ServletRegistrationBean(new DispatcherServlet(),
+                customizer.getServletMapping());
+        registration.setName(DISPATCHER_SERVLET_BEAN_NAME);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+
+    @ConditionalOnMissingBean(name = BOOTSTRAP_LISTENER_BEAN_NAME)
+    @Bean(name = BOOTSTRAP_LISTENER_BEAN_NAME)
+    public ServletListenerRegistrationBean<BootstrapListener> dubboBootstrapListener() {
+        return new ServletListenerRegistrationBean<>(new BootstrapListener());
+    }
+
+    /**
+     * Matches the servlet web application, which is compatible with both Spring Boot 1.x and 2.x
+     */
+    static class OnServletWebApplicationCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            if (context.getResourceLoader() instanceof WebApplicationContext) {
+                return ConditionOutcome.match("found WebApplicationContext");
+            }
+            return ConditionOutcome.noMatch("not a servlet web application");
+        }
+    }
+}
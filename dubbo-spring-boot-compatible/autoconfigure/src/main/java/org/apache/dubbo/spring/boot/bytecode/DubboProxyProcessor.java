@@ -0,0 +1,463 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.bytecode;
+
+import org.apache.dubbo.spring.boot.util.AbstractDubboAnnotationProcessor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory.INTERFACES_LOCATION;
+import static org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory.PROXY_SUFFIX;
+import static org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory.WRAPPER_SUFFIX;
+
+/**
+ * The annotation processor generates the proxies and {@link org.apache.dubbo.common.bytecode.Wrapper wrappers} of
+ * the interfaces of "@DubboService" and "@DubboReference" at build time, which {@link PrecompiledProxyFactory}
+ * loads instead of generating them by Javassist at runtime. For the interface "com.acme.DemoService", they are
+ * "com.acme.DemoService$DubboProxy" and "com.acme.DemoService$DubboWrapper", and the interface is listed in
+ * "META-INF/dubbo-precompiled/interfaces".
+ * <p>
+ * The generic interfaces and the private ones are skipped, Javassist generates their classes as usual. The processor
+ * is not registered as a service, it's enabled explicitly, for example :
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;artifactId&gt;maven-compiler-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;annotationProcessors&gt;
+ *             &lt;annotationProcessor&gt;org.apache.dubbo.spring.boot.bytecode.DubboProxyProcessor&lt;/annotationProcessor&gt;
+ *         &lt;/annotationProcessors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * @see PrecompiledProxyFactory
+ * @since 2.7.10
+ */
+public class DubboProxyProcessor extends AbstractDubboAnnotationProcessor {
+
+    /**
+     * The echo service which Dubbo's proxies implement, the compatible one extends it
+     */
+    private static final String ECHO_SERVICE = "org.apache.dubbo.rpc.service.EchoService";
+
+    private static final String COMPATIBLE_ECHO_SERVICE = "com.alibaba.dubbo.rpc.service.EchoService";
+
+    private static final String DESTROYABLE = "org.apache.dubbo.rpc.service.Destroyable";
+
+    private final Set<String> processedInterfaces = new LinkedHashSet<>();
+
+    private final Set<String> generatedInterfaces = new TreeSet<>();
+
+    @Override
+    protected void processService(TypeElement implementation, TypeElement interfaceElement) {
+        if (interfaceElement != null) {
+            generate(interfaceElement);
+        }
+    }
+
+    @Override
+    protected void processReference(TypeElement interfaceElement) {
+        generate(interfaceElement);
+    }
+
+    @Override
+    protected void processingOver() {
+        writeResource(INTERFACES_LOCATION, generatedInterfaces);
+    }
+
+    /**
+     * Generate the classes of interface once it's found, rather than at last round, thus they're compiled as usual
+     */
+    private void generate(TypeElement interfaceElement) {
+        String binaryName = getBinaryName(interfaceElement);
+        if (!processedInterfaces.add(binaryName)) {
+            return;
+        }
+        if (!interfaceElement.getTypeParameters().isEmpty()
+                || interfaceElement.getModifiers().contains(Modifier.PRIVATE)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "The proxy of " + binaryName
+                    + " isn't generated, it's generic or private", interfaceElement);
+            return;
+        }
+        List<ProxyMethod> methods = getProxyMethods(interfaceElement);
+        writeSource(interfaceElement, binaryName + PROXY_SUFFIX, generateProxy(interfaceElement, methods));
+        writeSource(interfaceElement, binaryName + WRAPPER_SUFFIX, generateWrapper(interfaceElement, methods));
+        generatedInterfaces.add(binaryName);
+    }
+
+    private List<ProxyMethod> getProxyMethods(TypeElement interfaceElement) {
+        Types types = processingEnv.getTypeUtils();
+        Map<String, ProxyMethod> methods = new LinkedHashMap<>();
+        List<TypeElement> typeElements = new ArrayList<>();
+        typeElements.add(interfaceElement);
+        typeElements.addAll(getInternalInterfaces());
+        for (TypeElement typeElement : typeElements) {
+            for (ExecutableElement method : getInterfaceMethods(typeElement)) {
+                ProxyMethod proxyMethod = new ProxyMethod(typeElement, method,
+                        (ExecutableType) types.asMemberOf((DeclaredType) typeElement.asType(), method), types,
+                        typeElement == interfaceElement);
+                methods.putIfAbsent(proxyMethod.getSignature(), proxyMethod);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    /**
+     * Get the interfaces which Dubbo's proxies implement besides the service interface, the proxy factories of Dubbo
+     * 2.7.x implement the compatible echo service if it's present
+     */
+    private List<TypeElement> getInternalInterfaces() {
+        Elements elements = processingEnv.getElementUtils();
+        List<TypeElement> internalInterfaces = new ArrayList<>();
+        TypeElement echoService = elements.getTypeElement(COMPATIBLE_ECHO_SERVICE);
+        internalInterfaces.add(echoService != null ? echoService : elements.getTypeElement(ECHO_SERVICE));
+        internalInterfaces.add(elements.getTypeElement(DESTROYABLE));
+        return internalInterfaces;
+    }
+
+    private String generateProxy(TypeElement interfaceElement, List<ProxyMethod> methods) {
+        String className = getSimpleName(interfaceElement, PROXY_SUFFIX);
+        StringBuilder source = new StringBuilder();
+        appendHeader(source, interfaceElement);
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public class ").append(className).append(" implements ")
+                .append(interfaceElement.getQualifiedName());
+        for (TypeElement internalInterface : getInternalInterfaces()) {
+            source.append(", ").append(internalInterface.getQualifiedName());
+        }
+        source.append(" {\n\n")
+                .append("    private static final java.lang.reflect.Method[] METHODS;\n\n")
+                .append("    static {\n")
+                .append("        try {\n")
+                .append("            METHODS = new java.lang.reflect.Method[]{\n");
+        for (ProxyMethod method : methods) {
+            source.append("                    ").append(method.owner.getQualifiedName())
+                    .append(".class.getMethod(\"").append(method.getName()).append('"');
+            for (String parameterClass : method.parameterClasses) {
+                source.append(", ").append(parameterClass).append(".class");
+            }
+            source.append("),\n");
+        }
+        source.append("            };\n")
+                .append("        } catch (NoSuchMethodException e) {\n")
+                .append("            throw new ExceptionInInitializerError(e);\n")
+                .append("        }\n")
+                .append("    }\n\n")
+                .append("    private final java.lang.reflect.InvocationHandler handler;\n\n")
+                .append("    public ").append(className).append("(java.lang.reflect.InvocationHandler handler) {\n")
+                .append("        this.handler = handler;\n")
+                .append("    }\n");
+        for (int i = 0; i < methods.size(); i++) {
+            ProxyMethod method = methods.get(i);
+            source.append("\n    @Override\n    public ").append(method.getDeclaration()).append(" {\n")
+                    .append("        ");
+            TypeMirror returnType = method.type.getReturnType();
+            if (returnType.getKind() != TypeKind.VOID) {
+                source.append("Object result = ");
+            }
+            source.append("invoke(").append(i).append(", new Object[]{")
+                    .append(String.join(", ", method.parameterNames)).append("});\n");
+            if (returnType.getKind().isPrimitive()) {
+                source.append("        return result == null ? ").append(getDefaultValue(returnType.getKind()))
+                        .append(" : (").append(processingEnv.getTypeUtils()
+                        .boxedClass((PrimitiveType) returnType).getQualifiedName())
+                        .append(") result;\n");
+            } else if (returnType.getKind() != TypeKind.VOID) {
+                source.append("        return (").append(returnType).append(") result;\n");
+            }
+            source.append("    }\n");
+        }
+        source.append("\n    private Object invoke(int index, Object[] arguments) {\n")
+                .append("        try {\n")
+                .append("            return handler.invoke(this, METHODS[index], arguments);\n")
+                .append("        } catch (Throwable e) {\n")
+                .append("            throw ").append(PrecompiledProxyFactory.class.getName())
+                .append(".rethrow(e, METHODS[index]);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private String generateWrapper(TypeElement interfaceElement, List<ProxyMethod> methods) {
+        String className = getSimpleName(interfaceElement, WRAPPER_SUFFIX);
+        String interfaceName = interfaceElement.getQualifiedName().toString();
+        List<ProxyMethod> interfaceMethods = methods.stream().filter(method -> method.service)
+                .collect(Collectors.toList());
+        Set<String> methodNames = new LinkedHashSet<>();
+        Set<String> declaredMethodNames = new LinkedHashSet<>();
+        Set<String> overloadedMethodNames = new LinkedHashSet<>();
+        for (ProxyMethod method : interfaceMethods) {
+            if (!methodNames.add(method.getName())) {
+                overloadedMethodNames.add(method.getName());
+            }
+            if (method.method.getEnclosingElement().equals(interfaceElement)) {
+                declaredMethodNames.add(method.getName());
+            }
+        }
+        StringBuilder source = new StringBuilder();
+        appendHeader(source, interfaceElement);
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public class ").append(className)
+                .append(" extends org.apache.dubbo.common.bytecode.Wrapper {\n\n")
+                .append("    private static final String[] METHOD_NAMES = {").append(toLiterals(methodNames))
+                .append("};\n\n")
+                .append("    private static final String[] DECLARED_METHOD_NAMES = {")
+                .append(toLiterals(declaredMethodNames)).append("};\n\n")
+                .append("    @Override\n")
+                .append("    public String[] getPropertyNames() {\n")
+                .append("        return new String[0];\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getPropertyType(String name) {\n")
+                .append("        return null;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public boolean hasProperty(String name) {\n")
+                .append("        return false;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Object getPropertyValue(Object instance, String name) {\n")
+                .append("        throw new org.apache.dubbo.common.bytecode.NoSuchPropertyException(")
+                .append("\"Not found property \\\"\" + name\n")
+                .append("                + \"\\\" field or getter method in class ").append(interfaceName)
+                .append(".\");\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void setPropertyValue(Object instance, String name, Object value) {\n")
+                .append("        throw new org.apache.dubbo.common.bytecode.NoSuchPropertyException(")
+                .append("\"Not found property \\\"\" + name\n")
+                .append("                + \"\\\" field or setter method in class ").append(interfaceName)
+                .append(".\");\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String[] getMethodNames() {\n")
+                .append("        return METHOD_NAMES;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String[] getDeclaredMethodNames() {\n")
+                .append("        return DECLARED_METHOD_NAMES;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Object invokeMethod(Object instance, String name, Class<?>[] types, ")
+                .append("Object[] arguments)\n")
+                .append("            throws org.apache.dubbo.common.bytecode.NoSuchMethodException,\n")
+                .append("            java.lang.reflect.InvocationTargetException {\n")
+                .append("        ").append(interfaceName).append(" target = (").append(interfaceName)
+                .append(") instance;\n")
+                .append("        try {\n");
+        for (ProxyMethod method : interfaceMethods) {
+            List<String> parameterClasses = method.parameterClasses;
+            source.append("            if (\"").append(method.getName()).append("\".equals(name) && types.length == ")
+                    .append(parameterClasses.size());
+            if (overloadedMethodNames.contains(method.getName())) {
+                for (int i = 0; i < parameterClasses.size(); i++) {
+                    source.append(" && types[").append(i).append("] == ").append(parameterClasses.get(i))
+                            .append(".class");
+                }
+            }
+            source.append(") {\n                ");
+            boolean returns = method.type.getReturnType().getKind() != TypeKind.VOID;
+            if (returns) {
+                source.append("return ");
+            }
+            source.append("target.").append(method.getName()).append('(');
+            List<? extends TypeMirror> parameterTypes = method.type.getParameterTypes();
+            for (int i = 0; i < parameterTypes.size(); i++) {
+                if (i > 0) {
+                    source.append(", ");
+                }
+                source.append(getArgument(parameterTypes.get(i), parameterClasses.get(i), i));
+            }
+            source.append(");\n");
+            if (!returns) {
+                source.append("                return null;\n");
+            }
+            source.append("            }\n");
+        }
+        source.append("        } catch (Throwable e) {\n")
+                .append("            throw new java.lang.reflect.InvocationTargetException(e);\n")
+                .append("        }\n")
+                .append("        throw new org.apache.dubbo.common.bytecode.NoSuchMethodException(")
+                .append("\"Not found method \\\"\" + name + \"\\\" in class ")
+                .append(interfaceName).append(".\");\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Convert the argument like Javassist wrappers do, the numbers are converted by {@link Number}
+     */
+    private String getArgument(TypeMirror parameterType, String parameterClass, int index) {
+        String argument = "arguments[" + index + "]";
+        switch (parameterType.getKind()) {
+            case BOOLEAN:
+                return "((Boolean) " + argument + ").booleanValue()";
+            case CHAR:
+                return "((Character) " + argument + ").charValue()";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return "((Number) " + argument + ")." + parameterClass + "Value()";
+            default:
+                return "(" + parameterClass + ") " + argument;
+        }
+    }
+
+    private String getDefaultValue(TypeKind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case BYTE:
+                return "(byte) 0";
+            case SHORT:
+                return "(short) 0";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0F";
+            case DOUBLE:
+                return "0D";
+            default:
+                return "0";
+        }
+    }
+
+    private void appendHeader(StringBuilder source, TypeElement interfaceElement) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(interfaceElement).getQualifiedName()
+                .toString();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Generated by ").append(getClass().getName()).append(" for ")
+                .append(interfaceElement.getQualifiedName()).append("\n */\n");
+    }
+
+    private String getSimpleName(TypeElement interfaceElement, String suffix) {
+        String binaryName = getBinaryName(interfaceElement);
+        return binaryName.substring(binaryName.lastIndexOf('.') + 1) + suffix;
+    }
+
+    private String toLiterals(Set<String> names) {
+        return names.stream().map(name -> "\"" + name + "\"").collect(Collectors.joining(", "));
+    }
+
+    private void writeSource(TypeElement interfaceElement, String className, String source) {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, interfaceElement).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The class " + className
+                    + " can't be generated : " + e, interfaceElement);
+        }
+    }
+
+    /**
+     * The method of proxy, whose types are resolved as the member of its interface
+     */
+    private static class ProxyMethod {
+
+        private final TypeElement owner;
+
+        private final ExecutableElement method;
+
+        private final ExecutableType type;
+
+        private final boolean service;
+
+        private final List<String> parameterNames = new ArrayList<>();
+
+        /**
+         * The erasures of parameter types, i.e. the classes of {@link java.lang.reflect.Method}
+         */
+        private final List<String> parameterClasses = new ArrayList<>();
+
+        private ProxyMethod(TypeElement owner, ExecutableElement method, ExecutableType type, Types types,
+                            boolean service) {
+            this.owner = owner;
+            this.method = method;
+            this.type = type;
+            this.service = service;
+            for (TypeMirror parameterType : type.getParameterTypes()) {
+                parameterNames.add("arg" + parameterNames.size());
+                parameterClasses.add(types.erasure(parameterType).toString());
+            }
+        }
+
+        private String getName() {
+            return method.getSimpleName().toString();
+        }
+
+        private String getSignature() {
+            return getName() + parameterClasses;
+        }
+
+        private String getDeclaration() {
+            StringBuilder declaration = new StringBuilder();
+            List<? extends TypeParameterElement> typeParameters = method.getTypeParameters();
+            if (!typeParameters.isEmpty()) {
+                declaration.append('<').append(typeParameters.stream().map(typeParameter -> {
+                    List<String> bounds = typeParameter.getBounds().stream().map(TypeMirror::toString)
+                            .filter(bound -> !"java.lang.Object".equals(bound)).collect(Collectors.toList());
+                    return typeParameter.getSimpleName() + (bounds.isEmpty() ? "" : " extends "
+                            + String.join(" & ", bounds));
+                }).collect(Collectors.joining(", "))).append("> ");
+            }
+            declaration.append(type.getReturnType()).append(' ').append(getName()).append('(');
+            List<? extends TypeMirror> parameterTypes = type.getParameterTypes();
+            for (int i = 0; i < parameterTypes.size(); i++) {
+                if (i > 0) {
+                    declaration.append(", ");
+                }
+                declaration.append(parameterTypes.get(i)).append(' ').append(parameterNames.get(i));
+            }
+            declaration.append(')');
+            List<? extends TypeMirror> thrownTypes = type.getThrownTypes();
+            if (!thrownTypes.isEmpty()) {
+                declaration.append(" throws ").append(thrownTypes.stream().map(TypeMirror::toString)
+                        .collect(Collectors.joining(", ")));
+            }
+            return declaration.toString();
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.bytecode;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.bytecode.Wrapper;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.proxy.AbstractProxyFactory;
+import org.apache.dubbo.rpc.proxy.AbstractProxyInvoker;
+import org.apache.dubbo.rpc.proxy.InvokerInvocationHandler;
+import org.apache.dubbo.rpc.proxy.javassist.JavassistProxyFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {@link ProxyFactory} uses the proxies and {@link Wrapper wrappers} which are generated at build time by
+ * {@link DubboProxyProcessor}, instead of generating them by Javassist at runtime. It falls back to
+ * {@link JavassistProxyFactory} for the interfaces which have none, and for the generic references.
+ * <p>
+ * "dubbo.precompiled-proxy.enabled = true" defaults the "proxy" of providers and consumers to "precompiled", and
+ * registers the generated wrappers for {@link Wrapper#getWrapper(Class)}, which Dubbo calls for the method names of
+ * service interfaces.
+ *
+ * @see DubboProxyProcessor
+ * @since 2.7.10
+ */
+public class PrecompiledProxyFactory extends AbstractProxyFactory {
+
+    /**
+     * The extension name of {@link PrecompiledProxyFactory}
+     */
+    public static final String NAME = "precompiled";
+
+    /**
+     * The property which enables the precompiled proxies
+     */
+    public static final String ENABLED_PROPERTY = "dubbo.precompiled-proxy.enabled";
+
+    /**
+     * The location of interfaces which have the generated proxies and wrappers, one name per line
+     */
+    public static final String INTERFACES_LOCATION = "META-INF/dubbo-precompiled/interfaces";
+
+    /**
+     * The suffix of generated proxy class name, appended to the interface name
+     */
+    public static final String PROXY_SUFFIX = "$DubboProxy";
+
+    /**
+     * The suffix of generated wrapper class name, appended to the interface name
+     */
+    public static final String WRAPPER_SUFFIX = "$DubboWrapper";
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledProxyFactory.class);
+
+    private static final ConcurrentMap<Class<?>, Optional<Constructor<?>>> PROXY_CONSTRUCTORS =
+            new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Class<?>, Optional<Wrapper>> WRAPPERS = new ConcurrentHashMap<>();
+
+    private final JavassistProxyFactory fallback = new JavassistProxyFactory();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getProxy(Invoker<T> invoker, Class<?>[] interfaces) {
+        Constructor<?> constructor = PROXY_CONSTRUCTORS.computeIfAbsent(invoker.getInterface(),
+                PrecompiledProxyFactory::findProxyConstructor).orElse(null);
+        if (constructor == null || !implementsAll(constructor.getDeclaringClass(), interfaces)) {
+            return fallback.getProxy(invoker, interfaces);
+        }
+        try {
+            return (T) constructor.newInstance(new InvokerInvocationHandler(invoker));
+        } catch (ReflectiveOperationException e) {
+            throw new RpcException("The proxy " + constructor.getDeclaringClass().getName()
+                    + " can't be instantiated", e);
+        }
+    }
+
+    @Override
+    public <T> Invoker<T> getInvoker(T proxy, Class<T> type, URL url) throws RpcException {
+        Wrapper wrapper = getWrapper(type);
+        if (wrapper == null) {
+            return fallback.getInvoker(proxy, type, url);
+        }
+        return new AbstractProxyInvoker<T>(proxy, type, url) {
+            @Override
+            protected Object doInvoke(T proxy, String methodName, Class<?>[] parameterTypes, Object[] arguments)
+                    throws Throwable {
+                return wrapper.invokeMethod(proxy, methodName, parameterTypes, arguments);
+            }
+        };
+    }
+
+    /**
+     * Get the generated wrapper of interface
+     *
+     * @param interfaceClass the interface
+     * @return <code>null</code> if it's not generated
+     */
+    public static Wrapper getWrapper(Class<?> interfaceClass) {
+        return WRAPPERS.computeIfAbsent(interfaceClass, PrecompiledProxyFactory::findWrapper).orElse(null);
+    }
+
+    /**
+     * Register the generated wrappers of the interfaces listed in "META-INF/dubbo-precompiled/interfaces" for
+     * {@link Wrapper#getWrapper(Class)}, the wrappers which are created already are kept
+     *
+     * @param classLoader the {@link ClassLoader} of application
+     * @return the count of registered wrappers
+     */
+    @SuppressWarnings("unchecked")
+    public static int registerWrappers(ClassLoader classLoader) {
+        Field field = ReflectionUtils.findField(Wrapper.class, "WRAPPER_MAP");
+        if (field == null) {
+            logger.warn("The wrappers of Dubbo can't be registered, the generated wrappers are used by the "
+                    + NAME + " proxy factory only");
+            return 0;
+        }
+        ReflectionUtils.makeAccessible(field);
+        Map<Class<?>, Wrapper> wrapperMap = (Map<Class<?>, Wrapper>) ReflectionUtils.getField(field, null);
+        int registeredWrappers = 0;
+        try {
+            Enumeration<java.net.URL> resources = classLoader.getResources(INTERFACES_LOCATION);
+            while (resources.hasMoreElements()) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (line.isEmpty() || line.startsWith("#") || !ClassUtils.isPresent(line, classLoader)) {
+                            continue;
+                        }
+                        Class<?> interfaceClass = ClassUtils.resolveClassName(line, classLoader);
+                        Wrapper wrapper = getWrapper(interfaceClass);
+                        if (wrapper != null && wrapperMap.putIfAbsent(interfaceClass, wrapper) == null) {
+                            registeredWrappers++;
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("The interfaces " + INTERFACES_LOCATION + " can't be read", e);
+        }
+        return registeredWrappers;
+    }
+
+    /**
+     * Rethrow the exception of {@link InvocationHandler} from the generated proxies, like
+     * {@link java.lang.reflect.Proxy} does : the unchecked exceptions and the checked ones which are declared by the
+     * method are thrown as is, the others are wrapped by {@link UndeclaredThrowableException}
+     *
+     * @param throwable the exception of {@link InvocationHandler}
+     * @param method    the invoked method
+     * @return the exception to throw, if it's not thrown already
+     */
+    public static RuntimeException rethrow(Throwable throwable, Method method) {
+        if (throwable instanceof RuntimeException || throwable instanceof Error) {
+            return PrecompiledProxyFactory.<RuntimeException>sneakyThrow(throwable);
+        }
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(throwable)) {
+                return PrecompiledProxyFactory.<RuntimeException>sneakyThrow(throwable);
+            }
+        }
+        return new UndeclaredThrowableException(throwable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    private static boolean implementsAll(Class<?> proxyClass, Class<?>[] interfaces) {
+        for (Class<?> interfaceClass : interfaces) {
+            if (!interfaceClass.isAssignableFrom(proxyClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<Constructor<?>> findProxyConstructor(Class<?> interfaceClass) {
+        Class<?> proxyClass = findGeneratedClass(interfaceClass, PROXY_SUFFIX);
+        return Optional.ofNullable(proxyClass == null ? null
+                : ClassUtils.getConstructorIfAvailable(proxyClass, InvocationHandler.class));
+    }
+
+    private static Optional<Wrapper> findWrapper(Class<?> interfaceClass) {
+        Class<?> wrapperClass = findGeneratedClass(interfaceClass, WRAPPER_SUFFIX);
+        if (wrapperClass == null || !Wrapper.class.isAssignableFrom(wrapperClass)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((Wrapper) wrapperClass.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            logger.warn("The wrapper " + wrapperClass.getName() + " can't be instantiated", e);
+            return Optional.empty();
+        }
+    }
+
+    private static Class<?> findGeneratedClass(Class<?> interfaceClass, String suffix) {
+        ClassLoader classLoader = interfaceClass.getClassLoader() == null ? ClassUtils.getDefaultClassLoader()
+                : interfaceClass.getClassLoader();
+        String className = interfaceClass.getName() + suffix;
+        return ClassUtils.isPresent(className, classLoader) ? ClassUtils.resolveClassName(className, classLoader)
+                : null;
+    }
+}
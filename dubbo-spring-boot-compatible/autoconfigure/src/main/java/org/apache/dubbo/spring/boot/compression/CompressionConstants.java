@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+/**
+ * The URL parameters and attachments of response compression
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+public interface CompressionConstants {
+
+    /**
+     * The codecs in order of preference, e.g. "zstd,lz4", it's method-level. The provider compresses the responses
+     * by the first codec which the consumer accepts, the consumer accepts the available codecs of it.
+     */
+    String COMPRESSION_KEY = "compression";
+
+    /**
+     * The threshold in bytes, the responses are compressed only if they're serialized to no less bytes than it,
+     * it's method-level.
+     */
+    String COMPRESSION_THRESHOLD_KEY = "compression-threshold";
+
+    /**
+     * The attachment of request, the codecs which the consumer accepts, e.g. "lz4,zstd"
+     */
+    String ACCEPT_COMPRESSION_ATTACHMENT = "accept-compression";
+
+    /**
+     * The attachment of response, the codec which compressed the value
+     */
+    String COMPRESSION_ATTACHMENT = "compression";
+
+    /**
+     * The attachment of response, the serialization of the value before compression
+     */
+    String COMPRESSION_SERIALIZATION_ATTACHMENT = "compression-serialization";
+
+    /**
+     * The attachment of response, the length of the value before compression
+     */
+    String COMPRESSION_LENGTH_ATTACHMENT = "compression-length";
+
+    /**
+     * The attachment of response, the compressed value
+     */
+    String COMPRESSION_PAYLOAD_ATTACHMENT = "compression-payload";
+
+    /**
+     * The name of the codec which leaves the value uncompressed, the provider sends the serialized value as is if it's
+     * under the threshold or doesn't shrink, so that it isn't serialized again
+     */
+    String IDENTITY = "identity";
+
+    /**
+     * The name of LZ4 codec, it's fast
+     */
+    String LZ4 = "lz4";
+
+    /**
+     * The name of Zstandard codec, it has better ratio
+     */
+    String ZSTD = "zstd";
+}
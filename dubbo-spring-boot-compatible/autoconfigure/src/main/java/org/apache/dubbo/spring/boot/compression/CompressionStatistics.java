@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a codec in one direction
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+public class CompressionStatistics {
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder uncompressedBytes = new LongAdder();
+
+    private final LongAdder compressedBytes = new LongAdder();
+
+    void record(int uncompressedLength, int compressedLength) {
+        count.increment();
+        uncompressedBytes.add(uncompressedLength);
+        compressedBytes.add(compressedLength);
+    }
+
+    /**
+     * @return the count of responses
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the total bytes before compression
+     */
+    public long getUncompressedBytes() {
+        return uncompressedBytes.sum();
+    }
+
+    /**
+     * @return the total bytes after compression
+     */
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+}
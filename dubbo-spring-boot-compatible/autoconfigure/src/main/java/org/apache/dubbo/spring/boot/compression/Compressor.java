@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+/**
+ * The codec of response compression, it must be thread-safe
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+public interface Compressor {
+
+    /**
+     * @return the name of codec which is negotiated through the attachments
+     */
+    String getName();
+
+    /**
+     * Compresses the data
+     *
+     * @param data   the data
+     * @param offset the offset of data
+     * @param length the length of data
+     * @return the compressed data
+     */
+    byte[] compress(byte[] data, int offset, int length);
+
+    /**
+     * Decompresses the data
+     *
+     * @param data   the compressed data
+     * @param length the length of data before compression
+     * @return the decompressed data
+     */
+    byte[] decompress(byte[] data, int length);
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.dubbo.spring.boot.compression.DubboCompressionProperties.PREFIX;
+
+/**
+ * Dubbo Compression Properties, the method-level parameters "{@value CompressionConstants#COMPRESSION_KEY}" and
+ * "{@value CompressionConstants#COMPRESSION_THRESHOLD_KEY}" take precedence over them.
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboCompressionProperties {
+
+    /**
+     * The prefix of {@link DubboCompressionProperties}
+     */
+    public static final String PREFIX = "dubbo.compression";
+
+    /**
+     * Whether the responses are compressed or not, it's required by both provider and consumer
+     */
+    private boolean enabled = false;
+
+    /**
+     * The default codecs in order of preference for the methods without the parameter "compression", e.g. "zstd,lz4".
+     * The responses of such methods aren't compressed if it's empty.
+     */
+    private List<String> codecs = new ArrayList<>();
+
+    /**
+     * The default threshold in bytes, the smaller responses aren't compressed
+     */
+    private int threshold = 16 * 1024;
+
+    /**
+     * The compression level of Zstandard
+     */
+    private int zstdLevel = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getCodecs() {
+        return codecs;
+    }
+
+    public void setCodecs(List<String> codecs) {
+        this.codecs = codecs;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getZstdLevel() {
+        return zstdLevel;
+    }
+
+    public void setZstdLevel(int zstdLevel) {
+        this.zstdLevel = zstdLevel;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.util.Arrays;
+
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.LZ4;
+
+/**
+ * The {@link Compressor} of LZ4 block format, the fastest implementation of lz4-java is used : JNI, Unsafe or pure
+ * Java.
+ *
+ * @since 2.7.10
+ */
+public class Lz4Compressor implements Compressor {
+
+    private final LZ4Compressor compressor;
+
+    private final LZ4FastDecompressor decompressor;
+
+    public Lz4Compressor() {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public String getName() {
+        return LZ4;
+    }
+
+    @Override
+    public byte[] compress(byte[] data, int offset, int length) {
+        byte[] compressed = new byte[compressor.maxCompressedLength(length)];
+        int compressedLength = compressor.compress(data, offset, length, compressed, 0, compressed.length);
+        return Arrays.copyOf(compressed, compressedLength);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int length) {
+        return decompressor.decompress(data, length);
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
+import org.apache.dubbo.common.io.UnsafeByteArrayOutputStream;
+import org.apache.dubbo.common.serialize.ObjectInput;
+import org.apache.dubbo.common.serialize.ObjectOutput;
+import org.apache.dubbo.common.serialize.Serialization;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.support.RpcUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.common.constants.CommonConstants.COMMA_SPLIT_PATTERN;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_PAYLOAD;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_REMOTING_SERIALIZATION;
+import static org.apache.dubbo.remoting.Constants.PAYLOAD_KEY;
+import static org.apache.dubbo.remoting.Constants.SERIALIZATION_KEY;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.ACCEPT_COMPRESSION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_KEY;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_LENGTH_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_PAYLOAD_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_SERIALIZATION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_THRESHOLD_KEY;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.IDENTITY;
+
+/**
+ * The compressor negotiates the codec through the attachments, and replaces the value of response with its
+ * compressed bytes in the attachments :
+ * <ol>
+ * <li>the consumer attaches the codecs which it accepts to the request</li>
+ * <li>the provider serializes the value, and compresses it by the first codec of its preference that the consumer
+ * accepts if the bytes reach the threshold and shrink, then the value is replaced by the compressed bytes, or by the
+ * serialized bytes as is with the codec "{@value CompressionConstants#IDENTITY}" otherwise</li>
+ * <li>the consumer decompresses and deserializes the value by the return type of method</li>
+ * </ol>
+ * Neither side does anything more than the attachment if the method isn't compressed, and the value of a compressed
+ * method is serialized only once, since the bytes are always sent. If the value can't be serialized, the method isn't
+ * compressed any more, and Dubbo serializes its responses as usual.
+ *
+ * @see ResponseCompressionFilter
+ * @see ResponseDecompressionFilter
+ * @since 2.7.10
+ */
+public class ResponseCompressor {
+
+    /**
+     * The bean name of {@link ResponseCompressor}
+     */
+    public static final String BEAN_NAME = "dubboResponseCompressor";
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCompressor.class);
+
+    private static final String LZ4_CLASS_NAME = "net.jpountz.lz4.LZ4Factory";
+
+    private static final String ZSTD_CLASS_NAME = "com.github.luben.zstd.Zstd";
+
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final Map<String, Compressor> compressors;
+
+    private final String defaultCodecs;
+
+    private final int threshold;
+
+    private final String acceptedCodecs;
+
+    private final ConcurrentMap<String, List<Compressor>> preferredCompressorsCache = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, String> acceptedCodecsCache = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the methods whose values can't be serialized, i.e. "group/interface:version#method"
+     */
+    private final Set<String> unserializableMethods = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, CompressionStatistics> compressionStatistics;
+
+    private final Map<String, CompressionStatistics> decompressionStatistics;
+
+    private final LongAdder skippedCount = new LongAdder();
+
+    private final LongAdder skippedBytes = new LongAdder();
+
+    public ResponseCompressor(DubboCompressionProperties properties) {
+        this(createCompressors(properties), properties);
+    }
+
+    public ResponseCompressor(List<Compressor> compressors, DubboCompressionProperties properties) {
+        Map<String, Compressor> compressorsMap = new LinkedHashMap<>();
+        Map<String, CompressionStatistics> compressionStatistics = new LinkedHashMap<>();
+        Map<String, CompressionStatistics> decompressionStatistics = new LinkedHashMap<>();
+        for (Compressor compressor : compressors) {
+            compressorsMap.put(compressor.getName(), compressor);
+            compressionStatistics.put(compressor.getName(), new CompressionStatistics());
+            decompressionStatistics.put(compressor.getName(), new CompressionStatistics());
+        }
+        this.compressors = Collections.unmodifiableMap(compressorsMap);
+        this.compressionStatistics = Collections.unmodifiableMap(compressionStatistics);
+        this.decompressionStatistics = Collections.unmodifiableMap(decompressionStatistics);
+        this.defaultCodecs = StringUtils.collectionToCommaDelimitedString(properties.getCodecs());
+        this.threshold = properties.getThreshold();
+        this.acceptedCodecs = StringUtils.collectionToCommaDelimitedString(compressorsMap.keySet());
+    }
+
+    private static List<Compressor> createCompressors(DubboCompressionProperties properties) {
+        List<Compressor> compressors = new ArrayList<>();
+        ClassLoader classLoader = ResponseCompressor.class.getClassLoader();
+        if (ClassUtils.isPresent(LZ4_CLASS_NAME, classLoader)) {
+            compressors.add(new Lz4Compressor());
+        }
+        if (ClassUtils.isPresent(ZSTD_CLASS_NAME, classLoader)) {
+            try {
+                compressors.add(new ZstdCompressor(properties.getZstdLevel()));
+            } catch (LinkageError e) {
+                logger.warn("Zstandard is unavailable, because its native library can't be loaded", e);
+            }
+        }
+        if (compressors.isEmpty()) {
+            logger.warn("No codec of compression is available, lz4-java or zstd-jni is required");
+        }
+        return compressors;
+    }
+
+    /**
+     * Resolves the codecs which the consumer accepts
+     *
+     * @param url        the URL of consumer
+     * @param methodName the name of method
+     * @return the codecs separated by comma, or <code>null</code> if none
+     */
+    public String getAcceptedCodecs(URL url, String methodName) {
+        String codecs = url.getMethodParameter(methodName, COMPRESSION_KEY);
+        if (codecs == null) {
+            return acceptedCodecs.isEmpty() ? null : acceptedCodecs;
+        }
+        String accepted = acceptedCodecsCache.computeIfAbsent(codecs, key -> {
+            List<String> names = new ArrayList<>();
+            for (Compressor compressor : getPreferredCompressors(key)) {
+                names.add(compressor.getName());
+            }
+            return StringUtils.collectionToCommaDelimitedString(names);
+        });
+        return accepted.isEmpty() ? null : accepted;
+    }
+
+    /**
+     * Compresses the value of response on the provider side if the consumer accepts
+     *
+     * @param result     the response
+     * @param url        the URL of provider
+     * @param invocation the invocation
+     * @return <code>true</code> if the value is replaced by the payload, either compressed or not
+     */
+    public boolean compress(Result result, URL url, Invocation invocation) {
+        Object accepted = invocation.getObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT);
+        if (!(accepted instanceof String) || result.hasException() || result.getValue() == null) {
+            return false;
+        }
+        String methodName = invocation.getMethodName();
+        Compressor compressor = negotiate(url.getMethodParameter(methodName, COMPRESSION_KEY, defaultCodecs),
+                (String) accepted);
+        if (compressor == null) {
+            return false;
+        }
+        String methodKey = url.getServiceKey() + "#" + methodName;
+        if (unserializableMethods.contains(methodKey)) {
+            return false;
+        }
+        String serializationName = url.getParameter(SERIALIZATION_KEY, DEFAULT_REMOTING_SERIALIZATION);
+        UnsafeByteArrayOutputStream outputStream = new UnsafeByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try {
+            ObjectOutput output = getSerialization(serializationName).serialize(url, outputStream);
+            output.writeObject(result.getValue());
+            output.flushBuffer();
+        } catch (IOException | RuntimeException e) {
+            // The responses of the method will be serialized as usual, rather than twice
+            if (unserializableMethods.add(methodKey)) {
+                logger.warn("The response of " + methodKey + " can't be serialized by " + serializationName
+                        + " for compression, the method won't be compressed", e);
+            }
+            return false;
+        }
+        int length = outputStream.size();
+        byte[] serialized = outputStream.toByteBuffer().array();
+        if (length >= url.getMethodParameter(methodName, COMPRESSION_THRESHOLD_KEY, threshold)) {
+            byte[] compressed = compressor.compress(serialized, 0, length);
+            if (compressed.length < length) {
+                replaceValue(result, compressor.getName(), serializationName, length, compressed);
+                compressionStatistics.get(compressor.getName()).record(length, compressed.length);
+                return true;
+            }
+        }
+        // The serialized bytes are sent as is, instead of being serialized again by Dubbo
+        replaceValue(result, IDENTITY, serializationName, length,
+                serialized.length == length ? serialized : Arrays.copyOf(serialized, length));
+        recordSkipped(length);
+        return true;
+    }
+
+    private static void replaceValue(Result result, String codec, String serializationName, int length,
+                                     byte[] payload) {
+        result.setValue(null);
+        result.setObjectAttachment(COMPRESSION_ATTACHMENT, codec);
+        result.setObjectAttachment(COMPRESSION_SERIALIZATION_ATTACHMENT, serializationName);
+        result.setObjectAttachment(COMPRESSION_LENGTH_ATTACHMENT, length);
+        result.setObjectAttachment(COMPRESSION_PAYLOAD_ATTACHMENT, payload);
+    }
+
+    /**
+     * Decompresses the value of response on the consumer side if it's compressed
+     *
+     * @param result     the response
+     * @param url        the URL of consumer
+     * @param invocation the invocation
+     * @return <code>true</code> if it's decompressed
+     * @throws RpcException if it can't be decompressed
+     */
+    public boolean decompress(Result result, URL url, Invocation invocation) throws RpcException {
+        Map<String, Object> attachments = result.getObjectAttachments();
+        if (attachments == null || !attachments.containsKey(COMPRESSION_ATTACHMENT)) {
+            return false;
+        }
+        Object codec = attachments.remove(COMPRESSION_ATTACHMENT);
+        Object serializationName = attachments.remove(COMPRESSION_SERIALIZATION_ATTACHMENT);
+        Object length = attachments.remove(COMPRESSION_LENGTH_ATTACHMENT);
+        Object payload = attachments.remove(COMPRESSION_PAYLOAD_ATTACHMENT);
+        boolean identity = IDENTITY.equals(codec);
+        Compressor compressor = identity ? null : compressors.get(codec);
+        if (compressor == null && !identity) {
+            throw new RpcException("The response of " + invocation.getMethodName() + " is compressed by "
+                    + "the unsupported codec : " + codec);
+        }
+        if (!(serializationName instanceof String) || !(length instanceof Number) || !(payload instanceof byte[])
+                || (identity && ((byte[]) payload).length != ((Number) length).intValue())) {
+            throw new RpcException("The compressed response of " + invocation.getMethodName() + " is malformed");
+        }
+        int uncompressedLength = ((Number) length).intValue();
+        int payloadLimit = url.getParameter(PAYLOAD_KEY, DEFAULT_PAYLOAD);
+        if (uncompressedLength < 0 || (payloadLimit > 0 && uncompressedLength > payloadLimit)) {
+            throw new RpcException("The decompressed response of " + invocation.getMethodName() + " exceeds "
+                    + "the payload limit " + payloadLimit + " : " + uncompressedLength);
+        }
+        byte[] compressed = (byte[]) payload;
+        try {
+            byte[] data = identity ? compressed : compressor.decompress(compressed, uncompressedLength);
+            ObjectInput input = getSerialization((String) serializationName).deserialize(url,
+                    new UnsafeByteArrayInputStream(data));
+            Type[] returnTypes = RpcUtils.getReturnTypes(invocation);
+            Object value = returnTypes == null ? input.readObject(Object.class)
+                    : input.readObject((Class<?>) returnTypes[0], returnTypes[1]);
+            result.setValue(value);
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            throw new RpcException("The compressed response of " + invocation.getMethodName()
+                    + " can't be decompressed by " + codec, e);
+        }
+        if (!identity) {
+            decompressionStatistics.get(compressor.getName()).record(uncompressedLength, compressed.length);
+        }
+        return true;
+    }
+
+    private Compressor negotiate(String preferredCodecs, String acceptedCodecs) {
+        if (preferredCodecs == null || preferredCodecs.isEmpty()) {
+            return null;
+        }
+        for (Compressor compressor : getPreferredCompressors(preferredCodecs)) {
+            for (String accepted : COMMA_SPLIT_PATTERN.split(acceptedCodecs)) {
+                if (compressor.getName().equals(accepted.trim())) {
+                    return compressor;
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<Compressor> getPreferredCompressors(String codecs) {
+        return preferredCompressorsCache.computeIfAbsent(codecs, key -> {
+            List<Compressor> preferredCompressors = new ArrayList<>();
+            for (String codec : COMMA_SPLIT_PATTERN.split(key)) {
+                Compressor compressor = compressors.get(codec.trim());
+                if (compressor != null && !preferredCompressors.contains(compressor)) {
+                    preferredCompressors.add(compressor);
+                }
+            }
+            return preferredCompressors;
+        });
+    }
+
+    private Serialization getSerialization(String name) throws IOException {
+        ExtensionLoader<Serialization> loader = ExtensionLoader.getExtensionLoader(Serialization.class);
+        if (!loader.hasExtension(name)) {
+            throw new IOException("The serialization is unsupported : " + name);
+        }
+        return loader.getExtension(name);
+    }
+
+    private void recordSkipped(int length) {
+        skippedCount.increment();
+        skippedBytes.add(length);
+    }
+
+    /**
+     * @return the names of available codecs
+     */
+    public List<String> getCodecs() {
+        return new ArrayList<>(compressors.keySet());
+    }
+
+    /**
+     * @return the statistics of compressed responses on the provider side per codec
+     */
+    public Map<String, CompressionStatistics> getCompressionStatistics() {
+        return compressionStatistics;
+    }
+
+    /**
+     * @return the statistics of decompressed responses on the consumer side per codec
+     */
+    public Map<String, CompressionStatistics> getDecompressionStatistics() {
+        return decompressionStatistics;
+    }
+
+    /**
+     * @return the count of responses which are sent uncompressed, because they're under the threshold or don't shrink
+     */
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    /**
+     * @return the total bytes of the skipped responses
+     */
+    public long getSkippedBytes() {
+        return skippedBytes.sum();
+    }
+}
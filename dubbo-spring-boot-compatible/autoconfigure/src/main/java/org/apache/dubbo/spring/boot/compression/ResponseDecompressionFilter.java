@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE;
+import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE_ASYNC;
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.ACCEPT_COMPRESSION_ATTACHMENT;
+
+/**
+ * The consumer {@link Filter} accepts the compressed responses and decompresses them by {@link ResponseCompressor},
+ * the compressor bean is injected by its name "{@value ResponseCompressor#BEAN_NAME}" from Spring context. The filter
+ * passes through all invocations if the compression is disabled, thus the providers never compress the responses.
+ * <p>
+ * It's ordered after the other filters, so that they see the decompressed responses. The generic invocations aren't
+ * compressed, because their return types are unknown.
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+@Activate(group = CONSUMER, order = 30000)
+public class ResponseDecompressionFilter implements Filter, Filter.Listener {
+
+    private ResponseCompressor dubboResponseCompressor;
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        ResponseCompressor compressor = this.dubboResponseCompressor;
+        String methodName = invocation.getMethodName();
+        if (compressor != null && !$INVOKE.equals(methodName) && !$INVOKE_ASYNC.equals(methodName)) {
+            String acceptedCodecs = compressor.getAcceptedCodecs(invoker.getUrl(), methodName);
+            if (acceptedCodecs != null) {
+                invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, acceptedCodecs);
+            }
+        }
+        return invoker.invoke(invocation);
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        ResponseCompressor compressor = this.dubboResponseCompressor;
+        if (compressor == null) {
+            return;
+        }
+        try {
+            compressor.decompress(appResponse, invoker.getUrl(), invocation);
+        } catch (RpcException e) {
+            appResponse.setException(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+    }
+
+    public void setDubboResponseCompressor(ResponseCompressor dubboResponseCompressor) {
+        this.dubboResponseCompressor = dubboResponseCompressor;
+    }
+}
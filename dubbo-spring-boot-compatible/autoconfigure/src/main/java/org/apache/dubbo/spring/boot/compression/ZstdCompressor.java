@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import java.util.Arrays;
+
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.ZSTD;
+
+/**
+ * The {@link Compressor} of Zstandard by zstd-jni, the native library is loaded on construction.
+ *
+ * @since 2.7.10
+ */
+public class ZstdCompressor implements Compressor {
+
+    private final int level;
+
+    /**
+     * @param level the compression level
+     * @throws LinkageError if the native library isn't available on the platform
+     */
+    public ZstdCompressor(int level) {
+        if (level < Zstd.minCompressionLevel() || level > Zstd.maxCompressionLevel()) {
+            throw new IllegalArgumentException("The level of Zstandard must be between " + Zstd.minCompressionLevel()
+                    + " and " + Zstd.maxCompressionLevel() + " : " + level);
+        }
+        this.level = level;
+    }
+
+    @Override
+    public String getName() {
+        return ZSTD;
+    }
+
+    @Override
+    public byte[] compress(byte[] data, int offset, int length) {
+        byte[] compressed = new byte[(int) Zstd.compressBound(length)];
+        long compressedLength = Zstd.compressByteArray(compressed, 0, compressed.length, data, offset, length,
+                level);
+        if (Zstd.isError(compressedLength)) {
+            throw new IllegalStateException("Zstandard failed to compress : " + Zstd.getErrorName(compressedLength));
+        }
+        return Arrays.copyOf(compressed, (int) compressedLength);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int length) {
+        byte[] decompressed = new byte[length];
+        long decompressedLength = Zstd.decompressByteArray(decompressed, 0, length, data, 0, data.length);
+        if (Zstd.isError(decompressedLength)) {
+            throw new IllegalStateException("Zstandard failed to decompress : "
+                    + Zstd.getErrorName(decompressedLength));
+        }
+        if (decompressedLength != length) {
+            throw new IllegalStateException("Zstandard decompressed " + decompressedLength + " bytes, but "
+                    + length + " bytes are expected");
+        }
+        return decompressed;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.connection;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.dubbo.spring.boot.connection.DubboSharedConnectionsProperties.PREFIX;
+
+/**
+ * Dubbo Shared Connections Properties, for example :
+ * <pre>
+ * dubbo.consumer.shared-connections.enabled = true
+ * dubbo.consumer.shared-connections.size = 2
+ * dubbo.consumer.shared-connections.addresses[10.20.153.10:20880] = 4
+ * dubbo.consumer.shared-connections.addresses[10.20.153.11] = 8
+ * </pre>
+ *
+ * @see SharedConnectionsProtocolWrapper
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboSharedConnectionsProperties {
+
+    /**
+     * The prefix of {@link DubboSharedConnectionsProperties}
+     */
+    public static final String PREFIX = "dubbo.consumer.shared-connections";
+
+    /**
+     * Whether the references share the connections per provider address or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The count of shared connections per provider address
+     */
+    private int size = 1;
+
+    /**
+     * The count of shared connections by provider address, i.e. "host:port", or by host, they take precedence over
+     * the size
+     */
+    private Map<String, Integer> addresses = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public Map<String, Integer> getAddresses() {
+        return addresses;
+    }
+
+    public void setAddresses(Map<String, Integer> addresses) {
+        this.addresses = addresses;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.connection;
+
+import org.apache.dubbo.common.URL;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The connections which are shared by the references per provider address, it records which references share them.
+ *
+ * @see SharedConnectionsProtocolWrapper
+ * @see DubboSharedConnectionsProperties
+ * @since 2.7.10
+ */
+public class SharedConnections {
+
+    /**
+     * The bean name of {@link SharedConnections}
+     */
+    public static final String BEAN_NAME = "dubboSharedConnections";
+
+    private final int size;
+
+    private final Map<String, Integer> addresses;
+
+    private final ConcurrentMap<String, AddressConnections> addressConnections = new ConcurrentHashMap<>();
+
+    public SharedConnections(DubboSharedConnectionsProperties properties) {
+        this.size = properties.getSize();
+        this.addresses = properties.getAddresses() == null ? Collections.emptyMap() :
+                new ConcurrentHashMap<>(properties.getAddresses());
+    }
+
+    /**
+     * Record the reference of the provider
+     *
+     * @param url the URL of provider
+     * @return the count of shared connections to the provider, it doesn't change until all references of the
+     * provider are released, because the shared connections are reused meanwhile
+     */
+    public int acquire(URL url) {
+        String address = url.getAddress();
+        AddressConnections connections = addressConnections.compute(address, (key, value) -> {
+            AddressConnections result = value == null ? new AddressConnections(getSize(url)) : value;
+            result.references.computeIfAbsent(url.getServiceKey(), serviceKey -> new AtomicInteger())
+                    .incrementAndGet();
+            return result;
+        });
+        return connections.size;
+    }
+
+    /**
+     * Release the reference of the provider
+     *
+     * @param url the URL of provider
+     */
+    public void release(URL url) {
+        addressConnections.computeIfPresent(url.getAddress(), (key, value) -> {
+            AtomicInteger count = value.references.get(url.getServiceKey());
+            if (count != null && count.decrementAndGet() <= 0) {
+                value.references.remove(url.getServiceKey());
+            }
+            return value.references.isEmpty() ? null : value;
+        });
+    }
+
+    /**
+     * @return the count of shared connections and the references which share them by provider address
+     */
+    public Map<String, Map<String, Object>> getAddressConnections() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        addressConnections.forEach((address, connections) -> {
+            Map<String, Object> data = new TreeMap<>();
+            data.put("connections", connections.size);
+            Map<String, Integer> references = new TreeMap<>();
+            connections.references.forEach((serviceKey, count) -> references.put(serviceKey, count.get()));
+            data.put("references", references);
+            result.put(address, data);
+        });
+        return result;
+    }
+
+    private int getSize(URL url) {
+        Integer size = addresses.get(url.getAddress());
+        if (size == null) {
+            size = addresses.get(url.getHost());
+        }
+        return Math.max(1, size == null ? this.size : size);
+    }
+
+    private static class AddressConnections {
+
+        private final int size;
+
+        /**
+         * The count of invokers by service key
+         */
+        private final ConcurrentMap<String, AtomicInteger> references = new ConcurrentHashMap<>();
+
+        private AddressConnections(int size) {
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.connection;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProtocolServer;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.protocol.InvokerWrapper;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DUBBO;
+import static org.apache.dubbo.remoting.Constants.CONNECTIONS_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.SHARE_CONNECTIONS_KEY;
+
+/**
+ * The wrapper of {@link Protocol} makes the references of "dubbo" protocol share the connections per provider address
+ * instead of opening their own ones by "connections", thus the consumers of many references to the same providers
+ * don't end up with thousands of sockets and heartbeat timers. The count of shared connections is configured per
+ * provider address by {@link DubboSharedConnectionsProperties}.
+ * <p>
+ * The references keep their own connections only if they set "connections" and the parameter
+ * "{@value #SHARED_CONNECTIONS_KEY}" = <code>false</code>, e.g.
+ * <pre>
+ * &#64;DubboReference(connections = 2, parameters = {"shared-connections", "false"})
+ * </pre>
+ * The wrapper is applied to all protocols by Dubbo SPI, and it doesn't touch the references if it's disabled.
+ *
+ * @see SharedConnections
+ * @since 2.7.10
+ */
+public class SharedConnectionsProtocolWrapper implements Protocol {
+
+    /**
+     * The parameter key of whether the reference shares the connections or not
+     */
+    public static final String SHARED_CONNECTIONS_KEY = "shared-connections";
+
+    private final Protocol protocol;
+
+    private SharedConnections dubboSharedConnections;
+
+    public SharedConnectionsProtocolWrapper(Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    public int getDefaultPort() {
+        return protocol.getDefaultPort();
+    }
+
+    @Override
+    public <T> Exporter<T> export(Invoker<T> invoker) throws RpcException {
+        return protocol.export(invoker);
+    }
+
+    @Override
+    public <T> Invoker<T> refer(Class<T> type, URL url) throws RpcException {
+        SharedConnections sharedConnections = dubboSharedConnections;
+        if (sharedConnections == null || !DUBBO.equals(url.getProtocol()) || (url.getParameter(CONNECTIONS_KEY, 0) > 0
+                && !url.getParameter(SHARED_CONNECTIONS_KEY, true))) {
+            return protocol.refer(type, url);
+        }
+        // The size must be same as the one of existing shared connections, otherwise Dubbo fails to reuse them
+        int size = sharedConnections.acquire(url);
+        try {
+            URL sharedUrl = url.removeParameter(CONNECTIONS_KEY).addParameter(SHARE_CONNECTIONS_KEY, size);
+            return new SharedConnectionsInvoker<>(protocol.refer(type, sharedUrl), url, sharedConnections);
+        } catch (RuntimeException e) {
+            sharedConnections.release(url);
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Override
+    public List<ProtocolServer> getServers() {
+        return protocol.getServers();
+    }
+
+    public void setDubboSharedConnections(SharedConnections dubboSharedConnections) {
+        this.dubboSharedConnections = dubboSharedConnections;
+    }
+
+    private static class SharedConnectionsInvoker<T> extends InvokerWrapper<T> {
+
+        private final SharedConnections sharedConnections;
+
+        private final AtomicBoolean destroyed = new AtomicBoolean();
+
+        private SharedConnectionsInvoker(Invoker<T> invoker, URL url, SharedConnections sharedConnections) {
+            super(invoker, url);
+            this.sharedConnections = sharedConnections;
+        }
+
+        @Override
+        public void destroy() {
+            super.destroy();
+            if (destroyed.compareAndSet(false, true)) {
+                sharedConnections.release(getUrl());
+            }
+        }
+    }
+}
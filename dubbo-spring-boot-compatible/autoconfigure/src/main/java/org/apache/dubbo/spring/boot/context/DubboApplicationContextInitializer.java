@@ -16,9 +16,15 @@
  */
 package org.apache.dubbo.spring.boot.context;
 
+import org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory;
+import org.apache.dubbo.spring.boot.registry.EarlyRegistryConnector;
+
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import static org.apache.dubbo.spring.boot.registry.EarlyRegistryConnector.ENABLED_PROPERTY;
 
 /**
  * Dubbo {@link ApplicationContextInitializer} implementation
@@ -31,6 +37,8 @@ public class DubboApplicationContextInitializer implements ApplicationContextIni
     @Override
     public void initialize(ConfigurableApplicationContext applicationContext) {
         overrideBeanDefinitions(applicationContext);
+        connectRegistriesEarly(applicationContext);
+        registerPrecompiledWrappers(applicationContext);
     }
 
     private void overrideBeanDefinitions(ConfigurableApplicationContext applicationContext) {
@@ -42,6 +50,34 @@ public class DubboApplicationContextInitializer implements ApplicationContextIni
         // TODO Add some components in the future ( after 2.7.8 )
     }
 
+    /**
+     * Connect to the registries and config centers in the background if "dubbo.early-connect.enabled" is
+     * <code>true</code>, thus the connections overlap with bean creation
+     *
+     * @param applicationContext {@link ConfigurableApplicationContext}
+     * @since 2.7.10
+     */
+    private void connectRegistriesEarly(ConfigurableApplicationContext applicationContext) {
+        ConfigurableEnvironment environment = applicationContext.getEnvironment();
+        if (environment.getProperty(ENABLED_PROPERTY, Boolean.class, false)) {
+            new EarlyRegistryConnector(environment).connect();
+        }
+    }
+
+    /**
+     * Register the wrappers which are generated at build time if "dubbo.precompiled-proxy.enabled" is
+     * <code>true</code>, before Dubbo asks for the wrappers of service interfaces
+     *
+     * @param applicationContext {@link ConfigurableApplicationContext}
+     * @since 2.7.10
+     */
+    private void registerPrecompiledWrappers(ConfigurableApplicationContext applicationContext) {
+        if (applicationContext.getEnvironment().getProperty(PrecompiledProxyFactory.ENABLED_PROPERTY, Boolean.class,
+                false)) {
+            PrecompiledProxyFactory.registerWrappers(applicationContext.getClassLoader());
+        }
+    }
+
     @Override
     public int getOrder() {
         return HIGHEST_PRECEDENCE;
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the service method is non-blocking, thus {@link MethodDirectDispatcher} runs it on the IO thread directly
+ * rather than handing it off to the worker thread pool. It's applicable to the methods of both service interface and
+ * implementation, and equivalent to the method-level parameter
+ * "{@value MethodDirectDispatcher#DIRECT_KEY}" = <code>true</code>.
+ * <p>
+ * The method must be trivial and CPU-only, a blocking one stalls all connections of the IO thread.
+ *
+ * @see MethodDirectDispatcher
+ * @see DirectDispatchValidator
+ * @since 2.7.10
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DirectDispatch {
+}
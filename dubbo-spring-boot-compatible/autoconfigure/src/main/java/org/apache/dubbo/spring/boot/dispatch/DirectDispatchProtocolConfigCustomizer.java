@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import org.apache.dubbo.config.AbstractConfig;
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.config.spring.context.config.DubboConfigBeanCustomizer;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DUBBO;
+
+/**
+ * The {@link DubboConfigBeanCustomizer} sets the dispatcher of "dubbo" {@link ProtocolConfig protocols} to
+ * {@link MethodDirectDispatcher}, unless it's set explicitly.
+ *
+ * @see MethodDirectDispatcher
+ * @since 2.7.10
+ */
+public class DirectDispatchProtocolConfigCustomizer implements DubboConfigBeanCustomizer {
+
+    @Override
+    public void customize(String beanName, AbstractConfig dubboConfigBean) {
+        if (!(dubboConfigBean instanceof ProtocolConfig)) {
+            return;
+        }
+        ProtocolConfig protocolConfig = (ProtocolConfig) dubboConfigBean;
+        if (protocolConfig.getName() != null && !DUBBO.equals(protocolConfig.getName())) {
+            return;
+        }
+        if (protocolConfig.getDispatcher() == null) {
+            protocolConfig.setDispatcher(MethodDirectDispatcher.NAME);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of {@link MethodDirectDispatcher}, counts the requests which run on the IO threads directly, that is
+ * the handoffs avoided, and the ones which are dispatched to the worker thread pool.
+ *
+ * @see MethodDirectDispatcher
+ * @since 2.7.10
+ */
+public class DirectDispatchStatistics {
+
+    /**
+     * The bean name of {@link DirectDispatchStatistics}
+     */
+    public static final String BEAN_NAME = "dubboDirectDispatchStatistics";
+
+    private final ConcurrentMap<String, LongAdder> directCounts = new ConcurrentHashMap<>();
+
+    private final LongAdder dispatchedCount = new LongAdder();
+
+    /**
+     * Count the request which runs on the IO thread
+     *
+     * @param method the service key and method name
+     */
+    public void direct(String method) {
+        directCounts.computeIfAbsent(method, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Count the request which is dispatched to the worker thread pool
+     */
+    public void dispatched() {
+        dispatchedCount.increment();
+    }
+
+    public long getDirectCount() {
+        long count = 0;
+        for (LongAdder directCount : directCounts.values()) {
+            count += directCount.sum();
+        }
+        return count;
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.sum();
+    }
+
+    /**
+     * @return the count of requests which run on the IO thread per service key and method name
+     */
+    public Map<String, Long> getDirectCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : directCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+}
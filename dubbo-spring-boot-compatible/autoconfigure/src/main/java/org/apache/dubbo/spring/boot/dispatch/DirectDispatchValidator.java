@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import org.apache.dubbo.config.MethodConfig;
+import org.apache.dubbo.config.spring.ReferenceBean;
+import org.apache.dubbo.config.spring.ServiceBean;
+import org.apache.dubbo.config.spring.beans.factory.annotation.ReferenceAnnotationBeanPostProcessor;
+
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.dubbo.spring.boot.dispatch.MethodDirectDispatcher.DIRECT_KEY;
+
+/**
+ * The validator of {@link DirectDispatch non-blocking methods}, it fails the startup before the services are exported
+ * if any of them calls the synchronous methods of Dubbo references, because they would block the IO thread. The
+ * methods of references are asynchronous only if they return {@link java.util.concurrent.CompletableFuture},
+ * {@link java.util.concurrent.CompletionStage}, {@link java.util.concurrent.Future}, Mono or Flux.
+ * <p>
+ * The bytecode of service implementations is scanned, the calls inside lambdas or other methods are not followed.
+ *
+ * @see DirectDispatch
+ * @see MethodDirectDispatcher
+ * @since 2.7.10
+ */
+public class DirectDispatchValidator implements SmartInitializingSingleton, ApplicationContextAware {
+
+    private static final Set<String> ASYNC_RETURN_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "java.util.concurrent.CompletableFuture",
+            "java.util.concurrent.CompletionStage",
+            "java.util.concurrent.Future",
+            "reactor.core.publisher.Mono",
+            "reactor.core.publisher.Flux"
+    )));
+
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<String> referenceInterfaces = getReferenceInterfaces();
+        if (referenceInterfaces.isEmpty()) {
+            return;
+        }
+        List<String> violations = new ArrayList<>();
+        for (ServiceBean<?> serviceBean : applicationContext.getBeansOfType(ServiceBean.class, false, false)
+                .values()) {
+            Class<?> interfaceClass = serviceBean.getInterfaceClass();
+            Object ref = serviceBean.getRef();
+            if (interfaceClass == null || ref == null) {
+                continue;
+            }
+            Class<?> implementationClass = ClassUtils.getUserClass(ref);
+            for (Method method : interfaceClass.getMethods()) {
+                if (isDirectDispatch(serviceBean, interfaceClass, implementationClass, method)) {
+                    Method implementationMethod = ReflectionUtils.findMethod(implementationClass, method.getName(),
+                            method.getParameterTypes());
+                    if (implementationMethod != null) {
+                        violations.addAll(validate(implementationMethod, referenceInterfaces));
+                    }
+                }
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("The direct dispatch methods must not call the blocking methods of "
+                    + "Dubbo references : " + violations);
+        }
+    }
+
+    private Set<String> getReferenceInterfaces() {
+        Collection<ReferenceBean> referenceBeans = new ArrayList<>(applicationContext.getBeansOfType(
+                ReferenceBean.class, false, false).values());
+        for (ReferenceAnnotationBeanPostProcessor processor : applicationContext.getBeansOfType(
+                ReferenceAnnotationBeanPostProcessor.class, false, false).values()) {
+            referenceBeans.addAll(processor.getReferenceBeans());
+        }
+        Set<String> referenceInterfaces = new HashSet<>();
+        for (ReferenceBean<?> referenceBean : referenceBeans) {
+            if (referenceBean.getInterface() != null) {
+                referenceInterfaces.add(referenceBean.getInterface().replace('.', '/'));
+            }
+        }
+        return referenceInterfaces;
+    }
+
+    private boolean isDirectDispatch(ServiceBean<?> serviceBean, Class<?> interfaceClass,
+                                     Class<?> implementationClass, Method method) {
+        Map<String, String> parameters = serviceBean.getParameters();
+        if (parameters != null && Boolean.parseBoolean(parameters.get(method.getName() + "." + DIRECT_KEY))) {
+            return true;
+        }
+        List<MethodConfig> methodConfigs = serviceBean.getMethods();
+        if (methodConfigs != null) {
+            for (MethodConfig methodConfig : methodConfigs) {
+                if (method.getName().equals(methodConfig.getName()) && methodConfig.getParameters() != null
+                        && Boolean.parseBoolean(methodConfig.getParameters().get(DIRECT_KEY))) {
+                    return true;
+                }
+            }
+        }
+        return MethodDirectDispatcher.isDirectDispatch(interfaceClass, implementationClass, method.getName(),
+                method.getParameterTypes());
+    }
+
+    private List<String> validate(Method method, Set<String> referenceInterfaces) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        String methodName = method.getName();
+        String methodDescriptor = Type.getMethodDescriptor(method);
+        String methodKey = declaringClass.getName() + "#" + methodName;
+        List<String> violations = new ArrayList<>();
+        ClassLoader classLoader = declaringClass.getClassLoader() == null ? ClassUtils.getDefaultClassLoader()
+                : declaringClass.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(ClassUtils.convertClassNameToResourcePath(
+                declaringClass.getName()) + ClassUtils.CLASS_FILE_SUFFIX)) {
+            if (inputStream == null) {
+                return violations;
+            }
+            new ClassReader(inputStream).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                                 String[] exceptions) {
+                    if (!methodName.equals(name) || !methodDescriptor.equals(descriptor)) {
+                        return null;
+                    }
+                    return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                        @Override
+                        public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                                                    boolean isInterface) {
+                            if (referenceInterfaces.contains(owner) && !ASYNC_RETURN_TYPES.contains(
+                                    Type.getReturnType(descriptor).getClassName())) {
+                                violations.add(methodKey + " -> " + owner.replace('/', '.') + "#" + name);
+                            }
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException e) {
+            throw new IllegalStateException("The class of " + methodKey + " can't be read", e);
+        }
+        return new ArrayList<>(new LinkedHashSet<>(violations));
+    }
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+}
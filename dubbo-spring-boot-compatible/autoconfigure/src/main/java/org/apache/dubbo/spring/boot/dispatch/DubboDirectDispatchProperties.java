@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.dispatch.DubboDirectDispatchProperties.PREFIX;
+
+/**
+ * Dubbo Direct Dispatch Properties
+ *
+ * @see MethodDirectDispatcher
+ * @see DirectDispatchValidator
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboDirectDispatchProperties {
+
+    /**
+     * The prefix of {@link DubboDirectDispatchProperties}
+     */
+    public static final String PREFIX = "dubbo.direct-dispatch";
+
+    /**
+     * Whether the non-blocking methods run on the IO thread or not, the dispatcher of "dubbo" protocols is set to
+     * "method-direct" unless it's set explicitly
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether the startup fails if any non-blocking method calls the synchronous methods of Dubbo references
+     */
+    private boolean validate = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isValidate() {
+        return validate;
+    }
+
+    public void setValidate(boolean validate) {
+        this.validate = validate;
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
+import org.apache.dubbo.common.serialize.ObjectInput;
+import org.apache.dubbo.common.utils.ReflectUtils;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Decodeable;
+import org.apache.dubbo.remoting.Dispatcher;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.CodecSupport;
+import org.apache.dubbo.remoting.transport.dispatcher.all.AllChannelHandler;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.MethodDescriptor;
+import org.apache.dubbo.rpc.model.ProviderModel;
+import org.apache.dubbo.rpc.model.ServiceDescriptor;
+import org.apache.dubbo.rpc.protocol.dubbo.DecodeableRpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboProtocol;
+import org.apache.dubbo.rpc.support.ProtocolUtils;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.PATH_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+
+/**
+ * The {@link Dispatcher} runs the requests of {@link DirectDispatch non-blocking methods} on the IO thread directly,
+ * and dispatches the others to the worker thread pool like the "all" one, thus the trivial methods don't pay the
+ * thread handoff. The methods are declared by {@link DirectDispatch} or the method-level parameter
+ * "{@value #DIRECT_KEY}", e.g.
+ * <pre>
+ * &#64;DubboService(parameters = {"sayHello.direct", "true"})
+ * </pre>
+ * The IO thread reads only the header of requests to resolve their methods, the requests of the methods which run on
+ * it are decoded there, as if "{@value org.apache.dubbo.rpc.protocol.dubbo.Constants#DECODE_IN_IO_THREAD_KEY}" is
+ * <code>true</code>, the others are decoded by the worker threads as usual.
+ *
+ * @see DirectDispatch
+ * @see DirectDispatchStatistics
+ * @since 2.7.10
+ */
+public class MethodDirectDispatcher implements Dispatcher {
+
+    /**
+     * The name of {@link MethodDirectDispatcher} extension
+     */
+    public static final String NAME = "method-direct";
+
+    /**
+     * The method-level parameter key of whether the method runs on the IO thread or not
+     */
+    public static final String DIRECT_KEY = "direct";
+
+    private DirectDispatchStatistics dubboDirectDispatchStatistics;
+
+    @Override
+    public ChannelHandler dispatch(ChannelHandler handler, URL url) {
+        return new MethodDirectChannelHandler(handler, url, dubboDirectDispatchStatistics);
+    }
+
+    public void setDubboDirectDispatchStatistics(DirectDispatchStatistics dubboDirectDispatchStatistics) {
+        this.dubboDirectDispatchStatistics = dubboDirectDispatchStatistics;
+    }
+
+    /**
+     * Whether the method is annotated by {@link DirectDispatch} in the service interface or implementation
+     *
+     * @param interfaceClass      the service interface
+     * @param implementationClass the service implementation, or <code>null</code> if it's unknown
+     * @param methodName          the name of method
+     * @param parameterTypes      the parameter types of method
+     * @return <code>true</code> if the method runs on the IO thread
+     */
+    public static boolean isDirectDispatch(Class<?> interfaceClass, Class<?> implementationClass, String methodName,
+                                           Class<?>[] parameterTypes) {
+        for (Class<?> type : new Class<?>[]{interfaceClass, implementationClass}) {
+            Method method = type == null ? null : ReflectionUtils.findMethod(type, methodName, parameterTypes);
+            if (method != null && method.isAnnotationPresent(DirectDispatch.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class MethodDirectChannelHandler extends AllChannelHandler {
+
+        private static final Field INPUT_STREAM_FIELD = findField("inputStream");
+
+        private static final Field SERIALIZATION_TYPE_FIELD = findField("serializationType");
+
+        private final DirectDispatchStatistics statistics;
+
+        /**
+         * The placeholder of methods which are dispatched to the worker thread pool
+         */
+        private static final String NON_DIRECT_METHOD = "";
+
+        /**
+         * Whether the methods may run on the IO thread for any exported service, by the paths and method signatures,
+         * only the methods of exported interfaces are cached
+         */
+        private final ConcurrentMap<String, Boolean> candidateMethods = new ConcurrentHashMap<>();
+
+        /**
+         * The count of exporters when {@link #candidateMethods} are cached, they're cleared once it changes
+         */
+        private volatile int candidateExporters;
+
+        /**
+         * The names of methods which run on the IO thread, by the service keys and method signatures, only the
+         * candidate methods of exported services are cached
+         */
+        private final ConcurrentMap<String, String> directMethods = new ConcurrentHashMap<>();
+
+        private MethodDirectChannelHandler(ChannelHandler handler, URL url, DirectDispatchStatistics statistics) {
+            super(handler, url);
+            this.statistics = statistics;
+        }
+
+        private static Field findField(String name) {
+            Field field = ReflectionUtils.findField(DecodeableRpcInvocation.class, name);
+            if (field != null) {
+                ReflectionUtils.makeAccessible(field);
+            }
+            return field;
+        }
+
+        @Override
+        public void received(Channel channel, Object message) throws RemotingException {
+            if (message instanceof Request) {
+                String directMethod = getDirectMethod(channel, (Request) message);
+                if (directMethod != null) {
+                    if (statistics != null) {
+                        statistics.direct(directMethod);
+                    }
+                    handler.received(channel, message);
+                    return;
+                }
+                if (statistics != null) {
+                    statistics.dispatched();
+                }
+            }
+            super.received(channel, message);
+        }
+
+        /**
+         * @return the service key and method name if the request runs on the IO thread, otherwise <code>null</code>
+         */
+        private String getDirectMethod(Channel channel, Request request) {
+            if (request.isEvent() || !(request.getData() instanceof Invocation)) {
+                return null;
+            }
+            Invocation invocation = (Invocation) request.getData();
+            String path;
+            String methodName;
+            String desc;
+            if (invocation.getMethodName() == null && invocation instanceof DecodeableRpcInvocation
+                    && INPUT_STREAM_FIELD != null && SERIALIZATION_TYPE_FIELD != null) {
+                // Only the header is read on the IO thread, the requests of the other methods are decoded as usual
+                String[] header = readHeader(channel, (DecodeableRpcInvocation) invocation);
+                if (header == null || !isCandidateMethod(header[0], header[1], header[2])) {
+                    return null;
+                }
+                path = header[0];
+                methodName = header[1];
+                desc = header[2];
+                decode(invocation);
+            } else {
+                decode(invocation);
+                if (request.isBroken()) {
+                    return null;
+                }
+                path = invocation.getAttachment(PATH_KEY);
+                methodName = invocation.getMethodName();
+                desc = ReflectUtils.getDesc(invocation.getParameterTypes());
+                if (!isCandidateMethod(path, methodName, desc)) {
+                    return null;
+                }
+            }
+            if (request.isBroken() || !(request.getData() instanceof Invocation)) {
+                return null;
+            }
+            String group = invocation.getAttachment(GROUP_KEY);
+            String version = invocation.getAttachment(VERSION_KEY);
+            String serviceKey = ProtocolUtils.serviceKey(channel.getLocalAddress().getPort(), path, version, group);
+            String methodKey = serviceKey + "#" + methodName + desc;
+            String directMethod = directMethods.get(methodKey);
+            if (directMethod == null) {
+                Exporter<?> exporter = DubboProtocol.getDubboProtocol().getExporterMap().get(serviceKey);
+                if (exporter == null) {
+                    return null;
+                }
+                Invoker<?> invoker = exporter.getInvoker();
+                directMethod = isDirectDispatch(invoker, methodName, invocation.getParameterTypes()) ?
+                        invoker.getUrl().getServiceKey() + "#" + methodName : NON_DIRECT_METHOD;
+                directMethods.put(methodKey, directMethod);
+            }
+            return NON_DIRECT_METHOD.equals(directMethod) ? null : directMethod;
+        }
+
+        private static void decode(Invocation invocation) {
+            if (invocation instanceof Decodeable) {
+                try {
+                    ((Decodeable) invocation).decode();
+                } catch (Throwable e) {
+                    // The request is broken then
+                }
+            }
+        }
+
+        /**
+         * Read the header of the request which isn't decoded yet, the stream is reset for the decoding later
+         *
+         * @return the path, method name and parameter descriptor, or <code>null</code> if it can't be read
+         */
+        private static String[] readHeader(Channel channel, DecodeableRpcInvocation invocation) {
+            Object input = ReflectionUtils.getField(INPUT_STREAM_FIELD, invocation);
+            if (!(input instanceof UnsafeByteArrayInputStream)) {
+                return null;
+            }
+            UnsafeByteArrayInputStream inputStream = (UnsafeByteArrayInputStream) input;
+            inputStream.mark(0);
+            try {
+                ObjectInput in = CodecSupport.getSerialization(channel.getUrl(),
+                        (Byte) ReflectionUtils.getField(SERIALIZATION_TYPE_FIELD, invocation))
+                        .deserialize(channel.getUrl(), inputStream);
+                // The dubbo version, path, version, method name and parameter descriptor
+                in.readUTF();
+                String path = in.readUTF();
+                in.readUTF();
+                return new String[]{path, in.readUTF(), in.readUTF()};
+            } catch (Throwable e) {
+                return null;
+            } finally {
+                inputStream.reset();
+            }
+        }
+
+        /**
+         * @return <code>true</code> if the method is in the exported interface of the path, and it runs on the IO
+         * thread for any exported service of the path
+         */
+        private boolean isCandidateMethod(String path, String methodName, String desc) {
+            Map<String, Exporter<?>> exporterMap = DubboProtocol.getDubboProtocol().getExporterMap();
+            int exporters = exporterMap.size();
+            if (exporters != candidateExporters) {
+                candidateMethods.clear();
+                candidateExporters = exporters;
+            }
+            String methodKey = path + "#" + methodName + desc;
+            Boolean candidate = candidateMethods.get(methodKey);
+            if (candidate != null) {
+                return candidate;
+            }
+            ServiceDescriptor serviceDescriptor = path == null ? null
+                    : ApplicationModel.getServiceRepository().lookupService(path);
+            MethodDescriptor methodDescriptor = serviceDescriptor == null ? null
+                    : serviceDescriptor.getMethod(methodName, desc);
+            if (methodDescriptor == null) {
+                // The unknown methods aren't cached, they're dispatched to fail as usual
+                return false;
+            }
+            candidate = false;
+            for (Exporter<?> exporter : exporterMap.values()) {
+                Invoker<?> invoker = exporter.getInvoker();
+                if (path.equals(invoker.getUrl().getPath())
+                        && isDirectDispatch(invoker, methodName, methodDescriptor.getParameterClasses())) {
+                    candidate = true;
+                    break;
+                }
+            }
+            candidateMethods.put(methodKey, candidate);
+            return candidate;
+        }
+
+        private boolean isDirectDispatch(Invoker<?> invoker, String methodName, Class<?>[] parameterTypes) {
+            URL url = invoker.getUrl();
+            if (url.getMethodParameter(methodName, DIRECT_KEY, false)) {
+                return true;
+            }
+            ProviderModel providerModel = ApplicationModel.getServiceRepository()
+                    .lookupExportedService(url.getServiceKey());
+            Class<?> implementationClass = providerModel == null || providerModel.getServiceInstance() == null ?
+                    null : ClassUtils.getUserClass(providerModel.getServiceInstance());
+            return MethodDirectDispatcher.isDirectDispatch(invoker.getInterface(), implementationClass, methodName,
+                    parameterTypes);
+        }
+    }
+}
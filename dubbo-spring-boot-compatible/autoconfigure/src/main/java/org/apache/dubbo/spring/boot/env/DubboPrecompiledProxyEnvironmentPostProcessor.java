@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.env;
+
+import org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link EnvironmentPostProcessor} defaults the proxy factories of providers and consumers to
+ * {@link PrecompiledProxyFactory} if "dubbo.precompiled-proxy.enabled" is <code>true</code>. The defaults have the
+ * lowest precedence, thus the proxy factories which are configured explicitly are kept.
+ *
+ * @see PrecompiledProxyFactory
+ * @since 2.7.10
+ */
+public class DubboPrecompiledProxyEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * The name of property source which holds the defaults
+     */
+    public static final String PROPERTY_SOURCE_NAME = "dubboPrecompiledProxies";
+
+    /**
+     * The property of provider's proxy factory
+     */
+    public static final String PROVIDER_PROXY_PROPERTY = "dubbo.provider.proxy";
+
+    /**
+     * The property of consumer's proxy factory
+     */
+    public static final String CONSUMER_PROXY_PROPERTY = "dubbo.consumer.proxy";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(PrecompiledProxyFactory.ENABLED_PROPERTY, Boolean.class, false)) {
+            return;
+        }
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put(PROVIDER_PROXY_PROPERTY, PrecompiledProxyFactory.NAME);
+        defaults.put(CONSUMER_PROXY_PROPERTY, PrecompiledProxyFactory.NAME);
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, defaults));
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
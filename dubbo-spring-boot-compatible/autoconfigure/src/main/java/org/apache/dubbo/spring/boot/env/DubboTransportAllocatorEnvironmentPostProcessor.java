@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.env;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.apache.dubbo.spring.boot.util.DubboUtils.DUBBO_PREFIX;
+import static org.apache.dubbo.spring.boot.util.DubboUtils.PROPERTY_NAME_SEPARATOR;
+
+/**
+ * The {@link EnvironmentPostProcessor} applies the Netty allocator properties of Dubbo's transport to the system
+ * properties which Netty reads when its allocators are initialized, for example :
+ * <pre>
+ * dubbo.transport.allocator.type = pooled
+ * dubbo.transport.allocator.direct = false
+ * dubbo.transport.allocator.heap-arenas = 2
+ * dubbo.transport.allocator.direct-arenas = 2
+ * dubbo.transport.allocator.page-size = 8192
+ * dubbo.transport.allocator.chunk-size = 4194304
+ * dubbo.transport.allocator.leak-detection = simple
+ * </pre>
+ * The system properties which are set explicitly take precedence. The properties must be applied before Netty's
+ * allocators are initialized, thus the effective settings are reported by the "dubboallocator" endpoint. The type
+ * applies to {@link ByteBufAllocator#DEFAULT} which the "tunable-netty" transporter uses, and Dubbo's "netty"
+ * transporter always uses {@link PooledByteBufAllocator#DEFAULT}.
+ *
+ * @since 2.7.10
+ */
+public class DubboTransportAllocatorEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * The prefix of allocator properties
+     */
+    public static final String PREFIX = DUBBO_PREFIX + PROPERTY_NAME_SEPARATOR + "transport"
+            + PROPERTY_NAME_SEPARATOR + "allocator" + PROPERTY_NAME_SEPARATOR;
+
+    /**
+     * "pooled" or "unpooled"
+     */
+    public static final String TYPE_PROPERTY = PREFIX + "type";
+
+    /**
+     * Prefer the direct buffers or the heap buffers
+     */
+    public static final String DIRECT_PROPERTY = PREFIX + "direct";
+
+    public static final String HEAP_ARENAS_PROPERTY = PREFIX + "heap-arenas";
+
+    public static final String DIRECT_ARENAS_PROPERTY = PREFIX + "direct-arenas";
+
+    public static final String PAGE_SIZE_PROPERTY = PREFIX + "page-size";
+
+    /**
+     * The chunk size in bytes, it must be the page size multiplied by a power of 2
+     */
+    public static final String CHUNK_SIZE_PROPERTY = PREFIX + "chunk-size";
+
+    /**
+     * "disabled", "simple", "advanced" or "paranoid"
+     */
+    public static final String LEAK_DETECTION_PROPERTY = PREFIX + "leak-detection";
+
+    static final String NETTY_ALLOCATOR_TYPE = "io.netty.allocator.type";
+
+    static final String NETTY_NO_PREFER_DIRECT = "io.netty.noPreferDirect";
+
+    static final String NETTY_NUM_HEAP_ARENAS = "io.netty.allocator.numHeapArenas";
+
+    static final String NETTY_NUM_DIRECT_ARENAS = "io.netty.allocator.numDirectArenas";
+
+    static final String NETTY_PAGE_SIZE = "io.netty.allocator.pageSize";
+
+    static final String NETTY_MAX_ORDER = "io.netty.allocator.maxOrder";
+
+    static final String NETTY_LEAK_DETECTION_LEVEL = "io.netty.leakDetection.level";
+
+    private static final int DEFAULT_PAGE_SIZE = 8192;
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        final Logger logger = LoggerFactory.getLogger(getClass());
+        for (Map.Entry<String, String> entry : resolveNettyProperties(environment).entrySet()) {
+            String currentValue = System.getProperty(entry.getKey());
+            if (currentValue != null) {
+                if (!currentValue.equals(entry.getValue()) && logger.isWarnEnabled()) {
+                    logger.warn("The system property \"" + entry.getKey() + "\" = " + currentValue
+                            + " takes precedence over " + entry.getValue());
+                }
+                continue;
+            }
+            System.setProperty(entry.getKey(), entry.getValue());
+            if (NETTY_LEAK_DETECTION_LEVEL.equals(entry.getKey())) {
+                // The level is mutable after ResourceLeakDetector is initialized
+                ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.valueOf(entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Resolves the Netty system properties from the allocator properties
+     *
+     * @param environment {@link Environment}
+     * @return the Netty system properties
+     * @throws IllegalArgumentException if any property is invalid
+     */
+    Map<String, String> resolveNettyProperties(Environment environment) {
+        Map<String, String> nettyProperties = new LinkedHashMap<>();
+        String type = environment.getProperty(TYPE_PROPERTY);
+        if (StringUtils.hasText(type)) {
+            type = type.trim().toLowerCase(Locale.ENGLISH);
+            if (!"pooled".equals(type) && !"unpooled".equals(type)) {
+                throw new IllegalArgumentException("\"" + TYPE_PROPERTY + "\" must be pooled or unpooled : " + type);
+            }
+            nettyProperties.put(NETTY_ALLOCATOR_TYPE, type);
+        }
+        Boolean direct = environment.getProperty(DIRECT_PROPERTY, Boolean.class);
+        if (direct != null) {
+            nettyProperties.put(NETTY_NO_PREFER_DIRECT, String.valueOf(!direct));
+        }
+        putNonNegative(environment, HEAP_ARENAS_PROPERTY, NETTY_NUM_HEAP_ARENAS, nettyProperties);
+        putNonNegative(environment, DIRECT_ARENAS_PROPERTY, NETTY_NUM_DIRECT_ARENAS, nettyProperties);
+        Integer pageSize = environment.getProperty(PAGE_SIZE_PROPERTY, Integer.class);
+        if (pageSize != null) {
+            if (pageSize < 4096 || Integer.bitCount(pageSize) != 1) {
+                throw new IllegalArgumentException("\"" + PAGE_SIZE_PROPERTY
+                        + "\" must be a power of 2 and not less than 4096 : " + pageSize);
+            }
+            nettyProperties.put(NETTY_PAGE_SIZE, String.valueOf(pageSize));
+        }
+        Integer chunkSize = environment.getProperty(CHUNK_SIZE_PROPERTY, Integer.class);
+        if (chunkSize != null) {
+            int actualPageSize = pageSize != null ? pageSize : Integer.getInteger(NETTY_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+            int multiple = chunkSize / actualPageSize;
+            if (chunkSize % actualPageSize != 0 || Integer.bitCount(multiple) != 1) {
+                throw new IllegalArgumentException("\"" + CHUNK_SIZE_PROPERTY + "\" must be the page size "
+                        + actualPageSize + " multiplied by a power of 2 : " + chunkSize);
+            }
+            nettyProperties.put(NETTY_MAX_ORDER, String.valueOf(Integer.numberOfTrailingZeros(multiple)));
+        }
+        String leakDetection = environment.getProperty(LEAK_DETECTION_PROPERTY);
+        if (StringUtils.hasText(leakDetection)) {
+            try {
+                nettyProperties.put(NETTY_LEAK_DETECTION_LEVEL, ResourceLeakDetector.Level
+                        .valueOf(leakDetection.trim().toUpperCase(Locale.ENGLISH)).name());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("\"" + LEAK_DETECTION_PROPERTY
+                        + "\" must be disabled, simple, advanced or paranoid : " + leakDetection, e);
+            }
+        }
+        return nettyProperties;
+    }
+
+    private void putNonNegative(Environment environment, String property, String nettyProperty,
+                                Map<String, String> nettyProperties) {
+        Integer value = environment.getProperty(property, Integer.class);
+        if (value != null) {
+            if (value < 0) {
+                throw new IllegalArgumentException("\"" + property + "\" must not be negative : " + value);
+            }
+            nettyProperties.put(nettyProperty, String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.env;
+
+import org.apache.dubbo.spring.boot.threadpool.DubboVirtualThreadProperties;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreadPool;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreads;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link EnvironmentPostProcessor} defaults the thread pools of providers and consumers to
+ * {@link VirtualThreadPool} if "dubbo.virtual-threads.enabled" is <code>true</code> and the JDK supports virtual
+ * threads. The defaults have the lowest precedence, thus the thread pools which are configured explicitly are kept.
+ *
+ * @see VirtualThreadPool
+ * @since 2.7.10
+ */
+public class DubboVirtualThreadEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * The name of property source which holds the defaults
+     */
+    public static final String PROPERTY_SOURCE_NAME = "dubboVirtualThreads";
+
+    /**
+     * The property which enables the virtual threads
+     */
+    public static final String ENABLED_PROPERTY = DubboVirtualThreadProperties.PREFIX + ".enabled";
+
+    /**
+     * The property of provider's thread pool
+     */
+    public static final String PROVIDER_THREADPOOL_PROPERTY = "dubbo.provider.threadpool";
+
+    /**
+     * The property of consumer's thread pool
+     */
+    public static final String CONSUMER_THREADPOOL_PROPERTY = "dubbo.consumer.threadpool";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, false) || !VirtualThreads.isSupported()) {
+            return;
+        }
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put(PROVIDER_THREADPOOL_PROPERTY, VirtualThreadPool.NAME);
+        defaults.put(CONSUMER_THREADPOOL_PROPERTY, VirtualThreadPool.NAME);
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, defaults));
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.env;
+
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.spring.boot.web.DubboWebServerProperties;
+import org.apache.dubbo.spring.boot.web.WebServerProtocolConfigCustomizer;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Collections;
+
+import static org.apache.dubbo.spring.boot.web.WebServerProtocolConfigCustomizer.SERVER_PORT_PROPERTY;
+
+/**
+ * The {@link EnvironmentPostProcessor} picks an available port for the web server if "server.port" is 0 and
+ * "dubbo.web-server.enabled" is <code>true</code>, because the protocols which are served on the web server must know
+ * its port before they are exported, while the random port of web server is known after it's started.
+ *
+ * @see WebServerProtocolConfigCustomizer
+ * @since 2.7.10
+ */
+public class DubboWebServerEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    /**
+     * The name of property source which holds the port
+     */
+    public static final String PROPERTY_SOURCE_NAME = "dubboWebServer";
+
+    /**
+     * The property which enables the protocols to be served on the web server
+     */
+    public static final String ENABLED_PROPERTY = DubboWebServerProperties.PREFIX + ".enabled";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, false)) {
+            return;
+        }
+        Integer port = environment.getProperty(SERVER_PORT_PROPERTY, Integer.class);
+        if (port == null || port != 0) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME,
+                Collections.<String, Object>singletonMap(SERVER_PORT_PROPERTY, NetUtils.getAvailablePort())));
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.injvm;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.injvm.DubboInjvmProperties.PREFIX;
+
+/**
+ * Dubbo In-JVM Properties
+ *
+ * @see InjvmShortCircuitProtocolWrapper
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboInjvmProperties {
+
+    /**
+     * The prefix of {@link DubboInjvmProperties}
+     */
+    public static final String PREFIX = "dubbo.injvm";
+
+    /**
+     * Whether the references of services exported in the same context are short-circuited to the in-JVM protocol
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether the values of immutable types are passed by reference, the others are always copied as if they were
+     * transferred remotely
+     */
+    private boolean passByReference = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isPassByReference() {
+        return passByReference;
+    }
+
+    public void setPassByReference(boolean passByReference) {
+        this.passByReference = passByReference;
+    }
+}
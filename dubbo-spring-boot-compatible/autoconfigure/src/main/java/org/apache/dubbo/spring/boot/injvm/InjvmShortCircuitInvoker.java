@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.injvm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.io.UnsafeByteArrayInputStream;
+import org.apache.dubbo.common.io.UnsafeByteArrayOutputStream;
+import org.apache.dubbo.common.serialize.ObjectInput;
+import org.apache.dubbo.common.serialize.ObjectOutput;
+import org.apache.dubbo.common.serialize.Serialization;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.InvokeMode;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.protocol.dubbo.FutureAdapter;
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.apache.dubbo.remoting.Constants.DEFAULT_REMOTING_SERIALIZATION;
+import static org.apache.dubbo.remoting.Constants.SERIALIZATION_KEY;
+import static org.apache.dubbo.rpc.RpcException.SERIALIZATION_EXCEPTION;
+
+/**
+ * The {@link Invoker} routes the invocations to the in-JVM invoker while the local service is exported, otherwise to
+ * the remote one.
+ *
+ * @param <T> the service interface
+ * @see InjvmShortCircuitProtocolWrapper
+ * @since 2.7.10
+ */
+class InjvmShortCircuitInvoker<T> implements Invoker<T> {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class, Locale.class,
+            Currency.class
+    )));
+
+    private final Invoker<T> invoker;
+
+    private final Invoker<T> localInvoker;
+
+    private final LocalServices localServices;
+
+    private final Serialization serialization;
+
+    InjvmShortCircuitInvoker(Invoker<T> invoker, Invoker<T> localInvoker, LocalServices localServices) {
+        this.invoker = invoker;
+        this.localInvoker = localInvoker;
+        this.localServices = localServices;
+        this.serialization = ExtensionLoader.getExtensionLoader(Serialization.class).getExtension(
+                localInvoker.getUrl().getParameter(SERIALIZATION_KEY, DEFAULT_REMOTING_SERIALIZATION));
+    }
+
+    @Override
+    public Class<T> getInterface() {
+        return invoker.getInterface();
+    }
+
+    @Override
+    public URL getUrl() {
+        return invoker.getUrl();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        // The local service may not be exported yet while the reference is checked
+        return localInvoker.isAvailable() || localServices.contains(localInvoker.getUrl().getServiceKey())
+                || invoker.isAvailable();
+    }
+
+    @Override
+    public Result invoke(Invocation invocation) throws RpcException {
+        if (!localInvoker.isAvailable()) {
+            return invoker.invoke(invocation);
+        }
+        RpcInvocation localInvocation = new RpcInvocation(invocation);
+        Class<?>[] parameterTypes = localInvocation.getParameterTypes();
+        Object[] arguments = localInvocation.getArguments();
+        Object[] copiedArguments = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            try {
+                copiedArguments[i] = copy(arguments[i], parameterTypes[i], parameterTypes[i]);
+            } catch (Exception e) {
+                throw new RpcException(SERIALIZATION_EXCEPTION, "Failed to copy the argument " + i + " of "
+                        + invocation.getMethodName() + " for the local service " + localInvoker.getUrl()
+                        .getServiceKey() + ", cause: " + e.getMessage(), e);
+            }
+        }
+        localInvocation.setArguments(copiedArguments);
+        Result result = localInvoker.invoke(localInvocation);
+        Type[] returnTypes = localInvocation.getReturnTypes();
+        result = result.whenCompleteWithContext((appResponse, throwable) -> {
+            if (appResponse == null || appResponse.hasException() || appResponse.getValue() == null) {
+                return;
+            }
+            Object value = appResponse.getValue();
+            try {
+                appResponse.setValue(returnTypes == null ? copy(value, value.getClass(), value.getClass())
+                        : copy(value, (Class<?>) returnTypes[0], returnTypes[1]));
+            } catch (Exception e) {
+                appResponse.setException(new RpcException(SERIALIZATION_EXCEPTION, "Failed to copy the result of "
+                        + invocation.getMethodName() + " from the local service " + localInvoker.getUrl()
+                        .getServiceKey() + ", cause: " + e.getMessage(), e));
+            }
+        });
+        if (result instanceof AsyncRpcResult && localInvocation.getInvokeMode() == InvokeMode.FUTURE) {
+            // The future of context must complete with the copied result
+            RpcContext.getContext().setFuture(new FutureAdapter<>(((AsyncRpcResult) result).getResponseFuture()));
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        localInvoker.destroy();
+        invoker.destroy();
+    }
+
+    private Object copy(Object value, Class<?> type, Type genericType) throws Exception {
+        if (value == null || (localServices.isPassByReference() && isImmutable(value.getClass()))) {
+            return value;
+        }
+        URL url = localInvoker.getUrl();
+        UnsafeByteArrayOutputStream outputStream = new UnsafeByteArrayOutputStream(256);
+        ObjectOutput output = serialization.serialize(url, outputStream);
+        output.writeObject(value);
+        output.flushBuffer();
+        ObjectInput input = serialization.deserialize(url, new UnsafeByteArrayInputStream(outputStream.toByteArray()));
+        return input.readObject(ClassUtils.resolvePrimitiveIfNecessary(type), genericType);
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+                || type.getName().startsWith("java.time.");
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.injvm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.common.utils.UrlUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProtocolServer;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.support.ProtocolUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.dubbo.common.constants.CommonConstants.LOCALHOST_VALUE;
+import static org.apache.dubbo.rpc.Constants.GENERIC_KEY;
+import static org.apache.dubbo.rpc.Constants.LOCAL_PROTOCOL;
+import static org.apache.dubbo.rpc.Constants.SCOPE_KEY;
+import static org.apache.dubbo.rpc.Constants.SCOPE_REMOTE;
+import static org.apache.dubbo.rpc.cluster.Constants.REFER_KEY;
+
+/**
+ * The wrapper of {@link Protocol} short-circuits the references of services which are exported in the same context to
+ * the in-JVM protocol, matching the interface, group and version, as if "injvm" was configured by hand. The references
+ * still subscribe to the registries, and fall back to the remote providers whenever the local service isn't exported,
+ * e.g. it's exported with "scope" = "remote".
+ * <p>
+ * The arguments and results are copied through the serialization of reference, thus the services observe the same
+ * semantics as the remote invocations. The immutable values are passed by reference instead if
+ * "dubbo.injvm.pass-by-reference" is <code>true</code>. The exceptions are always passed by reference.
+ * <p>
+ * The wrapper is applied to all protocols by Dubbo SPI, and it doesn't touch the references which are generic, or
+ * configured with "injvm", "scope" or "url" explicitly, or if it's disabled.
+ *
+ * @see LocalServices
+ * @see DubboInjvmProperties
+ * @since 2.7.10
+ */
+public class InjvmShortCircuitProtocolWrapper implements Protocol {
+
+    private final Protocol protocol;
+
+    private LocalServices dubboLocalServices;
+
+    public InjvmShortCircuitProtocolWrapper(Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    public int getDefaultPort() {
+        return protocol.getDefaultPort();
+    }
+
+    @Override
+    public <T> Exporter<T> export(Invoker<T> invoker) throws RpcException {
+        return protocol.export(invoker);
+    }
+
+    @Override
+    public <T> Invoker<T> refer(Class<T> type, URL url) throws RpcException {
+        Invoker<T> invoker = protocol.refer(type, url);
+        if (dubboLocalServices == null || !UrlUtils.isRegistry(url)) {
+            return invoker;
+        }
+        Map<String, String> parameters = StringUtils.parseQueryString(url.getParameterAndDecoded(REFER_KEY));
+        if (ProtocolUtils.isGeneric(parameters.get(GENERIC_KEY)) || parameters.containsKey(LOCAL_PROTOCOL)
+                || SCOPE_REMOTE.equals(parameters.get(SCOPE_KEY))) {
+            return invoker;
+        }
+        URL localUrl = new URL(LOCAL_PROTOCOL, LOCALHOST_VALUE, 0, type.getName()).addParameters(parameters);
+        Invoker<T> localInvoker = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension(LOCAL_PROTOCOL)
+                .refer(type, localUrl);
+        return new InjvmShortCircuitInvoker<>(invoker, localInvoker, dubboLocalServices);
+    }
+
+    @Override
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Override
+    public List<ProtocolServer> getServers() {
+        return protocol.getServers();
+    }
+
+    public void setDubboLocalServices(LocalServices dubboLocalServices) {
+        this.dubboLocalServices = dubboLocalServices;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.injvm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.config.spring.ServiceBean;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+
+/**
+ * The services which are exported in the same context, they are resolved from the definitions of {@link ServiceBean}
+ * without instantiating them, thus the references could be short-circuited before the services are exported.
+ *
+ * @see InjvmShortCircuitProtocolWrapper
+ * @since 2.7.10
+ */
+public class LocalServices implements BeanFactoryAware {
+
+    /**
+     * The bean name of {@link LocalServices}
+     */
+    public static final String BEAN_NAME = "dubboLocalServices";
+
+    private final boolean passByReference;
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private volatile Set<String> serviceKeys;
+
+    public LocalServices(DubboInjvmProperties properties) {
+        this.passByReference = properties.isPassByReference();
+    }
+
+    /**
+     * @param serviceKey the service key of interface, group and version
+     * @return <code>true</code> if the service is exported in the same context
+     */
+    public boolean contains(String serviceKey) {
+        return getServiceKeys().contains(serviceKey);
+    }
+
+    /**
+     * @return the service keys of services exported in the same context
+     */
+    public Set<String> getServiceKeys() {
+        Set<String> serviceKeys = this.serviceKeys;
+        if (serviceKeys == null) {
+            // The bean definitions are frozen when the references are initialized
+            serviceKeys = Collections.unmodifiableSet(resolveServiceKeys());
+            this.serviceKeys = serviceKeys;
+        }
+        return serviceKeys;
+    }
+
+    public boolean isPassByReference() {
+        return passByReference;
+    }
+
+    private Set<String> resolveServiceKeys() {
+        Set<String> serviceKeys = new TreeSet<>();
+        for (String beanName : beanFactory.getBeanNamesForType(ServiceBean.class, true, false)) {
+            PropertyValues propertyValues = beanFactory.getMergedBeanDefinition(beanName).getPropertyValues();
+            String interfaceName = getValue(propertyValues, INTERFACE_KEY);
+            if (StringUtils.hasText(interfaceName)) {
+                serviceKeys.add(URL.buildKey(interfaceName, getValue(propertyValues, GROUP_KEY),
+                        getValue(propertyValues, VERSION_KEY)));
+            }
+        }
+        return serviceKeys;
+    }
+
+    private String getValue(PropertyValues propertyValues, String name) {
+        PropertyValue propertyValue = propertyValues.getPropertyValue(name);
+        Object value = propertyValue == null ? null : propertyValue.getValue();
+        if (value instanceof TypedStringValue) {
+            value = ((TypedStringValue) value).getValue();
+        } else if (value instanceof Class) {
+            value = ((Class<?>) value).getName();
+        }
+        return value instanceof String ? beanFactory.resolveEmbeddedValue((String) value) : null;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.preload;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.bytecode.Wrapper;
+import org.apache.dubbo.common.extension.Adaptive;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.config.spring.ReferenceBean;
+import org.apache.dubbo.config.spring.ServiceBean;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.core.Ordered;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.common.constants.CommonConstants.LOCALHOST_VALUE;
+
+/**
+ * The preloader loads the classes which Dubbo needs during the startup on background threads, while the context goes
+ * on refreshing, so that the main thread finds them loaded instead of loading them one by one :
+ * <ul>
+ * <li>"extensions" : the {@link ExtensionLoader extension} classes and adaptive classes of the SPI types</li>
+ * <li>"services" : the service interfaces, their parameter and return types, and the {@link Wrapper} of the
+ * implementations</li>
+ * <li>"references" : the reference interfaces, their parameter and return types, and the proxy classes of
+ * {@link ProxyFactory}</li>
+ * <li>"types" : any other classes, e.g. DTOs</li>
+ * </ul>
+ * The services and references are gathered from the definitions of {@link ServiceBean} and {@link ReferenceBean}, as
+ * {@link BeanFactoryPostProcessor} runs after {@link org.apache.dubbo.config.spring.beans.factory.annotation.ServiceClassPostProcessor}
+ * registered them. The lists of all kinds are read from the "META-INF/dubbo-preload/{kind}" resources as well, one
+ * class name per line, which are shipped by the starter for the extensions and generated at build time by
+ * {@link DubboPreloadProcessor} for the annotated services and references.
+ * <p>
+ * The classes which can't be loaded are skipped, Dubbo reports them when it uses them.
+ *
+ * @see DubboPreloadProcessor
+ * @since 2.7.10
+ */
+public class ClassPreloader implements BeanFactoryPostProcessor, BeanClassLoaderAware, DisposableBean, Ordered {
+
+    /**
+     * The bean name of {@link ClassPreloader}
+     */
+    public static final String BEAN_NAME = "dubboClassPreloader";
+
+    /**
+     * The prefix of preloading properties
+     */
+    public static final String PREFIX = "dubbo.preload";
+
+    /**
+     * The property of preloading threads, the available processors by default
+     */
+    public static final String THREADS_PROPERTY = PREFIX + ".threads";
+
+    /**
+     * The location of preloading lists, "{kind}" is replaced by "extensions", "services", "references" or "types"
+     */
+    public static final String LOCATION_PATTERN = "META-INF/dubbo-preload/%s";
+
+    static final String EXTENSIONS = "extensions";
+
+    static final String SERVICES = "services";
+
+    static final String REFERENCES = "references";
+
+    static final String TYPES = "types";
+
+    private static final String INTERFACE_PROPERTY = "interface";
+
+    private static final String REF_PROPERTY = "ref";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final int threads;
+
+    private final AtomicInteger loadedClasses = new AtomicInteger();
+
+    private final Set<String> failedClasses = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    private volatile ExecutorService executor;
+
+    private volatile CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+
+    public ClassPreloader(int threads) {
+        this.threads = threads;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        Set<String> extensions = readClassNames(EXTENSIONS);
+        Set<String> services = readClassNames(SERVICES);
+        Set<String> references = readClassNames(REFERENCES);
+        Set<String> types = readClassNames(TYPES);
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+            if (ServiceBean.class.getName().equals(beanDefinition.getBeanClassName())) {
+                addClassName(types, beanDefinition, INTERFACE_PROPERTY);
+                PropertyValue ref = beanDefinition.getPropertyValues().getPropertyValue(REF_PROPERTY);
+                if (ref != null && ref.getValue() instanceof RuntimeBeanReference) {
+                    String refBeanName = ((RuntimeBeanReference) ref.getValue()).getBeanName();
+                    if (beanFactory.containsBeanDefinition(refBeanName)) {
+                        String className = beanFactory.getBeanDefinition(refBeanName).getBeanClassName();
+                        if (className != null) {
+                            services.add(className);
+                        }
+                    }
+                }
+            } else if (ReferenceBean.class.getName().equals(beanDefinition.getBeanClassName())) {
+                addClassName(references, beanDefinition, INTERFACE_PROPERTY);
+            }
+        }
+        List<Runnable> tasks = new ArrayList<>();
+        extensions.forEach(className -> tasks.add(() -> preloadExtension(className)));
+        services.forEach(className -> tasks.add(() -> preloadService(className)));
+        references.forEach(className -> tasks.add(() -> preloadReference(className)));
+        types.forEach(className -> tasks.add(() -> loadClass(className)));
+        if (tasks.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())),
+                new NamedThreadFactory("DubboClassPreloader", true));
+        try {
+            future = CompletableFuture.allOf(tasks.stream()
+                    .map(task -> CompletableFuture.runAsync(task, executor))
+                    .toArray(CompletableFuture[]::new));
+        } finally {
+            // The threads terminate once the tasks are done
+            executor.shutdown();
+        }
+        future.whenComplete((result, throwable) -> {
+            if (logger.isInfoEnabled()) {
+                logger.info(loadedClasses.get() + " classes of " + extensions.size() + " extensions, "
+                        + services.size() + " services, " + references.size() + " references and " + types.size()
+                        + " types are preloaded in " + (System.currentTimeMillis() - start) + " ms, "
+                        + failedClasses.size() + " classes can't be loaded");
+            }
+        });
+    }
+
+    /**
+     * Get the future which is completed when all classes are preloaded, successfully or not
+     *
+     * @return non-null
+     */
+    public CompletableFuture<Void> getFuture() {
+        return future;
+    }
+
+    /**
+     * Get the count of preloaded classes, including the generated ones
+     *
+     * @return the count
+     */
+    public int getLoadedClasses() {
+        return loadedClasses.get();
+    }
+
+    /**
+     * Get the names of classes which can't be loaded
+     *
+     * @return non-null
+     */
+    public Set<String> getFailedClasses() {
+        synchronized (failedClasses) {
+            return new LinkedHashSet<>(failedClasses);
+        }
+    }
+
+    private void preloadExtension(String className) {
+        Class<?> type = loadClass(className);
+        if (type == null) {
+            return;
+        }
+        try {
+            ExtensionLoader<?> extensionLoader = ExtensionLoader.getExtensionLoader(type);
+            loadedClasses.addAndGet(extensionLoader.getSupportedExtensions().size());
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(Adaptive.class)) {
+                    extensionLoader.getAdaptiveExtension();
+                    loadedClasses.incrementAndGet();
+                    break;
+                }
+            }
+        } catch (Throwable e) {
+            fail(className, e);
+        }
+    }
+
+    private void preloadService(String className) {
+        Class<?> implementationClass = loadClass(className);
+        if (implementationClass == null) {
+            return;
+        }
+        try {
+            for (Class<?> interfaceClass : ClassUtils.getAllInterfacesForClassAsSet(implementationClass)) {
+                loadMethodTypes(interfaceClass);
+            }
+            Wrapper.getWrapper(implementationClass);
+            loadedClasses.incrementAndGet();
+        } catch (Throwable e) {
+            fail(className, e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void preloadReference(String className) {
+        Class<?> interfaceClass = loadClass(className);
+        if (interfaceClass == null || !interfaceClass.isInterface()) {
+            return;
+        }
+        try {
+            loadMethodTypes(interfaceClass);
+            ExtensionLoader.getExtensionLoader(ProxyFactory.class).getAdaptiveExtension()
+                    .getProxy(new PreloadInvoker(interfaceClass));
+            loadedClasses.incrementAndGet();
+        } catch (Throwable e) {
+            fail(className, e);
+        }
+    }
+
+    private void loadMethodTypes(Class<?> interfaceClass) {
+        // The parameter and return types are resolved, i.e. loaded, by the reflection
+        loadedClasses.addAndGet(interfaceClass.getMethods().length);
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            Class<?> type = ClassUtils.forName(className, classLoader);
+            loadedClasses.incrementAndGet();
+            return type;
+        } catch (Throwable e) {
+            fail(className, e);
+            return null;
+        }
+    }
+
+    private void fail(String className, Throwable e) {
+        failedClasses.add(className);
+        if (logger.isDebugEnabled()) {
+            logger.debug("The class " + className + " can't be preloaded", e);
+        }
+    }
+
+    private Set<String> readClassNames(String kind) {
+        Set<String> classNames = new LinkedHashSet<>();
+        String location = String.format(LOCATION_PATTERN, kind);
+        try {
+            Enumeration<java.net.URL> resources = classLoader.getResources(location);
+            while (resources.hasMoreElements()) {
+                java.net.URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(),
+                        StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int comment = line.indexOf('#');
+                        String className = (comment < 0 ? line : line.substring(0, comment)).trim();
+                        if (!className.isEmpty()) {
+                            classNames.add(className);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The preloading list " + location + " can't be read", e);
+            }
+        }
+        return classNames;
+    }
+
+    private void addClassName(Set<String> classNames, BeanDefinition beanDefinition, String propertyName) {
+        PropertyValue propertyValue = beanDefinition.getPropertyValues().getPropertyValue(propertyName);
+        Object value = propertyValue == null ? null : propertyValue.getValue();
+        if (value instanceof TypedStringValue) {
+            value = ((TypedStringValue) value).getValue();
+        }
+        if (value instanceof String && StringUtils.hasText((String) value)) {
+            classNames.add(((String) value).trim());
+        }
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void destroy() {
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * The invoker which is never invoked, {@link ProxyFactory} generates the proxy class of its interface
+     */
+    private static class PreloadInvoker<T> implements Invoker<T> {
+
+        private final Class<T> type;
+
+        private final URL url;
+
+        private PreloadInvoker(Class<T> type) {
+            this.type = type;
+            this.url = new URL("preload", LOCALHOST_VALUE, 0, type.getName());
+        }
+
+        @Override
+        public Class<T> getInterface() {
+            return type;
+        }
+
+        @Override
+        public Result invoke(Invocation invocation) throws RpcException {
+            throw new RpcException("The preloading invoker of " + type.getName() + " can't be invoked");
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return false;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.preload;
+
+import org.apache.dubbo.spring.boot.util.AbstractDubboAnnotationProcessor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.apache.dubbo.spring.boot.preload.ClassPreloader.LOCATION_PATTERN;
+import static org.apache.dubbo.spring.boot.preload.ClassPreloader.REFERENCES;
+import static org.apache.dubbo.spring.boot.preload.ClassPreloader.SERVICES;
+import static org.apache.dubbo.spring.boot.preload.ClassPreloader.TYPES;
+
+/**
+ * The annotation processor generates the preloading lists of {@link ClassPreloader} at build time, from the classes
+ * annotated by "@DubboService" or "@Service" and the fields and methods annotated by "@DubboReference" or
+ * "@Reference" :
+ * <ul>
+ * <li>"META-INF/dubbo-preload/services" : the service implementations</li>
+ * <li>"META-INF/dubbo-preload/references" : the reference interfaces</li>
+ * <li>"META-INF/dubbo-preload/types" : the parameter and return types of their interfaces, except "java.*"</li>
+ * </ul>
+ * The processor is not registered as a service, it's enabled explicitly, for example :
+ * <pre>
+ * &lt;plugin&gt;
+ *     &lt;artifactId&gt;maven-compiler-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;annotationProcessors&gt;
+ *             &lt;annotationProcessor&gt;org.apache.dubbo.spring.boot.preload.DubboPreloadProcessor&lt;/annotationProcessor&gt;
+ *         &lt;/annotationProcessors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ *
+ * @see ClassPreloader
+ * @since 2.7.10
+ */
+public class DubboPreloadProcessor extends AbstractDubboAnnotationProcessor {
+
+    private final Set<String> services = new TreeSet<>();
+
+    private final Set<String> references = new TreeSet<>();
+
+    private final Set<String> types = new TreeSet<>();
+
+    @Override
+    protected void processService(TypeElement implementation, TypeElement interfaceElement) {
+        services.add(getBinaryName(implementation));
+        addMethodTypes(interfaceElement);
+    }
+
+    @Override
+    protected void processReference(TypeElement interfaceElement) {
+        references.add(getBinaryName(interfaceElement));
+        addMethodTypes(interfaceElement);
+    }
+
+    @Override
+    protected void processingOver() {
+        writeResource(String.format(LOCATION_PATTERN, SERVICES), services);
+        writeResource(String.format(LOCATION_PATTERN, REFERENCES), references);
+        writeResource(String.format(LOCATION_PATTERN, TYPES), types);
+    }
+
+    private void addMethodTypes(TypeElement interfaceElement) {
+        if (interfaceElement == null) {
+            return;
+        }
+        for (ExecutableElement method : getInterfaceMethods(interfaceElement)) {
+            addType(method.getReturnType());
+            for (VariableElement parameter : method.getParameters()) {
+                addType(parameter.asType());
+            }
+        }
+    }
+
+    private void addType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            addType(((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            String binaryName = getBinaryName((TypeElement) ((DeclaredType) type).asElement());
+            // The JDK classes are skipped, but not their type arguments, e.g. the DTOs of List
+            if (binaryName.startsWith("java.") || types.add(binaryName)) {
+                ((DeclaredType) type).getTypeArguments().forEach(this::addType);
+            }
+        }
+    }
+}
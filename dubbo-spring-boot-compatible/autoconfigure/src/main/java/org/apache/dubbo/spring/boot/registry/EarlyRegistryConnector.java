@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.registry;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.config.configcenter.DynamicConfigurationFactory;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.common.utils.UrlUtils;
+import org.apache.dubbo.config.AbstractConfig;
+import org.apache.dubbo.config.AbstractInterfaceConfig;
+import org.apache.dubbo.config.ApplicationConfig;
+import org.apache.dubbo.config.ConfigCenterConfig;
+import org.apache.dubbo.config.RegistryConfig;
+import org.apache.dubbo.registry.RegistryFactory;
+import org.apache.dubbo.registry.RegistryService;
+import org.apache.dubbo.spring.boot.context.DubboApplicationContextInitializer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.core.Conventions;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.DataBinder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.alibaba.spring.util.PropertySourcesUtils.getSubProperties;
+import static org.apache.dubbo.common.constants.CommonConstants.DUBBO_PROTOCOL;
+import static org.apache.dubbo.common.constants.CommonConstants.PATH_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.PROTOCOL_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.REGISTER_KEY;
+import static org.apache.dubbo.registry.Constants.SUBSCRIBE_KEY;
+import static org.apache.dubbo.spring.boot.util.EnvironmentUtils.extractProperties;
+
+/**
+ * The connector connects to the registries and config centers in the background as soon as
+ * {@link DubboApplicationContextInitializer} runs, reading their addresses from "dubbo.registry", "dubbo.registries",
+ * "dubbo.config-center" and "dubbo.config-centers" properties. Dubbo caches the registries and dynamic configurations
+ * by address and group, thus it takes over the connected ones when the config beans initialize, and it waits for the
+ * pending ones instead of connecting again. ZooKeeper session establishment overlaps with bean creation then.
+ * <p>
+ * The first connection wins the cache, so the configs are bound from the same properties as Dubbo binds them and the
+ * URLs are built as Dubbo does, all the settings of registries and config centers take effect.
+ * <p>
+ * The connections which fail are left to Dubbo, which connects as usual.
+ *
+ * @see DubboApplicationContextInitializer
+ * @since 2.7.10
+ */
+public class EarlyRegistryConnector {
+
+    /**
+     * The property which enables the early connections
+     */
+    public static final String ENABLED_PROPERTY = "dubbo.early-connect.enabled";
+
+    private static final String REGISTRY_PREFIX = "dubbo.registry.";
+
+    private static final String REGISTRIES_PREFIX = "dubbo.registries.";
+
+    private static final String CONFIG_CENTER_PREFIX = "dubbo.config-center.";
+
+    private static final String CONFIG_CENTERS_PREFIX = "dubbo.config-centers.";
+
+    private static final String APPLICATION_PREFIX = "dubbo.application.";
+
+    private static final String ADDRESS_PROPERTY = "address";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ConfigurableEnvironment environment;
+
+    public EarlyRegistryConnector(ConfigurableEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Connect to the registries and config centers in the background
+     *
+     * @return the future which is completed when all connections are done, successfully or not
+     */
+    public CompletableFuture<Void> connect() {
+        List<Runnable> connections = new ArrayList<>();
+        for (String prefix : getPrefixes(REGISTRY_PREFIX, REGISTRIES_PREFIX)) {
+            for (URL url : getRegistryUrls(prefix)) {
+                connections.add(() -> connectRegistry(url));
+            }
+        }
+        for (String prefix : getPrefixes(CONFIG_CENTER_PREFIX, CONFIG_CENTERS_PREFIX)) {
+            URL url = getConfigCenterUrl(prefix);
+            connections.add(() -> connectConfigCenter(url));
+        }
+        if (connections.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(connections.size(),
+                new NamedThreadFactory("DubboEarlyConnector", true));
+        try {
+            return CompletableFuture.allOf(connections.stream()
+                    .map(connection -> CompletableFuture.runAsync(connection, executor))
+                    .toArray(CompletableFuture[]::new));
+        } finally {
+            // The threads terminate once the connections are done
+            executor.shutdown();
+        }
+    }
+
+    private void connectRegistry(URL url) {
+        try {
+            ExtensionLoader.getExtensionLoader(RegistryFactory.class).getAdaptiveExtension().getRegistry(url);
+            if (logger.isInfoEnabled()) {
+                logger.info("The registry " + url.getAddress() + " is connected early");
+            }
+        } catch (Throwable e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The registry " + url.getAddress() + " can't be connected early, Dubbo will retry", e);
+            }
+        }
+    }
+
+    private void connectConfigCenter(URL url) {
+        try {
+            DynamicConfigurationFactory.getDynamicConfigurationFactory(url.getProtocol()).getDynamicConfiguration(url);
+            if (logger.isInfoEnabled()) {
+                logger.info("The config center " + url.getAddress() + " is connected early");
+            }
+        } catch (Throwable e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("The config center " + url.getAddress() + " can't be connected early, Dubbo will retry",
+                        e);
+            }
+        }
+    }
+
+    /**
+     * @return the prefixes of the single config and the multiple configs by id which have the address
+     */
+    private Set<String> getPrefixes(String singlePrefix, String multiplePrefix) {
+        Set<String> prefixes = new LinkedHashSet<>();
+        if (isConnectable(environment.getProperty(singlePrefix + ADDRESS_PROPERTY))) {
+            prefixes.add(singlePrefix);
+        }
+        for (String name : extractProperties(environment).keySet()) {
+            if (name.startsWith(multiplePrefix) && name.endsWith("." + ADDRESS_PROPERTY)) {
+                String prefix = name.substring(0, name.length() - ADDRESS_PROPERTY.length());
+                if (prefix.length() > multiplePrefix.length() && isConnectable(environment.getProperty(name))) {
+                    prefixes.add(prefix);
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * @return the registry URLs, which are built as Dubbo does in
+     * {@link org.apache.dubbo.config.utils.ConfigValidationUtils#loadRegistries}
+     */
+    private List<URL> getRegistryUrls(String prefix) {
+        RegistryConfig registryConfig = bind(prefix, new RegistryConfig());
+        ApplicationConfig applicationConfig = bind(APPLICATION_PREFIX, new ApplicationConfig());
+        Map<String, String> parameters = new HashMap<>();
+        // The name is required by Dubbo, which fails later without it
+        if (StringUtils.hasText(applicationConfig.getName())) {
+            AbstractConfig.appendParameters(parameters, applicationConfig);
+        }
+        AbstractConfig.appendParameters(parameters, registryConfig);
+        parameters.put(PATH_KEY, RegistryService.class.getName());
+        AbstractInterfaceConfig.appendRuntimeParameters(parameters);
+        parameters.putIfAbsent(PROTOCOL_KEY, DUBBO_PROTOCOL);
+        List<URL> urls = new ArrayList<>();
+        for (URL url : UrlUtils.parseURLs(registryConfig.getAddress(), parameters)) {
+            // The registries of service discovery are cached by another key, and the unused ones are never connected
+            if (!UrlUtils.isServiceDiscoveryRegistryType(url)
+                    && (url.getParameter(REGISTER_KEY, true) || url.getParameter(SUBSCRIBE_KEY, true))) {
+                urls.add(url);
+            }
+        }
+        return urls;
+    }
+
+    private URL getConfigCenterUrl(String prefix) {
+        return bind(prefix, new ConfigCenterConfig()).toUrl();
+    }
+
+    /**
+     * Bind the config from the properties with the prefix as Dubbo does, the relaxed names, e.g. "use-as-config-center",
+     * and the entries of maps, e.g. "parameters.key", are supported, the unknown and invalid ones are ignored
+     *
+     * @param prefix the prefix of properties, e.g. "dubbo.registry."
+     * @param config the config
+     * @param <C>    the type of config
+     * @return the bound config
+     */
+    private <C extends AbstractConfig> C bind(String prefix, C config) {
+        MutablePropertyValues propertyValues = new MutablePropertyValues();
+        getSubProperties(environment, prefix).forEach((name, value) -> {
+            int index = name.indexOf('.');
+            String propertyName = Conventions.attributeNameToPropertyName(index < 0 ? name : name.substring(0, index));
+            propertyValues.add(index < 0 ? propertyName : propertyName + "[" + name.substring(index + 1) + "]",
+                    value);
+        });
+        DataBinder dataBinder = new DataBinder(config);
+        dataBinder.setIgnoreInvalidFields(true);
+        dataBinder.bind(propertyValues);
+        return config;
+    }
+
+    private static boolean isConnectable(String address) {
+        return StringUtils.hasText(address) && !"N/A".equalsIgnoreCase(address.trim());
+    }
+}
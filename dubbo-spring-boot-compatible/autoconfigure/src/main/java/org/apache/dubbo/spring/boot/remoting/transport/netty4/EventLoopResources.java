@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+
+/**
+ * The Netty {@link EventLoopGroup event loop groups} which are shared by the servers and clients of
+ * {@link TunableNettyTransporter} with other Netty frameworks in the same process, for example Reactor Netty, so that
+ * the IO threads aren't doubled. The shared groups are never shut down by Dubbo, their owner manages the lifecycle.
+ * <p>
+ * The resources bean is injected by its name "{@value #BEAN_NAME}" from Spring context, each server and client
+ * creates its own event loops or uses the ones of native transport if it's absent.
+ *
+ * @see TunableNettyTransporter
+ * @since 2.7.10
+ */
+public interface EventLoopResources {
+
+    /**
+     * The bean name of {@link EventLoopResources}
+     */
+    String BEAN_NAME = "dubboEventLoopResources";
+
+    /**
+     * @return the group which accepts the connections of servers, non-null
+     */
+    EventLoopGroup getServerSelectGroup();
+
+    /**
+     * @return the group which the accepted connections of servers are registered to, non-null
+     */
+    EventLoopGroup getServerGroup();
+
+    /**
+     * @return the group which the connections of clients are registered to, non-null
+     */
+    EventLoopGroup getClientGroup();
+
+    /**
+     * @param group {@link #getServerSelectGroup()} or {@link #getServerGroup()}
+     * @return a new server channel which matches the group, non-null
+     */
+    ServerChannel newServerChannel(EventLoopGroup group);
+
+    /**
+     * @param group {@link #getClientGroup()}
+     * @return a new channel which matches the group, non-null
+     */
+    Channel newChannel(EventLoopGroup group);
+}
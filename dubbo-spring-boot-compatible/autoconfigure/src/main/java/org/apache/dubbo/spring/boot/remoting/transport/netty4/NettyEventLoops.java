@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultithreadEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The factory of Netty {@link EventLoopGroup event loop groups} and channel classes for epoll or NIO
+ *
+ * @see TransportNative
+ * @since 2.7.10
+ */
+public abstract class NettyEventLoops {
+
+    // The groups which are created by Dubbo and not terminated yet
+    private static final Set<MultithreadEventLoopGroup> OWNED_GROUPS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new {@link EventLoopGroup} with daemon threads
+     *
+     * @param epoll      whether epoll is used or not
+     * @param threads    the count of threads
+     * @param threadName the prefix of thread name
+     * @return non-null
+     */
+    public static EventLoopGroup eventLoopGroup(boolean epoll, int threads, String threadName) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(threadName, true);
+        MultithreadEventLoopGroup group = epoll ? new EpollEventLoopGroup(threads, threadFactory)
+                : new NioEventLoopGroup(threads, threadFactory);
+        OWNED_GROUPS.add(group);
+        group.terminationFuture().addListener(future -> OWNED_GROUPS.remove(group));
+        return group;
+    }
+
+    /**
+     * @return the count of event loops which are created by {@link #eventLoopGroup(boolean, int, String)} and not
+     * terminated yet, it's zero if all the servers and clients share the {@link EventLoopResources}
+     */
+    public static int getOwnedEventLoops() {
+        int eventLoops = 0;
+        for (MultithreadEventLoopGroup group : OWNED_GROUPS) {
+            eventLoops += group.executorCount();
+        }
+        return eventLoops;
+    }
+
+    public static Class<? extends ServerChannel> serverSocketChannelClass(boolean epoll) {
+        return epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    public static Class<? extends Channel> socketChannelClass(boolean epoll) {
+        return epoll ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    /**
+     * @param domainSocket whether the channel is over Unix domain socket or not, it requires epoll
+     */
+    public static Class<? extends ServerChannel> serverChannelClass(boolean epoll, boolean domainSocket) {
+        return domainSocket ? EpollServerDomainSocketChannel.class : serverSocketChannelClass(epoll);
+    }
+
+    /**
+     * @param domainSocket whether the channel is over Unix domain socket or not, it requires epoll
+     */
+    public static Class<? extends Channel> channelClass(boolean epoll, boolean domainSocket) {
+        return domainSocket ? EpollDomainSocketChannel.class : socketChannelClass(epoll);
+    }
+}
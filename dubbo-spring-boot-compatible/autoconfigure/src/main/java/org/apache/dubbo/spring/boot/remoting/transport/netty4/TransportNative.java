@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+
+import io.netty.channel.epoll.Epoll;
+
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.TRANSPORT_NATIVE_KEY;
+
+/**
+ * The native transport of Netty channels, it's configured by the URL parameter "{@value
+ * TunableNettyConstants#TRANSPORT_NATIVE_KEY}".
+ *
+ * @see TunableNettyTransporter
+ * @since 2.7.10
+ */
+public enum TransportNative {
+
+    /**
+     * Uses epoll if it's available, or falls back to NIO
+     */
+    AUTO,
+
+    /**
+     * Uses epoll, it's only available on Linux
+     */
+    EPOLL,
+
+    /**
+     * Uses NIO
+     */
+    NIO;
+
+    /**
+     * Resolves {@link TransportNative} from the URL parameter
+     *
+     * @param url {@link URL}
+     * @return {@link #AUTO} if it's absent
+     * @throws IllegalArgumentException if the value is unknown
+     */
+    public static TransportNative of(URL url) {
+        String value = url.getParameter(TRANSPORT_NATIVE_KEY, AUTO.name());
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    /**
+     * @return <code>true</code> if epoll is available
+     */
+    public static boolean isEpollAvailable() {
+        return Epoll.isAvailable();
+    }
+
+    /**
+     * Determines whether epoll is used or not
+     *
+     * @return <code>true</code> if epoll is used
+     * @throws IllegalStateException if {@link #EPOLL} is required, but it's not available
+     */
+    public boolean isEpoll() {
+        switch (this) {
+            case EPOLL:
+                if (!isEpollAvailable()) {
+                    throw new IllegalStateException("The native transport epoll is not available",
+                            Epoll.unavailabilityCause());
+                }
+                return true;
+            case AUTO:
+                return isEpollAvailable();
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.transport.AbstractChannel;
+import org.apache.dubbo.remoting.utils.PayloadDropper;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.unix.DomainSocketChannel;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_TIMEOUT;
+import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_KEY;
+
+/**
+ * The Dubbo {@link org.apache.dubbo.remoting.Channel} of {@link TunableNettyTransporter}, it's the counterpart of
+ * Dubbo's <code>NettyChannel</code>, in addition, the channels over Unix domain sockets are addressed by the
+ * {@link InetSocketAddress socket addresses} on the loopback interface :
+ * <ul>
+ * <li>the accepted channel : the local port is the port of URL, and the remote port is a synthetic one</li>
+ * <li>the connected channel : the remote address is the address of URL, and the local port is a synthetic one</li>
+ * </ul>
+ *
+ * @since 2.7.10
+ */
+final class TunableNettyChannel extends AbstractChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(TunableNettyChannel.class);
+
+    private static final ConcurrentMap<Channel, TunableNettyChannel> CHANNEL_MAP = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger SYNTHETIC_PORT = new AtomicInteger();
+
+    private final Channel channel;
+
+    private final InetSocketAddress localAddress;
+
+    private final InetSocketAddress remoteAddress;
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean active = new AtomicBoolean(false);
+
+    private TunableNettyChannel(Channel channel, URL url, ChannelHandler handler) {
+        super(url, handler);
+        this.channel = channel;
+        if (!(channel instanceof DomainSocketChannel)) {
+            this.localAddress = null;
+            this.remoteAddress = null;
+        } else if (channel.parent() != null) {
+            this.localAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), url.getPort());
+            this.remoteAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), nextSyntheticPort());
+        } else {
+            this.localAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), nextSyntheticPort());
+            this.remoteAddress = new InetSocketAddress(url.getHost(), url.getPort());
+        }
+    }
+
+    private static int nextSyntheticPort() {
+        return (SYNTHETIC_PORT.getAndIncrement() & 0x7fffffff) % 65535 + 1;
+    }
+
+    static TunableNettyChannel getOrAddChannel(Channel ch, URL url, ChannelHandler handler) {
+        if (ch == null) {
+            return null;
+        }
+        TunableNettyChannel ret = CHANNEL_MAP.get(ch);
+        if (ret == null) {
+            TunableNettyChannel nettyChannel = new TunableNettyChannel(ch, url, handler);
+            if (ch.isActive()) {
+                nettyChannel.markActive(true);
+                ret = CHANNEL_MAP.putIfAbsent(ch, nettyChannel);
+            }
+            if (ret == null) {
+                ret = nettyChannel;
+            }
+        }
+        return ret;
+    }
+
+    static void removeChannelIfDisconnected(Channel ch) {
+        if (ch != null && !ch.isActive()) {
+            TunableNettyChannel nettyChannel = CHANNEL_MAP.remove(ch);
+            if (nettyChannel != null) {
+                nettyChannel.markActive(false);
+            }
+        }
+    }
+
+    static void removeChannel(Channel ch) {
+        if (ch != null) {
+            TunableNettyChannel nettyChannel = CHANNEL_MAP.remove(ch);
+            if (nettyChannel != null) {
+                nettyChannel.markActive(false);
+            }
+        }
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return localAddress != null ? localAddress : (InetSocketAddress) channel.localAddress();
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress != null ? remoteAddress : (InetSocketAddress) channel.remoteAddress();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return !isClosed() && active.get();
+    }
+
+    void markActive(boolean isActive) {
+        active.set(isActive);
+    }
+
+    @Override
+    public void send(Object message, boolean sent) throws RemotingException {
+        // Whether the channel is closed
+        super.send(message, sent);
+
+        boolean success = true;
+        int timeout = 0;
+        try {
+            ChannelFuture future = channel.writeAndFlush(message);
+            if (sent) {
+                // Waits for the message to be sent if timeout is set
+                timeout = getUrl().getPositiveParameter(TIMEOUT_KEY, DEFAULT_TIMEOUT);
+                success = future.await(timeout);
+            }
+            Throwable cause = future.cause();
+            if (cause != null) {
+                throw cause;
+            }
+        } catch (Throwable e) {
+            removeChannelIfDisconnected(channel);
+            throw new RemotingException(this, "Failed to send message " + PayloadDropper.getRequestWithoutData(message)
+                    + " to " + getRemoteAddress() + ", cause: " + e.getMessage(), e);
+        }
+        if (!success) {
+            throw new RemotingException(this, "Failed to send message " + PayloadDropper.getRequestWithoutData(message)
+                    + " to " + getRemoteAddress() + "in timeout(" + timeout + "ms) limit");
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            removeChannelIfDisconnected(channel);
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            attributes.clear();
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            if (logger.isInfoEnabled()) {
+                logger.info("Close netty channel " + channel);
+            }
+            channel.close();
+        } catch (Exception e) {
+            logger.warn(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasAttribute(String key) {
+        return attributes.containsKey(key);
+    }
+
+    @Override
+    public Object getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    @Override
+    public void setAttribute(String key, Object value) {
+        // ConcurrentHashMap doesn't allow null values
+        if (value == null) {
+            attributes.remove(key);
+        } else {
+            attributes.put(key, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String key) {
+        attributes.remove(key);
+    }
+
+    @Override
+    public int hashCode() {
+        return channel.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return channel.equals(((TunableNettyChannel) obj).channel);
+    }
+
+    @Override
+    public String toString() {
+        return "TunableNettyChannel [channel=" + channel + "]";
+    }
+}
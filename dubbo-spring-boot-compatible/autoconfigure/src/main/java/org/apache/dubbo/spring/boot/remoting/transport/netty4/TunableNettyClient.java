@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.Version;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.ConfigUtils;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.transport.AbstractClient;
+import org.apache.dubbo.remoting.utils.UrlUtils;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.proxy.Socks5ProxyHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.SSL_ENABLED_KEY;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_IO_THREADS;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.UNIX_SOCKET_PATH_KEY;
+
+/**
+ * The Netty4 client of {@link TunableNettyTransporter}, it has the same pipeline as Dubbo's
+ * {@link org.apache.dubbo.remoting.transport.netty4.NettyClient}, and the channels are epoll or NIO by
+ * {@link TransportNative}. The clients share the event loops of same native transport, or the ones of
+ * {@link EventLoopResources} if they are shared with other Netty frameworks, Unix domain socket isn't supported then.
+ * <p>
+ * The client connects to the Unix domain socket of "{@value TunableNettyConstants#UNIX_SOCKET_PATH_KEY}" that
+ * the provider advertises rather than TCP, if the provider is on the same host, epoll is available and the
+ * socket file exists.
+ * <p>
+ * The TLS context of "ssl-enabled" is shared by all the clients by {@link SslContextFactory}, and the engines are
+ * created with the host and port of provider, so that the sessions are resumed on reconnect.
+ *
+ * @since 2.7.10
+ */
+public class TunableNettyClient extends AbstractClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TunableNettyClient.class);
+
+    private static final String SOCKS_PROXY_HOST = "socksProxyHost";
+
+    private static final String SOCKS_PROXY_PORT = "socksProxyPort";
+
+    private static final String DEFAULT_SOCKS_PROXY_PORT = "1080";
+
+    private Bootstrap bootstrap;
+
+    private volatile io.netty.channel.Channel channel;
+
+    private DomainSocketAddress domainSocketAddress;
+
+    public TunableNettyClient(URL url, ChannelHandler handler) throws RemotingException {
+        super(url, wrapChannelHandler(url, handler));
+    }
+
+    private static boolean resolveEpoll(URL url) {
+        TransportNative transportNative = TransportNative.of(url);
+        // The parameter may be inherited from the provider, thus the client falls back to NIO rather than failing
+        if (transportNative == TransportNative.EPOLL && !TransportNative.isEpollAvailable()) {
+            logger.warn("The native transport epoll is not available, falls back to NIO : " + url);
+            return false;
+        }
+        return transportNative.isEpoll();
+    }
+
+    private static DomainSocketAddress resolveDomainSocketAddress(URL url, boolean epoll) {
+        String unixSocketPath = url.getParameter(UNIX_SOCKET_PATH_KEY);
+        if (StringUtils.isEmpty(unixSocketPath) || !epoll || !isLocalHost(url.getHost())) {
+            return null;
+        }
+        File socketFile = new File(unixSocketPath);
+        if (!socketFile.exists()) {
+            logger.warn("The Unix domain socket " + socketFile + " doesn't exist, connects by TCP : " + url);
+            return null;
+        }
+        return new DomainSocketAddress(socketFile);
+    }
+
+    private static boolean isLocalHost(String host) {
+        return NetUtils.isLocalHost(host) || NetUtils.isAnyHost(host) || host.equals(NetUtils.getLocalHost());
+    }
+
+    @Override
+    protected void doOpen() throws Throwable {
+        EventLoopResources eventLoopResources = TunableNettyTransporter.getEventLoopResources();
+        boolean epoll = eventLoopResources == null && resolveEpoll(getUrl());
+        domainSocketAddress = resolveDomainSocketAddress(getUrl(), epoll);
+        final boolean domainSocket = domainSocketAddress != null;
+        EventLoopGroup group;
+        ChannelFactory<? extends io.netty.channel.Channel> channelFactory;
+        if (eventLoopResources != null) {
+            group = eventLoopResources.getClientGroup();
+            EventLoopGroup clientGroup = group;
+            channelFactory = () -> eventLoopResources.newChannel(clientGroup);
+        } else {
+            group = epoll ? EpollEventLoopGroupHolder.GROUP : NioEventLoopGroupHolder.GROUP;
+            channelFactory = new ReflectiveChannelFactory<>(NettyEventLoops.channelClass(epoll, domainSocket));
+        }
+        final TunableNettyClientHandler nettyClientHandler = new TunableNettyClientHandler(getUrl(), this);
+        final SslContext sslContext = getUrl().getParameter(SSL_ENABLED_KEY, false) ?
+                TunableNettyTransporter.getSslContextFactory().getClientContext() : null;
+        bootstrap = new Bootstrap();
+        bootstrap.group(group)
+                .option(ChannelOption.ALLOCATOR, ByteBufAllocator.DEFAULT)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.max(3000, getConnectTimeout()))
+                .channelFactory(channelFactory);
+        if (!domainSocket) {
+            bootstrap.option(ChannelOption.SO_KEEPALIVE, true)
+                    .option(ChannelOption.TCP_NODELAY, true);
+        }
+
+        bootstrap.handler(new ChannelInitializer<io.netty.channel.Channel>() {
+            @Override
+            protected void initChannel(io.netty.channel.Channel ch) throws Exception {
+                int heartbeatInterval = UrlUtils.getHeartbeat(getUrl());
+                if (sslContext != null) {
+                    ch.pipeline().addLast("ssl", sslContext.newHandler(ch.alloc(), getUrl().getHost(),
+                            getUrl().getPort()));
+                }
+                TunableNettyCodecAdapter adapter = new TunableNettyCodecAdapter(getCodec(), getUrl(),
+                        TunableNettyClient.this);
+                ch.pipeline()
+                        .addLast("decoder", adapter.getDecoder())
+                        .addLast("encoder", adapter.getEncoder())
+                        .addLast("client-idle-handler", new IdleStateHandler(heartbeatInterval, 0, 0, TimeUnit.MILLISECONDS))
+                        .addLast("handler", nettyClientHandler);
+                String socksProxyHost = ConfigUtils.getProperty(SOCKS_PROXY_HOST);
+                if (socksProxyHost != null && !domainSocket) {
+                    int socksProxyPort = Integer.parseInt(ConfigUtils.getProperty(SOCKS_PROXY_PORT, DEFAULT_SOCKS_PROXY_PORT));
+                    ch.pipeline().addFirst(new Socks5ProxyHandler(new InetSocketAddress(socksProxyHost, socksProxyPort)));
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void doConnect() throws Throwable {
+        long start = System.currentTimeMillis();
+        SocketAddress connectAddress = domainSocketAddress != null ? domainSocketAddress : getConnectAddress();
+        ChannelFuture future = bootstrap.connect(connectAddress);
+        boolean ret = future.awaitUninterruptibly(getConnectTimeout(), TimeUnit.MILLISECONDS);
+        if (ret && future.isSuccess()) {
+            io.netty.channel.Channel newChannel = future.channel();
+            io.netty.channel.Channel oldChannel = this.channel;
+            if (oldChannel != null) {
+                try {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Close old netty channel " + oldChannel + " on create new netty channel " + newChannel);
+                    }
+                    oldChannel.close();
+                } finally {
+                    TunableNettyChannel.removeChannelIfDisconnected(oldChannel);
+                }
+            }
+            if (isClosed()) {
+                try {
+                    if (logger.isInfoEnabled()) {
+                        logger.info("Close new netty channel " + newChannel + ", because the client closed.");
+                    }
+                    newChannel.close();
+                } finally {
+                    this.channel = null;
+                    TunableNettyChannel.removeChannelIfDisconnected(newChannel);
+                }
+            } else {
+                this.channel = newChannel;
+            }
+        } else if (future.cause() != null) {
+            throw new RemotingException(this, "client(url: " + getUrl() + ") failed to connect to server "
+                    + connectAddress + ", error message is:" + future.cause().getMessage(), future.cause());
+        } else {
+            throw new RemotingException(this, "client(url: " + getUrl() + ") failed to connect to server "
+                    + connectAddress + " client-side timeout "
+                    + getConnectTimeout() + "ms (elapsed: " + (System.currentTimeMillis() - start) + "ms) from netty client "
+                    + NetUtils.getLocalHost() + " using dubbo version " + Version.getVersion());
+        }
+    }
+
+    @Override
+    protected void doDisConnect() throws Throwable {
+        try {
+            TunableNettyChannel.removeChannelIfDisconnected(channel);
+        } catch (Throwable t) {
+            logger.warn(t.getMessage());
+        }
+    }
+
+    @Override
+    protected void doClose() throws Throwable {
+        // The event loops are shared, thus they are not shut down
+    }
+
+    @Override
+    protected Channel getChannel() {
+        io.netty.channel.Channel c = channel;
+        if (c == null) {
+            return null;
+        }
+        return TunableNettyChannel.getOrAddChannel(c, getUrl(), this);
+    }
+
+    @Override
+    public boolean canHandleIdle() {
+        return true;
+    }
+
+    private static class NioEventLoopGroupHolder {
+
+        private static final EventLoopGroup GROUP = NettyEventLoops.eventLoopGroup(false, DEFAULT_IO_THREADS,
+                "NettyClientWorker");
+    }
+
+    private static class EpollEventLoopGroupHolder {
+
+        private static final EventLoopGroup GROUP = NettyEventLoops.eventLoopGroup(true, DEFAULT_IO_THREADS,
+                "NettyClientEpollWorker");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.Version;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.exchange.Response;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+
+import static org.apache.dubbo.common.constants.CommonConstants.HEARTBEAT_EVENT;
+
+/**
+ * The client handler of {@link TunableNettyClient}, it's the counterpart of Dubbo's
+ * {@link org.apache.dubbo.remoting.transport.netty4.NettyClientHandler} for {@link TunableNettyChannel}.
+ *
+ * @since 2.7.10
+ */
+@io.netty.channel.ChannelHandler.Sharable
+public class TunableNettyClientHandler extends ChannelDuplexHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TunableNettyClientHandler.class);
+
+    private final URL url;
+
+    private final ChannelHandler handler;
+
+    public TunableNettyClientHandler(URL url, ChannelHandler handler) {
+        if (url == null) {
+            throw new IllegalArgumentException("url == null");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("handler == null");
+        }
+        this.url = url;
+        this.handler = handler;
+    }
+
+    private static Response buildErrorResponse(Request request, Throwable t) {
+        Response response = new Response(request.getId(), request.getVersion());
+        response.setStatus(Response.BAD_REQUEST);
+        response.setErrorMessage(StringUtils.toString(t));
+        return response;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        handler.connected(channel);
+        if (logger.isInfoEnabled()) {
+            logger.info("The connection of " + channel.getLocalAddress() + " -> " + channel.getRemoteAddress()
+                    + " is established.");
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        try {
+            handler.disconnected(channel);
+        } finally {
+            TunableNettyChannel.removeChannel(ctx.channel());
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("The connection of " + channel.getLocalAddress() + " -> " + channel.getRemoteAddress()
+                    + " is disconnected.");
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        handler.received(channel, msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        super.write(ctx, msg, promise);
+        final TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        final boolean isRequest = msg instanceof Request;
+
+        // We add listeners to make sure our out bound event is correct.
+        // If our out bound event has an error (in most cases the encoder fails),
+        // we need to have the request return directly instead of blocking the invoke process.
+        promise.addListener(future -> {
+            if (future.isSuccess()) {
+                // if our future is success, mark the future to sent.
+                handler.sent(channel, msg);
+                return;
+            }
+            Throwable t = future.cause();
+            if (t != null && isRequest) {
+                Request request = (Request) msg;
+                Response response = buildErrorResponse(request, t);
+                handler.received(channel, response);
+            }
+        });
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        // send heartbeat when read idle.
+        if (evt instanceof IdleStateEvent) {
+            try {
+                TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("IdleStateEvent triggered, send heartbeat to channel " + channel);
+                }
+                Request req = new Request();
+                req.setVersion(Version.getProtocolVersion());
+                req.setTwoWay(true);
+                req.setEvent(HEARTBEAT_EVENT);
+                channel.send(req);
+            } finally {
+                TunableNettyChannel.removeChannelIfDisconnected(ctx.channel());
+            }
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        try {
+            handler.caught(channel, cause);
+        } finally {
+            TunableNettyChannel.removeChannelIfDisconnected(ctx.channel());
+        }
+    }
+}
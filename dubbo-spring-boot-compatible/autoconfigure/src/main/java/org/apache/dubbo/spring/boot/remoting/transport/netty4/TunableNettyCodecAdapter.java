@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Codec2;
+import org.apache.dubbo.remoting.buffer.ChannelBuffer;
+import org.apache.dubbo.remoting.transport.netty4.NettyBackedChannelBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The counterpart of Dubbo's {@link org.apache.dubbo.remoting.transport.netty4.NettyCodecAdapter} that codes on
+ * {@link TunableNettyChannel}
+ *
+ * @since 2.7.10
+ */
+final class TunableNettyCodecAdapter {
+
+    private final io.netty.channel.ChannelHandler encoder = new InternalEncoder();
+
+    private final io.netty.channel.ChannelHandler decoder = new InternalDecoder();
+
+    private final Codec2 codec;
+
+    private final URL url;
+
+    private final ChannelHandler handler;
+
+    TunableNettyCodecAdapter(Codec2 codec, URL url, ChannelHandler handler) {
+        this.codec = codec;
+        this.url = url;
+        this.handler = handler;
+    }
+
+    io.netty.channel.ChannelHandler getEncoder() {
+        return encoder;
+    }
+
+    io.netty.channel.ChannelHandler getDecoder() {
+        return decoder;
+    }
+
+    private class InternalEncoder extends MessageToByteEncoder<Object> {
+
+        @Override
+        protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+            ChannelBuffer buffer = new NettyBackedChannelBuffer(out);
+            TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+            codec.encode(channel, buffer, msg);
+        }
+    }
+
+    private class InternalDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf input, List<Object> out) throws Exception {
+            ChannelBuffer message = new NettyBackedChannelBuffer(input);
+            TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+            // decode object
+            do {
+                int saveReaderIndex = message.readerIndex();
+                Object msg = codec.decode(channel, message);
+                if (msg == Codec2.DecodeResult.NEED_MORE_INPUT) {
+                    message.readerIndex(saveReaderIndex);
+                    break;
+                } else {
+                    // is it possible to go here ?
+                    if (saveReaderIndex == message.readerIndex()) {
+                        throw new IOException("Decode without read data.");
+                    }
+                    if (msg != null) {
+                        out.add(msg);
+                    }
+                }
+            } while (message.readable());
+        }
+    }
+}
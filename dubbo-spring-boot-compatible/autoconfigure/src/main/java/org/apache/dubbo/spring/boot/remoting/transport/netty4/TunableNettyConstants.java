@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+/**
+ * The URL parameters of {@link TunableNettyTransporter}
+ *
+ * @since 2.7.10
+ */
+public interface TunableNettyConstants {
+
+    /**
+     * The native transport : "auto", "epoll" or "nio"
+     *
+     * @see TransportNative
+     */
+    String TRANSPORT_NATIVE_KEY = "transport-native";
+
+    /**
+     * Whether the server binds an acceptor per IO thread with SO_REUSEPORT or not, it requires epoll
+     */
+    String REUSE_PORT_KEY = "reuse-port";
+
+    /**
+     * The path of Unix domain socket which the server listens on in addition to TCP, it requires epoll. The clients
+     * on the same host connect to it rather than TCP.
+     */
+    String UNIX_SOCKET_PATH_KEY = "unix-socket-path";
+
+    /**
+     * Whether the server consolidates the flushes of each channel or not, the responses which are written out of
+     * reading are flushed once per event loop tick rather than one by one, thus the syscalls are reduced at high QPS.
+     */
+    String FLUSH_CONSOLIDATION_KEY = "flush-consolidation";
+
+    /**
+     * The max count of flushes which are consolidated into one when "{@value #FLUSH_CONSOLIDATION_KEY}" is
+     * <code>true</code>
+     */
+    String FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY = "flush-consolidation-explicit-flushes";
+
+    /**
+     * The default value of "{@value #FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY}"
+     */
+    int DEFAULT_FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES = 256;
+}
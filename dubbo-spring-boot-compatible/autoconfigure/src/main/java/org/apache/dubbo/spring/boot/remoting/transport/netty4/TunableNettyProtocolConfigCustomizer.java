@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.config.AbstractConfig;
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.config.spring.context.config.DubboConfigBeanCustomizer;
+
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DUBBO;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.FLUSH_CONSOLIDATION_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.REUSE_PORT_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.TRANSPORT_NATIVE_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.UNIX_SOCKET_PATH_KEY;
+import static org.apache.dubbo.spring.boot.util.DubboUtils.DUBBO_PREFIX;
+import static org.apache.dubbo.spring.boot.util.DubboUtils.PROPERTY_NAME_SEPARATOR;
+
+/**
+ * The {@link DubboConfigBeanCustomizer} applies the transport properties which {@link ProtocolConfig} doesn't have,
+ * for example :
+ * <pre>
+ * dubbo.protocol.transport-native = epoll
+ * dubbo.protocols.my-protocol.reuse-port = true
+ * dubbo.protocols.my-protocol.unix-socket-path = /var/run/dubbo/my-protocol.sock
+ * dubbo.protocols.my-protocol.flush-consolidation = true
+ * </pre>
+ * The properties of "dubbo.protocols.&lt;bean name&gt;." take precedence over the ones of "dubbo.protocol.", and
+ * they are put into {@link ProtocolConfig#getParameters() the parameters}. The server of "dubbo" protocol is set to
+ * {@link TunableNettyTransporter} if any of them is present or "{@value #SHARE_EVENT_LOOPS_PROPERTY}" is
+ * <code>true</code>, unless it's set explicitly. The client is set to {@link TunableNettyTransporter} as well if
+ * "unix-socket-path" is present, the consumers inherit it from the provider URL and connect to the socket.
+ *
+ * @see TunableNettyConstants
+ * @see TunableNettyTransporter
+ * @since 2.7.10
+ */
+public class TunableNettyProtocolConfigCustomizer implements DubboConfigBeanCustomizer, EnvironmentAware {
+
+    /**
+     * The prefix of single {@link ProtocolConfig} properties
+     */
+    public static final String PROTOCOL_PREFIX = DUBBO_PREFIX + PROPERTY_NAME_SEPARATOR + "protocol"
+            + PROPERTY_NAME_SEPARATOR;
+
+    /**
+     * The prefix of multiple {@link ProtocolConfig} properties
+     */
+    public static final String PROTOCOLS_PREFIX = DUBBO_PREFIX + PROPERTY_NAME_SEPARATOR + "protocols"
+            + PROPERTY_NAME_SEPARATOR;
+
+    /**
+     * The property of whether the event loops of {@link EventLoopResources} are shared with other Netty frameworks or
+     * not
+     */
+    public static final String SHARE_EVENT_LOOPS_PROPERTY = DUBBO_PREFIX + PROPERTY_NAME_SEPARATOR + "transport"
+            + PROPERTY_NAME_SEPARATOR + "share-event-loops";
+
+    /**
+     * The keys of properties which are mapped to the parameters
+     */
+    private static final List<String> PARAMETER_KEYS = Collections.unmodifiableList(Arrays.asList(
+            TRANSPORT_NATIVE_KEY,
+            REUSE_PORT_KEY,
+            UNIX_SOCKET_PATH_KEY,
+            FLUSH_CONSOLIDATION_KEY,
+            FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY
+    ));
+
+    private Environment environment;
+
+    @Override
+    public void customize(String beanName, AbstractConfig dubboConfigBean) {
+        if (!(dubboConfigBean instanceof ProtocolConfig)) {
+            return;
+        }
+        ProtocolConfig protocolConfig = (ProtocolConfig) dubboConfigBean;
+        if (protocolConfig.getName() != null && !DUBBO.equals(protocolConfig.getName())) {
+            return;
+        }
+        Map<String, String> parameters = protocolConfig.getParameters() == null ? new HashMap<>()
+                : new HashMap<>(protocolConfig.getParameters());
+        boolean customized = environment.getProperty(SHARE_EVENT_LOOPS_PROPERTY, Boolean.class, false);
+        for (String key : PARAMETER_KEYS) {
+            String value = environment.getProperty(PROTOCOLS_PREFIX + beanName + PROPERTY_NAME_SEPARATOR + key,
+                    environment.getProperty(PROTOCOL_PREFIX + key));
+            if (value != null) {
+                parameters.put(key, value.trim());
+                customized = true;
+            }
+        }
+        if (customized) {
+            if (!parameters.isEmpty()) {
+                protocolConfig.setParameters(parameters);
+            }
+            if (protocolConfig.getServer() == null) {
+                protocolConfig.setServer(TunableNettyTransporter.NAME);
+            }
+            // The client is advertised by the provider URL, thus the consumers pick the socket automatically
+            if (parameters.containsKey(UNIX_SOCKET_PATH_KEY) && protocolConfig.getClient() == null) {
+                protocolConfig.setClient(TunableNettyTransporter.NAME);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+}
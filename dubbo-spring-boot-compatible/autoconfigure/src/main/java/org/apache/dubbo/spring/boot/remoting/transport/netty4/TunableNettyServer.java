@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.ExecutorUtil;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.RemotingServer;
+import org.apache.dubbo.remoting.transport.AbstractServer;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelHandlers;
+import org.apache.dubbo.remoting.utils.UrlUtils;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.IO_THREADS_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.SSL_ENABLED_KEY;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_IO_THREADS;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.DEFAULT_FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.FLUSH_CONSOLIDATION_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.REUSE_PORT_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants.UNIX_SOCKET_PATH_KEY;
+
+/**
+ * The Netty4 server of {@link TunableNettyTransporter}, it has the same pipeline as Dubbo's
+ * {@link org.apache.dubbo.remoting.transport.netty4.NettyServer}, in addition :
+ * <ul>
+ * <li>the channels are epoll or NIO by {@link TransportNative}</li>
+ * <li>an acceptor is bound per IO thread with SO_REUSEPORT if "{@value TunableNettyConstants#REUSE_PORT_KEY}"
+ * is <code>true</code> on epoll, so that the kernel spreads the connections across the event loops</li>
+ * <li>the server listens on the Unix domain socket of "{@value TunableNettyConstants#UNIX_SOCKET_PATH_KEY}" in
+ * addition to TCP on epoll, the stale socket file is deleted on startup, and the socket file is deleted on
+ * close</li>
+ * <li>the buffers are allocated by {@link ByteBufAllocator#DEFAULT} rather than the pooled one, thus the type of
+ * allocator is configurable</li>
+ * <li>the flushes of each channel are consolidated by {@link FlushConsolidationHandler} if
+ * "{@value TunableNettyConstants#FLUSH_CONSOLIDATION_KEY}" is <code>true</code>, the responses which are written by
+ * the business threads are flushed once the event loop runs the pending tasks, and at most
+ * "{@value TunableNettyConstants#FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY}" flushes are consolidated into one, so
+ * that the latency isn't increased when the traffic is light</li>
+ * <li>the TLS context of "ssl-enabled" is shared by all the channels rather than built per channel, thus the
+ * sessions are resumed, and the provider and cipher suites are configurable by {@link SslContextFactory}</li>
+ * <li>the event loops of {@link EventLoopResources} are used if they are shared, thus neither SO_REUSEPORT nor Unix
+ * domain socket is supported, and the event loops are not shut down on close</li>
+ * </ul>
+ *
+ * @since 2.7.10
+ */
+public class TunableNettyServer extends AbstractServer implements RemotingServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TunableNettyServer.class);
+
+    private static final int DOMAIN_SOCKET_PROBE_TIMEOUT = 1000;
+
+    private Map<String, Channel> channels;
+
+    private ServerBootstrap bootstrap;
+
+    private List<io.netty.channel.Channel> serverChannels;
+
+    private File domainSocketFile;
+
+    private EventLoopGroup bossGroup;
+
+    private EventLoopGroup workerGroup;
+
+    private boolean sharedEventLoops;
+
+    public TunableNettyServer(URL url, ChannelHandler handler) throws RemotingException {
+        super(ExecutorUtil.setThreadName(url, SERVER_THREAD_POOL_NAME), ChannelHandlers.wrap(handler, url));
+    }
+
+    @Override
+    protected void doOpen() throws Throwable {
+        URL url = getUrl();
+        EventLoopResources eventLoopResources = TunableNettyTransporter.getEventLoopResources();
+        sharedEventLoops = eventLoopResources != null;
+        boolean epoll = !sharedEventLoops && TransportNative.of(url).isEpoll();
+        String requirement = sharedEventLoops ? "the event loops are shared" : "it requires epoll";
+        boolean reusePort = url.getParameter(REUSE_PORT_KEY, false);
+        if (reusePort && !epoll) {
+            logger.warn("The parameter \"" + REUSE_PORT_KEY + "\" is ignored, because " + requirement + " : " + url);
+            reusePort = false;
+        }
+        String unixSocketPath = url.getParameter(UNIX_SOCKET_PATH_KEY);
+        if (StringUtils.isNotEmpty(unixSocketPath) && !epoll) {
+            logger.warn("The parameter \"" + UNIX_SOCKET_PATH_KEY + "\" is ignored, because " + requirement + " : "
+                    + url);
+            unixSocketPath = null;
+        }
+        int ioThreads = url.getPositiveParameter(IO_THREADS_KEY, DEFAULT_IO_THREADS);
+        final boolean flushConsolidation = url.getParameter(FLUSH_CONSOLIDATION_KEY, false);
+        final int explicitFlushes = url.getPositiveParameter(FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES_KEY,
+                DEFAULT_FLUSH_CONSOLIDATION_EXPLICIT_FLUSHES);
+        SslContextFactory sslContextFactory = TunableNettyTransporter.getSslContextFactory();
+        final SslContext sslContext = url.getParameter(SSL_ENABLED_KEY, false) ?
+                sslContextFactory.getServerContext() : null;
+
+        bootstrap = new ServerBootstrap();
+        ChannelFactory<? extends ServerChannel> serverChannelFactory;
+        if (sharedEventLoops) {
+            workerGroup = eventLoopResources.getServerGroup();
+            bossGroup = eventLoopResources.getServerSelectGroup();
+            EventLoopGroup selectGroup = bossGroup;
+            serverChannelFactory = () -> eventLoopResources.newServerChannel(selectGroup);
+        } else {
+            workerGroup = NettyEventLoops.eventLoopGroup(epoll, ioThreads, "NettyServerWorker");
+            // Each event loop accepts its own connections with SO_REUSEPORT, thus no boss group is needed
+            bossGroup = reusePort ? workerGroup : NettyEventLoops.eventLoopGroup(epoll, 1, "NettyServerBoss");
+            serverChannelFactory = new ReflectiveChannelFactory<>(NettyEventLoops.serverChannelClass(epoll, false));
+        }
+
+        final TunableNettyServerHandler nettyServerHandler = new TunableNettyServerHandler(url, this);
+        channels = nettyServerHandler.getChannels();
+        ChannelInitializer<io.netty.channel.Channel> childHandler = new ChannelInitializer<io.netty.channel.Channel>() {
+            @Override
+            protected void initChannel(io.netty.channel.Channel ch) throws Exception {
+                int idleTimeout = UrlUtils.getIdleTimeout(getUrl());
+                TunableNettyCodecAdapter adapter = new TunableNettyCodecAdapter(getCodec(), getUrl(),
+                        TunableNettyServer.this);
+                if (flushConsolidation) {
+                    // The first handler consolidates the flushes of all the others, including the ones of SSL
+                    ch.pipeline().addLast("flush-consolidation", new FlushConsolidationHandler(explicitFlushes, true));
+                }
+                if (sslContext != null) {
+                    ch.pipeline().addLast("ssl", sslContext.newHandler(ch.alloc()));
+                }
+                ch.pipeline()
+                        .addLast("decoder", adapter.getDecoder())
+                        .addLast("encoder", adapter.getEncoder())
+                        .addLast("server-idle-handler", new IdleStateHandler(0, 0, idleTimeout, TimeUnit.MILLISECONDS))
+                        .addLast("handler", nettyServerHandler);
+            }
+        };
+
+        bootstrap.group(bossGroup, workerGroup)
+                .channelFactory(serverChannelFactory)
+                .option(ChannelOption.SO_REUSEADDR, Boolean.TRUE)
+                .childOption(ChannelOption.TCP_NODELAY, Boolean.TRUE)
+                .childOption(ChannelOption.ALLOCATOR, ByteBufAllocator.DEFAULT)
+                .childHandler(childHandler);
+
+        serverChannels = new ArrayList<>();
+        int acceptors = 1;
+        if (reusePort) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, Boolean.TRUE);
+            acceptors = ioThreads;
+        }
+        // The server channels are registered to the event loops in turn
+        for (int i = 0; i < acceptors; i++) {
+            ChannelFuture channelFuture = bootstrap.bind(getBindAddress());
+            channelFuture.syncUninterruptibly();
+            serverChannels.add(channelFuture.channel());
+        }
+
+        if (unixSocketPath != null) {
+            domainSocketFile = prepareDomainSocketFile(new File(unixSocketPath));
+            ServerBootstrap domainSocketBootstrap = new ServerBootstrap()
+                    .group(bossGroup, workerGroup)
+                    .channel(EpollServerDomainSocketChannel.class)
+                    .childOption(ChannelOption.ALLOCATOR, ByteBufAllocator.DEFAULT)
+                    .childHandler(childHandler);
+            ChannelFuture channelFuture = domainSocketBootstrap.bind(new DomainSocketAddress(domainSocketFile));
+            channelFuture.syncUninterruptibly();
+            serverChannels.add(channelFuture.channel());
+        }
+
+        if (logger.isInfoEnabled()) {
+            logger.info("The server is bound to " + getBindAddress() + " with "
+                    + (sharedEventLoops ? "shared event loops" : epoll ? "epoll" : "NIO")
+                    + (reusePort ? " and " + acceptors + " acceptors by SO_REUSEPORT" : "")
+                    + (flushConsolidation ? ", consolidating at most " + explicitFlushes + " flushes" : "")
+                    + (sslContext != null ? ", TLS by " + sslContextFactory.getProvider() : "")
+                    + (domainSocketFile != null ? ", and Unix domain socket " + domainSocketFile : ""));
+        }
+    }
+
+    /**
+     * Prepares the socket file, the stale one is deleted if no server listens on it
+     *
+     * @param file the socket file
+     * @return the absolute file
+     * @throws IllegalStateException if the socket file is in use
+     */
+    private File prepareDomainSocketFile(File file) {
+        File socketFile = file.getAbsoluteFile();
+        if (socketFile.exists()) {
+            if (isDomainSocketInUse(socketFile)) {
+                throw new IllegalStateException("The Unix domain socket " + socketFile + " is in use");
+            }
+            logger.warn("Delete the stale Unix domain socket " + socketFile);
+            if (!socketFile.delete()) {
+                throw new IllegalStateException("The stale Unix domain socket " + socketFile + " can't be deleted");
+            }
+        }
+        File directory = socketFile.getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs() && !directory.exists()) {
+            throw new IllegalStateException("The directory of Unix domain socket " + directory + " can't be created");
+        }
+        return socketFile;
+    }
+
+    private boolean isDomainSocketInUse(File socketFile) {
+        ChannelFuture future = new Bootstrap()
+                .group(workerGroup)
+                .channel(EpollDomainSocketChannel.class)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, DOMAIN_SOCKET_PROBE_TIMEOUT)
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect(new DomainSocketAddress(socketFile));
+        boolean connected = future.awaitUninterruptibly().isSuccess();
+        future.channel().close();
+        return connected;
+    }
+
+    @Override
+    protected void doClose() throws Throwable {
+        if (serverChannels != null) {
+            for (io.netty.channel.Channel serverChannel : serverChannels) {
+                try {
+                    serverChannel.close().syncUninterruptibly();
+                } catch (Throwable e) {
+                    logger.warn(e.getMessage(), e);
+                }
+            }
+            serverChannels.clear();
+        }
+        try {
+            if (domainSocketFile != null && domainSocketFile.exists() && !domainSocketFile.delete()) {
+                logger.warn("The Unix domain socket " + domainSocketFile + " can't be deleted");
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            Collection<Channel> channels = getChannels();
+            for (Channel channel : channels) {
+                try {
+                    channel.close();
+                } catch (Throwable e) {
+                    logger.warn(e.getMessage(), e);
+                }
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            // The shared event loops are shut down by their owner
+            if (bootstrap != null && !sharedEventLoops) {
+                if (bossGroup != workerGroup) {
+                    bossGroup.shutdownGracefully().syncUninterruptibly();
+                }
+                workerGroup.shutdownGracefully().syncUninterruptibly();
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            if (channels != null) {
+                channels.clear();
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Collection<Channel> getChannels() {
+        Collection<Channel> chs = new HashSet<>();
+        for (Channel channel : channels.values()) {
+            if (channel.isConnected()) {
+                chs.add(channel);
+            } else {
+                channels.remove(NetUtils.toAddressString(channel.getRemoteAddress()));
+            }
+        }
+        return chs;
+    }
+
+    @Override
+    public Channel getChannel(InetSocketAddress remoteAddress) {
+        return channels.get(NetUtils.toAddressString(remoteAddress));
+    }
+
+    @Override
+    public boolean canHandleIdle() {
+        return true;
+    }
+
+    @Override
+    public boolean isBound() {
+        for (io.netty.channel.Channel serverChannel : serverChannels) {
+            if (serverChannel.isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The server handler of {@link TunableNettyServer}, it's the counterpart of Dubbo's
+ * {@link org.apache.dubbo.remoting.transport.netty4.NettyServerHandler} for {@link TunableNettyChannel}.
+ *
+ * @since 2.7.10
+ */
+@io.netty.channel.ChannelHandler.Sharable
+public class TunableNettyServerHandler extends ChannelDuplexHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TunableNettyServerHandler.class);
+
+    /**
+     * the cache for alive worker channel.
+     * &lt;ip:port, dubbo channel&gt;
+     */
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final URL url;
+
+    private final ChannelHandler handler;
+
+    public TunableNettyServerHandler(URL url, ChannelHandler handler) {
+        if (url == null) {
+            throw new IllegalArgumentException("url == null");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("handler == null");
+        }
+        this.url = url;
+        this.handler = handler;
+    }
+
+    public Map<String, Channel> getChannels() {
+        return channels;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        channels.put(NetUtils.toAddressString(channel.getRemoteAddress()), channel);
+        handler.connected(channel);
+        if (logger.isInfoEnabled()) {
+            logger.info("The connection of " + channel.getRemoteAddress() + " -> " + channel.getLocalAddress()
+                    + " is established.");
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        try {
+            channels.remove(NetUtils.toAddressString(channel.getRemoteAddress()));
+            handler.disconnected(channel);
+        } finally {
+            TunableNettyChannel.removeChannel(ctx.channel());
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("The connection of " + channel.getRemoteAddress() + " -> " + channel.getLocalAddress()
+                    + " is disconnected.");
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        handler.received(channel, msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        super.write(ctx, msg, promise);
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        handler.sent(channel, msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        // server will close channel when server don't receive any heartbeat from client util timeout.
+        if (evt instanceof IdleStateEvent) {
+            TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+            try {
+                logger.info("IdleStateEvent triggered, close channel " + channel);
+                channel.close();
+            } finally {
+                TunableNettyChannel.removeChannelIfDisconnected(ctx.channel());
+            }
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        TunableNettyChannel channel = TunableNettyChannel.getOrAddChannel(ctx.channel(), url, handler);
+        try {
+            handler.caught(channel, cause);
+        } finally {
+            TunableNettyChannel.removeChannelIfDisconnected(ctx.channel());
+        }
+    }
+}
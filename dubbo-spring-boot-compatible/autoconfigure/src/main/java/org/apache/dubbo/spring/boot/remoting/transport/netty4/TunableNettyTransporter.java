@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Client;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.RemotingServer;
+import org.apache.dubbo.remoting.Transporter;
+import org.apache.dubbo.spring.boot.ssl.DubboSslProperties;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+/**
+ * The Netty4 {@link Transporter} whose channels are tuned by the URL parameters in {@link TunableNettyConstants},
+ * it's wire-compatible with Dubbo's "netty" transporter. The providers use it by "server=tunable-netty", and the
+ * consumers by "client=tunable-netty", which the providers of Unix domain sockets advertise in their URLs.
+ * <p>
+ * The TLS contexts of "ssl-enabled" channels are shared by {@link SslContextFactory}, the factory bean is injected by
+ * its name "{@value SslContextFactory#BEAN_NAME}" from Spring context, the default one is used if it's absent.
+ * <p>
+ * The servers and clients share the event loops of {@link EventLoopResources} if its bean
+ * "{@value EventLoopResources#BEAN_NAME}" is present in Spring context.
+ *
+ * @see TunableNettyServer
+ * @see TunableNettyClient
+ * @since 2.7.10
+ */
+public class TunableNettyTransporter implements Transporter {
+
+    /**
+     * The name of {@link TunableNettyTransporter} extension
+     */
+    public static final String NAME = "tunable-netty";
+
+    // The servers and clients open the channels in their super constructors, thus the factory is static
+    private static volatile SslContextFactory sslContextFactory;
+
+    private static volatile EventLoopResources eventLoopResources;
+
+    @Override
+    public RemotingServer bind(URL url, ChannelHandler handler) throws RemotingException {
+        return new TunableNettyServer(url, handler);
+    }
+
+    @Override
+    public Client connect(URL url, ChannelHandler handler) throws RemotingException {
+        return new TunableNettyClient(url, handler);
+    }
+
+    static SslContextFactory getSslContextFactory() {
+        SslContextFactory factory = sslContextFactory;
+        return factory != null ? factory : DefaultSslContextFactoryHolder.INSTANCE;
+    }
+
+    public void setDubboSslContextFactory(SslContextFactory dubboSslContextFactory) {
+        sslContextFactory = dubboSslContextFactory;
+    }
+
+    /**
+     * @return the shared {@link EventLoopResources}, or <code>null</code> if the event loops aren't shared
+     */
+    static EventLoopResources getEventLoopResources() {
+        return eventLoopResources;
+    }
+
+    public void setDubboEventLoopResources(EventLoopResources dubboEventLoopResources) {
+        eventLoopResources = dubboEventLoopResources;
+    }
+
+    private static class DefaultSslContextFactoryHolder {
+
+        private static final SslContextFactory INSTANCE = new SslContextFactory(new DubboSslProperties());
+    }
+}
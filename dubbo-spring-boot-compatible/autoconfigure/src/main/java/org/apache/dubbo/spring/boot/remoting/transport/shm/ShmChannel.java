@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Codec2;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.buffer.ChannelBuffer;
+import org.apache.dubbo.remoting.buffer.ChannelBuffers;
+import org.apache.dubbo.remoting.transport.AbstractChannel;
+import org.apache.dubbo.remoting.utils.PayloadDropper;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_TIMEOUT;
+import static org.apache.dubbo.common.constants.CommonConstants.TIMEOUT_KEY;
+
+/**
+ * The Dubbo {@link org.apache.dubbo.remoting.Channel} over a {@link ShmConnectionFile}. The messages are encoded by
+ * the sending threads, and decoded by the polling thread of {@link ShmEventLoop}. The channels are addressed by the
+ * {@link InetSocketAddress socket addresses} on the loopback interface, the port of server side is the port of URL,
+ * and the port of client side is a synthetic one.
+ *
+ * @since 2.7.10
+ */
+final class ShmChannel extends AbstractChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShmChannel.class);
+
+    private static final AtomicInteger SYNTHETIC_PORT = new AtomicInteger();
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final ShmConnectionFile connectionFile;
+
+    private final boolean server;
+
+    private final ShmRingBuffer inbound;
+
+    private final ShmRingBuffer outbound;
+
+    private final Codec2 codec;
+
+    private final ShmIdleStrategy idleStrategy;
+
+    private final InetSocketAddress localAddress;
+
+    private final InetSocketAddress remoteAddress;
+
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+
+    private final AtomicBoolean disconnected = new AtomicBoolean(false);
+
+    ShmChannel(URL url, ChannelHandler handler, Codec2 codec, ShmConnectionFile connectionFile, boolean server,
+               ShmIdleStrategy idleStrategy) {
+        super(url, handler);
+        this.connectionFile = connectionFile;
+        this.server = server;
+        this.inbound = connectionFile.getInbound(server);
+        this.outbound = connectionFile.getOutbound(server);
+        this.codec = codec;
+        this.idleStrategy = idleStrategy;
+        InetSocketAddress urlAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), url.getPort());
+        InetSocketAddress syntheticAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                (SYNTHETIC_PORT.getAndIncrement() & 0x7fffffff) % 65535 + 1);
+        this.localAddress = server ? urlAddress : syntheticAddress;
+        this.remoteAddress = server ? syntheticAddress : new InetSocketAddress(url.getHost(), url.getPort());
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return !isClosed() && !isPeerClosed();
+    }
+
+    boolean isPeerClosed() {
+        return connectionFile.getState(!server) == ShmConnectionFile.STATE_CLOSED;
+    }
+
+    @Override
+    public void send(Object message, boolean sent) throws RemotingException {
+        super.send(message, sent);
+        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer(INITIAL_BUFFER_SIZE);
+        try {
+            codec.encode(this, buffer, message);
+        } catch (IOException e) {
+            throw new RemotingException(this, "Failed to encode message " + PayloadDropper.getRequestWithoutData(message)
+                    + " to " + getRemoteAddress() + ", cause: " + e.getMessage(), e);
+        }
+        if (buffer.readableBytes() > outbound.getMaxMessageLength()) {
+            throw new RemotingException(this, "Failed to send message " + PayloadDropper.getRequestWithoutData(message)
+                    + " to " + getRemoteAddress() + ", cause: the length " + buffer.readableBytes()
+                    + " exceeds the shared memory buffer " + outbound.getMaxMessageLength());
+        }
+        int timeout = getUrl().getPositiveParameter(TIMEOUT_KEY, DEFAULT_TIMEOUT);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        int iterations = 0;
+        synchronized (writeLock) {
+            while (!outbound.offer(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes())) {
+                if (!isConnected()) {
+                    throw new RemotingException(this, "Failed to send message "
+                            + PayloadDropper.getRequestWithoutData(message) + " to " + getRemoteAddress()
+                            + ", cause: the channel is closed");
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new RemotingException(this, "Failed to send message "
+                            + PayloadDropper.getRequestWithoutData(message) + " to " + getRemoteAddress()
+                            + " in timeout(" + timeout + "ms), cause: the shared memory buffer is full");
+                }
+                iterations = idleStrategy.idle(iterations);
+            }
+        }
+        getChannelHandler().sent(this, message);
+    }
+
+    /**
+     * Polls the messages by the polling thread
+     *
+     * @param maxMessages the max messages to poll
+     * @return the count of polled messages
+     */
+    int poll(int maxMessages) {
+        int count = 0;
+        byte[] message;
+        while (count < maxMessages && (message = inbound.poll()) != null) {
+            count++;
+            received(message);
+        }
+        return count;
+    }
+
+    private void received(byte[] message) {
+        ChannelBuffer buffer = ChannelBuffers.wrappedBuffer(message);
+        try {
+            do {
+                Object msg = codec.decode(this, buffer);
+                if (msg == Codec2.DecodeResult.NEED_MORE_INPUT) {
+                    throw new IOException("The message from " + getRemoteAddress() + " is truncated");
+                }
+                getChannelHandler().received(this, msg);
+            } while (buffer.readable());
+        } catch (Throwable e) {
+            try {
+                getChannelHandler().caught(this, e);
+            } catch (Throwable t) {
+                logger.warn(t.getMessage(), t);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        super.close();
+        connectionFile.setState(server, ShmConnectionFile.STATE_CLOSED);
+        attributes.clear();
+        if (logger.isInfoEnabled()) {
+            logger.info("Close shared memory channel " + connectionFile.getFile());
+        }
+    }
+
+    /**
+     * Closes the channel and deletes the file after the polling thread stops polling it
+     */
+    void disconnected() {
+        if (!disconnected.compareAndSet(false, true)) {
+            return;
+        }
+        close();
+        if (!connectionFile.delete()) {
+            logger.warn("The file " + connectionFile.getFile() + " can't be deleted");
+        }
+        try {
+            getChannelHandler().disconnected(this);
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean hasAttribute(String key) {
+        return attributes.containsKey(key);
+    }
+
+    @Override
+    public Object getAttribute(String key) {
+        return attributes.get(key);
+    }
+
+    @Override
+    public void setAttribute(String key, Object value) {
+        // The null value is unsupported by ConcurrentHashMap
+        if (value == null) {
+            attributes.remove(key);
+        } else {
+            attributes.put(key, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String key) {
+        attributes.remove(key);
+    }
+
+    @Override
+    public String toString() {
+        return "ShmChannel [file=" + connectionFile.getFile() + ", " + getLocalAddress() + " -> "
+                + getRemoteAddress() + "]";
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.transport.AbstractClient;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.DEFAULT_SHM_BUFFER_SIZE;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.SHM_BUFFER_SIZE_KEY;
+
+/**
+ * The client of {@link ShmTransporter}, it connects to the {@link ShmServer} on the same host by creating a
+ * connection file in the directory of server, and polls its channel by a {@link ShmEventLoop}.
+ *
+ * @since 2.7.10
+ */
+public class ShmClient extends AbstractClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShmClient.class);
+
+    private ShmDirectory directory;
+
+    private ShmIdleStrategy idleStrategy;
+
+    private ShmEventLoop eventLoop;
+
+    private volatile ShmChannel channel;
+
+    public ShmClient(URL url, ChannelHandler handler) throws RemotingException {
+        super(url, wrapChannelHandler(url, handler));
+    }
+
+    @Override
+    protected void doOpen() throws Throwable {
+        if (!ShmMemory.isAvailable()) {
+            throw new IllegalStateException("The shared memory transport requires sun.misc.Unsafe");
+        }
+        directory = ShmDirectory.of(getUrl());
+        idleStrategy = ShmIdleStrategy.of(getUrl());
+        eventLoop = new ShmEventLoop("DubboShmClientPoller", idleStrategy, null);
+        eventLoop.start();
+    }
+
+    @Override
+    protected void doConnect() throws Throwable {
+        if (!directory.isLocked()) {
+            throw new RemotingException(this, "client(url: " + getUrl() + ") failed to connect to server "
+                    + getRemoteAddress() + ", cause: no shared memory server listens on " + directory.getDirectory());
+        }
+        int bufferSize = getUrl().getPositiveParameter(SHM_BUFFER_SIZE_KEY, DEFAULT_SHM_BUFFER_SIZE);
+        int capacity = Integer.highestOneBit(bufferSize) == bufferSize ? bufferSize : Integer.highestOneBit(bufferSize) << 1;
+        File file = new File(directory.getDirectory(), UUID.randomUUID() + ShmConnectionFile.FILE_SUFFIX);
+        ShmConnectionFile connectionFile = ShmConnectionFile.create(file, capacity);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getConnectTimeout());
+        int iterations = 0;
+        int serverState;
+        while ((serverState = connectionFile.getState(true)) == ShmConnectionFile.STATE_PENDING
+                && System.nanoTime() - deadline < 0) {
+            iterations = idleStrategy.idle(iterations);
+        }
+        if (serverState != ShmConnectionFile.STATE_OPEN) {
+            connectionFile.setState(false, ShmConnectionFile.STATE_CLOSED);
+            connectionFile.delete();
+            throw new RemotingException(this, "client(url: " + getUrl() + ") failed to connect to server "
+                    + getRemoteAddress() + ", cause: " + (serverState == ShmConnectionFile.STATE_PENDING ?
+                    "client-side timeout " + getConnectTimeout() + "ms" : "the connection is refused"));
+        }
+
+        ShmChannel oldChannel = this.channel;
+        if (oldChannel != null) {
+            oldChannel.close();
+        }
+        ShmChannel newChannel = new ShmChannel(getUrl(), this, getCodec(), connectionFile, false, idleStrategy);
+        eventLoop.register(newChannel);
+        this.channel = newChannel;
+        connected(newChannel);
+    }
+
+    @Override
+    protected void doDisConnect() throws Throwable {
+        ShmChannel c = channel;
+        if (c != null) {
+            // The event loop deletes the file after it stops polling
+            c.close();
+        }
+    }
+
+    @Override
+    protected void doClose() throws Throwable {
+        if (eventLoop != null) {
+            eventLoop.shutdown();
+        }
+    }
+
+    @Override
+    protected Channel getChannel() {
+        return channel;
+    }
+}
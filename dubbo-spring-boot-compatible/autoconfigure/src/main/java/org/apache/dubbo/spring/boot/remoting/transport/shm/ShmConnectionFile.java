@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The memory-mapped file of a connection, it's created by the client and accepted by the server :
+ * <pre>
+ * | magic, capacity (64 bytes) | server state (64 bytes) | client state (128 bytes) |
+ * | client-to-server ring buffer | server-to-client ring buffer |
+ * </pre>
+ * The client publishes the magic after the file is initialized, and the server publishes its state after it accepts
+ * the connection. Either side closes the connection by publishing its state {@link #STATE_CLOSED}.
+ * <p>
+ * The mapping isn't unmapped explicitly, because the memory may still be accessed by the threads which don't know the
+ * connection is closed, thus it's unmapped when the buffer is garbage collected.
+ *
+ * @since 2.7.10
+ */
+final class ShmConnectionFile {
+
+    static final String FILE_SUFFIX = ".shm";
+
+    static final int STATE_PENDING = 0;
+
+    static final int STATE_OPEN = 1;
+
+    static final int STATE_CLOSED = 2;
+
+    private static final int MAGIC = 0x44534d31;
+
+    private static final int CAPACITY_OFFSET = 4;
+
+    private static final int SERVER_STATE_OFFSET = 64;
+
+    private static final int CLIENT_STATE_OFFSET = 128;
+
+    private static final int HEADER_SIZE = 256;
+
+    private final File file;
+
+    /**
+     * The reference keeps the memory mapped
+     */
+    private final MappedByteBuffer buffer;
+
+    private final long address;
+
+    private final ShmRingBuffer clientToServer;
+
+    private final ShmRingBuffer serverToClient;
+
+    private ShmConnectionFile(File file, MappedByteBuffer buffer, int capacity) {
+        this.file = file;
+        this.buffer = buffer;
+        this.address = ShmMemory.address(buffer);
+        this.clientToServer = new ShmRingBuffer(address + HEADER_SIZE, capacity);
+        this.serverToClient = new ShmRingBuffer(address + HEADER_SIZE + ShmRingBuffer.size(capacity), capacity);
+    }
+
+    private static long size(int capacity) {
+        return HEADER_SIZE + 2L * ShmRingBuffer.size(capacity);
+    }
+
+    private static MappedByteBuffer map(File file, long size) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            if (randomAccessFile.length() < size) {
+                randomAccessFile.setLength(size);
+            }
+            // The mapping remains valid after the file is closed
+            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    /**
+     * Creates the file of a connection by the client
+     *
+     * @param file     the file which doesn't exist
+     * @param capacity the capacity of ring buffers, a power of 2
+     */
+    static ShmConnectionFile create(File file, int capacity) throws IOException {
+        if (!file.createNewFile()) {
+            throw new IOException("The file " + file + " exists");
+        }
+        ShmConnectionFile connectionFile = new ShmConnectionFile(file, map(file, size(capacity)), capacity);
+        ShmMemory.putInt(connectionFile.address + CAPACITY_OFFSET, capacity);
+        ShmMemory.putIntOrdered(connectionFile.address + CLIENT_STATE_OFFSET, STATE_OPEN);
+        ShmMemory.putIntOrdered(connectionFile.address, MAGIC);
+        return connectionFile;
+    }
+
+    /**
+     * Opens the file of a connection by the server
+     *
+     * @return <code>null</code> if the client hasn't initialized the file
+     * @throws IOException if the file is corrupted
+     */
+    static ShmConnectionFile open(File file) throws IOException {
+        if (file.length() < HEADER_SIZE) {
+            return null;
+        }
+        MappedByteBuffer header = map(file, HEADER_SIZE);
+        long address = ShmMemory.address(header);
+        if (ShmMemory.getIntVolatile(address) != MAGIC) {
+            return null;
+        }
+        int capacity = ShmMemory.getInt(address + CAPACITY_OFFSET);
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1 || file.length() < size(capacity)) {
+            throw new IOException("The file " + file + " is corrupted");
+        }
+        return new ShmConnectionFile(file, map(file, size(capacity)), capacity);
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    int getState(boolean server) {
+        return ShmMemory.getIntVolatile(address + (server ? SERVER_STATE_OFFSET : CLIENT_STATE_OFFSET));
+    }
+
+    void setState(boolean server, int state) {
+        ShmMemory.putIntOrdered(address + (server ? SERVER_STATE_OFFSET : CLIENT_STATE_OFFSET), state);
+    }
+
+    /**
+     * @param server the side which reads
+     */
+    ShmRingBuffer getInbound(boolean server) {
+        return server ? clientToServer : serverToClient;
+    }
+
+    /**
+     * @param server the side which writes
+     */
+    ShmRingBuffer getOutbound(boolean server) {
+        return server ? serverToClient : clientToServer;
+    }
+
+    /**
+     * Deletes the file, the memory is released after both sides unmap it
+     */
+    boolean delete() {
+        return !file.exists() || file.delete();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+/**
+ * The URL parameters of {@link ShmTransporter}
+ *
+ * @since 2.7.10
+ */
+public interface ShmConstants {
+
+    /**
+     * The directory where the connection files are mapped, it should be on a memory file system, the default is
+     * "/dev/shm" if present, otherwise "java.io.tmpdir"
+     */
+    String SHM_DIRECTORY_KEY = "shm-directory";
+
+    /**
+     * The capacity of ring buffer per direction of a connection in bytes, it's rounded up to a power of 2, a message
+     * must fit into it
+     */
+    String SHM_BUFFER_SIZE_KEY = "shm-buffer-size";
+
+    int DEFAULT_SHM_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * The busy-spin iterations of the polling thread before it yields when no message arrives
+     */
+    String SHM_SPIN_ITERATIONS_KEY = "shm-spin-iterations";
+
+    int DEFAULT_SHM_SPIN_ITERATIONS = 100000;
+
+    /**
+     * The yield iterations of the polling thread before it parks when no message arrives
+     */
+    String SHM_YIELD_ITERATIONS_KEY = "shm-yield-iterations";
+
+    int DEFAULT_SHM_YIELD_ITERATIONS = 100;
+
+    /**
+     * The max nanoseconds of parking which backs off exponentially from 1 microsecond
+     */
+    String SHM_MAX_PARK_NANOS_KEY = "shm-max-park-nanos";
+
+    long DEFAULT_SHM_MAX_PARK_NANOS = 100000L;
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.SHM_DIRECTORY_KEY;
+
+/**
+ * The directory of a {@link ShmServer} where the clients create the connection files. The server holds the file lock
+ * of directory while it's bound, thus the lock is released by the operating system if the server process exits.
+ *
+ * @since 2.7.10
+ */
+final class ShmDirectory {
+
+    private static final String DEFAULT_BASE_DIRECTORY = "/dev/shm";
+
+    private static final String LOCK_FILE_NAME = "server.lock";
+
+    /**
+     * The directories locked by this process, the file locks are held by the whole process, and closing any channel of
+     * lock file may release them, thus they are not probed in this process
+     */
+    private static final Set<File> LOCKED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    private final File directory;
+
+    private FileChannel lockChannel;
+
+    private FileLock lock;
+
+    private ShmDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    static ShmDirectory of(URL url) {
+        String baseDirectory = url.getParameter(SHM_DIRECTORY_KEY);
+        if (StringUtils.isEmpty(baseDirectory)) {
+            File defaultBaseDirectory = new File(DEFAULT_BASE_DIRECTORY);
+            baseDirectory = defaultBaseDirectory.isDirectory() && defaultBaseDirectory.canWrite() ?
+                    DEFAULT_BASE_DIRECTORY : System.getProperty("java.io.tmpdir");
+        }
+        return new ShmDirectory(new File(baseDirectory, "dubbo-" + url.getPort()).getAbsoluteFile());
+    }
+
+    File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Locks the directory by the server
+     *
+     * @throws IllegalStateException if another server holds the lock
+     */
+    void lock() throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("The directory " + directory + " can't be created");
+        }
+        if (!LOCKED_DIRECTORIES.add(directory)) {
+            throw new IllegalStateException("The directory " + directory + " is in use");
+        }
+        try {
+            lockChannel = FileChannel.open(new File(directory, LOCK_FILE_NAME).toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            lock = lockChannel.tryLock();
+            if (lock == null) {
+                throw new IllegalStateException("The directory " + directory + " is in use by another process");
+            }
+        } catch (IOException | RuntimeException e) {
+            unlock();
+            throw e;
+        }
+    }
+
+    void unlock() throws IOException {
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } finally {
+            lock = null;
+            lockChannel = null;
+            LOCKED_DIRECTORIES.remove(directory);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if a server holds the lock of directory
+     */
+    boolean isLocked() {
+        if (LOCKED_DIRECTORIES.contains(directory)) {
+            return true;
+        }
+        File lockFile = new File(directory, LOCK_FILE_NAME);
+        if (!lockFile.exists()) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.WRITE)) {
+            FileLock fileLock = channel.tryLock();
+            if (fileLock == null) {
+                return true;
+            }
+            fileLock.release();
+            return false;
+        } catch (OverlappingFileLockException e) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    File[] listConnectionFiles() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(ShmConnectionFile.FILE_SUFFIX));
+        return files == null ? new File[0] : files;
+    }
+}
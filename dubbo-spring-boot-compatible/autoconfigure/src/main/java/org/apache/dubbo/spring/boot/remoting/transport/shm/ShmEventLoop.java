@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The thread which polls the inbound ring buffers of {@link ShmChannel channels} in turn, and runs the acceptor
+ * periodically if present. It idles by {@link ShmIdleStrategy} if no message arrives.
+ *
+ * @since 2.7.10
+ */
+final class ShmEventLoop implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShmEventLoop.class);
+
+    private static final int MAX_MESSAGES_PER_POLL = 64;
+
+    private static final long ACCEPT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 3000;
+
+    private final List<ShmChannel> channels = new CopyOnWriteArrayList<>();
+
+    private final ShmIdleStrategy idleStrategy;
+
+    private final Runnable acceptor;
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param name         the name of thread
+     * @param idleStrategy the idle strategy
+     * @param acceptor     the acceptor of server, or <code>null</code>
+     */
+    ShmEventLoop(String name, ShmIdleStrategy idleStrategy, Runnable acceptor) {
+        this.idleStrategy = idleStrategy;
+        this.acceptor = acceptor;
+        this.thread = new NamedThreadFactory(name, true).newThread(this);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void register(ShmChannel channel) {
+        channels.add(channel);
+    }
+
+    Collection<ShmChannel> getChannels() {
+        return channels;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops polling, and disconnects the remaining channels
+     */
+    void shutdown() {
+        running = false;
+        if (Thread.currentThread() != thread) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        int iterations = 0;
+        long nextAcceptTime = System.nanoTime();
+        while (running) {
+            int work = 0;
+            try {
+                if (acceptor != null && System.nanoTime() - nextAcceptTime >= 0) {
+                    acceptor.run();
+                    nextAcceptTime = System.nanoTime() + ACCEPT_INTERVAL_NANOS;
+                }
+                for (ShmChannel channel : channels) {
+                    if (channel.isConnected()) {
+                        work += channel.poll(MAX_MESSAGES_PER_POLL);
+                    } else {
+                        channels.remove(channel);
+                        channel.disconnected();
+                    }
+                }
+            } catch (Throwable e) {
+                logger.error("Failed to poll the shared memory channels", e);
+            }
+            iterations = work > 0 ? 0 : idleStrategy.idle(iterations);
+        }
+        List<ShmChannel> remainingChannels = new ArrayList<>(channels);
+        channels.clear();
+        for (ShmChannel channel : remainingChannels) {
+            channel.disconnected();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.DEFAULT_SHM_MAX_PARK_NANOS;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.DEFAULT_SHM_SPIN_ITERATIONS;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.DEFAULT_SHM_YIELD_ITERATIONS;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.SHM_MAX_PARK_NANOS_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.SHM_SPIN_ITERATIONS_KEY;
+import static org.apache.dubbo.spring.boot.remoting.transport.shm.ShmConstants.SHM_YIELD_ITERATIONS_KEY;
+
+/**
+ * The busy-spin-then-park strategy of the threads waiting for the shared memory, the threads spin first to get the
+ * lowest latency, then yield, and park with the exponential back-off at last to save the CPU.
+ *
+ * @since 2.7.10
+ */
+final class ShmIdleStrategy {
+
+    private static final long MIN_PARK_NANOS = 1000L;
+
+    private final int spinIterations;
+
+    private final int yieldIterations;
+
+    private final long maxParkNanos;
+
+    ShmIdleStrategy(int spinIterations, int yieldIterations, long maxParkNanos) {
+        this.spinIterations = Math.max(0, spinIterations);
+        this.yieldIterations = Math.max(0, yieldIterations);
+        this.maxParkNanos = Math.max(MIN_PARK_NANOS, maxParkNanos);
+    }
+
+    static ShmIdleStrategy of(URL url) {
+        return new ShmIdleStrategy(url.getParameter(SHM_SPIN_ITERATIONS_KEY, DEFAULT_SHM_SPIN_ITERATIONS),
+                url.getParameter(SHM_YIELD_ITERATIONS_KEY, DEFAULT_SHM_YIELD_ITERATIONS),
+                url.getParameter(SHM_MAX_PARK_NANOS_KEY, DEFAULT_SHM_MAX_PARK_NANOS));
+    }
+
+    /**
+     * Idles once
+     *
+     * @param iterations the idle iterations since the last work, 0 for the first time
+     * @return the next idle iterations
+     */
+    int idle(int iterations) {
+        if (iterations < spinIterations) {
+            // busy spin
+        } else if (iterations < spinIterations + yieldIterations) {
+            Thread.yield();
+        } else {
+            int shift = Math.min(iterations - spinIterations - yieldIterations, 30);
+            LockSupport.parkNanos(Math.min(maxParkNanos, MIN_PARK_NANOS << shift));
+            // Stays at the max parking once it's reached
+            return iterations == Integer.MAX_VALUE ? iterations : iterations + 1;
+        }
+        return iterations + 1;
+    }
+}
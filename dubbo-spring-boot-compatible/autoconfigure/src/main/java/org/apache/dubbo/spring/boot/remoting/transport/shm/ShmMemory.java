@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * The access to the off-heap memory of mapped files, the positions shared by processes are read with volatile
+ * semantics and written with ordered (release) semantics.
+ * <p>
+ * {@code sun.misc.Unsafe} is looked up reflectively and its methods are bound as constant {@link MethodHandle method
+ * handles}, which the JIT inlines like direct calls, so the build does not depend on the internal proprietary API.
+ *
+ * @since 2.7.10
+ */
+abstract class ShmMemory {
+
+    private static final MethodHandle GET_INT;
+
+    private static final MethodHandle PUT_INT;
+
+    private static final MethodHandle GET_INT_VOLATILE;
+
+    private static final MethodHandle PUT_ORDERED_INT;
+
+    private static final MethodHandle GET_LONG;
+
+    private static final MethodHandle GET_OBJECT_LONG;
+
+    private static final MethodHandle GET_LONG_VOLATILE;
+
+    private static final MethodHandle PUT_ORDERED_LONG;
+
+    private static final MethodHandle COPY_MEMORY;
+
+    private static final long BYTE_ARRAY_BASE_OFFSET;
+
+    private static final long BUFFER_ADDRESS_OFFSET;
+
+    static {
+        MethodHandle getInt = null;
+        MethodHandle putInt = null;
+        MethodHandle getIntVolatile = null;
+        MethodHandle putOrderedInt = null;
+        MethodHandle getLong = null;
+        MethodHandle getObjectLong = null;
+        MethodHandle getLongVolatile = null;
+        MethodHandle putOrderedLong = null;
+        MethodHandle copyMemory = null;
+        long byteArrayBaseOffset = -1;
+        long bufferAddressOffset = -1;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            byteArrayBaseOffset = (int) lookup.findVirtual(unsafeClass, "arrayBaseOffset",
+                    methodType(int.class, Class.class)).invoke(unsafe, byte[].class);
+            bufferAddressOffset = (long) lookup.findVirtual(unsafeClass, "objectFieldOffset",
+                    methodType(long.class, Field.class)).invoke(unsafe, Buffer.class.getDeclaredField("address"));
+            getInt = lookup.findVirtual(unsafeClass, "getInt",
+                    methodType(int.class, long.class)).bindTo(unsafe);
+            putInt = lookup.findVirtual(unsafeClass, "putInt",
+                    methodType(void.class, long.class, int.class)).bindTo(unsafe);
+            getIntVolatile = lookup.findVirtual(unsafeClass, "getIntVolatile",
+                    methodType(int.class, Object.class, long.class)).bindTo(unsafe);
+            putOrderedInt = lookup.findVirtual(unsafeClass, "putOrderedInt",
+                    methodType(void.class, Object.class, long.class, int.class)).bindTo(unsafe);
+            getLong = lookup.findVirtual(unsafeClass, "getLong",
+                    methodType(long.class, long.class)).bindTo(unsafe);
+            getObjectLong = lookup.findVirtual(unsafeClass, "getLong",
+                    methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+            getLongVolatile = lookup.findVirtual(unsafeClass, "getLongVolatile",
+                    methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+            putOrderedLong = lookup.findVirtual(unsafeClass, "putOrderedLong",
+                    methodType(void.class, Object.class, long.class, long.class)).bindTo(unsafe);
+            copyMemory = lookup.findVirtual(unsafeClass, "copyMemory",
+                    methodType(void.class, Object.class, long.class, Object.class, long.class, long.class))
+                    .bindTo(unsafe);
+        } catch (Throwable e) {
+            copyMemory = null;
+        }
+        GET_INT = getInt;
+        PUT_INT = putInt;
+        GET_INT_VOLATILE = getIntVolatile;
+        PUT_ORDERED_INT = putOrderedInt;
+        GET_LONG = getLong;
+        GET_OBJECT_LONG = getObjectLong;
+        GET_LONG_VOLATILE = getLongVolatile;
+        PUT_ORDERED_LONG = putOrderedLong;
+        COPY_MEMORY = copyMemory;
+        BYTE_ARRAY_BASE_OFFSET = byteArrayBaseOffset;
+        BUFFER_ADDRESS_OFFSET = bufferAddressOffset;
+    }
+
+    static boolean isAvailable() {
+        return COPY_MEMORY != null;
+    }
+
+    static long address(ByteBuffer directBuffer) {
+        try {
+            return (long) GET_OBJECT_LONG.invokeExact((Object) directBuffer, BUFFER_ADDRESS_OFFSET);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static int getInt(long address) {
+        try {
+            return (int) GET_INT.invokeExact(address);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void putInt(long address, int value) {
+        try {
+            PUT_INT.invokeExact(address, value);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static int getIntVolatile(long address) {
+        try {
+            return (int) GET_INT_VOLATILE.invokeExact((Object) null, address);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void putIntOrdered(long address, int value) {
+        try {
+            PUT_ORDERED_INT.invokeExact((Object) null, address, value);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static long getLong(long address) {
+        try {
+            return (long) GET_LONG.invokeExact(address);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static long getLongVolatile(long address) {
+        try {
+            return (long) GET_LONG_VOLATILE.invokeExact((Object) null, address);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void putLongOrdered(long address, long value) {
+        try {
+            PUT_ORDERED_LONG.invokeExact((Object) null, address, value);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void copy(byte[] src, int srcIndex, long dstAddress, int length) {
+        try {
+            COPY_MEMORY.invokeExact((Object) src, BYTE_ARRAY_BASE_OFFSET + srcIndex, (Object) null, dstAddress,
+                    (long) length);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void copy(long srcAddress, byte[] dst, int dstIndex, int length) {
+        try {
+            COPY_MEMORY.invokeExact((Object) null, srcAddress, (Object) dst, BYTE_ARRAY_BASE_OFFSET + dstIndex,
+                    (long) length);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
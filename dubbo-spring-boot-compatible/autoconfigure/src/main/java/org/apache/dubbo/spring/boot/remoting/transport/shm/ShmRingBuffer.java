@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+/**
+ * The single-producer and single-consumer ring buffer of length-prefixed messages on the memory which is shared by
+ * two processes. The producer and the consumer own their positions, and publish them with ordered writes, thus no
+ * lock is shared by the processes. The producers in a process must serialize the {@link #offer(byte[], int, int)}.
+ * <pre>
+ * | head (64 bytes) | tail (64 bytes) | data (capacity bytes) |
+ * </pre>
+ *
+ * @since 2.7.10
+ */
+final class ShmRingBuffer {
+
+    /**
+     * The positions are on their own cache lines to avoid the false sharing between the producer and the consumer
+     */
+    static final int HEADER_SIZE = 128;
+
+    private static final int TAIL_OFFSET = 64;
+
+    private static final int LENGTH_SIZE = 4;
+
+    private final long headAddress;
+
+    private final long tailAddress;
+
+    private final long dataAddress;
+
+    private final int capacity;
+
+    private final int mask;
+
+    /**
+     * @param address  the address of header
+     * @param capacity the capacity of data, a power of 2
+     */
+    ShmRingBuffer(long address, int capacity) {
+        if (capacity < 64 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of 2 and not less than 64 : " + capacity);
+        }
+        this.headAddress = address;
+        this.tailAddress = address + TAIL_OFFSET;
+        this.dataAddress = address + HEADER_SIZE;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    static int size(int capacity) {
+        return HEADER_SIZE + capacity;
+    }
+
+    int getMaxMessageLength() {
+        return capacity - LENGTH_SIZE;
+    }
+
+    /**
+     * Offers a message if there is enough space
+     *
+     * @return <code>false</code> if the ring buffer is full
+     * @throws IllegalArgumentException if the message exceeds {@link #getMaxMessageLength()}
+     */
+    boolean offer(byte[] src, int index, int length) {
+        if (length > getMaxMessageLength()) {
+            throw new IllegalArgumentException("The message length " + length + " exceeds the max "
+                    + getMaxMessageLength());
+        }
+        int recordLength = align(LENGTH_SIZE + length);
+        long tail = ShmMemory.getLong(tailAddress);
+        long head = ShmMemory.getLongVolatile(headAddress);
+        if (capacity - (tail - head) < recordLength) {
+            return false;
+        }
+        int offset = (int) tail & mask;
+        int dataOffset = (offset + LENGTH_SIZE) & mask;
+        int firstLength = Math.min(length, capacity - dataOffset);
+        ShmMemory.copy(src, index, dataAddress + dataOffset, firstLength);
+        if (firstLength < length) {
+            ShmMemory.copy(src, index + firstLength, dataAddress, length - firstLength);
+        }
+        ShmMemory.putInt(dataAddress + offset, length);
+        // Publishes the message after it's written
+        ShmMemory.putLongOrdered(tailAddress, tail + recordLength);
+        return true;
+    }
+
+    /**
+     * Polls a message
+     *
+     * @return <code>null</code> if the ring buffer is empty
+     */
+    byte[] poll() {
+        long head = ShmMemory.getLong(headAddress);
+        long tail = ShmMemory.getLongVolatile(tailAddress);
+        if (head == tail) {
+            return null;
+        }
+        int offset = (int) head & mask;
+        int length = ShmMemory.getInt(dataAddress + offset);
+        if (length < 0 || length > getMaxMessageLength()) {
+            throw new IllegalStateException("The ring buffer is corrupted, the message length is " + length);
+        }
+        byte[] message = new byte[length];
+        int dataOffset = (offset + LENGTH_SIZE) & mask;
+        int firstLength = Math.min(length, capacity - dataOffset);
+        ShmMemory.copy(dataAddress + dataOffset, message, 0, firstLength);
+        if (firstLength < length) {
+            ShmMemory.copy(dataAddress, message, firstLength, length - firstLength);
+        }
+        // Releases the space after the message is read
+        ShmMemory.putLongOrdered(headAddress, head + align(LENGTH_SIZE + length));
+        return message;
+    }
+
+    private static int align(int length) {
+        return (length + LENGTH_SIZE - 1) & -LENGTH_SIZE;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.utils.ExecutorUtil;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.RemotingServer;
+import org.apache.dubbo.remoting.transport.AbstractServer;
+import org.apache.dubbo.remoting.transport.dispatcher.ChannelHandlers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The server of {@link ShmTransporter}, it accepts the connection files which the clients create in its
+ * {@link ShmDirectory directory}, and polls them by a {@link ShmEventLoop}. The stale connection files are deleted on
+ * startup.
+ *
+ * @since 2.7.10
+ */
+public class ShmServer extends AbstractServer implements RemotingServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShmServer.class);
+
+    private ShmDirectory directory;
+
+    private ShmIdleStrategy idleStrategy;
+
+    private ShmEventLoop eventLoop;
+
+    private Set<String> acceptedFileNames;
+
+    public ShmServer(URL url, ChannelHandler handler) throws RemotingException {
+        super(ExecutorUtil.setThreadName(url, SERVER_THREAD_POOL_NAME), ChannelHandlers.wrap(handler, url));
+    }
+
+    @Override
+    protected void doOpen() throws Throwable {
+        if (!ShmMemory.isAvailable()) {
+            throw new IllegalStateException("The shared memory transport requires sun.misc.Unsafe");
+        }
+        directory = ShmDirectory.of(getUrl());
+        directory.lock();
+        for (File staleFile : directory.listConnectionFiles()) {
+            logger.warn("Delete the stale shared memory file " + staleFile);
+            if (!staleFile.delete()) {
+                logger.warn("The stale shared memory file " + staleFile + " can't be deleted");
+            }
+        }
+        acceptedFileNames = ConcurrentHashMap.newKeySet();
+        idleStrategy = ShmIdleStrategy.of(getUrl());
+        eventLoop = new ShmEventLoop("DubboShmServerPoller-" + getUrl().getPort(), idleStrategy, this::accept);
+        eventLoop.start();
+        if (logger.isInfoEnabled()) {
+            logger.info("The shared memory server listens on " + directory.getDirectory());
+        }
+    }
+
+    private void accept() {
+        Set<String> fileNames = new HashSet<>();
+        for (File file : directory.listConnectionFiles()) {
+            fileNames.add(file.getName());
+            if (acceptedFileNames.contains(file.getName())) {
+                continue;
+            }
+            ShmConnectionFile connectionFile;
+            try {
+                connectionFile = ShmConnectionFile.open(file);
+            } catch (IOException e) {
+                logger.warn("Delete the shared memory file which can't be opened " + file, e);
+                file.delete();
+                continue;
+            }
+            if (connectionFile == null) {
+                // The client hasn't initialized it
+                continue;
+            }
+            acceptedFileNames.add(file.getName());
+            connectionFile.setState(true, ShmConnectionFile.STATE_OPEN);
+            ShmChannel channel = new ShmChannel(getUrl(), this, getCodec(), connectionFile, true, idleStrategy);
+            eventLoop.register(channel);
+            try {
+                connected(channel);
+            } catch (Throwable e) {
+                logger.warn(e.getMessage(), e);
+                channel.close();
+            }
+        }
+        // Forgets the files which are deleted
+        acceptedFileNames.retainAll(fileNames);
+    }
+
+    @Override
+    protected void doClose() throws Throwable {
+        try {
+            if (eventLoop != null) {
+                for (ShmChannel channel : eventLoop.getChannels()) {
+                    channel.close();
+                }
+                eventLoop.shutdown();
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+        try {
+            if (directory != null) {
+                directory.unlock();
+            }
+        } catch (Throwable e) {
+            logger.warn(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Collection<Channel> getChannels() {
+        Collection<Channel> channels = new ArrayList<>();
+        for (ShmChannel channel : eventLoop.getChannels()) {
+            if (channel.isConnected()) {
+                channels.add(channel);
+            }
+        }
+        return channels;
+    }
+
+    @Override
+    public Channel getChannel(InetSocketAddress remoteAddress) {
+        for (ShmChannel channel : eventLoop.getChannels()) {
+            if (channel.getRemoteAddress().equals(remoteAddress)) {
+                return channel;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isBound() {
+        return eventLoop != null && eventLoop.isRunning();
+    }
+}
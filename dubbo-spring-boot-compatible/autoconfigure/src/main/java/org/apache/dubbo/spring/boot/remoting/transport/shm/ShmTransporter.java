@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Client;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.RemotingServer;
+import org.apache.dubbo.remoting.Transporter;
+
+/**
+ * The experimental {@link Transporter} which exchanges the messages of Dubbo protocol by the memory-mapped ring
+ * buffers between the JVMs on the same host, bypassing the socket stack of kernel. It's selected by the server and
+ * the client of protocol, the latter is advertised to the consumers :
+ * <pre>
+ * dubbo.protocols.shm.name = dubbo
+ * dubbo.protocols.shm.port = 20881
+ * dubbo.protocols.shm.server = shm
+ * dubbo.protocols.shm.client = shm
+ * </pre>
+ * The polling threads spin, yield and park in turn while idle, which are tuned by the parameters of
+ * {@link ShmConstants}. The consumers on other hosts can't connect to it.
+ *
+ * @see ShmConstants
+ * @since 2.7.10
+ */
+public class ShmTransporter implements Transporter {
+
+    /**
+     * The name of extension
+     */
+    public static final String NAME = "shm";
+
+    @Override
+    public RemotingServer bind(URL url, ChannelHandler handler) throws RemotingException {
+        return new ShmServer(url, handler);
+    }
+
+    @Override
+    public Client connect(URL url, ChannelHandler handler) throws RemotingException {
+        return new ShmClient(url, handler);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.slow.DubboSlowInvocationProperties.PREFIX;
+
+/**
+ * Dubbo Slow Invocation Properties
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboSlowInvocationProperties {
+
+    /**
+     * The prefix of {@link DubboSlowInvocationProperties}
+     */
+    public static final String PREFIX = "dubbo.slow-invocation";
+
+    /**
+     * Whether the slow invocations are recorded or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The threshold in milliseconds, the invocations are recorded only if they take longer than it
+     */
+    private long threshold = 200;
+
+    /**
+     * The count of ring buffers to reduce the contention, it will be rounded up to the power of 2
+     */
+    private int stripes = 8;
+
+    /**
+     * The size of each ring buffer, it will be rounded up to the power of 2. The oldest records are overwritten.
+     */
+    private int bufferSize = 128;
+
+    /**
+     * The maximum count of invocations per service and method
+     */
+    private int top = 10;
+
+    /**
+     * The maximum length of argument and attachment values, the longer ones are truncated
+     */
+    private int maxArgumentLength = 256;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    public void setTop(int top) {
+        this.top = top;
+    }
+
+    public int getMaxArgumentLength() {
+        return maxArgumentLength;
+    }
+
+    public void setMaxArgumentLength(int maxArgumentLength) {
+        this.maxArgumentLength = maxArgumentLength;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The immutable record of a slow invocation, the durations are in nanoseconds and negative if they are not
+ * observable.
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+public class SlowInvocation {
+
+    /**
+     * The duration is not observable
+     */
+    public static final long UNAVAILABLE = -1L;
+
+    private final String service;
+
+    private final String method;
+
+    private final long timestamp;
+
+    private final long elapsed;
+
+    private final long decode;
+
+    private final long queueWait;
+
+    private final long execute;
+
+    private final long encode;
+
+    private final String remoteAddress;
+
+    private final List<String> arguments;
+
+    private final Map<String, String> attachments;
+
+    private final String exception;
+
+    SlowInvocation(String service, String method, long timestamp, long elapsed, long decode, long queueWait,
+                   long execute, long encode, String remoteAddress, List<String> arguments,
+                   Map<String, String> attachments, String exception) {
+        this.service = service;
+        this.method = method;
+        this.timestamp = timestamp;
+        this.elapsed = elapsed;
+        this.decode = decode;
+        this.queueWait = queueWait;
+        this.execute = execute;
+        this.encode = encode;
+        this.remoteAddress = remoteAddress;
+        this.arguments = arguments;
+        this.attachments = attachments;
+        this.exception = exception;
+    }
+
+    /**
+     * @return the service key including group and version
+     */
+    public String getService() {
+        return service;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the epoch milliseconds when the invocation was received
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the total duration since the request was received by the IO thread
+     */
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    public long getDecode() {
+        return decode;
+    }
+
+    public long getQueueWait() {
+        return queueWait;
+    }
+
+    public long getExecute() {
+        return execute;
+    }
+
+    public long getEncode() {
+        return encode;
+    }
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    public Map<String, String> getAttachments() {
+        return attachments;
+    }
+
+    /**
+     * @return the class name of exception, or <code>null</code> if the invocation succeeded
+     */
+    public String getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.Channel;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.Dispatcher;
+import org.apache.dubbo.remoting.RemotingException;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.AbstractChannelHandlerDelegate;
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DECODE_IN_IO_THREAD_KEY;
+import static org.apache.dubbo.rpc.protocol.dubbo.Constants.DEFAULT_DECODE_IN_IO_THREAD;
+
+/**
+ * The wrapper of {@link Dispatcher} stamps the requests when they are received by the IO thread and when they are
+ * dequeued by the worker thread, so that {@link SlowInvocationRecorder} could break down the queue wait and
+ * the decoding time. The decoding time is only observable if the requests are decoded in the worker threads,
+ * that is "{@value org.apache.dubbo.rpc.protocol.dubbo.Constants#DECODE_IN_IO_THREAD_KEY}" is <code>false</code>.
+ * The timestamps are the primitive fields of a single {@link Stamps} attribute per request.
+ * <p>
+ * The wrapper is applied to all dispatchers by Dubbo SPI, and it doesn't stamp anything if the recorder is
+ * disabled.
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+public class SlowInvocationDispatcherWrapper implements Dispatcher {
+
+    /**
+     * The attribute key of {@link Stamps}
+     */
+    public static final String STAMPS = "slow-invocation.stamps";
+
+    private final Dispatcher dispatcher;
+
+    private SlowInvocationRecorder dubboSlowInvocationRecorder;
+
+    public SlowInvocationDispatcherWrapper(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public ChannelHandler dispatch(ChannelHandler handler, URL url) {
+        if (dubboSlowInvocationRecorder == null) {
+            return dispatcher.dispatch(handler, url);
+        }
+        boolean decodeInIOThread = url.getParameter(DECODE_IN_IO_THREAD_KEY, DEFAULT_DECODE_IN_IO_THREAD);
+        ChannelHandler dequeuedHandler = new DequeuedStampingChannelHandler(handler, !decodeInIOThread);
+        return new ReceivedStampingChannelHandler(dispatcher.dispatch(dequeuedHandler, url));
+    }
+
+    public void setDubboSlowInvocationRecorder(SlowInvocationRecorder dubboSlowInvocationRecorder) {
+        this.dubboSlowInvocationRecorder = dubboSlowInvocationRecorder;
+    }
+
+    private static RpcInvocation getInvocation(Object message) {
+        if (message instanceof Request) {
+            Object data = ((Request) message).getData();
+            if (data instanceof RpcInvocation) {
+                return (RpcInvocation) data;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The primitive timestamps of a request, they're stamped into the single holder to avoid boxing
+     */
+    public static final class Stamps {
+
+        long receivedNanos;
+
+        long dequeuedNanos;
+
+        long decodeStartedNanos;
+
+        public Stamps(long receivedNanos) {
+            this.receivedNanos = receivedNanos;
+        }
+
+        /**
+         * @return the nanos when the request was received by the IO thread
+         */
+        public long getReceivedNanos() {
+            return receivedNanos;
+        }
+
+        /**
+         * @return the nanos when the request was dequeued by the worker thread, or 0 if not stamped
+         */
+        public long getDequeuedNanos() {
+            return dequeuedNanos;
+        }
+
+        /**
+         * @return the nanos when the request started to be decoded by the worker thread, or 0 if not stamped
+         */
+        public long getDecodeStartedNanos() {
+            return decodeStartedNanos;
+        }
+    }
+
+    private static class ReceivedStampingChannelHandler extends AbstractChannelHandlerDelegate {
+
+        private ReceivedStampingChannelHandler(ChannelHandler handler) {
+            super(handler);
+        }
+
+        @Override
+        public void received(Channel channel, Object message) throws RemotingException {
+            RpcInvocation invocation = getInvocation(message);
+            if (invocation != null) {
+                invocation.put(STAMPS, new Stamps(System.nanoTime()));
+            }
+            super.received(channel, message);
+        }
+    }
+
+    private static class DequeuedStampingChannelHandler extends AbstractChannelHandlerDelegate {
+
+        private final boolean decodedInWorkerThread;
+
+        private DequeuedStampingChannelHandler(ChannelHandler handler, boolean decodedInWorkerThread) {
+            super(handler);
+            this.decodedInWorkerThread = decodedInWorkerThread;
+        }
+
+        @Override
+        public void received(Channel channel, Object message) throws RemotingException {
+            RpcInvocation invocation = getInvocation(message);
+            Object stamps = invocation == null ? null : invocation.get(STAMPS);
+            if (stamps instanceof Stamps) {
+                long nanos = System.nanoTime();
+                ((Stamps) stamps).dequeuedNanos = nanos;
+                if (decodedInWorkerThread) {
+                    ((Stamps) stamps).decodeStartedNanos = nanos;
+                }
+            }
+            super.received(channel, message);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.rpc.RpcException;
+
+import java.net.InetSocketAddress;
+
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER;
+
+/**
+ * The provider {@link Filter} measures the invocations and records the slow ones into {@link SlowInvocationRecorder},
+ * the recorder bean is injected by its name "{@value SlowInvocationRecorder#BEAN_NAME}" from Spring context.
+ * The filter passes through all invocations if the recorder is disabled.
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+@Activate(group = PROVIDER, order = -9000)
+public class SlowInvocationFilter implements Filter {
+
+    private SlowInvocationRecorder dubboSlowInvocationRecorder;
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        SlowInvocationRecorder recorder = this.dubboSlowInvocationRecorder;
+        if (recorder == null) {
+            return invoker.invoke(invocation);
+        }
+        InetSocketAddress remoteAddress = RpcContext.getContext().getRemoteAddress();
+        long startNanos = System.nanoTime();
+        Result result;
+        try {
+            result = invoker.invoke(invocation);
+        } catch (RuntimeException e) {
+            recorder.record(invoker, invocation, remoteAddress, startNanos, System.nanoTime(), e);
+            throw e;
+        }
+        if (result instanceof AsyncRpcResult && !((AsyncRpcResult) result).getResponseFuture().isDone()) {
+            return result.whenCompleteWithContext((appResponse, t) -> recorder.record(invoker, invocation,
+                    remoteAddress, startNanos, System.nanoTime(), t != null ? t : appResponse.getException()));
+        }
+        recorder.record(invoker, invocation, remoteAddress, startNanos, System.nanoTime(), result.getException());
+        return result;
+    }
+
+    public void setDubboSlowInvocationRecorder(SlowInvocationRecorder dubboSlowInvocationRecorder) {
+        this.dubboSlowInvocationRecorder = dubboSlowInvocationRecorder;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+import org.springframework.util.ObjectUtils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.dubbo.spring.boot.slow.SlowInvocation.UNAVAILABLE;
+
+/**
+ * The recorder keeps the recent slow invocations in striped, lock-free ring buffers, the stripe is selected by the
+ * recording thread, and the oldest records are overwritten. The invocations under the threshold allocate nothing
+ * but the single {@link SlowInvocationDispatcherWrapper.Stamps} of the received request.
+ *
+ * @see SlowInvocationFilter
+ * @see SlowInvocationDispatcherWrapper
+ * @since 2.7.10
+ */
+public class SlowInvocationRecorder {
+
+    /**
+     * The bean name of {@link SlowInvocationRecorder}
+     */
+    public static final String BEAN_NAME = "dubboSlowInvocationRecorder";
+
+    private static final String TRUNCATED_SUFFIX = "...";
+
+    private static final Comparator<SlowInvocation> SLOWEST_FIRST =
+            (one, another) -> Long.compare(another.getElapsed(), one.getElapsed());
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    private final long thresholdNanos;
+
+    private final int top;
+
+    private final int maxArgumentLength;
+
+    private final LongAdder recordedCount = new LongAdder();
+
+    public SlowInvocationRecorder(DubboSlowInvocationProperties properties) {
+        int stripeCount = roundUpToPowerOfTwo(properties.getStripes());
+        int bufferSize = roundUpToPowerOfTwo(properties.getBufferSize());
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(bufferSize);
+        }
+        this.stripeMask = stripeCount - 1;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getThreshold());
+        this.top = properties.getTop();
+        this.maxArgumentLength = properties.getMaxArgumentLength();
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("The value must be positive : " + value);
+        }
+        int result = Integer.highestOneBit(value);
+        return result < value ? result << 1 : result;
+    }
+
+    /**
+     * Records the invocation if it's slower than the threshold
+     *
+     * @param invoker       {@link Invoker}
+     * @param invocation    {@link Invocation}
+     * @param remoteAddress the address of caller
+     * @param startNanos    the nanos when the filter started
+     * @param endNanos      the nanos when the invocation completed
+     * @param exception     the exception if failed
+     * @return <code>true</code> if it's recorded
+     */
+    public boolean record(Invoker<?> invoker, Invocation invocation, InetSocketAddress remoteAddress,
+                          long startNanos, long endNanos, Throwable exception) {
+        Object attribute = invocation.get(SlowInvocationDispatcherWrapper.STAMPS);
+        SlowInvocationDispatcherWrapper.Stamps stamps = attribute instanceof SlowInvocationDispatcherWrapper.Stamps
+                ? (SlowInvocationDispatcherWrapper.Stamps) attribute : null;
+        long beginNanos = stamps != null ? stamps.getReceivedNanos() : startNanos;
+        long elapsed = endNanos - beginNanos;
+        if (elapsed < thresholdNanos) {
+            return false;
+        }
+        long queueWait = stamps != null && stamps.getDequeuedNanos() != 0L
+                ? stamps.getDequeuedNanos() - stamps.getReceivedNanos() : UNAVAILABLE;
+        long decode = stamps != null && stamps.getDecodeStartedNanos() != 0L
+                ? startNanos - stamps.getDecodeStartedNanos() : UNAVAILABLE;
+        long timestamp = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(elapsed);
+
+        SlowInvocation slowInvocation = new SlowInvocation(invoker.getUrl().getServiceKey(),
+                invocation.getMethodName(), timestamp, elapsed, decode, queueWait, endNanos - startNanos,
+                UNAVAILABLE, remoteAddress == null ? null : remoteAddress.getHostString() + ":"
+                + remoteAddress.getPort(), resolveArguments(invocation), resolveAttachments(invocation),
+                exception == null ? null : exception.getClass().getName());
+
+        stripes[(int) Thread.currentThread().getId() & stripeMask].add(slowInvocation);
+        recordedCount.increment();
+        return true;
+    }
+
+    private List<String> resolveArguments(Invocation invocation) {
+        Object[] arguments = invocation.getArguments();
+        if (arguments == null || arguments.length == 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(arguments.length);
+        for (Object argument : arguments) {
+            values.add(truncate(argument));
+        }
+        return values;
+    }
+
+    private Map<String, String> resolveAttachments(Invocation invocation) {
+        Map<String, Object> attachments = invocation.getObjectAttachments();
+        if (attachments == null || attachments.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> values = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : attachments.entrySet()) {
+            values.put(entry.getKey(), truncate(entry.getValue()));
+        }
+        return values;
+    }
+
+    private String truncate(Object value) {
+        String text;
+        try {
+            text = ObjectUtils.nullSafeToString(value);
+        } catch (RuntimeException e) {
+            text = value.getClass().getName() + " (" + e + ")";
+        }
+        return text.length() > maxArgumentLength ? text.substring(0, maxArgumentLength) + TRUNCATED_SUFFIX : text;
+    }
+
+    /**
+     * Gets the slowest recent invocations per service and method
+     *
+     * @return the non-null read-only {@link Map}, the key is "service#method", and the value is sorted by
+     * the elapsed time in descending order
+     */
+    public Map<String, List<SlowInvocation>> getSlowestInvocations() {
+        return getSlowestInvocations(top);
+    }
+
+    /**
+     * Gets the slowest recent invocations per service and method
+     *
+     * @param limit the maximum count of invocations per service and method
+     * @return the non-null read-only {@link Map}, the key is "service#method", and the value is sorted by
+     * the elapsed time in descending order
+     */
+    public Map<String, List<SlowInvocation>> getSlowestInvocations(int limit) {
+        Map<String, List<SlowInvocation>> invocationsMap = new TreeMap<>();
+        for (Stripe stripe : stripes) {
+            for (int i = 0; i < stripe.slots.length(); i++) {
+                SlowInvocation invocation = stripe.slots.get(i);
+                if (invocation != null) {
+                    invocationsMap.computeIfAbsent(invocation.getService() + "#" + invocation.getMethod(),
+                            key -> new ArrayList<>()).add(invocation);
+                }
+            }
+        }
+        Map<String, List<SlowInvocation>> slowestInvocations = new LinkedHashMap<>();
+        for (Map.Entry<String, List<SlowInvocation>> entry : invocationsMap.entrySet()) {
+            List<SlowInvocation> invocations = entry.getValue();
+            invocations.sort(SLOWEST_FIRST);
+            if (invocations.size() > limit) {
+                invocations = invocations.subList(0, limit);
+            }
+            slowestInvocations.put(entry.getKey(), Collections.unmodifiableList(invocations));
+        }
+        return Collections.unmodifiableMap(slowestInvocations);
+    }
+
+    /**
+     * Clears the recorded invocations
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            for (int i = 0; i < stripe.slots.length(); i++) {
+                stripe.slots.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * @return the threshold in milliseconds
+     */
+    public long getThreshold() {
+        return TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * @return the total count of recorded invocations, including the overwritten ones
+     */
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    private static class Stripe {
+
+        private final AtomicReferenceArray<SlowInvocation> slots;
+
+        private final int mask;
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        private Stripe(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+            this.mask = size - 1;
+        }
+
+        private void add(SlowInvocation invocation) {
+            slots.lazySet((int) sequence.getAndIncrement() & mask, invocation);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.ssl;
+
+import org.apache.dubbo.config.SslConfig;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.dubbo.spring.boot.ssl.DubboSslProperties.PREFIX;
+
+/**
+ * Dubbo SSL Properties, they tune the TLS of "tunable-netty" transporter, while the certificates are configured by
+ * the same prefix in {@link SslConfig}, e.g. "dubbo.ssl.server-key-cert-chain-path", and the TLS is enabled by the
+ * protocol parameter "dubbo.protocol.ssl-enabled".
+ *
+ * @see SslContextFactory
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboSslProperties {
+
+    /**
+     * The prefix of {@link DubboSslProperties}
+     */
+    public static final String PREFIX = "dubbo.ssl";
+
+    /**
+     * The TLS provider : "openssl" requires netty-tcnative, "jdk", or "auto" which prefers "openssl" if available
+     */
+    private String provider = SslContextFactory.AUTO_PROVIDER;
+
+    /**
+     * The enabled cipher suites in order of preference, the unsupported ones are ignored, the provider's defaults
+     * are used if it's empty
+     */
+    private List<String> ciphers = new ArrayList<>();
+
+    /**
+     * The enabled protocols, e.g. "TLSv1.3,TLSv1.2", the provider's defaults are used if it's empty
+     */
+    private List<String> protocols = new ArrayList<>();
+
+    /**
+     * The max sessions which are cached for resumption, the provider's default is used if it's 0
+     */
+    private long sessionCacheSize = 0;
+
+    /**
+     * The timeout in seconds of the cached sessions, the provider's default is used if it's 0
+     */
+    private long sessionTimeout = 0;
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public List<String> getCiphers() {
+        return ciphers;
+    }
+
+    public void setCiphers(List<String> ciphers) {
+        this.ciphers = ciphers;
+    }
+
+    public List<String> getProtocols() {
+        return protocols;
+    }
+
+    public void setProtocols(List<String> protocols) {
+        this.protocols = protocols;
+    }
+
+    public long getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public void setSessionCacheSize(long sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+    }
+
+    public long getSessionTimeout() {
+        return sessionTimeout;
+    }
+
+    public void setSessionTimeout(long sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.ssl;
+
+import org.apache.dubbo.config.SslConfig;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * The factory of Netty's {@link SslContext} which is built from {@link SslConfig} and {@link DubboSslProperties}.
+ * <p>
+ * Unlike Dubbo's {@link org.apache.dubbo.remoting.transport.netty4.SslContexts} which builds the context per
+ * connection, the server and client contexts are built once and shared by all the connections, so that the sessions
+ * are cached and resumed on reconnect. The contexts are rebuilt if {@link SslConfig} is replaced.
+ *
+ * @see DubboSslProperties
+ * @since 2.7.10
+ */
+public class SslContextFactory {
+
+    /**
+     * The bean name of {@link SslContextFactory}
+     */
+    public static final String BEAN_NAME = "dubboSslContextFactory";
+
+    /**
+     * The provider prefers OpenSSL if available, otherwise JDK
+     */
+    public static final String AUTO_PROVIDER = "auto";
+
+    private static final Logger logger = LoggerFactory.getLogger(SslContextFactory.class);
+
+    private final DubboSslProperties properties;
+
+    private final SslProvider provider;
+
+    private SslConfig serverSslConfig;
+
+    private SslContext serverContext;
+
+    private SslConfig clientSslConfig;
+
+    private SslContext clientContext;
+
+    public SslContextFactory(DubboSslProperties properties) {
+        this.properties = properties;
+        this.provider = resolveProvider(properties.getProvider());
+    }
+
+    /**
+     * Resolves the {@link SslProvider}
+     *
+     * @param name the name of provider, "auto", "openssl" or "jdk"
+     * @return the {@link SslProvider}
+     * @throws IllegalArgumentException if the provider is unknown
+     * @throws IllegalStateException    if the provider is "openssl" but unavailable
+     */
+    public static SslProvider resolveProvider(String name) {
+        if (name == null || AUTO_PROVIDER.equalsIgnoreCase(name)) {
+            return OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
+        }
+        if (SslProvider.OPENSSL.name().equalsIgnoreCase(name)) {
+            if (!OpenSsl.isAvailable()) {
+                throw new IllegalStateException("The SSL provider \"openssl\" requires netty-tcnative",
+                        OpenSsl.unavailabilityCause());
+            }
+            return SslProvider.OPENSSL;
+        }
+        if (SslProvider.JDK.name().equalsIgnoreCase(name)) {
+            return SslProvider.JDK;
+        }
+        throw new IllegalArgumentException("The SSL provider \"" + name + "\" is unknown, it must be one of "
+                + "\"auto\", \"openssl\" and \"jdk\"");
+    }
+
+    /**
+     * Gets the server context, the clients are required to be authenticated if the server trusted certificates are
+     * configured
+     *
+     * @return the {@link SslContext} of server
+     * @throws IllegalStateException if {@link SslConfig} is absent
+     */
+    public synchronized SslContext getServerContext() {
+        SslConfig sslConfig = getSslConfig();
+        if (serverContext == null || serverSslConfig != sslConfig) {
+            serverContext = buildServerContext(sslConfig);
+            serverSslConfig = sslConfig;
+        }
+        return serverContext;
+    }
+
+    /**
+     * Gets the client context, the engines should be created with the peer host and port, so that the sessions are
+     * resumed
+     *
+     * @return the {@link SslContext} of client
+     * @throws IllegalStateException if {@link SslConfig} is absent
+     */
+    public synchronized SslContext getClientContext() {
+        SslConfig sslConfig = getSslConfig();
+        if (clientContext == null || clientSslConfig != sslConfig) {
+            clientContext = buildClientContext(sslConfig);
+            clientSslConfig = sslConfig;
+        }
+        return clientContext;
+    }
+
+    public SslProvider getProvider() {
+        return provider;
+    }
+
+    private SslConfig getSslConfig() {
+        return ApplicationModel.getConfigManager().getSsl().orElseThrow(() ->
+                new IllegalStateException("Ssl enabled, but no ssl cert information provided!"));
+    }
+
+    private SslContext buildServerContext(SslConfig sslConfig) {
+        SslContextBuilder builder;
+        try (InputStream keyCertChain = sslConfig.getServerKeyCertChainPathStream();
+             InputStream privateKey = sslConfig.getServerPrivateKeyPathStream();
+             InputStream trustCertCollection = sslConfig.getServerTrustCertCollectionPathStream()) {
+            builder = SslContextBuilder.forServer(keyCertChain, privateKey, sslConfig.getServerKeyPassword());
+            if (trustCertCollection != null) {
+                builder.trustManager(trustCertCollection).clientAuth(ClientAuth.REQUIRE);
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not find certificate file or the certificate is invalid.", e);
+        }
+        return build(builder, "server");
+    }
+
+    private SslContext buildClientContext(SslConfig sslConfig) {
+        SslContextBuilder builder = SslContextBuilder.forClient();
+        try (InputStream keyCertChain = sslConfig.getClientKeyCertChainPathStream();
+             InputStream privateKey = sslConfig.getClientPrivateKeyPathStream();
+             InputStream trustCertCollection = sslConfig.getClientTrustCertCollectionPathStream()) {
+            if (trustCertCollection != null) {
+                builder.trustManager(trustCertCollection);
+            }
+            if (keyCertChain != null && privateKey != null) {
+                builder.keyManager(keyCertChain, privateKey, sslConfig.getClientKeyPassword());
+            }
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Could not find certificate file or find invalid certificate.", e);
+        }
+        return build(builder, "client");
+    }
+
+    private SslContext build(SslContextBuilder builder, String side) {
+        builder.sslProvider(provider);
+        List<String> ciphers = properties.getCiphers();
+        if (ciphers != null && !ciphers.isEmpty()) {
+            builder.ciphers(ciphers, SupportedCipherSuiteFilter.INSTANCE);
+        }
+        List<String> protocols = properties.getProtocols();
+        if (protocols != null && !protocols.isEmpty()) {
+            builder.protocols(protocols.toArray(new String[0]));
+        }
+        if (properties.getSessionCacheSize() > 0) {
+            builder.sessionCacheSize(properties.getSessionCacheSize());
+        }
+        if (properties.getSessionTimeout() > 0) {
+            builder.sessionTimeout(properties.getSessionTimeout());
+        }
+        SslContext sslContext;
+        try {
+            sslContext = builder.build();
+        } catch (SSLException e) {
+            throw new IllegalStateException("Build SslSession failed.", e);
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("The SSL context of {} is built by {} provider with the cipher suites : {}", side, provider,
+                    sslContext.cipherSuites());
+        }
+        return sslContext;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import java.io.IOException;
+
+/**
+ * The channel which the reader of stream takes the chunks from
+ *
+ * @see PullChunkChannel
+ * @see PushChunkChannel
+ * @since 2.7.10
+ */
+interface ChunkChannel {
+
+    /**
+     * Takes the next chunk, it blocks until the chunk is available
+     *
+     * @return the next chunk, or <code>null</code> if the stream ends
+     * @throws IOException if the stream fails
+     */
+    Object take() throws IOException;
+
+    /**
+     * Closes the channel, the remaining chunks are discarded
+     */
+    void close();
+}
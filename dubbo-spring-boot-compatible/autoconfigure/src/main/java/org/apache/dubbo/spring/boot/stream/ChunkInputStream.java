@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@link InputStream} reads the <code>byte[]</code> chunks from {@link ChunkChannel}, only the current chunk is
+ * held.
+ *
+ * @since 2.7.10
+ */
+class ChunkInputStream extends InputStream {
+
+    private final ChunkChannel channel;
+
+    private byte[] chunk;
+
+    private int position;
+
+    private boolean ended;
+
+    private boolean closed;
+
+    ChunkInputStream(ChunkChannel channel) {
+        this.channel = channel;
+    }
+
+    private boolean fill() throws IOException {
+        if (closed) {
+            throw new IOException("The stream is closed");
+        }
+        while (!ended && (chunk == null || position >= chunk.length)) {
+            chunk = (byte[]) channel.take();
+            position = 0;
+            if (chunk == null) {
+                ended = true;
+            }
+        }
+        return !ended;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return fill() ? chunk[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return closed || chunk == null ? 0 : chunk.length - position;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            chunk = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link Iterator} reads the {@link List} chunks from {@link ChunkChannel}, only the current chunk is held. It
+ * should be closed if it isn't iterated to the end.
+ *
+ * @since 2.7.10
+ */
+class ChunkIterator implements Iterator<Object>, Closeable {
+
+    private final ChunkChannel channel;
+
+    private List<?> chunk;
+
+    private int index;
+
+    private boolean ended;
+
+    ChunkIterator(ChunkChannel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!ended && (chunk == null || index >= chunk.size())) {
+            try {
+                chunk = (List<?>) channel.take();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            index = 0;
+            if (chunk == null) {
+                ended = true;
+            }
+        }
+        return !ended;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunk.get(index++);
+    }
+
+    @Override
+    public void close() {
+        if (!ended) {
+            ended = true;
+            chunk = null;
+            channel.close();
+        }
+    }
+}
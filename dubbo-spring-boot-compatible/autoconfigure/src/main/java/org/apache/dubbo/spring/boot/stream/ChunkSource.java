@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The source of stream which the chunks are read from, it's read by one thread at a time.
+ *
+ * @since 2.7.10
+ */
+abstract class ChunkSource implements Closeable {
+
+    private volatile boolean ended;
+
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    /**
+     * Reads the next chunk, the source ends if it's the last one
+     *
+     * @param chunkSize the max bytes of chunk
+     * @param batchSize the max elements of chunk
+     * @return the next chunk, it may be empty if the source ends
+     * @throws IOException if the source fails
+     */
+    final synchronized Object read(int chunkSize, int batchSize) throws IOException {
+        lastAccessTime = System.currentTimeMillis();
+        return doRead(chunkSize, batchSize);
+    }
+
+    abstract StreamType getType();
+
+    protected abstract Object doRead(int chunkSize, int batchSize) throws IOException;
+
+    protected void end() {
+        this.ended = true;
+    }
+
+    boolean isEnded() {
+        return ended;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    static class InputStreamSource extends ChunkSource {
+
+        private final InputStream inputStream;
+
+        InputStreamSource(InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        StreamType getType() {
+            return StreamType.BYTES;
+        }
+
+        @Override
+        protected Object doRead(int chunkSize, int batchSize) throws IOException {
+            byte[] chunk = new byte[chunkSize];
+            int length = 0;
+            while (length < chunkSize) {
+                int count = inputStream.read(chunk, length, chunkSize - length);
+                if (count < 0) {
+                    end();
+                    break;
+                }
+                length += count;
+            }
+            return length == chunkSize ? chunk : Arrays.copyOf(chunk, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+    }
+
+    static class IteratorSource extends ChunkSource {
+
+        private final Iterator<?> iterator;
+
+        IteratorSource(Iterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        StreamType getType() {
+            return StreamType.ELEMENTS;
+        }
+
+        @Override
+        protected Object doRead(int chunkSize, int batchSize) throws IOException {
+            List<Object> chunk = new ArrayList<>(batchSize);
+            try {
+                while (chunk.size() < batchSize && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                if (!iterator.hasNext()) {
+                    end();
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("The iterator failed : " + e, e);
+            }
+            return chunk;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (iterator instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) iterator).close();
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.stream.DubboStreamingProperties.PREFIX;
+
+/**
+ * Dubbo Streaming Properties
+ *
+ * @see StreamManager
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboStreamingProperties {
+
+    /**
+     * The prefix of {@link DubboStreamingProperties}
+     */
+    public static final String PREFIX = "dubbo.streaming";
+
+    /**
+     * Whether the streaming transfer is enabled or not, it's required by both provider and consumer
+     */
+    private boolean enabled = false;
+
+    /**
+     * The max bytes of the chunk of {@link java.io.InputStream}, it's limited to the half of the protocol payload
+     */
+    private int chunkSize = 64 * 1024;
+
+    /**
+     * The max elements of the chunk of {@link java.util.Iterator}
+     */
+    private int batchSize = 256;
+
+    /**
+     * The max chunks of an argument which are held by the provider before they are read
+     */
+    private int window = 4;
+
+    /**
+     * The idle timeout in milliseconds, the stream which isn't accessed in time is closed
+     */
+    private long idleTimeout = 60 * 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public void setWindow(int window) {
+        this.window = window;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.CANCEL_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.PULL_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_CHUNK_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_END_ATTACHMENT;
+
+/**
+ * The consumer {@link ChunkChannel} pulls the chunks of return value from the provider which returned it, the next
+ * chunk is prefetched while the current one is read, thus at most two chunks are held.
+ *
+ * @since 2.7.10
+ */
+class PullChunkChannel implements ChunkChannel {
+
+    private final Invoker<?> invoker;
+
+    private final Invocation invocation;
+
+    private final String streamId;
+
+    private final StreamType type;
+
+    private Object chunk;
+
+    private boolean ended;
+
+    private CompletableFuture<AppResponse> prefetch;
+
+    private boolean closed;
+
+    PullChunkChannel(Invoker<?> invoker, Invocation invocation, String streamId, StreamType type,
+                     Object firstChunk, boolean ended) {
+        this.invoker = invoker;
+        this.invocation = invocation;
+        this.streamId = streamId;
+        this.type = type;
+        this.chunk = firstChunk;
+        this.ended = ended;
+    }
+
+    @Override
+    public synchronized Object take() throws IOException {
+        if (closed) {
+            throw new IOException("The stream[id : " + streamId + "] is closed");
+        }
+        while (true) {
+            Object current = this.chunk;
+            if (current != null) {
+                this.chunk = null;
+                if (!ended) {
+                    prefetch = StreamManager.invoke(invoker, StreamManager.newInvocation(invocation, streamId, type,
+                            PULL_OPERATION));
+                }
+                if (!isEmpty(current)) {
+                    return current;
+                }
+            } else if (prefetch != null) {
+                receive(prefetch);
+            } else {
+                return null;
+            }
+        }
+    }
+
+    private void receive(CompletableFuture<AppResponse> future) throws IOException {
+        prefetch = null;
+        AppResponse response;
+        try {
+            response = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The stream[id : " + streamId + "] is interrupted");
+        } catch (ExecutionException e) {
+            ended = true;
+            throw new IOException("The stream[id : " + streamId + "] failed : " + e.getCause(), e.getCause());
+        }
+        if (response.hasException()) {
+            ended = true;
+            throw new IOException("The stream[id : " + streamId + "] failed : " + response.getException(),
+                    response.getException());
+        }
+        Object chunk = response.getObjectAttachment(STREAM_CHUNK_ATTACHMENT);
+        this.ended = Boolean.parseBoolean(String.valueOf(response.getObjectAttachment(STREAM_END_ATTACHMENT)));
+        this.chunk = type.getChunkType().isInstance(chunk) ? chunk : type.newEmptyChunk();
+    }
+
+    private static boolean isEmpty(Object chunk) {
+        return chunk instanceof byte[] ? ((byte[]) chunk).length == 0 : ((Collection<?>) chunk).isEmpty();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunk = null;
+        if (prefetch != null) {
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+        if (!ended) {
+            // Releases the source of provider before the idle timeout
+            StreamManager.invoke(invoker, StreamManager.newInvocation(invocation, streamId, type, CANCEL_OPERATION));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.RpcException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The provider {@link ChunkChannel} receives the chunks of argument which are pushed by the consumer. At most
+ * "window" chunks are held, the acknowledgement of push is deferred until the reader takes the chunks beyond the
+ * window, thus no provider thread is blocked by the slow reader, and the consumer pushes no more chunks until
+ * acknowledged.
+ *
+ * @since 2.7.10
+ */
+class PushChunkChannel implements ChunkChannel {
+
+    private final String streamId;
+
+    private final int window;
+
+    private final long idleTimeout;
+
+    private final Queue<Object> chunks = new ArrayDeque<>();
+
+    private final Queue<CompletableFuture<AppResponse>> pendingAcks = new ArrayDeque<>();
+
+    private boolean ended;
+
+    private String error;
+
+    private boolean closed;
+
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    PushChunkChannel(String streamId, int window, long idleTimeout) {
+        this.streamId = streamId;
+        this.window = Math.max(window, 1);
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Pushes the chunk
+     *
+     * @param chunk the chunk, it may be <code>null</code> or empty
+     * @param end   whether the chunk is the last one
+     * @param error the error message if the consumer failed to read the argument
+     * @return the future of acknowledgement
+     */
+    CompletableFuture<AppResponse> push(Object chunk, boolean end, String error) {
+        CompletableFuture<AppResponse> ack = new CompletableFuture<>();
+        boolean acknowledged = true;
+        synchronized (this) {
+            lastAccessTime = System.currentTimeMillis();
+            if (closed) {
+                ack.complete(new AppResponse(new RpcException("The stream[id : " + streamId + "] is closed")));
+                return ack;
+            }
+            if (error != null) {
+                this.error = error;
+            } else if (chunk != null && !isEmpty(chunk)) {
+                chunks.add(chunk);
+            }
+            if (end || error != null) {
+                ended = true;
+            }
+            if (chunks.size() > window) {
+                acknowledged = false;
+                pendingAcks.add(ack);
+            }
+            notifyAll();
+        }
+        if (acknowledged) {
+            ack.complete(new AppResponse());
+        }
+        return ack;
+    }
+
+    @Override
+    public Object take() throws IOException {
+        Object chunk;
+        List<CompletableFuture<AppResponse>> acks = new ArrayList<>(1);
+        synchronized (this) {
+            long deadline = System.currentTimeMillis() + idleTimeout;
+            while (chunks.isEmpty() && !ended && !closed) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IOException("The stream[id : " + streamId + "] timed out after " + idleTimeout + " ms");
+                }
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("The stream[id : " + streamId + "] is interrupted");
+                }
+            }
+            lastAccessTime = System.currentTimeMillis();
+            if (closed) {
+                throw new IOException("The stream[id : " + streamId + "] is closed");
+            }
+            if (error != null) {
+                throw new IOException("The stream[id : " + streamId + "] failed : " + error);
+            }
+            chunk = chunks.poll();
+            while (!pendingAcks.isEmpty() && chunks.size() - pendingAcks.size() < window) {
+                acks.add(pendingAcks.poll());
+            }
+        }
+        // Acknowledges outside the lock, because the response is written by the completing thread
+        for (CompletableFuture<AppResponse> ack : acks) {
+            ack.complete(new AppResponse());
+        }
+        return chunk;
+    }
+
+    private static boolean isEmpty(Object chunk) {
+        return chunk instanceof byte[] ? ((byte[]) chunk).length == 0 :
+                chunk instanceof Collection && ((Collection<?>) chunk).isEmpty();
+    }
+
+    @Override
+    public void close() {
+        List<CompletableFuture<AppResponse>> acks;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            chunks.clear();
+            acks = new ArrayList<>(pendingAcks);
+            pendingAcks.clear();
+            notifyAll();
+        }
+        for (CompletableFuture<AppResponse> ack : acks) {
+            ack.complete(new AppResponse(new RpcException("The stream[id : " + streamId + "] is closed")));
+        }
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+}
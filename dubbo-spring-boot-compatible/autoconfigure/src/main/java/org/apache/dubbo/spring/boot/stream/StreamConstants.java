@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+/**
+ * The attachments of streaming transfer
+ *
+ * @see StreamManager
+ * @since 2.7.10
+ */
+public interface StreamConstants {
+
+    /**
+     * The name of the internal method which transfers the chunks, it has no parameters, thus the provider accepts
+     * it without looking up the method
+     */
+    String STREAM_METHOD_NAME = "$stream";
+
+    /**
+     * The attachment of request, the type of stream which the consumer accepts as the return value
+     */
+    String ACCEPT_STREAM_ATTACHMENT = "accept-stream";
+
+    /**
+     * The attachment of request, the streaming arguments, e.g. "0:id-0,2:id-2"
+     */
+    String STREAM_ARGUMENTS_ATTACHMENT = "stream-arguments";
+
+    /**
+     * The attachment of response, the type of streaming return value
+     */
+    String STREAM_TYPE_ATTACHMENT = "stream-type";
+
+    /**
+     * The attachment of both request and response, the id of stream
+     */
+    String STREAM_ID_ATTACHMENT = "stream-id";
+
+    /**
+     * The attachment of request, the operation of "{@value #STREAM_METHOD_NAME}"
+     */
+    String STREAM_OPERATION_ATTACHMENT = "stream-operation";
+
+    /**
+     * The attachment of both request and response, the chunk which is pushed or returned with the stream
+     */
+    String STREAM_CHUNK_ATTACHMENT = "stream-chunk";
+
+    /**
+     * The attachment of both request and response, it's "true" if the chunk is the last one
+     */
+    String STREAM_END_ATTACHMENT = "stream-end";
+
+    /**
+     * The attachment of request, the error message if the consumer failed to read the streaming argument
+     */
+    String STREAM_ERROR_ATTACHMENT = "stream-error";
+
+    /**
+     * The operation of consumer pulls the next chunk of the return value
+     */
+    String PULL_OPERATION = "pull";
+
+    /**
+     * The operation of consumer pushes the next chunk of the argument, the provider acknowledges it once the chunk
+     * is in the window
+     */
+    String PUSH_OPERATION = "push";
+
+    /**
+     * The operation of consumer cancels the return value
+     */
+    String CANCEL_OPERATION = "cancel";
+}
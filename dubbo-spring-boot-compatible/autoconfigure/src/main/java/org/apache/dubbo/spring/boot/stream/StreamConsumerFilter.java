@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE;
+import static org.apache.dubbo.common.constants.CommonConstants.$INVOKE_ASYNC;
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER;
+
+/**
+ * The consumer {@link Filter} pushes the streaming arguments and opens the streaming return values by
+ * {@link StreamManager}, the manager bean is injected by its name "{@value StreamManager#BEAN_NAME}" from Spring
+ * context. The filter passes through all invocations if the streaming is disabled.
+ * <p>
+ * It's ordered after the decompression filter, so that the other filters see the opened return values. The generic
+ * invocations aren't streamed, because their types are unknown.
+ *
+ * @see StreamManager
+ * @since 2.7.10
+ */
+@Activate(group = CONSUMER, order = 40000)
+public class StreamConsumerFilter implements Filter, Filter.Listener {
+
+    private StreamManager dubboStreamManager;
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        StreamManager manager = this.dubboStreamManager;
+        if (manager == null || isGeneric(invocation)) {
+            return invoker.invoke(invocation);
+        }
+        return manager.invoke(invoker, invocation);
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        StreamManager manager = this.dubboStreamManager;
+        if (manager != null && !isGeneric(invocation)) {
+            manager.open(appResponse, invoker, invocation);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+    }
+
+    private static boolean isGeneric(Invocation invocation) {
+        String methodName = invocation.getMethodName();
+        return $INVOKE.equals(methodName) || $INVOKE_ASYNC.equals(methodName);
+    }
+
+    public void setDubboStreamManager(StreamManager dubboStreamManager) {
+        this.dubboStreamManager = dubboStreamManager;
+    }
+}
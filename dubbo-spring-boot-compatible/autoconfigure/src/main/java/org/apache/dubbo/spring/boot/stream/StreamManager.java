@@ -0,0 +1,476 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.NamedThreadFactory;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.InvokeMode;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.support.RpcUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.common.constants.CommonConstants.COMMA_SPLIT_PATTERN;
+import static org.apache.dubbo.remoting.Constants.DEFAULT_PAYLOAD;
+import static org.apache.dubbo.remoting.Constants.PAYLOAD_KEY;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.ACCEPT_STREAM_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.CANCEL_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.PULL_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.PUSH_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_ARGUMENTS_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_CHUNK_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_END_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_ERROR_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_ID_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_METHOD_NAME;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_OPERATION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_TYPE_ATTACHMENT;
+
+/**
+ * The manager of streaming transfer, the {@link InputStream} and {@link Iterator} parameters and return values are
+ * transferred in chunks by the internal method "{@value StreamConstants#STREAM_METHOD_NAME}" over the connection of
+ * the invocation, thus the memory of each invocation is bounded by the chunks in flight instead of the whole message:
+ * <ul>
+ * <li>The return value is pulled by the consumer, the first chunk is returned with the response, the next one is
+ * prefetched while the current one is read.</li>
+ * <li>The argument is pushed by the consumer after the request, the provider holds at most "window" chunks and defers
+ * the acknowledgement until the method reads them.</li>
+ * </ul>
+ * The chunk is limited to the half of the protocol parameter "payload". The streams of the retried invocation can't
+ * be replayed, thus they fail instead. The stream which isn't accessed within the idle timeout is closed.
+ *
+ * @see StreamProviderFilter
+ * @see StreamConsumerFilter
+ * @see DubboStreamingProperties
+ * @since 2.7.10
+ */
+public class StreamManager implements DisposableBean {
+
+    /**
+     * The bean name of {@link StreamManager}
+     */
+    public static final String BEAN_NAME = "dubboStreamManager";
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamManager.class);
+
+    private static final String UPLOADED_ATTRIBUTE = StreamManager.class.getName() + ".uploaded";
+
+    private final DubboStreamingProperties properties;
+
+    private final ConcurrentMap<String, ChunkSource> sources = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, PushChunkChannel> uploads = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService cleaner;
+
+    private final ExecutorService uploadExecutor;
+
+    public StreamManager(DubboStreamingProperties properties) {
+        this.properties = properties;
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("DubboStreamCleaner", true));
+        this.uploadExecutor = Executors.newCachedThreadPool(new NamedThreadFactory("DubboStreamUpload", true));
+        long period = Math.max(properties.getIdleTimeout() / 2, 1000);
+        this.cleaner.scheduleWithFixedDelay(this::closeIdleStreams, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    // Consumer
+
+    /**
+     * Invokes by the consumer, the streaming arguments are pushed after the request
+     *
+     * @param invoker    the {@link Invoker} of provider
+     * @param invocation {@link Invocation}
+     * @return the {@link Result}
+     * @throws RpcException if the invocation with streaming arguments is retried
+     */
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        if (invocation.get(UPLOADED_ATTRIBUTE) != null) {
+            throw new RpcException(RpcException.BIZ_EXCEPTION, "The streaming arguments of the method["
+                    + invocation.getMethodName() + "] can't be retried");
+        }
+        StreamType returnType = StreamType.of(invocation instanceof RpcInvocation ?
+                ((RpcInvocation) invocation).getReturnType() : RpcUtils.getReturnType(invocation));
+        if (returnType != null) {
+            invocation.setObjectAttachment(ACCEPT_STREAM_ATTACHMENT, returnType.getName());
+        }
+        Map<String, ChunkSource> uploadSources = exportArguments(invocation);
+        if (uploadSources.isEmpty()) {
+            return invoker.invoke(invocation);
+        }
+        invocation.put(UPLOADED_ATTRIBUTE, Boolean.TRUE);
+        // The uploads start before the request, because the synchronous invocation returns after the response
+        CompletableFuture<Object> completion = new CompletableFuture<>();
+        int chunkSize = getChunkSize(invoker.getUrl());
+        for (Map.Entry<String, ChunkSource> entry : uploadSources.entrySet()) {
+            uploadExecutor.execute(new StreamUploader(invoker, invocation, entry.getKey(), entry.getValue(),
+                    chunkSize, properties.getBatchSize(), completion));
+        }
+        Result result;
+        try {
+            result = invoker.invoke(invocation);
+        } catch (RuntimeException e) {
+            completion.complete(null);
+            throw e;
+        }
+        if (result instanceof AsyncRpcResult) {
+            ((AsyncRpcResult) result).getResponseFuture().whenComplete((r, t) -> completion.complete(null));
+        } else {
+            completion.complete(null);
+        }
+        return result;
+    }
+
+    private Map<String, ChunkSource> exportArguments(Invocation invocation) {
+        Map<String, ChunkSource> uploadSources = new LinkedHashMap<>();
+        Class<?>[] parameterTypes = invocation.getParameterTypes();
+        Object[] arguments = invocation.getArguments();
+        if (parameterTypes == null || arguments == null) {
+            return uploadSources;
+        }
+        StringBuilder streamArguments = new StringBuilder();
+        for (int i = 0; i < parameterTypes.length && i < arguments.length; i++) {
+            StreamType type = StreamType.of(parameterTypes[i]);
+            if (type == null || !type.isInstance(arguments[i])) {
+                continue;
+            }
+            String streamId = newStreamId();
+            uploadSources.put(streamId, type.newSource(arguments[i]));
+            arguments[i] = null;
+            if (streamArguments.length() > 0) {
+                streamArguments.append(',');
+            }
+            streamArguments.append(i).append(':').append(streamId);
+        }
+        if (streamArguments.length() > 0) {
+            invocation.setObjectAttachment(STREAM_ARGUMENTS_ATTACHMENT, streamArguments.toString());
+        }
+        return uploadSources;
+    }
+
+    /**
+     * Opens the streaming return value of the response by the consumer
+     *
+     * @param result     the {@link Result} of response
+     * @param invoker    the {@link Invoker} of provider which returned the response
+     * @param invocation {@link Invocation}
+     * @return <code>true</code> if the return value is opened
+     */
+    public boolean open(Result result, Invoker<?> invoker, Invocation invocation) {
+        Map<String, Object> attachments = result.getObjectAttachments();
+        Object typeName = attachments.remove(STREAM_TYPE_ATTACHMENT);
+        if (typeName == null || result.hasException()) {
+            return false;
+        }
+        StreamType type = StreamType.of(String.valueOf(typeName));
+        Object streamId = attachments.remove(STREAM_ID_ATTACHMENT);
+        Object chunk = attachments.remove(STREAM_CHUNK_ATTACHMENT);
+        boolean ended = Boolean.parseBoolean(String.valueOf(attachments.remove(STREAM_END_ATTACHMENT)));
+        if (type == null || (!ended && streamId == null)) {
+            result.setException(new RpcException("The streaming return value[type : " + typeName
+                    + "] of the method[" + invocation.getMethodName() + "] is illegal"));
+            return false;
+        }
+        Object firstChunk = type.getChunkType().isInstance(chunk) ? chunk : type.newEmptyChunk();
+        result.setValue(type.newReader(new PullChunkChannel(invoker, invocation, String.valueOf(streamId), type,
+                firstChunk, ended)));
+        return true;
+    }
+
+    // Provider
+
+    /**
+     * Handles the invocation of "{@value StreamConstants#STREAM_METHOD_NAME}" by the provider
+     *
+     * @param invoker    the {@link Invoker} of service
+     * @param invocation {@link Invocation}
+     * @return the {@link Result}
+     */
+    public Result handle(Invoker<?> invoker, Invocation invocation) {
+        String streamId = (String) invocation.getObjectAttachment(STREAM_ID_ATTACHMENT);
+        String operation = (String) invocation.getObjectAttachment(STREAM_OPERATION_ATTACHMENT);
+        if (streamId == null) {
+            return AsyncRpcResult.newDefaultAsyncResult(new RpcException("The stream id is absent"), invocation);
+        }
+        if (PULL_OPERATION.equals(operation)) {
+            return pull(streamId, invoker.getUrl(), invocation);
+        } else if (PUSH_OPERATION.equals(operation)) {
+            return push(streamId, invocation);
+        } else if (CANCEL_OPERATION.equals(operation)) {
+            closeQuietly(sources.remove(streamId));
+            return AsyncRpcResult.newDefaultAsyncResult(invocation);
+        }
+        return AsyncRpcResult.newDefaultAsyncResult(new RpcException("The stream operation[" + operation
+                + "] is unsupported"), invocation);
+    }
+
+    private Result pull(String streamId, URL url, Invocation invocation) {
+        ChunkSource source = sources.get(streamId);
+        if (source == null) {
+            return AsyncRpcResult.newDefaultAsyncResult(new RpcException("The stream[id : " + streamId
+                    + "] isn't found, it may be closed after the idle timeout"), invocation);
+        }
+        AppResponse response = new AppResponse(invocation);
+        try {
+            response.setObjectAttachment(STREAM_CHUNK_ATTACHMENT, source.read(getChunkSize(url),
+                    properties.getBatchSize()));
+        } catch (IOException e) {
+            sources.remove(streamId, source);
+            closeQuietly(source);
+            return AsyncRpcResult.newDefaultAsyncResult(new RpcException("The stream[id : " + streamId
+                    + "] failed : " + e.getMessage(), e), invocation);
+        }
+        if (source.isEnded()) {
+            sources.remove(streamId, source);
+            closeQuietly(source);
+            response.setObjectAttachment(STREAM_END_ATTACHMENT, Boolean.TRUE.toString());
+        }
+        return AsyncRpcResult.newDefaultAsyncResult(response, invocation);
+    }
+
+    private Result push(String streamId, Invocation invocation) {
+        Object error = invocation.getObjectAttachment(STREAM_ERROR_ATTACHMENT);
+        boolean end = Boolean.parseBoolean(String.valueOf(invocation.getObjectAttachment(STREAM_END_ATTACHMENT)));
+        CompletableFuture<AppResponse> ack = getUploadChannel(streamId).push(
+                invocation.getObjectAttachment(STREAM_CHUNK_ATTACHMENT), end, error == null ? null : error.toString());
+        return new AsyncRpcResult(ack, invocation);
+    }
+
+    private PushChunkChannel getUploadChannel(String streamId) {
+        // The pushes may arrive before the invocation, because the requests are dispatched concurrently
+        return uploads.computeIfAbsent(streamId, id -> new PushChunkChannel(id, properties.getWindow(),
+                properties.getIdleTimeout()));
+    }
+
+    /**
+     * Binds the streaming arguments of the invocation by the provider
+     *
+     * @param invocation {@link Invocation}
+     */
+    public void bind(Invocation invocation) {
+        Class<?>[] parameterTypes = invocation.getParameterTypes();
+        Object[] arguments = invocation.getArguments();
+        for (Map.Entry<Integer, String> entry : getStreamArguments(invocation).entrySet()) {
+            int index = entry.getKey();
+            if (index < 0 || index >= arguments.length || index >= parameterTypes.length) {
+                continue;
+            }
+            StreamType type = StreamType.of(parameterTypes[index]);
+            if (type != null) {
+                arguments[index] = type.newReader(getUploadChannel(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Releases the streaming arguments of the invocation by the provider after the method returns, the channels
+     * are kept until the idle timeout, so that the late pushes fail
+     *
+     * @param invocation {@link Invocation}
+     */
+    public void release(Invocation invocation) {
+        for (String streamId : getStreamArguments(invocation).values()) {
+            PushChunkChannel channel = uploads.get(streamId);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    private Map<Integer, String> getStreamArguments(Invocation invocation) {
+        Object value = invocation.getObjectAttachment(STREAM_ARGUMENTS_ATTACHMENT);
+        Map<Integer, String> streamArguments = new LinkedHashMap<>();
+        if (value == null) {
+            return streamArguments;
+        }
+        for (String streamArgument : COMMA_SPLIT_PATTERN.split(value.toString())) {
+            int separator = streamArgument.indexOf(':');
+            if (separator > 0) {
+                try {
+                    streamArguments.put(Integer.valueOf(streamArgument.substring(0, separator).trim()),
+                            streamArgument.substring(separator + 1).trim());
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        return streamArguments;
+    }
+
+    /**
+     * Exports the streaming return value by the provider if the consumer accepts it, the first chunk is returned
+     * with the response
+     *
+     * @param result     the {@link Result} of response
+     * @param url        the {@link URL} of service
+     * @param invocation {@link Invocation}
+     * @return <code>true</code> if the return value is exported
+     */
+    public boolean export(Result result, URL url, Invocation invocation) {
+        Object acceptStream = invocation.getObjectAttachment(ACCEPT_STREAM_ATTACHMENT);
+        if (acceptStream == null || result.hasException()) {
+            return false;
+        }
+        StreamType type = StreamType.of(acceptStream.toString());
+        Object value = result.getValue();
+        if (type == null || !type.isInstance(value)) {
+            return false;
+        }
+        ChunkSource source = type.newSource(value);
+        Object chunk;
+        try {
+            chunk = source.read(getChunkSize(url), properties.getBatchSize());
+        } catch (IOException e) {
+            closeQuietly(source);
+            result.setException(new RpcException("The streaming return value of the method["
+                    + invocation.getMethodName() + "] failed : " + e.getMessage(), e));
+            return false;
+        }
+        result.setValue(null);
+        result.setObjectAttachment(STREAM_TYPE_ATTACHMENT, type.getName());
+        result.setObjectAttachment(STREAM_CHUNK_ATTACHMENT, chunk);
+        if (source.isEnded()) {
+            closeQuietly(source);
+            result.setObjectAttachment(STREAM_END_ATTACHMENT, Boolean.TRUE.toString());
+        } else {
+            String streamId = newStreamId();
+            sources.put(streamId, source);
+            result.setObjectAttachment(STREAM_ID_ATTACHMENT, streamId);
+        }
+        return true;
+    }
+
+    /**
+     * Gets the max bytes of chunk, it's limited to the half of the parameter "payload", so that the chunk and the
+     * other attachments fit in a message
+     *
+     * @param url the {@link URL}
+     * @return the max bytes of chunk
+     */
+    public int getChunkSize(URL url) {
+        int payload = url.getParameter(PAYLOAD_KEY, DEFAULT_PAYLOAD);
+        int chunkSize = properties.getChunkSize();
+        return Math.max(payload > 0 ? Math.min(chunkSize, payload / 2) : chunkSize, 1);
+    }
+
+    int getSourceCount() {
+        return sources.size();
+    }
+
+    private void closeIdleStreams() {
+        long deadline = System.currentTimeMillis() - properties.getIdleTimeout();
+        for (Map.Entry<String, ChunkSource> entry : sources.entrySet()) {
+            if (entry.getValue().getLastAccessTime() < deadline && sources.remove(entry.getKey(), entry.getValue())) {
+                logger.warn("The stream[id : {}] is closed after the idle timeout", entry.getKey());
+                closeQuietly(entry.getValue());
+            }
+        }
+        for (Map.Entry<String, PushChunkChannel> entry : uploads.entrySet()) {
+            if (entry.getValue().getLastAccessTime() < deadline && uploads.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().close();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        cleaner.shutdownNow();
+        uploadExecutor.shutdownNow();
+        List<ChunkSource> remainingSources = new ArrayList<>(sources.values());
+        sources.clear();
+        remainingSources.forEach(StreamManager::closeQuietly);
+        List<PushChunkChannel> remainingUploads = new ArrayList<>(uploads.values());
+        uploads.clear();
+        remainingUploads.forEach(PushChunkChannel::close);
+    }
+
+    private static String newStreamId() {
+        return UUID.randomUUID().toString();
+    }
+
+    static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            logger.warn("The stream failed to close : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the invocation of "{@value StreamConstants#STREAM_METHOD_NAME}" for the service of the invocation
+     */
+    static RpcInvocation newInvocation(Invocation invocation, String streamId, StreamType type, String operation) {
+        RpcInvocation streamInvocation = new RpcInvocation(STREAM_METHOD_NAME, invocation.getServiceName(),
+                invocation.getProtocolServiceKey(), new Class<?>[0], new Object[0]);
+        streamInvocation.setReturnType(Void.class);
+        streamInvocation.setInvokeMode(InvokeMode.FUTURE);
+        streamInvocation.setObjectAttachment(STREAM_ID_ATTACHMENT, streamId);
+        streamInvocation.setObjectAttachment(STREAM_TYPE_ATTACHMENT, type.getName());
+        streamInvocation.setObjectAttachment(STREAM_OPERATION_ATTACHMENT, operation);
+        return streamInvocation;
+    }
+
+    /**
+     * Invokes "{@value StreamConstants#STREAM_METHOD_NAME}" asynchronously, the future of the caller's
+     * {@link RpcContext} is kept
+     */
+    static CompletableFuture<AppResponse> invoke(Invoker<?> invoker, RpcInvocation invocation) {
+        RpcContext context = RpcContext.getContext();
+        CompletableFuture<Object> future = context.getCompletableFuture();
+        try {
+            Result result = invoker.invoke(invocation);
+            if (result instanceof AsyncRpcResult) {
+                return ((AsyncRpcResult) result).getResponseFuture();
+            }
+            return CompletableFuture.completedFuture(result instanceof AppResponse ? (AppResponse) result :
+                    new AppResponse(new RpcException("The result[" + result + "] of stream is unsupported")));
+        } catch (RuntimeException e) {
+            CompletableFuture<AppResponse> failure = new CompletableFuture<>();
+            failure.completeExceptionally(e);
+            return failure;
+        } finally {
+            context.setFuture(future);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_METHOD_NAME;
+
+/**
+ * The provider {@link Filter} handles the invocations of "{@value StreamConstants#STREAM_METHOD_NAME}", binds the
+ * streaming arguments and exports the streaming return values by {@link StreamManager}, the manager bean is injected
+ * by its name "{@value StreamManager#BEAN_NAME}" from Spring context. The filter passes through all invocations if
+ * the streaming is disabled.
+ * <p>
+ * It's ordered before the generic filter and inside the compression filter, so that the streaming return values are
+ * exported before the responses are compressed.
+ *
+ * @see StreamManager
+ * @since 2.7.10
+ */
+@Activate(group = PROVIDER, order = -22000)
+public class StreamProviderFilter implements Filter, Filter.Listener {
+
+    private StreamManager dubboStreamManager;
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        StreamManager manager = this.dubboStreamManager;
+        if (manager == null) {
+            return invoker.invoke(invocation);
+        }
+        if (STREAM_METHOD_NAME.equals(invocation.getMethodName())) {
+            return manager.handle(invoker, invocation);
+        }
+        manager.bind(invocation);
+        return invoker.invoke(invocation);
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        StreamManager manager = this.dubboStreamManager;
+        if (manager == null || STREAM_METHOD_NAME.equals(invocation.getMethodName())) {
+            return;
+        }
+        manager.release(invocation);
+        manager.export(appResponse, invoker.getUrl(), invocation);
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+        StreamManager manager = this.dubboStreamManager;
+        if (manager != null && !STREAM_METHOD_NAME.equals(invocation.getMethodName())) {
+            manager.release(invocation);
+        }
+    }
+
+    public void setDubboStreamManager(StreamManager dubboStreamManager) {
+        this.dubboStreamManager = dubboStreamManager;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The types of stream, the chunks of {@link InputStream} are <code>byte[]</code>, the chunks of {@link Iterator} are
+ * {@link List} of elements.
+ *
+ * @since 2.7.10
+ */
+enum StreamType {
+
+    BYTES("bytes", InputStream.class, byte[].class),
+
+    ELEMENTS("elements", Iterator.class, List.class);
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final Class<?> chunkType;
+
+    StreamType(String name, Class<?> type, Class<?> chunkType) {
+        this.name = name;
+        this.type = type;
+        this.chunkType = chunkType;
+    }
+
+    /**
+     * @param type the declared type of parameter or return value
+     * @return the {@link StreamType}, or <code>null</code> if it isn't a stream
+     */
+    static StreamType of(Class<?> type) {
+        for (StreamType streamType : values()) {
+            if (streamType.type.equals(type)) {
+                return streamType;
+            }
+        }
+        return null;
+    }
+
+    static StreamType of(String name) {
+        for (StreamType streamType : values()) {
+            if (streamType.name.equals(name)) {
+                return streamType;
+            }
+        }
+        return null;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Class<?> getChunkType() {
+        return chunkType;
+    }
+
+    Object newEmptyChunk() {
+        return this == BYTES ? new byte[0] : Collections.emptyList();
+    }
+
+    boolean isInstance(Object value) {
+        return type.isInstance(value);
+    }
+
+    ChunkSource newSource(Object value) {
+        return this == BYTES ? new ChunkSource.InputStreamSource((InputStream) value)
+                : new ChunkSource.IteratorSource((Iterator<?>) value);
+    }
+
+    Object newReader(ChunkChannel channel) {
+        return this == BYTES ? new ChunkInputStream(channel) : new ChunkIterator(channel);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.PUSH_OPERATION;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_CHUNK_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_END_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.stream.StreamConstants.STREAM_ERROR_ATTACHMENT;
+
+/**
+ * The consumer task pushes the chunks of a streaming argument one by one, the next chunk isn't read until the
+ * previous one is acknowledged by the provider. It stops once the invocation completes.
+ *
+ * @since 2.7.10
+ */
+class StreamUploader implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamUploader.class);
+
+    private final Invoker<?> invoker;
+
+    private final Invocation invocation;
+
+    private final String streamId;
+
+    private final ChunkSource source;
+
+    private final int chunkSize;
+
+    private final int batchSize;
+
+    private final CompletableFuture<?> completion;
+
+    StreamUploader(Invoker<?> invoker, Invocation invocation, String streamId, ChunkSource source, int chunkSize,
+                   int batchSize, CompletableFuture<?> completion) {
+        this.invoker = invoker;
+        this.invocation = invocation;
+        this.streamId = streamId;
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.completion = completion;
+    }
+
+    @Override
+    public void run() {
+        try {
+            boolean end = false;
+            while (!end && !completion.isDone()) {
+                RpcInvocation push = StreamManager.newInvocation(invocation, streamId, source.getType(),
+                        PUSH_OPERATION);
+                try {
+                    Object chunk = source.read(chunkSize, batchSize);
+                    end = source.isEnded();
+                    push.setObjectAttachment(STREAM_CHUNK_ATTACHMENT, chunk);
+                } catch (IOException e) {
+                    end = true;
+                    push.setObjectAttachment(STREAM_ERROR_ATTACHMENT, String.valueOf(e.getMessage()));
+                }
+                if (end) {
+                    push.setObjectAttachment(STREAM_END_ATTACHMENT, Boolean.TRUE.toString());
+                }
+                CompletableFuture<AppResponse> ack = StreamManager.invoke(invoker, push);
+                CompletableFuture.anyOf(ack, completion).get();
+                if (!ack.isDone()) {
+                    break;
+                }
+                AppResponse response = ack.get();
+                if (response.hasException()) {
+                    logger.warn("The stream[id : {}] is rejected : {}", streamId, response.getException().getMessage());
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (!completion.isDone()) {
+                logger.warn("The stream[id : {}] failed to push : {}", streamId, e.getCause());
+            }
+        } finally {
+            StreamManager.closeQuietly(source);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.threadpool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.threadpool.DubboVirtualThreadProperties.PREFIX;
+
+/**
+ * Dubbo Virtual Thread Properties
+ *
+ * @see VirtualThreadPool
+ * @see VirtualThreadPinnedRecording
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboVirtualThreadProperties {
+
+    /**
+     * The prefix of {@link DubboVirtualThreadProperties}
+     */
+    public static final String PREFIX = "dubbo.virtual-threads";
+
+    /**
+     * Whether the providers and consumers run the invocations on virtual threads or not, it takes effect on Java 21+
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether the pinned virtual threads are recorded by JFR or not
+     */
+    private boolean pinnedRecording = true;
+
+    /**
+     * The threshold in milliseconds of pinned virtual threads which are recorded
+     */
+    private long pinnedThreshold = 20;
+
+    /**
+     * The max age in minutes of the events in the recording
+     */
+    private long recordingMaxAge = 60;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isPinnedRecording() {
+        return pinnedRecording;
+    }
+
+    public void setPinnedRecording(boolean pinnedRecording) {
+        this.pinnedRecording = pinnedRecording;
+    }
+
+    public long getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    public void setPinnedThreshold(long pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    public long getRecordingMaxAge() {
+        return recordingMaxAge;
+    }
+
+    public void setRecordingMaxAge(long recordingMaxAge) {
+        this.recordingMaxAge = recordingMaxAge;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.threadpool;
+
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+
+import jdk.jfr.Recording;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+/**
+ * The JFR {@link Recording} of "{@value #PINNED_EVENT}" events, a virtual thread is pinned to its carrier if it
+ * blocks in a <code>synchronized</code> block or a native method, thus the carriers may be exhausted. The events
+ * whose duration exceeds the threshold are kept in the recording "{@value #RECORDING_NAME}", they can be dumped by
+ * <pre>
+ * jcmd &lt;pid&gt; JFR.dump name=dubbo-virtual-threads filename=pinned.jfr
+ * </pre>
+ *
+ * @see DubboVirtualThreadProperties
+ * @since 2.7.10
+ */
+public class VirtualThreadPinnedRecording implements InitializingBean, DisposableBean {
+
+    /**
+     * The bean name of {@link VirtualThreadPinnedRecording}
+     */
+    public static final String BEAN_NAME = "dubboVirtualThreadPinnedRecording";
+
+    /**
+     * The name of recording
+     */
+    public static final String RECORDING_NAME = "dubbo-virtual-threads";
+
+    /**
+     * The name of JFR event
+     */
+    public static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinnedRecording.class);
+
+    private final DubboVirtualThreadProperties properties;
+
+    private Recording recording;
+
+    public VirtualThreadPinnedRecording(DubboVirtualThreadProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Recording recording = new Recording();
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMinutes(properties.getRecordingMaxAge()));
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(properties.getPinnedThreshold()))
+                .withStackTrace();
+        recording.start();
+        this.recording = recording;
+        if (logger.isInfoEnabled()) {
+            logger.info("The pinned virtual threads over " + properties.getPinnedThreshold()
+                    + " ms are recorded by JFR recording \"" + RECORDING_NAME + "\"");
+        }
+    }
+
+    /**
+     * @return the recording, or <code>null</code> if it's not started
+     */
+    public Recording getRecording() {
+        return recording;
+    }
+
+    @Override
+    public void destroy() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
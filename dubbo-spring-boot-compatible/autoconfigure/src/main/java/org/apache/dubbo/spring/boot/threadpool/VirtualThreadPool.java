@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.threadpool;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.logger.Logger;
+import org.apache.dubbo.common.logger.LoggerFactory;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+import org.apache.dubbo.common.threadpool.support.fixed.FixedThreadPool;
+
+import java.util.concurrent.Executor;
+
+import static org.apache.dubbo.common.constants.CommonConstants.DEFAULT_THREAD_NAME;
+import static org.apache.dubbo.common.constants.CommonConstants.THREAD_NAME_KEY;
+
+/**
+ * The {@link ThreadPool} runs each task on a new virtual thread rather than a fixed-size pool of platform threads,
+ * so that the invocations which block on IO don't exhaust the pool, or queue up on bursts. The providers use it by
+ * "threadpool=virtual", and the consumers run the callbacks of asynchronous invocations on it by the same parameter.
+ * <p>
+ * The count of concurrent invocations is unbounded, thus "threads" and "queues" are ignored, the limits are
+ * configurable by "executes" and "actives" of services. It falls back to the "fixed" one if the JDK doesn't support
+ * virtual threads.
+ *
+ * @see VirtualThreads
+ * @since 2.7.10
+ */
+public class VirtualThreadPool implements ThreadPool {
+
+    /**
+     * The name of {@link VirtualThreadPool} extension
+     */
+    public static final String NAME = "virtual";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPool.class);
+
+    @Override
+    public Executor getExecutor(URL url) {
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("The thread pool \"" + NAME + "\" requires Java 21+, falls back to the fixed one : " + url);
+            return new FixedThreadPool().getExecutor(url);
+        }
+        String name = url.getParameter(THREAD_NAME_KEY, DEFAULT_THREAD_NAME);
+        return VirtualThreads.newThreadPerTaskExecutor(name + "-virtual-");
+    }
+}
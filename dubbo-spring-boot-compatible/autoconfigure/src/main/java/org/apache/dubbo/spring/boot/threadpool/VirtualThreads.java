@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.threadpool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The utilities of virtual threads, they're resolved by reflection because the project is built on Java 8 while the
+ * virtual threads are available since Java 21.
+ *
+ * @since 2.7.10
+ */
+public abstract class VirtualThreads {
+
+    private static final Method OF_VIRTUAL_METHOD;
+
+    private static final Method NAME_METHOD;
+
+    private static final Method FACTORY_METHOD;
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        Method newThreadPerTaskExecutorMethod = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // The virtual threads are not supported
+            ofVirtualMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+
+    /**
+     * @return whether the JDK supports virtual threads (Java 21+) or not
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL_METHOD != null;
+    }
+
+    /**
+     * Creates a {@link ThreadFactory} of virtual threads, they're named by the prefix and a sequence starting from 1
+     *
+     * @param prefix the prefix of thread names
+     * @return non-null
+     * @throws UnsupportedOperationException if the virtual threads are not supported
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        Object builder = invoke(OF_VIRTUAL_METHOD, null);
+        builder = invoke(NAME_METHOD, builder, prefix, 1L);
+        return (ThreadFactory) invoke(FACTORY_METHOD, builder);
+    }
+
+    /**
+     * Creates an {@link ExecutorService} which starts a new virtual thread for each task
+     *
+     * @param prefix the prefix of thread names
+     * @return non-null
+     * @throws UnsupportedOperationException if the virtual threads are not supported
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        return (ExecutorService) invoke(NEW_THREAD_PER_TASK_EXECUTOR_METHOD, null, newThreadFactory(prefix));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("The virtual threads require Java 21+, but the current is "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getTargetException());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+/**
+ * The tracer that {@link TracingFilter} delegates to. It decides whether an invocation is sampled,
+ * propagates the trace context through the RPC attachments and creates the {@link TraceSpan}.
+ *
+ * @see TracingFilter
+ * @see SimpleDubboTracer
+ * @since 2.7.10
+ */
+public interface DubboTracer {
+
+    /**
+     * The bean name of {@link DubboTracer}, it's also the property name that {@link TracingFilter} is injected by
+     */
+    String BEAN_NAME = "dubboTracer";
+
+    /**
+     * Starts a span for the specified invocation. On the consumer side, the trace context is injected into
+     * the attachments of {@link Invocation}, on the provider side, it's extracted from them.
+     * <p>
+     * The implementation must not allocate when the invocation is not sampled.
+     *
+     * @param invoker      {@link Invoker}
+     * @param invocation   {@link Invocation}
+     * @param consumerSide <code>true</code> if the invocation is on the consumer side
+     * @return <code>null</code> if the invocation is not sampled, or a shared span which only keeps the decision
+     * in scope
+     */
+    TraceSpan startSpan(Invoker<?> invoker, Invocation invocation, boolean consumerSide);
+
+}
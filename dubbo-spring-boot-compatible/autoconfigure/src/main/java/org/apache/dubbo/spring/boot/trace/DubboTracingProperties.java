@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import static org.apache.dubbo.spring.boot.trace.DubboTracingProperties.PREFIX;
+
+/**
+ * Dubbo Tracing Properties
+ *
+ * @see TracingFilter
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboTracingProperties {
+
+    /**
+     * The prefix of {@link DubboTracingProperties}
+     */
+    public static final String PREFIX = "dubbo.tracing";
+
+    /**
+     * Whether the tracing is enabled or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The rate of sampled traces between 0.0 and 1.0, it only works when neither Brave nor OpenTelemetry
+     * is bridged, they sample the traces by themselves.
+     */
+    private float samplingRate = 0.1f;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public float getSamplingRate() {
+        return samplingRate;
+    }
+
+    public void setSamplingRate(float samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link TraceReporter} logs the finished spans, only the sampled spans are formatted.
+ *
+ * @since 2.7.10
+ */
+public class LoggingTraceReporter implements TraceReporter {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Override
+    public void report(SimpleTraceSpan span) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        TraceContext context = span.getContext();
+        logger.info("[{}] {}#{} traceId={} spanId={} parentId={} remote={} duration={}us{}",
+                span.isConsumerSide() ? "consumer" : "provider",
+                span.getServiceName(), span.getMethodName(),
+                context.traceIdString(), context.spanIdString(), context.parentIdString(),
+                span.getRemoteAddress(),
+                TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()),
+                span.getError() == null ? "" : " error=" + span.getError());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+
+/**
+ * The built-in {@link DubboTracer} which samples the traces by {@link TraceSampler} and reports
+ * the finished spans to {@link TraceReporter}.
+ * <p>
+ * The sampling decision is made once at the head of trace and propagated as the B3 sampling state, the
+ * unsampled invocations don't create spans, the providers keep the decision in scope for the nested invocations.
+ *
+ * @since 2.7.10
+ */
+public class SimpleDubboTracer implements DubboTracer {
+
+    static final ThreadLocal<TraceContext> currentContext = new ThreadLocal<>();
+
+    private final TraceSampler sampler;
+
+    private final TraceReporter reporter;
+
+    public SimpleDubboTracer(TraceSampler sampler, TraceReporter reporter) {
+        this.sampler = sampler;
+        this.reporter = reporter;
+    }
+
+    @Override
+    public TraceSpan startSpan(Invoker<?> invoker, Invocation invocation, boolean consumerSide) {
+        TraceContext context;
+        if (consumerSide) {
+            TraceContext parent = currentContext.get();
+            if (parent != null) {
+                context = parent == TraceContext.NOT_SAMPLED ? parent : parent.newChild();
+            } else {
+                context = sampler.isSampled() ? TraceContext.newRoot() : TraceContext.NOT_SAMPLED;
+            }
+            // The decision not to sample is propagated as well, thus the providers don't sample again
+            context.inject(invocation);
+            if (context == TraceContext.NOT_SAMPLED) {
+                return null;
+            }
+        } else {
+            TraceContext parent = TraceContext.extract(invocation);
+            if (parent == TraceContext.NOT_SAMPLED) {
+                return unsampledScope();
+            } else if (parent != null) {
+                context = parent.newChild();
+            } else if (sampler.isSampled()) {
+                context = TraceContext.newRoot();
+            } else {
+                return unsampledScope();
+            }
+        }
+        return new SimpleTraceSpan(reporter, context, consumerSide, invoker, invocation);
+    }
+
+    /**
+     * Keep the decision not to sample in scope of the provider, thus the nested invocations propagate it
+     *
+     * @return <code>null</code> if the invoking thread is in scope already, e.g. the injvm invocations
+     */
+    private static TraceSpan unsampledScope() {
+        return currentContext.get() == null ? UnsampledScope.INSTANCE : null;
+    }
+
+    /**
+     * Get the context of the span in scope
+     *
+     * @return <code>null</code> if absent
+     */
+    public static TraceContext currentContext() {
+        return currentContext.get();
+    }
+
+    /**
+     * The shared {@link TraceSpan} which keeps {@link TraceContext#NOT_SAMPLED} in scope, nothing is reported
+     */
+    private static class UnsampledScope implements TraceSpan {
+
+        private static final UnsampledScope INSTANCE = new UnsampledScope();
+
+        @Override
+        public void enterScope() {
+            currentContext.set(TraceContext.NOT_SAMPLED);
+        }
+
+        @Override
+        public void exitScope() {
+            currentContext.remove();
+        }
+
+        @Override
+        public void finish(Throwable error) {
+        }
+    }
+}
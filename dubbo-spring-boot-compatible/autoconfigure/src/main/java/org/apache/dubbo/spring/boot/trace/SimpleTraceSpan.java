@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.spring.boot.trace.SimpleDubboTracer.currentContext;
+
+/**
+ * The {@link TraceSpan} created by {@link SimpleDubboTracer}
+ *
+ * @since 2.7.10
+ */
+public class SimpleTraceSpan implements TraceSpan {
+
+    private final TraceReporter reporter;
+
+    private final TraceContext context;
+
+    private final boolean consumerSide;
+
+    private final String serviceName;
+
+    private final String methodName;
+
+    private final URL url;
+
+    private final String remoteAddress;
+
+    private final long startTimeMicros;
+
+    private final long startNanos;
+
+    private TraceContext previous;
+
+    private long durationNanos = -1L;
+
+    private Throwable error;
+
+    SimpleTraceSpan(TraceReporter reporter, TraceContext context, boolean consumerSide,
+                    Invoker<?> invoker, Invocation invocation) {
+        this.reporter = reporter;
+        this.context = context;
+        this.consumerSide = consumerSide;
+        this.serviceName = invocation.getServiceName();
+        this.methodName = invocation.getMethodName();
+        this.url = invoker.getUrl();
+        // The remote address of provider side is bound to the invoking thread
+        this.remoteAddress = consumerSide ? null : RpcContext.getContext().getRemoteAddressString();
+        this.startTimeMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void enterScope() {
+        previous = currentContext.get();
+        currentContext.set(context);
+    }
+
+    @Override
+    public void exitScope() {
+        if (previous == null) {
+            currentContext.remove();
+        } else {
+            currentContext.set(previous);
+            previous = null;
+        }
+    }
+
+    @Override
+    public void finish(Throwable error) {
+        this.durationNanos = System.nanoTime() - startNanos;
+        this.error = error;
+        reporter.report(this);
+    }
+
+    public TraceContext getContext() {
+        return context;
+    }
+
+    public boolean isConsumerSide() {
+        return consumerSide;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return the address of provider on the consumer side, or the address of consumer on the provider side
+     */
+    public String getRemoteAddress() {
+        return consumerSide ? url.getAddress() : remoteAddress;
+    }
+
+    public long getStartTimeMicros() {
+        return startTimeMicros;
+    }
+
+    /**
+     * @return the duration in nanoseconds, or -1 if the span is not finished
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
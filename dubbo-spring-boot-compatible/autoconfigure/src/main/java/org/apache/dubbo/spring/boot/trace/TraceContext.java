@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.rpc.Invocation;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The identifiers of a sampled span which are propagated in the
+ * <a href="https://github.com/openzipkin/b3-propagation">B3</a> format.
+ * <p>
+ * The context is injected as the single "b3" attachment, both the single and the multiple ("X-B3-*")
+ * attachments are accepted on extraction.
+ *
+ * @since 2.7.10
+ */
+public final class TraceContext {
+
+    /**
+     * The attachment name of B3 single format
+     */
+    public static final String B3_ATTACHMENT_NAME = "b3";
+
+    /**
+     * The attachment name of the trace id in B3 multiple format
+     */
+    public static final String TRACE_ID_ATTACHMENT_NAME = "X-B3-TraceId";
+
+    /**
+     * The attachment name of the span id in B3 multiple format
+     */
+    public static final String SPAN_ID_ATTACHMENT_NAME = "X-B3-SpanId";
+
+    /**
+     * The attachment name of the sampling decision in B3 multiple format
+     */
+    public static final String SAMPLED_ATTACHMENT_NAME = "X-B3-Sampled";
+
+    /**
+     * The marker returned by {@link #extract(Invocation)} when the caller decided not to sample, it's kept in scope
+     * of the unsampled providers as well
+     */
+    static final TraceContext NOT_SAMPLED = new TraceContext(0L, 0L, 0L, 0L);
+
+    private static final String NOT_SAMPLED_B3 = "0";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final long traceIdHigh;
+
+    private final long traceId;
+
+    private final long spanId;
+
+    private final long parentId;
+
+    TraceContext(long traceIdHigh, long traceId, long spanId, long parentId) {
+        this.traceIdHigh = traceIdHigh;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentId = parentId;
+    }
+
+    /**
+     * Creates a new root context
+     *
+     * @return non-null
+     */
+    public static TraceContext newRoot() {
+        long id = nextId();
+        return new TraceContext(0L, id, id, 0L);
+    }
+
+    /**
+     * Creates a child context of current one
+     *
+     * @return non-null
+     */
+    public TraceContext newChild() {
+        return new TraceContext(traceIdHigh, traceId, nextId(), spanId);
+    }
+
+    public long getTraceIdHigh() {
+        return traceIdHigh;
+    }
+
+    public long getTraceId() {
+        return traceId;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    public long getParentId() {
+        return parentId;
+    }
+
+    public String traceIdString() {
+        StringBuilder builder = new StringBuilder(32);
+        if (traceIdHigh != 0L) {
+            appendHex(builder, traceIdHigh);
+        }
+        appendHex(builder, traceId);
+        return builder.toString();
+    }
+
+    public String spanIdString() {
+        return appendHex(new StringBuilder(16), spanId).toString();
+    }
+
+    public String parentIdString() {
+        return parentId == 0L ? null : appendHex(new StringBuilder(16), parentId).toString();
+    }
+
+    /**
+     * Injects current context into the attachments of {@link Invocation}, or only the sampling state "0" if it's
+     * {@link #NOT_SAMPLED}
+     *
+     * @param invocation {@link Invocation}
+     */
+    public void inject(Invocation invocation) {
+        if (this == NOT_SAMPLED) {
+            invocation.setAttachment(B3_ATTACHMENT_NAME, NOT_SAMPLED_B3);
+            return;
+        }
+        StringBuilder builder = new StringBuilder(70);
+        if (traceIdHigh != 0L) {
+            appendHex(builder, traceIdHigh);
+        }
+        appendHex(builder, traceId).append('-');
+        appendHex(builder, spanId).append("-1");
+        if (parentId != 0L) {
+            appendHex(builder.append('-'), parentId);
+        }
+        invocation.setAttachment(B3_ATTACHMENT_NAME, builder.toString());
+    }
+
+    /**
+     * Extracts the context from the attachments of {@link Invocation}
+     *
+     * @param invocation {@link Invocation}
+     * @return <code>null</code> if absent or malformed, {@link #NOT_SAMPLED} if the caller decided not to sample
+     */
+    static TraceContext extract(Invocation invocation) {
+        String b3 = invocation.getAttachment(B3_ATTACHMENT_NAME);
+        if (b3 != null) {
+            return parseB3(b3);
+        }
+        String traceId = invocation.getAttachment(TRACE_ID_ATTACHMENT_NAME);
+        String sampled = invocation.getAttachment(SAMPLED_ATTACHMENT_NAME);
+        if ("0".equals(sampled) || "false".equals(sampled)) {
+            return NOT_SAMPLED;
+        }
+        if (traceId == null) {
+            return null;
+        }
+        String spanId = invocation.getAttachment(SPAN_ID_ATTACHMENT_NAME);
+        return spanId == null ? null : create(traceId, 0, traceId.length(), spanId, 0, spanId.length());
+    }
+
+    private static TraceContext parseB3(String b3) {
+        int length = b3.length();
+        if (length == 1) { // only the sampling state : "0", "1" or "d"
+            return b3.charAt(0) == '0' ? NOT_SAMPLED : null;
+        }
+        int traceIdEnd = b3.indexOf('-');
+        if (traceIdEnd < 0) {
+            return null;
+        }
+        int spanIdEnd = b3.indexOf('-', traceIdEnd + 1);
+        if (spanIdEnd < 0) {
+            spanIdEnd = length;
+        }
+        if (spanIdEnd < length) {
+            int samplingEnd = b3.indexOf('-', spanIdEnd + 1);
+            if (samplingEnd < 0) {
+                samplingEnd = length;
+            }
+            if (samplingEnd - spanIdEnd == 2 && b3.charAt(spanIdEnd + 1) == '0') {
+                return NOT_SAMPLED;
+            }
+        }
+        // The parent span id is ignored, the incoming span is the parent of the local one
+        return create(b3, 0, traceIdEnd, b3, traceIdEnd + 1, spanIdEnd);
+    }
+
+    private static TraceContext create(String traceIdSource, int traceIdStart, int traceIdEnd,
+                                       String spanIdSource, int spanIdStart, int spanIdEnd) {
+        int traceIdLength = traceIdEnd - traceIdStart;
+        if ((traceIdLength != 16 && traceIdLength != 32) || spanIdEnd - spanIdStart != 16) {
+            return null;
+        }
+        long traceIdHigh = traceIdLength == 32 ? parseHex(traceIdSource, traceIdStart, traceIdStart + 16) : 0L;
+        long traceId = parseHex(traceIdSource, traceIdEnd - 16, traceIdEnd);
+        long spanId = parseHex(spanIdSource, spanIdStart, spanIdEnd);
+        if (traceId == 0L || spanId == 0L) {
+            return null;
+        }
+        return new TraceContext(traceIdHigh, traceId, spanId, 0L);
+    }
+
+    private static long parseHex(String source, int start, int end) {
+        long value = 0L;
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return 0L;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static StringBuilder appendHex(StringBuilder builder, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            builder.append(HEX_DIGITS[(int) (value >>> shift) & 0xf]);
+        }
+        return builder;
+    }
+
+    private static long nextId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0L);
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return traceIdString() + "/" + spanIdString();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The head-based sampler which decides whether a new trace is recorded
+ *
+ * @since 2.7.10
+ */
+public abstract class TraceSampler {
+
+    /**
+     * The {@link TraceSampler} samples all traces
+     */
+    public static final TraceSampler ALWAYS_SAMPLE = new TraceSampler() {
+        @Override
+        public boolean isSampled() {
+            return true;
+        }
+    };
+
+    /**
+     * The {@link TraceSampler} samples none of traces
+     */
+    public static final TraceSampler NEVER_SAMPLE = new TraceSampler() {
+        @Override
+        public boolean isSampled() {
+            return false;
+        }
+    };
+
+    /**
+     * Decides whether a new trace is sampled
+     *
+     * @return <code>true</code> if sampled
+     */
+    public abstract boolean isSampled();
+
+    /**
+     * Creates a {@link TraceSampler} by the rate
+     *
+     * @param rate the rate of sampled traces, between 0.0 and 1.0
+     * @return non-null
+     */
+    public static TraceSampler create(float rate) {
+        if (rate < 0.0f || rate > 1.0f) {
+            throw new IllegalArgumentException("The sampling rate must be between 0.0 and 1.0 : " + rate);
+        }
+        if (rate == 0.0f) {
+            return NEVER_SAMPLE;
+        }
+        if (rate == 1.0f) {
+            return ALWAYS_SAMPLE;
+        }
+        return new RateTraceSampler(rate);
+    }
+
+    private static class RateTraceSampler extends TraceSampler {
+
+        private final int threshold;
+
+        private RateTraceSampler(float rate) {
+            this.threshold = (int) (rate * 10000);
+        }
+
+        @Override
+        public boolean isSampled() {
+            return ThreadLocalRandom.current().nextInt(10000) < threshold;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+/**
+ * A span of the Dubbo invocation which was started by {@link DubboTracer}, it only keeps the decision in scope
+ * if the invocation is not sampled
+ *
+ * @since 2.7.10
+ */
+public interface TraceSpan {
+
+    /**
+     * Makes the span current in the invoking thread, the nested invocations will be its children.
+     */
+    void enterScope();
+
+    /**
+     * Restores the span which was current before {@link #enterScope()}
+     */
+    void exitScope();
+
+    /**
+     * Finishes the span
+     *
+     * @param error the error of the invocation, may be <code>null</code>
+     */
+    void finish(Throwable error);
+
+}
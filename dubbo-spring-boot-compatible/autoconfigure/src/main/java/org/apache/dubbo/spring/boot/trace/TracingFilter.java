@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER;
+import static org.apache.dubbo.common.constants.CommonConstants.CONSUMER_SIDE;
+import static org.apache.dubbo.common.constants.CommonConstants.PROVIDER;
+import static org.apache.dubbo.common.constants.CommonConstants.SIDE_KEY;
+
+/**
+ * The tracing {@link Filter} on both consumer and provider sides, the {@link DubboTracer} bean is injected by
+ * its name "{@value DubboTracer#BEAN_NAME}" from Spring context. The filter passes through all invocations
+ * if tracing is disabled.
+ *
+ * @see DubboTracer
+ * @since 2.7.10
+ */
+@Activate(group = {CONSUMER, PROVIDER}, order = -9500)
+public class TracingFilter implements Filter, Filter.Listener {
+
+    /**
+     * The attribute name of {@link TraceSpan} in {@link Invocation}
+     */
+    static final String TRACE_SPAN_ATTRIBUTE_NAME = TraceSpan.class.getName();
+
+    private DubboTracer dubboTracer;
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        DubboTracer tracer = this.dubboTracer;
+        if (tracer == null) {
+            return invoker.invoke(invocation);
+        }
+        boolean consumerSide = CONSUMER_SIDE.equals(invoker.getUrl().getParameter(SIDE_KEY));
+        TraceSpan span = tracer.startSpan(invoker, invocation, consumerSide);
+        if (span == null) {
+            return invoker.invoke(invocation);
+        }
+        invocation.put(TRACE_SPAN_ATTRIBUTE_NAME, span);
+        span.enterScope();
+        try {
+            return invoker.invoke(invocation);
+        } finally {
+            span.exitScope();
+        }
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        finishSpan(invocation, appResponse.getException());
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+        finishSpan(invocation, t);
+    }
+
+    private void finishSpan(Invocation invocation, Throwable error) {
+        Object span = invocation.get(TRACE_SPAN_ATTRIBUTE_NAME);
+        if (span instanceof TraceSpan) {
+            ((TraceSpan) span).finish(error);
+        }
+    }
+
+    public void setDubboTracer(DubboTracer dubboTracer) {
+        this.dubboTracer = dubboTracer;
+    }
+}
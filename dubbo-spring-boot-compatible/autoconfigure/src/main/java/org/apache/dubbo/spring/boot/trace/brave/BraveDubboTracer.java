@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace.brave;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.spring.boot.trace.DubboTracer;
+import org.apache.dubbo.spring.boot.trace.TraceSpan;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+
+/**
+ * The {@link DubboTracer} bridges to <a href="https://github.com/openzipkin/brave">Brave</a>'s {@link Tracing},
+ * e.g. the one of Spring Cloud Sleuth. Both sampling and propagation are delegated to {@link Tracing}, thus
+ * the unsampled invocations still carry Brave's sampling decision.
+ *
+ * @since 2.7.10
+ */
+public class BraveDubboTracer implements DubboTracer {
+
+    private final Tracer tracer;
+
+    private final TraceContext.Injector<Invocation> injector;
+
+    private final TraceContext.Extractor<Invocation> extractor;
+
+    public BraveDubboTracer(Tracing tracing) {
+        this.tracer = tracing.tracer();
+        this.injector = tracing.propagation().injector((invocation, key, value) -> invocation.setAttachment(key, value));
+        this.extractor = tracing.propagation().extractor((invocation, key) -> invocation.getAttachment(key));
+    }
+
+    @Override
+    public TraceSpan startSpan(Invoker<?> invoker, Invocation invocation, boolean consumerSide) {
+        Span span;
+        if (consumerSide) {
+            span = tracer.nextSpan();
+            injector.inject(span.context(), invocation);
+            if (span.isNoop()) {
+                return null;
+            }
+            URL url = invoker.getUrl();
+            span.kind(Span.Kind.CLIENT).remoteIpAndPort(url.getHost(), url.getPort());
+        } else {
+            TraceContextOrSamplingFlags extracted = extractor.extract(invocation);
+            span = tracer.nextSpan(extracted);
+            if (span.isNoop()) {
+                // Keeps the unsampled decision in scope for the nested invocations
+                return new BraveTraceSpan(tracer, span);
+            }
+            RpcContext context = RpcContext.getContext();
+            span.kind(Span.Kind.SERVER).remoteIpAndPort(context.getRemoteHost(), context.getRemotePort());
+        }
+        span.name(invocation.getServiceName() + "/" + invocation.getMethodName()).start();
+        return new BraveTraceSpan(tracer, span);
+    }
+
+    private static class BraveTraceSpan implements TraceSpan {
+
+        private final Tracer tracer;
+
+        private final Span span;
+
+        private Tracer.SpanInScope spanInScope;
+
+        BraveTraceSpan(Tracer tracer, Span span) {
+            this.tracer = tracer;
+            this.span = span;
+        }
+
+        @Override
+        public void enterScope() {
+            spanInScope = tracer.withSpanInScope(span);
+        }
+
+        @Override
+        public void exitScope() {
+            if (spanInScope != null) {
+                spanInScope.close();
+                spanInScope = null;
+            }
+        }
+
+        @Override
+        public void finish(Throwable error) {
+            if (error != null) {
+                span.error(error);
+            }
+            span.finish();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace.opentelemetry;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcContext;
+import org.apache.dubbo.spring.boot.trace.DubboTracer;
+import org.apache.dubbo.spring.boot.trace.TraceSpan;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * The {@link DubboTracer} bridges to <a href="https://opentelemetry.io">OpenTelemetry</a>. Both sampling and
+ * propagation are delegated to {@link OpenTelemetry}, thus the unsampled invocations still carry
+ * the sampling decision.
+ *
+ * @since 2.7.10
+ */
+public class OpenTelemetryDubboTracer implements DubboTracer {
+
+    /**
+     * The instrumentation name of {@link Tracer}
+     */
+    public static final String INSTRUMENTATION_NAME = "org.apache.dubbo";
+
+    private static final TextMapSetter<Invocation> SETTER = (invocation, key, value) -> {
+        if (invocation != null) {
+            invocation.setAttachment(key, value);
+        }
+    };
+
+    private static final TextMapGetter<Invocation> GETTER = new TextMapGetter<Invocation>() {
+
+        @Override
+        public Iterable<String> keys(Invocation invocation) {
+            return invocation.getObjectAttachments().keySet();
+        }
+
+        @Override
+        public String get(Invocation invocation, String key) {
+            return invocation == null ? null : invocation.getAttachment(key);
+        }
+    };
+
+    private final Tracer tracer;
+
+    private final TextMapPropagator propagator;
+
+    public OpenTelemetryDubboTracer(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    @Override
+    public TraceSpan startSpan(Invoker<?> invoker, Invocation invocation, boolean consumerSide) {
+        Context parent = consumerSide ? Context.current() : propagator.extract(Context.root(), invocation, GETTER);
+        Span span = tracer.spanBuilder(invocation.getServiceName() + "/" + invocation.getMethodName())
+                .setParent(parent)
+                .setSpanKind(consumerSide ? SpanKind.CLIENT : SpanKind.SERVER)
+                .startSpan();
+        Context context = parent.with(span);
+        if (consumerSide) {
+            propagator.inject(context, invocation, SETTER);
+        }
+        if (span.isRecording()) {
+            span.setAttribute("rpc.system", "dubbo");
+            span.setAttribute("rpc.service", invocation.getServiceName());
+            span.setAttribute("rpc.method", invocation.getMethodName());
+            if (consumerSide) {
+                URL url = invoker.getUrl();
+                span.setAttribute("net.peer.name", url.getHost());
+                span.setAttribute("net.peer.port", url.getPort());
+            } else {
+                RpcContext rpcContext = RpcContext.getContext();
+                span.setAttribute("net.peer.ip", rpcContext.getRemoteHost());
+                span.setAttribute("net.peer.port", rpcContext.getRemotePort());
+            }
+        } else if (consumerSide) {
+            return null;
+        }
+        return new OpenTelemetryTraceSpan(span, context);
+    }
+
+    private static class OpenTelemetryTraceSpan implements TraceSpan {
+
+        private final Span span;
+
+        private final Context context;
+
+        private Scope scope;
+
+        OpenTelemetryTraceSpan(Span span, Context context) {
+            this.span = span;
+            this.context = context;
+        }
+
+        @Override
+        public void enterScope() {
+            scope = context.makeCurrent();
+        }
+
+        @Override
+        public void exitScope() {
+            if (scope != null) {
+                scope.close();
+                scope = null;
+            }
+        }
+
+        @Override
+        public void finish(Throwable error) {
+            if (error != null) {
+                span.recordException(error);
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end();
+        }
+    }
+}
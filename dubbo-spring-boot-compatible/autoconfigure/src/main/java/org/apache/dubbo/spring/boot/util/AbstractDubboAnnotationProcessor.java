@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.util;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The base of annotation processors which generate artifacts at build time for the Dubbo services and references,
+ * i.e. the classes annotated by "@DubboService" or "@Service" and the fields and setters annotated by
+ * "@DubboReference" or "@Reference". Their interfaces are resolved like Dubbo does : "interfaceClass" or
+ * "interfaceName" attribute, or else the first interface of the annotated class, or the type of annotated field or
+ * setter.
+ *
+ * @since 2.7.10
+ */
+public abstract class AbstractDubboAnnotationProcessor extends AbstractProcessor {
+
+    public static final String DUBBO_SERVICE = "org.apache.dubbo.config.annotation.DubboService";
+
+    public static final String SERVICE = "org.apache.dubbo.config.annotation.Service";
+
+    public static final String COMPATIBLE_SERVICE = "com.alibaba.dubbo.config.annotation.Service";
+
+    public static final String DUBBO_REFERENCE = "org.apache.dubbo.config.annotation.DubboReference";
+
+    public static final String REFERENCE = "org.apache.dubbo.config.annotation.Reference";
+
+    public static final String COMPATIBLE_REFERENCE = "com.alibaba.dubbo.config.annotation.Reference";
+
+    private static final Set<String> SERVICE_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            DUBBO_SERVICE, SERVICE, COMPATIBLE_SERVICE)));
+
+    private static final Set<String> REFERENCE_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(DUBBO_REFERENCE, REFERENCE, COMPATIBLE_REFERENCE)));
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new LinkedHashSet<>(SERVICE_ANNOTATIONS);
+        annotationTypes.addAll(REFERENCE_ANNOTATIONS);
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            String annotationName = annotation.getQualifiedName().toString();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                AnnotationMirror annotationMirror = getAnnotationMirror(element, annotation);
+                if (SERVICE_ANNOTATIONS.contains(annotationName) && element instanceof TypeElement) {
+                    processService((TypeElement) element, getInterface(annotationMirror, element.asType()));
+                } else if (REFERENCE_ANNOTATIONS.contains(annotationName)) {
+                    TypeElement interfaceElement = getInterface(annotationMirror, getReferenceType(element));
+                    if (interfaceElement != null) {
+                        processReference(interfaceElement);
+                    }
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            processingOver();
+        }
+        // The annotations are left to other processors
+        return false;
+    }
+
+    /**
+     * Process the annotated service
+     *
+     * @param implementation   the annotated class
+     * @param interfaceElement the interface of service, or <code>null</code> if it can't be resolved
+     */
+    protected abstract void processService(TypeElement implementation, TypeElement interfaceElement);
+
+    /**
+     * Process the annotated reference
+     *
+     * @param interfaceElement the interface of reference
+     */
+    protected abstract void processReference(TypeElement interfaceElement);
+
+    /**
+     * Generate the artifacts once all rounds are processed
+     */
+    protected abstract void processingOver();
+
+    /**
+     * Get the methods of interface which a proxy implements, i.e. the abstract and default ones, including the
+     * inherited ones, but excluding the methods of {@link Object}
+     *
+     * @param interfaceElement the interface
+     * @return non-null
+     */
+    protected List<ExecutableElement> getInterfaceMethods(TypeElement interfaceElement) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(interfaceElement))) {
+            if (method.getEnclosingElement().getKind() == ElementKind.INTERFACE
+                    && !method.getModifiers().contains(Modifier.STATIC)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Get the binary name of type, e.g. "com.acme.Order$Item", which is the name of {@link Class}
+     *
+     * @param typeElement the type
+     * @return non-null
+     */
+    protected String getBinaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    /**
+     * Write the resource into the class output, one line per element
+     *
+     * @param location the location of resource, e.g. "META-INF/dubbo-preload/services"
+     * @param lines    the lines, nothing is written if it's empty
+     */
+    protected void writeResource(String location, Collection<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    location);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + getClass().getName() + "\n");
+                for (String line : lines) {
+                    writer.write(line + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The resource " + location
+                    + " can't be written : " + e);
+        }
+    }
+
+    private TypeMirror getReferenceType(Element element) {
+        if (element instanceof VariableElement) {
+            return element.asType();
+        }
+        if (element instanceof ExecutableElement) {
+            List<? extends VariableElement> parameters = ((ExecutableElement) element).getParameters();
+            if (parameters.size() == 1) {
+                return parameters.get(0).asType();
+            }
+        }
+        return null;
+    }
+
+    private TypeElement getInterface(AnnotationMirror annotationMirror, TypeMirror annotatedType) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                annotationMirror.getElementValues().entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            Object value = entry.getValue().getValue();
+            if ("interfaceClass".equals(name) && value instanceof DeclaredType) {
+                TypeElement typeElement = (TypeElement) ((DeclaredType) value).asElement();
+                if (typeElement.getKind() == ElementKind.INTERFACE) {
+                    return typeElement;
+                }
+            } else if ("interfaceName".equals(name) && value instanceof String && !((String) value).isEmpty()) {
+                return processingEnv.getElementUtils().getTypeElement((String) value);
+            }
+        }
+        if (!(annotatedType instanceof DeclaredType)) {
+            return null;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) annotatedType).asElement();
+        if (typeElement.getKind() == ElementKind.INTERFACE) {
+            return typeElement;
+        }
+        List<? extends TypeMirror> interfaces = typeElement.getInterfaces();
+        return interfaces.isEmpty() ? null : (TypeElement) ((DeclaredType) interfaces.get(0)).asElement();
+    }
+
+    private AnnotationMirror getAnnotationMirror(Element element, TypeElement annotation) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (annotationMirror.getAnnotationType().asElement().equals(annotation)) {
+                return annotationMirror;
+            }
+        }
+        throw new IllegalStateException(element + " isn't annotated by " + annotation);
+    }
+}
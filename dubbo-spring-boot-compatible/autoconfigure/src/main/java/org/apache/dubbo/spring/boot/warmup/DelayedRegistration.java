@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.registry.RegistryFactory;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.ProviderModel;
+import org.apache.dubbo.rpc.model.ProviderModel.RegisterStatedURL;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.dubbo.common.constants.CommonConstants.GROUP_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.REGISTER_KEY;
+import static org.apache.dubbo.common.constants.CommonConstants.VERSION_KEY;
+
+/**
+ * Delayed Registration, the services are exported as usual, but their registration is held back by
+ * {@link DelayedRegistrationProtocolWrapper} until {@link ApplicationReadyEvent}. Then the provider warms up by the
+ * sample invocations, which go through the real protocol stack to the addresses which are about to be registered, and
+ * all services are registered in one batch, as the "online" command of QoS does.
+ * <p>
+ * The services which are exported after the batch, or configured with "register" = <code>false</code>, aren't
+ * touched.
+ *
+ * @see DelayedRegistrationProtocolWrapper
+ * @see DubboDelayedRegistrationProperties
+ * @since 2.7.10
+ */
+public class DelayedRegistration implements ApplicationListener<ApplicationReadyEvent> {
+
+    /**
+     * The bean name of {@link DelayedRegistration}
+     */
+    public static final String BEAN_NAME = "dubboDelayedRegistration";
+
+    private static final Logger logger = LoggerFactory.getLogger(DelayedRegistration.class);
+
+    private final DubboDelayedRegistrationProperties properties;
+
+    /**
+     * The service keys of which the registration is held back
+     */
+    private final Set<String> serviceKeys = new LinkedHashSet<>();
+
+    private final Map<String, SampleInvocation> sampleInvocations = Collections.synchronizedMap(
+            new LinkedHashMap<>());
+
+    private volatile boolean registered;
+
+    public DelayedRegistration(DubboDelayedRegistrationProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Hold back the registration of provider unless the services have been registered
+     *
+     * @param providerUrl the URL of provider
+     * @return <code>true</code> if the registration is held back
+     */
+    public synchronized boolean holdBack(URL providerUrl) {
+        if (registered || !providerUrl.getParameter(REGISTER_KEY, true)) {
+            return false;
+        }
+        serviceKeys.add(providerUrl.getServiceKey());
+        return true;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        register();
+    }
+
+    /**
+     * Warm up the provider, then register the services which are held back, it's executed once
+     */
+    public void register() {
+        List<URL> providerUrls;
+        synchronized (this) {
+            if (registered) {
+                return;
+            }
+            providerUrls = getProviderUrls();
+        }
+        long startTime = System.currentTimeMillis();
+        boolean completed = true;
+        List<Invoker<?>> invokers = new ArrayList<>();
+        try {
+            completed = SampleInvocation.replay(getSampleInvocations(providerUrls, invokers),
+                    properties.getIterations(), startTime + properties.getTimeBudget());
+        } finally {
+            for (Invoker<?> invoker : invokers) {
+                invoker.destroy();
+            }
+            synchronized (this) {
+                doRegister();
+                registered = true;
+            }
+            if (logger.isInfoEnabled()) {
+                logger.info("Dubbo provider warmed up " + (completed ? "" : "until the time budget ran out ") + "in "
+                        + (System.currentTimeMillis() - startTime) + " ms : " + getSampleInvocationStatistics()
+                        + ", then the services " + serviceKeys + " are registered");
+            }
+        }
+    }
+
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * @return the count of iterations and failures by sample invocation
+     */
+    public Map<String, Object> getSampleInvocationStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        synchronized (sampleInvocations) {
+            sampleInvocations.forEach((key, sampleInvocation) -> statistics.put(key,
+                    sampleInvocation.getStatistics()));
+        }
+        return statistics;
+    }
+
+    private List<URL> getProviderUrls() {
+        List<URL> providerUrls = new ArrayList<>();
+        for (String serviceKey : serviceKeys) {
+            ProviderModel providerModel = ApplicationModel.getProviderModel(serviceKey);
+            if (providerModel == null) {
+                continue;
+            }
+            for (RegisterStatedURL statedUrl : providerModel.getStatedUrl()) {
+                if (!statedUrl.isRegistered()) {
+                    providerUrls.add(statedUrl.getProviderUrl());
+                }
+            }
+        }
+        return providerUrls;
+    }
+
+    private List<SampleInvocation> getSampleInvocations(List<URL> providerUrls, List<Invoker<?>> invokers) {
+        ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class).getAdaptiveExtension();
+        List<SampleInvocation> sampleInvocations = new ArrayList<>();
+        for (Invocation invocation : properties.getInvocations()) {
+            String serviceKey = URL.buildKey(invocation.getInterfaceName(), invocation.getGroup(),
+                    invocation.getVersion());
+            URL providerUrl = providerUrls.stream().filter(url -> serviceKey.equals(url.getServiceKey()))
+                    .findFirst().orElse(null);
+            ProviderModel providerModel = ApplicationModel.getProviderModel(serviceKey);
+            if (providerUrl == null || providerModel == null) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The sample invocation " + SampleInvocation.getKey(invocation)
+                            + " is ignored, since no service which is held back matches it");
+                }
+                continue;
+            }
+            try {
+                Invoker<?> invoker = refer(providerModel.getServiceInterfaceClass(), providerUrl);
+                invokers.add(invoker);
+                SampleInvocation sampleInvocation = new SampleInvocation(proxyFactory.getProxy(invoker),
+                        providerModel.getServiceInterfaceClass(), invocation);
+                this.sampleInvocations.put(sampleInvocation.getKey(), sampleInvocation);
+                sampleInvocations.add(sampleInvocation);
+            } catch (Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The sample invocation " + SampleInvocation.getKey(invocation) + " is ignored", e);
+                }
+            }
+        }
+        return sampleInvocations;
+    }
+
+    private <T> Invoker<T> refer(Class<T> interfaceClass, URL providerUrl) {
+        // The provider parameters are left out, as the consumers get them merged with their own ones
+        URL url = new URL(providerUrl.getProtocol(), providerUrl.getHost(), providerUrl.getPort(),
+                providerUrl.getPath())
+                .addParameter(INTERFACE_KEY, providerUrl.getServiceInterface())
+                .addParameter(GROUP_KEY, providerUrl.getParameter(GROUP_KEY))
+                .addParameter(VERSION_KEY, providerUrl.getParameter(VERSION_KEY));
+        return ExtensionLoader.getExtensionLoader(Protocol.class).getExtension(url.getProtocol())
+                .refer(interfaceClass, url);
+    }
+
+    private void doRegister() {
+        RegistryFactory registryFactory = ExtensionLoader.getExtensionLoader(RegistryFactory.class)
+                .getAdaptiveExtension();
+        for (String serviceKey : serviceKeys) {
+            ProviderModel providerModel = ApplicationModel.getProviderModel(serviceKey);
+            if (providerModel == null) {
+                continue;
+            }
+            for (RegisterStatedURL statedUrl : providerModel.getStatedUrl()) {
+                if (statedUrl.isRegistered()) {
+                    continue;
+                }
+                try {
+                    // The same URL is unregistered when the service is unexported
+                    registryFactory.getRegistry(statedUrl.getRegistryUrl()).register(statedUrl.getProviderUrl());
+                    statedUrl.setRegistered(true);
+                } catch (RuntimeException e) {
+                    if (logger.isErrorEnabled()) {
+                        logger.error("The service " + serviceKey + " can't be registered to "
+                                + statedUrl.getRegistryUrl().getAddress(), e);
+                    }
+                }
+            }
+        }
+    }
+}
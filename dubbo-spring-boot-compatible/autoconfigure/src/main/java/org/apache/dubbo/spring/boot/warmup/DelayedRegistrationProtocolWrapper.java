@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.UrlUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProtocolServer;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.protocol.InvokerWrapper;
+
+import java.util.List;
+
+import static org.apache.dubbo.common.constants.CommonConstants.REGISTER_KEY;
+import static org.apache.dubbo.rpc.cluster.Constants.EXPORT_KEY;
+
+/**
+ * The wrapper of {@link Protocol} exports the services to the registries with "register" = <code>false</code> until
+ * {@link DelayedRegistration} registers them after the provider warms up. The services are exported locally as
+ * usual, and they subscribe to the registries meanwhile.
+ * <p>
+ * The wrapper is applied to all protocols by Dubbo SPI, and it doesn't touch the services if it's disabled.
+ *
+ * @see DelayedRegistration
+ * @see DubboDelayedRegistrationProperties
+ * @since 2.7.10
+ */
+public class DelayedRegistrationProtocolWrapper implements Protocol {
+
+    private final Protocol protocol;
+
+    private DelayedRegistration dubboDelayedRegistration;
+
+    public DelayedRegistrationProtocolWrapper(Protocol protocol) {
+        this.protocol = protocol;
+    }
+
+    @Override
+    public int getDefaultPort() {
+        return protocol.getDefaultPort();
+    }
+
+    @Override
+    public <T> Exporter<T> export(Invoker<T> invoker) throws RpcException {
+        URL url = invoker.getUrl();
+        if (dubboDelayedRegistration == null || !UrlUtils.isRegistry(url)) {
+            return protocol.export(invoker);
+        }
+        String export = url.getParameterAndDecoded(EXPORT_KEY);
+        URL providerUrl = export == null || export.isEmpty() ? null : URL.valueOf(export);
+        if (providerUrl == null || !dubboDelayedRegistration.holdBack(providerUrl)) {
+            return protocol.export(invoker);
+        }
+        return protocol.export(new InvokerWrapper<>(invoker, url.addParameterAndEncoded(EXPORT_KEY,
+                providerUrl.addParameter(REGISTER_KEY, false).toFullString())));
+    }
+
+    @Override
+    public <T> Invoker<T> refer(Class<T> type, URL url) throws RpcException {
+        return protocol.refer(type, url);
+    }
+
+    @Override
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Override
+    public List<ProtocolServer> getServers() {
+        return protocol.getServers();
+    }
+
+    public void setDubboDelayedRegistration(DelayedRegistration dubboDelayedRegistration) {
+        this.dubboDelayedRegistration = dubboDelayedRegistration;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.dubbo.spring.boot.warmup.DubboDelayedRegistrationProperties.PREFIX;
+
+/**
+ * Dubbo Delayed Registration Properties, for example :
+ * <pre>
+ * dubbo.delayed-registration.enabled = true
+ * dubbo.delayed-registration.iterations = 500
+ * dubbo.delayed-registration.time-budget = 20000
+ * dubbo.delayed-registration.invocations[0].interface-name = com.acme.DemoService
+ * dubbo.delayed-registration.invocations[0].version = 1.0.0
+ * dubbo.delayed-registration.invocations[0].method = sayHello
+ * dubbo.delayed-registration.invocations[0].arguments = World
+ * </pre>
+ *
+ * @see DelayedRegistration
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboDelayedRegistrationProperties {
+
+    /**
+     * The prefix of {@link DubboDelayedRegistrationProperties}
+     */
+    public static final String PREFIX = "dubbo.delayed-registration";
+
+    /**
+     * Whether the services are registered after the provider warms up or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The iterations of the sample invocations
+     */
+    private int iterations = 100;
+
+    /**
+     * The time budget of the warm-up in milliseconds, the sample invocations stop when it runs out
+     */
+    private long timeBudget = 30000;
+
+    /**
+     * The sample invocations which are replayed on the exported services
+     */
+    private List<Invocation> invocations = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public List<Invocation> getInvocations() {
+        return invocations;
+    }
+
+    public void setInvocations(List<Invocation> invocations) {
+        this.invocations = invocations;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.utils.StringUtils;
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.config.spring.ReferenceBean;
+import org.apache.dubbo.config.spring.beans.factory.annotation.ReferenceAnnotationBeanPostProcessor;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.cluster.ClusterInvoker;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.rpc.Constants.$ECHO;
+
+/**
+ * Dubbo Warm-Up, it connects all known providers of each reference and replays the sample invocations after
+ * {@link ApplicationReadyEvent}. The event is handled synchronously, thus the application doesn't accept traffic
+ * until the warm-up phase finishes.
+ *
+ * @see DubboWarmUpProperties
+ * @since 2.7.10
+ */
+public class DubboWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+    /**
+     * The bean name of {@link DubboWarmUp}
+     */
+    public static final String BEAN_NAME = "dubboWarmUp";
+
+    private static final Logger logger = LoggerFactory.getLogger(DubboWarmUp.class);
+
+    /**
+     * {@link ReferenceConfig} doesn't expose its invoker in Dubbo 2.7.x
+     */
+    private static final Field INVOKER_FIELD = ReflectionUtils.findField(ReferenceConfig.class, "invoker");
+
+    static {
+        ReflectionUtils.makeAccessible(INVOKER_FIELD);
+    }
+
+    private final DubboWarmUpProperties properties;
+
+    private final AtomicInteger connectedProviders = new AtomicInteger();
+
+    private final AtomicInteger failedProviders = new AtomicInteger();
+
+    private final Map<String, SampleInvocation> sampleInvocations = Collections.synchronizedMap(
+            new LinkedHashMap<>());
+
+    private volatile State state = State.PENDING;
+
+    private volatile long startTime;
+
+    private volatile long endTime;
+
+    public DubboWarmUp(DubboWarmUpProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        warmUp(getReferenceBeans(event.getApplicationContext()));
+    }
+
+    /**
+     * Warm up the references, it's executed once
+     *
+     * @param references the references
+     */
+    public void warmUp(Collection<? extends ReferenceConfig<?>> references) {
+        synchronized (this) {
+            if (state != State.PENDING) {
+                return;
+            }
+            state = State.RUNNING;
+            startTime = System.currentTimeMillis();
+        }
+        long deadline = startTime + properties.getTimeBudget();
+        try {
+            if (properties.isConnect()) {
+                for (ReferenceConfig<?> reference : references) {
+                    connect(reference, deadline);
+                }
+            }
+            state = SampleInvocation.replay(getSampleInvocations(references), properties.getIterations(),
+                    deadline) ? State.COMPLETED : State.EXPIRED;
+        } finally {
+            endTime = System.currentTimeMillis();
+            if (logger.isInfoEnabled()) {
+                logger.info("Dubbo warm-up " + state + " in " + (endTime - startTime) + " ms : " + getReport());
+            }
+        }
+    }
+
+    /**
+     * @return the state, the elapsed time, the connected providers and the sample invocations of warm-up phase
+     */
+    public Map<String, Object> getReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        State state = this.state;
+        report.put("state", state);
+        if (state != State.PENDING) {
+            report.put("elapsed", (state == State.RUNNING ? System.currentTimeMillis() : endTime) - startTime);
+        }
+        Map<String, Object> providers = new LinkedHashMap<>();
+        providers.put("connected", connectedProviders.get());
+        providers.put("failed", failedProviders.get());
+        report.put("providers", providers);
+        Map<String, Object> invocations = new LinkedHashMap<>();
+        synchronized (sampleInvocations) {
+            sampleInvocations.forEach((key, sampleInvocation) -> invocations.put(key,
+                    sampleInvocation.getStatistics()));
+        }
+        report.put("invocations", invocations);
+        return report;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void connect(ReferenceConfig<?> reference, long deadline) {
+        // The reference is initialized unless it's lazy
+        reference.get();
+        for (Invoker<?> invoker : getProviderInvokers((Invoker<?>) ReflectionUtils.getField(INVOKER_FIELD,
+                reference))) {
+            long timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0) {
+                return;
+            }
+            RpcInvocation invocation = new RpcInvocation($ECHO, invoker.getInterface().getName(),
+                    invoker.getUrl().getServiceKey(), new Class<?>[]{Object.class}, new Object[]{"OK"});
+            invocation.setReturnType(Object.class);
+            try {
+                invoker.invoke(invocation).get(timeout, TimeUnit.MILLISECONDS).recreate();
+                connectedProviders.incrementAndGet();
+            } catch (Throwable e) {
+                failedProviders.incrementAndGet();
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The provider " + invoker.getUrl().getAddress() + " of reference "
+                            + reference.getUniqueServiceName() + " can't be warmed up", e);
+                }
+            }
+        }
+    }
+
+    private Collection<Invoker<?>> getProviderInvokers(Invoker<?> invoker) {
+        if (invoker == null) {
+            return Collections.emptyList();
+        }
+        if (invoker instanceof ClusterInvoker) {
+            List<Invoker<?>> invokers = new ArrayList<>();
+            for (Invoker<?> providerInvoker : ((ClusterInvoker<?>) invoker).getDirectory().getAllInvokers()) {
+                invokers.addAll(getProviderInvokers(providerInvoker));
+            }
+            return invokers;
+        }
+        return Collections.singletonList(invoker);
+    }
+
+    private List<SampleInvocation> getSampleInvocations(Collection<? extends ReferenceConfig<?>> references) {
+        List<SampleInvocation> sampleInvocations = new ArrayList<>();
+        for (Invocation invocation : properties.getInvocations()) {
+            ReferenceConfig<?> reference = getReference(references, invocation);
+            if (reference == null) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The sample invocation " + SampleInvocation.getKey(invocation)
+                            + " is ignored, since no reference matches it");
+                }
+                continue;
+            }
+            try {
+                SampleInvocation sampleInvocation = new SampleInvocation(reference.get(),
+                        reference.getInterfaceClass(), invocation);
+                this.sampleInvocations.put(sampleInvocation.getKey(), sampleInvocation);
+                sampleInvocations.add(sampleInvocation);
+            } catch (Exception e) {
+                if (logger.isWarnEnabled()) {
+                    logger.warn("The sample invocation " + SampleInvocation.getKey(invocation) + " is ignored", e);
+                }
+            }
+        }
+        return sampleInvocations;
+    }
+
+    private ReferenceConfig<?> getReference(Collection<? extends ReferenceConfig<?>> references,
+                                            Invocation invocation) {
+        for (ReferenceConfig<?> reference : references) {
+            if (StringUtils.isEquals(reference.getInterface(), invocation.getInterfaceName())
+                    && StringUtils.isEquals(emptyIfNull(reference.getGroup()), emptyIfNull(invocation.getGroup()))
+                    && StringUtils.isEquals(emptyIfNull(reference.getVersion()),
+                    emptyIfNull(invocation.getVersion()))) {
+                return reference;
+            }
+        }
+        return null;
+    }
+
+    private static String emptyIfNull(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static Collection<ReferenceConfig<?>> getReferenceBeans(ApplicationContext applicationContext) {
+        // The same reference bean may be returned twice
+        Map<ReferenceConfig<?>, Boolean> referenceBeans = new IdentityHashMap<>();
+        for (ReferenceBean<?> referenceBean : applicationContext.getBeansOfType(ReferenceBean.class, false,
+                false).values()) {
+            referenceBeans.put(referenceBean, Boolean.TRUE);
+        }
+        for (ReferenceAnnotationBeanPostProcessor processor : applicationContext.getBeansOfType(
+                ReferenceAnnotationBeanPostProcessor.class, false, false).values()) {
+            for (ReferenceBean<?> referenceBean : processor.getReferenceBeans()) {
+                referenceBeans.put(referenceBean, Boolean.TRUE);
+            }
+        }
+        return referenceBeans.keySet();
+    }
+
+    /**
+     * The state of warm-up phase
+     */
+    public enum State {
+
+        /**
+         * The application isn't ready yet
+         */
+        PENDING,
+
+        /**
+         * The references are being warmed up
+         */
+        RUNNING,
+
+        /**
+         * All iterations of the sample invocations are done
+         */
+        COMPLETED,
+
+        /**
+         * The time budget ran out before all iterations of the sample invocations are done
+         */
+        EXPIRED
+    }
+}
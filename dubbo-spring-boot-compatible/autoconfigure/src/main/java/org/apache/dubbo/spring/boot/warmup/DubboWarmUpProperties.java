@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.PREFIX;
+
+/**
+ * Dubbo Warm-Up Properties, for example :
+ * <pre>
+ * dubbo.warm-up.enabled = true
+ * dubbo.warm-up.iterations = 200
+ * dubbo.warm-up.time-budget = 20000
+ * dubbo.warm-up.invocations[0].interface-name = com.acme.DemoService
+ * dubbo.warm-up.invocations[0].version = 1.0.0
+ * dubbo.warm-up.invocations[0].method = sayHello
+ * dubbo.warm-up.invocations[0].parameter-types = java.lang.String
+ * dubbo.warm-up.invocations[0].arguments = World
+ * </pre>
+ *
+ * @see DubboWarmUp
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboWarmUpProperties {
+
+    /**
+     * The prefix of {@link DubboWarmUpProperties}
+     */
+    public static final String PREFIX = "dubbo.warm-up";
+
+    /**
+     * Whether the references are warmed up before the application accepts traffic or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether all known providers of each reference are connected or not
+     */
+    private boolean connect = true;
+
+    /**
+     * The iterations of the sample invocations
+     */
+    private int iterations = 100;
+
+    /**
+     * The time budget of the warm-up phase in milliseconds, the sample invocations stop when it runs out
+     */
+    private long timeBudget = 30000;
+
+    /**
+     * The sample invocations which are replayed on the references
+     */
+    private List<Invocation> invocations = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isConnect() {
+        return connect;
+    }
+
+    public void setConnect(boolean connect) {
+        this.connect = connect;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    public void setTimeBudget(long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public List<Invocation> getInvocations() {
+        return invocations;
+    }
+
+    public void setInvocations(List<Invocation> invocations) {
+        this.invocations = invocations;
+    }
+
+    /**
+     * The sample invocation
+     */
+    public static class Invocation {
+
+        /**
+         * The interface name of reference
+         */
+        private String interfaceName;
+
+        /**
+         * The group of reference
+         */
+        private String group;
+
+        /**
+         * The version of reference
+         */
+        private String version;
+
+        /**
+         * The name of method
+         */
+        private String method;
+
+        /**
+         * The parameter types of method, they may be omitted if the method isn't overloaded
+         */
+        private List<String> parameterTypes = new ArrayList<>();
+
+        /**
+         * The arguments, they are converted to the parameter types as the generic invocations do
+         */
+        private List<String> arguments = new ArrayList<>();
+
+        public String getInterfaceName() {
+            return interfaceName;
+        }
+
+        public void setInterfaceName(String interfaceName) {
+            this.interfaceName = interfaceName;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public void setGroup(String group) {
+            this.group = group;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public void setVersion(String version) {
+            this.version = version;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public List<String> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        public void setParameterTypes(List<String> parameterTypes) {
+            this.parameterTypes = parameterTypes;
+        }
+
+        public List<String> getArguments() {
+            return arguments;
+        }
+
+        public void setArguments(List<String> arguments) {
+            this.arguments = arguments;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.utils.PojoUtils;
+import org.apache.dubbo.common.utils.ReflectUtils;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.MethodDescriptor;
+import org.apache.dubbo.rpc.model.ServiceDescriptor;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The sample invocation which is replayed on the proxy of service during warm-up
+ *
+ * @see DubboWarmUp
+ * @see DelayedRegistration
+ * @since 2.7.10
+ */
+class SampleInvocation {
+
+    private static final Logger logger = LoggerFactory.getLogger(SampleInvocation.class);
+
+    private final String key;
+
+    private final Object proxy;
+
+    private final Method method;
+
+    private final Object[] arguments;
+
+    private final AtomicInteger iterations = new AtomicInteger();
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * @param proxy          the proxy of service
+     * @param interfaceClass the interface class of service
+     * @param invocation     the configured invocation, the arguments are converted to the parameter types as the
+     *                       generic invocations do
+     * @throws Exception if the method isn't found or the arguments can't be converted
+     */
+    SampleInvocation(Object proxy, Class<?> interfaceClass, Invocation invocation) throws Exception {
+        this.key = getKey(invocation);
+        this.proxy = proxy;
+        this.method = findMethod(interfaceClass, invocation.getMethod(), invocation.getParameterTypes());
+        List<String> arguments = invocation.getArguments();
+        this.arguments = PojoUtils.realize(arguments == null ? new Object[0] : arguments.toArray(),
+                method.getParameterTypes(), method.getGenericParameterTypes());
+    }
+
+    /**
+     * Find the method from the {@link ServiceDescriptor} of service, the parameter types can be omitted unless the
+     * method is overloaded
+     *
+     * @param interfaceClass the interface class of service
+     * @param methodName     the method name
+     * @param parameterTypes the parameter type names, nullable
+     * @return the method, non-null
+     * @throws Exception if the method isn't found or not unique
+     */
+    private static Method findMethod(Class<?> interfaceClass, String methodName, List<String> parameterTypes)
+            throws Exception {
+        ServiceDescriptor serviceDescriptor = ApplicationModel.getServiceRepository().registerService(interfaceClass);
+        MethodDescriptor methodDescriptor;
+        if (parameterTypes == null || parameterTypes.isEmpty()) {
+            List<MethodDescriptor> methodDescriptors = serviceDescriptor.getMethods(methodName);
+            if (methodDescriptors != null && methodDescriptors.size() > 1) {
+                throw new IllegalStateException("The method " + methodName + " is overloaded in " +
+                        interfaceClass.getName() + ", the parameter types are required");
+            }
+            methodDescriptor = methodDescriptors == null ? null : methodDescriptors.get(0);
+        } else {
+            Class<?>[] parameterClasses = new Class<?>[parameterTypes.size()];
+            for (int i = 0; i < parameterClasses.length; i++) {
+                parameterClasses[i] = ReflectUtils.name2class(parameterTypes.get(i));
+            }
+            methodDescriptor = serviceDescriptor.getMethod(methodName, parameterClasses);
+        }
+        if (methodDescriptor == null) {
+            throw new NoSuchMethodException("No such method " + methodName + parameterTypes + " in "
+                    + interfaceClass.getName());
+        }
+        return methodDescriptor.getMethod();
+    }
+
+    /**
+     * @param invocation the configured invocation
+     * @return the key of invocation, i.e. "group/interface:version#method"
+     */
+    static String getKey(Invocation invocation) {
+        return URL.buildKey(invocation.getInterfaceName(), invocation.getGroup(), invocation.getVersion()) + "#"
+                + invocation.getMethod();
+    }
+
+    /**
+     * Replay the sample invocations one after another for the iterations
+     *
+     * @param sampleInvocations the sample invocations
+     * @param iterations        the iterations
+     * @param deadline          the time when the invocations stop
+     * @return <code>false</code> if the deadline is reached before all iterations are done
+     */
+    static boolean replay(List<SampleInvocation> sampleInvocations, int iterations, long deadline) {
+        for (int i = 0; i < iterations && !sampleInvocations.isEmpty(); i++) {
+            for (SampleInvocation sampleInvocation : sampleInvocations) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                sampleInvocation.invoke();
+            }
+        }
+        return true;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the count of iterations and failures
+     */
+    Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("iterations", iterations.get());
+        statistics.put("failures", failures.get());
+        return statistics;
+    }
+
+    private void invoke() {
+        iterations.incrementAndGet();
+        try {
+            method.invoke(proxy, arguments);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            // The failures of the first iteration are logged only, since the same ones are expected later
+            if (failures.getAndIncrement() == 0 && logger.isWarnEnabled()) {
+                logger.warn("The sample invocation " + key + " failed", e instanceof InvocationTargetException ?
+                        e.getCause() : e);
+            }
+        }
+    }
+}
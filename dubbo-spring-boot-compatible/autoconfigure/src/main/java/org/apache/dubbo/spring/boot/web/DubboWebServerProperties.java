@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.apache.dubbo.spring.boot.web.DubboWebServerProperties.PREFIX;
+
+/**
+ * Dubbo Web Server Properties
+ *
+ * @see WebServerProtocolConfigCustomizer
+ * @since 2.7.10
+ */
+@ConfigurationProperties(prefix = PREFIX)
+public class DubboWebServerProperties {
+
+    /**
+     * The prefix of {@link DubboWebServerProperties}
+     */
+    public static final String PREFIX = "dubbo.web-server";
+
+    /**
+     * Whether the HTTP-based protocols are served on the web server of Spring Boot or not
+     */
+    private boolean enabled = false;
+
+    /**
+     * The path which Dubbo's dispatcher servlet is mapped to, it's the default "contextpath" of the protocols
+     */
+    private String path = "/dubbo";
+
+    /**
+     * The names of protocols which are served on the web server unless their "server" is set explicitly, the
+     * protocol whose "server" is "servlet" is always served on it
+     */
+    private Set<String> protocols = new LinkedHashSet<>(Arrays.asList("http", "hessian", "rest", "webservice"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Set<String> getProtocols() {
+        return protocols;
+    }
+
+    public void setProtocols(Set<String> protocols) {
+        this.protocols = protocols;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.web;
+
+import org.apache.dubbo.config.AbstractConfig;
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.config.spring.context.config.DubboConfigBeanCustomizer;
+import org.apache.dubbo.remoting.http.servlet.DispatcherServlet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link DubboConfigBeanCustomizer} attaches the HTTP-based protocols to the web server of Spring Boot, for
+ * example :
+ * <pre>
+ * dubbo.web-server.enabled = true
+ * dubbo.protocols.hessian.name = hessian
+ * dubbo.protocols.rest.name = rest
+ * </pre>
+ * The "server" of the protocol is set to "servlet", thus its requests are dispatched by {@link DispatcherServlet}
+ * which is mapped to {@link DubboWebServerProperties#getPath() the path} on the web server, and they are handled by
+ * the connector and the executor of the web server rather than a dedicated server of Dubbo. The "port" of the protocol
+ * is the port of web server by default, it must be set explicitly if the application is deployed to an external
+ * servlet container. The "contextpath" of the protocol is the context path of web application plus the path by
+ * default, it must start with them if it's set explicitly.
+ *
+ * @see DubboWebServerProperties
+ * @see DispatcherServlet
+ * @since 2.7.10
+ */
+public class WebServerProtocolConfigCustomizer implements DubboConfigBeanCustomizer, EnvironmentAware {
+
+    /**
+     * The name of Dubbo's server which is served on the servlet container
+     */
+    public static final String SERVER = "servlet";
+
+    /**
+     * The port of web server
+     */
+    public static final String SERVER_PORT_PROPERTY = "server.port";
+
+    /**
+     * The context path of web application since Spring Boot 2.0
+     */
+    public static final String CONTEXT_PATH_PROPERTY = "server.servlet.context-path";
+
+    /**
+     * The context path of web application before Spring Boot 2.0
+     */
+    public static final String LEGACY_CONTEXT_PATH_PROPERTY = "server.context-path";
+
+    private static final int DEFAULT_SERVER_PORT = 8080;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final DubboWebServerProperties properties;
+
+    private final String path;
+
+    private Environment environment;
+
+    public WebServerProtocolConfigCustomizer(DubboWebServerProperties properties) {
+        this.properties = properties;
+        this.path = normalizePath(properties.getPath());
+    }
+
+    /**
+     * @return the URL mapping of {@link DispatcherServlet}
+     */
+    public String getServletMapping() {
+        return path + "/*";
+    }
+
+    @Override
+    public void customize(String beanName, AbstractConfig dubboConfigBean) {
+        if (!(dubboConfigBean instanceof ProtocolConfig)) {
+            return;
+        }
+        ProtocolConfig protocolConfig = (ProtocolConfig) dubboConfigBean;
+        String server = protocolConfig.getServer();
+        if (server == null ? !properties.getProtocols().contains(protocolConfig.getName()) : !SERVER.equals(server)) {
+            return;
+        }
+        protocolConfig.setServer(SERVER);
+        if (protocolConfig.getPort() == null) {
+            protocolConfig.setPort(getServerPort());
+        }
+        String contextPath = normalizePath(environment.getProperty(CONTEXT_PATH_PROPERTY,
+                environment.getProperty(LEGACY_CONTEXT_PATH_PROPERTY))) + path;
+        if (protocolConfig.getContextpath() == null) {
+            if (!contextPath.isEmpty()) {
+                protocolConfig.setContextpath(contextPath.substring(1));
+            }
+        } else if (!normalizePath(protocolConfig.getContextpath()).concat("/").startsWith(contextPath + "/")) {
+            throw new IllegalArgumentException("The contextpath of protocol \"" + beanName + "\" must start with \""
+                    + contextPath + "\" : " + protocolConfig.getContextpath());
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info("The protocol \"" + beanName + "\" is served on the web server, port : "
+                    + protocolConfig.getPort() + ", contextpath : " + protocolConfig.getContextpath());
+        }
+    }
+
+    private int getServerPort() {
+        int port = environment.getProperty(SERVER_PORT_PROPERTY, Integer.class, DEFAULT_SERVER_PORT);
+        if (port <= 0) {
+            throw new IllegalArgumentException("\"" + SERVER_PORT_PROPERTY + "\" must be positive if the protocols "
+                    + "are served on the web server : " + port);
+        }
+        return port;
+    }
+
+    /**
+     * Normalizes the path, e.g. "dubbo/" to "/dubbo", and "/" to ""
+     *
+     * @param path the path
+     * @return the path which starts with "/" and doesn't end with "/", or empty if it's root
+     */
+    static String normalizePath(String path) {
+        if (!StringUtils.hasText(path)) {
+            return "";
+        }
+        String normalizedPath = StringUtils.trimTrailingCharacter(path.trim(), '/');
+        if (normalizedPath.isEmpty()) {
+            return "";
+        }
+        return normalizedPath.startsWith("/") ? normalizedPath : "/" + normalizedPath;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+}
@@ -16,19 +16,44 @@
  */
 package org.apache.dubbo.spring.boot;
 
+import org.apache.dubbo.spring.boot.accesslog.AccessLogRingBufferTest;
+import org.apache.dubbo.spring.boot.accesslog.AccessLogWriterTest;
 import org.apache.dubbo.spring.boot.autoconfigure.CompatibleDubboAutoConfigurationTest;
 import org.apache.dubbo.spring.boot.autoconfigure.CompatibleDubboAutoConfigurationTestWithoutProperties;
 import org.apache.dubbo.spring.boot.autoconfigure.DubboAutoConfigurationOnMultipleConfigTest;
 import org.apache.dubbo.spring.boot.autoconfigure.DubboAutoConfigurationOnSingleConfigTest;
+import org.apache.dubbo.spring.boot.autoconfigure.DubboWebServerAutoConfigurationTest;
 import org.apache.dubbo.spring.boot.autoconfigure.RelaxedDubboConfigBinderTest;
+import org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactoryTest;
+import org.apache.dubbo.spring.boot.compression.ResponseCompressorTest;
+import org.apache.dubbo.spring.boot.connection.SharedConnectionsProtocolWrapperTest;
 import org.apache.dubbo.spring.boot.context.event.AwaitingNonWebApplicationListenerTest;
 import org.apache.dubbo.spring.boot.context.event.DubboConfigBeanDefinitionConflictApplicationListenerTest;
 import org.apache.dubbo.spring.boot.context.event.OverrideDubboConfigApplicationListenerDisableTest;
 import org.apache.dubbo.spring.boot.context.event.OverrideDubboConfigApplicationListenerTest;
 import org.apache.dubbo.spring.boot.context.event.WelcomeLogoApplicationListenerTest;
+import org.apache.dubbo.spring.boot.dispatch.MethodDirectDispatcherTest;
 import org.apache.dubbo.spring.boot.env.DubboDefaultPropertiesEnvironmentPostProcessorTest;
+import org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessorTest;
+import org.apache.dubbo.spring.boot.injvm.InjvmShortCircuitProtocolWrapperTest;
+import org.apache.dubbo.spring.boot.preload.ClassPreloaderTest;
+import org.apache.dubbo.spring.boot.preload.DubboPreloadProcessorTest;
+import org.apache.dubbo.spring.boot.registry.EarlyRegistryConnectorTest;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyProtocolConfigCustomizerTest;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporterTest;
+import org.apache.dubbo.spring.boot.remoting.transport.shm.ShmRingBufferTest;
+import org.apache.dubbo.spring.boot.remoting.transport.shm.ShmTransporterTest;
+import org.apache.dubbo.spring.boot.slow.SlowInvocationRecorderTest;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactoryTest;
+import org.apache.dubbo.spring.boot.stream.StreamManagerTest;
+import org.apache.dubbo.spring.boot.threadpool.VirtualThreadPoolTest;
+import org.apache.dubbo.spring.boot.trace.TraceContextTest;
+import org.apache.dubbo.spring.boot.trace.TracingFilterTest;
 import org.apache.dubbo.spring.boot.util.DubboUtilsTest;
 import org.apache.dubbo.spring.boot.util.EnvironmentUtilsTest;
+import org.apache.dubbo.spring.boot.warmup.DelayedRegistrationProtocolWrapperTest;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpTest;
+import org.apache.dubbo.spring.boot.web.WebServerProtocolConfigCustomizerTest;
 
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -39,6 +64,7 @@ import org.junit.runners.Suite;
         CompatibleDubboAutoConfigurationTestWithoutProperties.class,
         DubboAutoConfigurationOnMultipleConfigTest.class,
         DubboAutoConfigurationOnSingleConfigTest.class,
+        DubboWebServerAutoConfigurationTest.class,
         RelaxedDubboConfigBinderTest.class,
         AwaitingNonWebApplicationListenerTest.class,
         DubboConfigBeanDefinitionConflictApplicationListenerTest.class,
@@ -46,6 +72,30 @@ import org.junit.runners.Suite;
         OverrideDubboConfigApplicationListenerTest.class,
         WelcomeLogoApplicationListenerTest.class,
         DubboDefaultPropertiesEnvironmentPostProcessorTest.class,
+        DubboTransportAllocatorEnvironmentPostProcessorTest.class,
+        TraceContextTest.class,
+        TracingFilterTest.class,
+        AccessLogRingBufferTest.class,
+        AccessLogWriterTest.class,
+        SlowInvocationRecorderTest.class,
+        ResponseCompressorTest.class,
+        StreamManagerTest.class,
+        SslContextFactoryTest.class,
+        WebServerProtocolConfigCustomizerTest.class,
+        VirtualThreadPoolTest.class,
+        TunableNettyTransporterTest.class,
+        TunableNettyProtocolConfigCustomizerTest.class,
+        ShmRingBufferTest.class,
+        ShmTransporterTest.class,
+        MethodDirectDispatcherTest.class,
+        InjvmShortCircuitProtocolWrapperTest.class,
+        SharedConnectionsProtocolWrapperTest.class,
+        DubboWarmUpTest.class,
+        DelayedRegistrationProtocolWrapperTest.class,
+        EarlyRegistryConnectorTest.class,
+        ClassPreloaderTest.class,
+        DubboPreloadProcessorTest.class,
+        PrecompiledProxyFactoryTest.class,
         DubboUtilsTest.class,
         EnvironmentUtilsTest.class
 })
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link AccessLogRingBuffer} Test
+ *
+ * @see AccessLogRingBuffer
+ * @since 2.7.10
+ */
+public class AccessLogRingBufferTest {
+
+    @Test
+    public void testCapacity() {
+        Assert.assertEquals(8, new AccessLogRingBuffer(5).getCapacity());
+        Assert.assertEquals(8, new AccessLogRingBuffer(8).getCapacity());
+    }
+
+    @Test
+    public void testOverflow() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 6; i++) {
+            AccessLogEntry entry = ringBuffer.claim();
+            if (i < 4) {
+                entry.methodName = "m" + i;
+                ringBuffer.publish(entry);
+            } else {
+                Assert.assertNull(entry);
+            }
+        }
+        Assert.assertEquals(2, ringBuffer.getDroppedCount());
+
+        List<String> methodNames = new ArrayList<>();
+        Assert.assertEquals(3, ringBuffer.drain(entry -> methodNames.add(entry.getMethodName()), 3));
+        Assert.assertEquals(1, ringBuffer.drain(entry -> methodNames.add(entry.getMethodName()), 3));
+        Assert.assertEquals(0, ringBuffer.drain(entry -> methodNames.add(entry.getMethodName()), 3));
+        Assert.assertEquals("[m0, m1, m2, m3]", methodNames.toString());
+        Assert.assertTrue(ringBuffer.isEmpty());
+
+        Assert.assertNotNull(ringBuffer.claim());
+    }
+
+    @Test
+    public void testUnpublished() {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(4);
+        AccessLogEntry first = ringBuffer.claim();
+        AccessLogEntry second = ringBuffer.claim();
+        ringBuffer.publish(second);
+        // The second one must not be consumed before the first one
+        Assert.assertEquals(0, ringBuffer.drain(entry -> {
+        }, 4));
+        ringBuffer.publish(first);
+        Assert.assertEquals(2, ringBuffer.drain(entry -> {
+        }, 4));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        AccessLogRingBuffer ringBuffer = new AccessLogRingBuffer(1024);
+        int producers = 4;
+        int records = 10000;
+        ExecutorService executorService = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+        for (int i = 0; i < producers; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < records; j++) {
+                    AccessLogEntry entry = ringBuffer.claim();
+                    if (entry != null) {
+                        ringBuffer.publish(entry);
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        long consumed = 0;
+        while (latch.getCount() > 0 || !ringBuffer.isEmpty()) {
+            consumed += ringBuffer.drain(entry -> {
+            }, 256);
+        }
+        executorService.shutdown();
+        Assert.assertEquals(producers * records, consumed + ringBuffer.getDroppedCount());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.accesslog;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.protocol.AbstractInvoker;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AccessLogWriter} Test
+ *
+ * @see AccessLogWriter
+ * @since 2.7.10
+ */
+public class AccessLogWriterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Invoker<?> invoker = new AbstractInvoker<Object>(Object.class,
+            URL.valueOf("dubbo://127.0.0.1:12345/DemoService?version=1.0.0")) {
+        @Override
+        protected Result doInvoke(Invocation invocation) {
+            return null;
+        }
+    };
+
+    @Test
+    public void testText() throws Exception {
+        List<String> lines = writeAndRead(properties(AccessLogFormat.TEXT, false), 2);
+        Assert.assertEquals(2, lines.size());
+        Assert.assertTrue(lines.get(0), lines.get(0).matches(
+                "\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3} 127.0.0.1:54321 DemoService 1.0.0 - sayHello \\d+ OK"));
+        Assert.assertTrue(lines.get(1), lines.get(1).endsWith(" java.lang.IllegalStateException"));
+    }
+
+    @Test
+    public void testJson() throws Exception {
+        DubboAccessLogProperties properties = properties(AccessLogFormat.JSON, false);
+        properties.setFields(new LinkedHashSet<>(Arrays.asList(AccessLogField.METHOD, AccessLogField.ARGUMENTS)));
+        List<String> lines = writeAndRead(properties, 1);
+        Assert.assertEquals("{\"method\":\"sayHello\",\"arguments\":[\"Access \\\"Log\\\"\"]}", lines.get(0));
+    }
+
+    @Test
+    public void testArguments() throws Exception {
+        DubboAccessLogProperties properties = properties(AccessLogFormat.TEXT, false);
+        properties.setFields(new LinkedHashSet<>(Arrays.asList(AccessLogField.METHOD, AccessLogField.ARGUMENTS)));
+        AccessLogWriter writer = new AccessLogWriter(properties);
+        writer.afterPropertiesSet();
+        Object failingArgument = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("toString");
+            }
+        };
+        Object[] arguments = new Object[]{failingArgument, "before"};
+        RpcInvocation invocation = new RpcInvocation("sayHello", "DemoService", null,
+                new Class<?>[]{Object.class, String.class}, arguments);
+        InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 54321);
+        Assert.assertTrue(writer.append(invoker, invocation, remoteAddress, System.nanoTime(), null));
+        // The arguments are modified after the invocation completed
+        arguments[1] = "after";
+        Assert.assertTrue(writer.append(invoker, invocation, remoteAddress, System.nanoTime(), null));
+        writer.destroy();
+
+        // The writer thread survives the failing argument
+        Assert.assertEquals(2, writer.getWrittenCount());
+        List<String> lines = Files.readAllLines(new File(properties.getFile()).toPath(), StandardCharsets.UTF_8);
+        Assert.assertTrue(lines.get(0), lines.get(0).contains("toString() failed"));
+        Assert.assertTrue(lines.get(0), lines.get(0).endsWith(",before]"));
+        Assert.assertTrue(lines.get(1), lines.get(1).endsWith(",after]"));
+    }
+
+    @Test
+    public void testDestroyTimeout() throws Exception {
+        DubboAccessLogProperties properties = properties(AccessLogFormat.TEXT, false);
+        properties.setFields(new LinkedHashSet<>(Arrays.asList(AccessLogField.METHOD, AccessLogField.ARGUMENTS)));
+        AccessLogWriter writer = new AccessLogWriter(properties);
+        writer.afterPropertiesSet();
+        CountDownLatch formatting = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        Object blockingArgument = new Object() {
+            @Override
+            public String toString() {
+                formatting.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "blocking";
+            }
+        };
+        RpcInvocation invocation = new RpcInvocation("sayHello", "DemoService", null,
+                new Class<?>[]{Object.class}, new Object[]{blockingArgument});
+        InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 54321);
+        Assert.assertTrue(writer.append(invoker, invocation, remoteAddress, System.nanoTime(), null));
+        Assert.assertTrue(formatting.await(5, TimeUnit.SECONDS));
+        // Gives up waiting while the writer thread is still formatting
+        writer.destroy();
+        Assert.assertEquals(0, writer.getWrittenCount());
+
+        released.countDown();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (writer.getWrittenCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // The file is closed by the writer thread after the record is written
+        Assert.assertEquals(1, writer.getWrittenCount());
+        Assert.assertEquals(0, writer.getFailedCount());
+        List<String> lines = Files.readAllLines(new File(properties.getFile()).toPath(), StandardCharsets.UTF_8);
+        Assert.assertEquals("sayHello [blocking]", lines.get(0));
+    }
+
+    @Test
+    public void testMemoryMapped() throws Exception {
+        List<String> lines = writeAndRead(properties(AccessLogFormat.TEXT, true), 100);
+        Assert.assertEquals(100, lines.size());
+    }
+
+    @Test
+    public void testRollOver() throws Exception {
+        DubboAccessLogProperties properties = properties(AccessLogFormat.TEXT, false);
+        properties.setMaxFileSize(1024);
+        properties.setMaxHistory(2);
+        properties.setBatchSize(1);
+        writeAndRead(properties, 100);
+        Assert.assertTrue(new File(properties.getFile() + ".1").exists());
+        Assert.assertTrue(new File(properties.getFile() + ".2").exists());
+        Assert.assertFalse(new File(properties.getFile() + ".3").exists());
+    }
+
+    private DubboAccessLogProperties properties(AccessLogFormat format, boolean memoryMapped) throws Exception {
+        DubboAccessLogProperties properties = new DubboAccessLogProperties();
+        properties.setFile(new File(temporaryFolder.getRoot(), "logs/access.log").getPath());
+        properties.setFormat(format);
+        properties.setMemoryMapped(memoryMapped);
+        properties.setMappedRegionSize(1024);
+        return properties;
+    }
+
+    private List<String> writeAndRead(DubboAccessLogProperties properties, int count) throws Exception {
+        AccessLogWriter writer = new AccessLogWriter(properties);
+        writer.afterPropertiesSet();
+        RpcInvocation invocation = new RpcInvocation("sayHello", "DemoService", null,
+                new Class<?>[]{String.class}, new Object[]{"Access \"Log\""});
+        InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 54321);
+        for (int i = 0; i < count; i++) {
+            Throwable error = i % 2 == 1 ? new IllegalStateException() : null;
+            Assert.assertTrue(writer.append(invoker, invocation, remoteAddress, System.nanoTime(), error));
+        }
+        writer.destroy();
+        Assert.assertEquals(count, writer.getWrittenCount());
+        Assert.assertEquals(0, writer.getDroppedCount());
+        return Files.readAllLines(new File(properties.getFile()).toPath(), StandardCharsets.UTF_8);
+    }
+}
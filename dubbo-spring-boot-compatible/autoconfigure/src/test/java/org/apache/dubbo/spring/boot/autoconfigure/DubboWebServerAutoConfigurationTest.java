@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.autoconfigure;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.config.bootstrap.DubboBootstrap;
+import org.apache.dubbo.config.spring.ServiceBean;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link DubboWebServerAutoConfiguration} Test
+ *
+ * @see DubboWebServerAutoConfiguration
+ * @since 2.7.10
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+        classes = {
+                DubboWebServerAutoConfigurationTest.class,
+                DubboWebServerAutoConfigurationTest.EchoServiceConfiguration.class
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "dubbo.application.name = web-server-test",
+                "dubbo.registry.address = N/A",
+                "dubbo.protocols.hessian.name = hessian",
+                "dubbo.web-server.enabled = true",
+                "dubbo.web-server.path = /rpc/",
+                "server.context-path = /app"
+        })
+@EnableAutoConfiguration
+public class DubboWebServerAutoConfigurationTest {
+
+    private static final Field BOOTSTRAP_INSTANCE_FIELD = ReflectionUtils.findField(DubboBootstrap.class, "instance");
+
+    static {
+        ReflectionUtils.makeAccessible(BOOTSTRAP_INSTANCE_FIELD);
+    }
+
+    @Autowired
+    private ProtocolConfig protocolConfig;
+
+    @Value("${local.server.port}")
+    private int serverPort;
+
+    /**
+     * The {@link DubboBootstrap} of the other tests, if any
+     */
+    private static DubboBootstrap previousBootstrap;
+
+    /**
+     * The {@link DubboBootstrap} singleton is started only once per JVM, so the services of this context would never be
+     * exported after another Dubbo context of the suite. Dubbo 2.7.9 has no reset method, hence the field is replaced.
+     */
+    @BeforeClass
+    public static void init() {
+        previousBootstrap = (DubboBootstrap) ReflectionUtils.getField(BOOTSTRAP_INSTANCE_FIELD, null);
+        ReflectionUtils.setField(BOOTSTRAP_INSTANCE_FIELD, null, null);
+        ApplicationModel.reset();
+    }
+
+    /**
+     * Restores the {@link DubboBootstrap} of the other tests, which rely on it having been started
+     */
+    @AfterClass
+    public static void destroy() {
+        if (previousBootstrap != null) {
+            ReflectionUtils.setField(BOOTSTRAP_INSTANCE_FIELD, null, previousBootstrap);
+            previousBootstrap = null;
+        }
+        ApplicationModel.reset();
+    }
+
+    @Test
+    public void testProtocolConfig() {
+        Assert.assertEquals("servlet", protocolConfig.getServer());
+        Assert.assertEquals(serverPort, protocolConfig.getPort().intValue());
+        Assert.assertEquals("app/rpc", protocolConfig.getContextpath());
+    }
+
+    @Test
+    public void testInvoke() {
+        URL url = URL.valueOf("hessian://127.0.0.1:" + serverPort + "/app/rpc/" + EchoService.class.getName());
+        Invoker<EchoService> invoker = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("hessian")
+                .refer(EchoService.class, url);
+        try {
+            EchoService echoService = ExtensionLoader.getExtensionLoader(ProxyFactory.class).getAdaptiveExtension()
+                    .getProxy(invoker);
+            // The request is handled by the thread of web server
+            Assert.assertTrue(echoService.echo("Hello").startsWith("Hello from http-nio-"));
+        } finally {
+            invoker.destroy();
+        }
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+
+    static class DefaultEchoService implements EchoService {
+
+        @Override
+        public String echo(String message) {
+            return message + " from " + Thread.currentThread().getName();
+        }
+    }
+
+    /**
+     * Declares the service as a bean rather than scanned, the other tests scan this package without any registry.
+     */
+    @Configuration
+    static class EchoServiceConfiguration {
+
+        @Bean
+        public ServiceBean<EchoService> echoService() {
+            ServiceBean<EchoService> serviceBean = new ServiceBean<>();
+            serviceBean.setInterface(EchoService.class);
+            serviceBean.setRef(new DefaultEchoService());
+            return serviceBean;
+        }
+    }
+}
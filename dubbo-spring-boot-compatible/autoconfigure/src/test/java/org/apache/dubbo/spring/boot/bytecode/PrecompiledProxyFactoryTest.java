@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.bytecode;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.bytecode.Wrapper;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.service.EchoService;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link PrecompiledProxyFactory} and {@link DubboProxyProcessor} Test
+ *
+ * @see PrecompiledProxyFactory
+ * @see DubboProxyProcessor
+ * @since 2.7.10
+ */
+public class PrecompiledProxyFactoryTest {
+
+    @ClassRule
+    public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static File outputDirectory;
+
+    private static URLClassLoader classLoader;
+
+    private final PrecompiledProxyFactory proxyFactory = new PrecompiledProxyFactory();
+
+    @BeforeClass
+    public static void compile() throws Exception {
+        File sourceDirectory = temporaryFolder.newFolder("sources");
+        outputDirectory = temporaryFolder.newFolder("classes");
+        List<File> sources = new ArrayList<>();
+        sources.add(writeSource(sourceDirectory, "com/acme/CalculatorService.java",
+                "package com.acme;",
+                "public interface CalculatorService {",
+                "    int add(int left, int right);",
+                "    long add(long left, long right);",
+                "    String add(String left, String right);",
+                "    <T extends Comparable<T>> T max(T left, T right);",
+                "    java.util.List<Result> results(Result.Kind... kinds);",
+                "    void reset() throws java.io.IOException;",
+                "    default int twice(int value) {",
+                "        return add(value, value);",
+                "    }",
+                "    class Result {",
+                "        public enum Kind {",
+                "            SUM",
+                "        }",
+                "    }",
+                "}"));
+        sources.add(writeSource(sourceDirectory, "com/acme/CalculatorServiceImpl.java",
+                "package com.acme;",
+                "@org.apache.dubbo.config.annotation.DubboService",
+                "public class CalculatorServiceImpl implements CalculatorService {",
+                "    public int add(int left, int right) {",
+                "        return left + right;",
+                "    }",
+                "    public long add(long left, long right) {",
+                "        return left + right + 1;",
+                "    }",
+                "    public String add(String left, String right) {",
+                "        return left + right;",
+                "    }",
+                "    public <T extends Comparable<T>> T max(T left, T right) {",
+                "        return left.compareTo(right) >= 0 ? left : right;",
+                "    }",
+                "    public java.util.List<Result> results(Result.Kind... kinds) {",
+                "        return java.util.Collections.nCopies(kinds.length, new Result());",
+                "    }",
+                "    public void reset() throws java.io.IOException {",
+                "        throw new java.io.IOException(\"reset\");",
+                "    }",
+                "}"));
+        sources.add(writeSource(sourceDirectory, "com/acme/Repository.java",
+                "package com.acme;",
+                "public interface Repository<T> {",
+                "    T get(long id);",
+                "}"));
+        sources.add(writeSource(sourceDirectory, "com/acme/CalculatorClient.java",
+                "package com.acme;",
+                "public class CalculatorClient {",
+                "    @org.apache.dubbo.config.annotation.DubboReference",
+                "    private CalculatorService calculatorService;",
+                "    @org.apache.dubbo.config.annotation.DubboReference",
+                "    private Repository<String> repository;",
+                "}"));
+        List<String> arguments = new ArrayList<>(Arrays.asList("-processor", DubboProxyProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", outputDirectory.getAbsolutePath(), "-d", outputDirectory.getAbsolutePath()));
+        for (File source : sources) {
+            arguments.add(source.getAbsolutePath());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        classLoader = new URLClassLoader(new java.net.URL[]{outputDirectory.toURI().toURL()},
+                PrecompiledProxyFactoryTest.class.getClassLoader());
+    }
+
+    @AfterClass
+    public static void close() throws IOException {
+        classLoader.close();
+    }
+
+    @Test
+    public void testProcess() throws Exception {
+        Assert.assertEquals(Collections.singletonList("com.acme.CalculatorService"),
+                readLines(new File(outputDirectory, PrecompiledProxyFactory.INTERFACES_LOCATION)));
+        Assert.assertTrue(new File(outputDirectory, "com/acme/CalculatorService$DubboProxy.class").exists());
+        Assert.assertTrue(new File(outputDirectory, "com/acme/CalculatorService$DubboWrapper.class").exists());
+        // The generic interfaces are left to Javassist
+        Assert.assertFalse(new File(outputDirectory, "com/acme/Repository$DubboProxy.class").exists());
+    }
+
+    @Test
+    public void testProxy() throws Throwable {
+        Class<?> interfaceClass = classLoader.loadClass("com.acme.CalculatorService");
+        Object proxy = getProxy(interfaceClass, false);
+        Assert.assertEquals("com.acme.CalculatorService$DubboProxy", proxy.getClass().getName());
+        Assert.assertEquals(3, invoke(proxy, "add", new Class[]{int.class, int.class}, 1, 2));
+        Assert.assertEquals(4L, invoke(proxy, "add", new Class[]{long.class, long.class}, 1L, 2L));
+        Assert.assertEquals("12", invoke(proxy, "add", new Class[]{String.class, String.class}, "1", "2"));
+        Assert.assertEquals("b", invoke(proxy, "max", new Class[]{Comparable.class, Comparable.class}, "a", "b"));
+        Assert.assertEquals(10, invoke(proxy, "twice", new Class[]{int.class}, 5));
+        Class<?> kindClass = classLoader.loadClass("com.acme.CalculatorService$Result$Kind");
+        Object kinds = java.lang.reflect.Array.newInstance(kindClass, 2);
+        Assert.assertEquals(2, ((List<?>) invoke(proxy, "results", new Class[]{kinds.getClass()}, kinds)).size());
+        try {
+            invoke(proxy, "reset", new Class[0]);
+            Assert.fail();
+        } catch (IOException e) {
+            // The declared exception is thrown as is
+            Assert.assertEquals("reset", e.getMessage());
+        }
+        Assert.assertTrue(proxy instanceof EchoService);
+    }
+
+    @Test
+    public void testGenericProxy() throws Exception {
+        Object proxy = getProxy(classLoader.loadClass("com.acme.CalculatorService"), true);
+        Assert.assertNotEquals("com.acme.CalculatorService$DubboProxy", proxy.getClass().getName());
+        Object repository = getProxy(classLoader.loadClass("com.acme.Repository"), false);
+        Assert.assertNotEquals("com.acme.Repository$DubboProxy", repository.getClass().getName());
+    }
+
+    @Test
+    public void testWrapper() throws Exception {
+        Class<?> interfaceClass = classLoader.loadClass("com.acme.CalculatorService");
+        Wrapper wrapper = PrecompiledProxyFactory.getWrapper(interfaceClass);
+        Assert.assertNotNull(wrapper);
+        Assert.assertEquals(Arrays.asList("add", "max", "results", "reset", "twice"),
+                Arrays.asList(wrapper.getMethodNames()));
+        Assert.assertEquals(1, PrecompiledProxyFactory.registerWrappers(classLoader));
+        Assert.assertSame(wrapper, Wrapper.getWrapper(interfaceClass));
+        Object service = classLoader.loadClass("com.acme.CalculatorServiceImpl").newInstance();
+        Assert.assertEquals(3, wrapper.invokeMethod(service, "add", new Class[]{int.class, int.class},
+                new Object[]{1, 2}));
+        try {
+            wrapper.invokeMethod(service, "subtract", new Class[0], new Object[0]);
+            Assert.fail();
+        } catch (org.apache.dubbo.common.bytecode.NoSuchMethodException e) {
+            Assert.assertTrue(e.getMessage().contains("subtract"));
+        }
+        Assert.assertNull(PrecompiledProxyFactory.getWrapper(classLoader.loadClass("com.acme.Repository")));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object getProxy(Class interfaceClass, boolean generic) throws Exception {
+        Object service = classLoader.loadClass("com.acme.CalculatorServiceImpl").newInstance();
+        if (!interfaceClass.isInstance(service)) {
+            service = Proxy.newProxyInstance(classLoader, new Class[]{interfaceClass}, (proxy, method, args) -> null);
+        }
+        URL url = URL.valueOf("injvm://127.0.0.1/" + interfaceClass.getName());
+        // Javassist generates the fallback classes by the context class loader
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            Invoker invoker = proxyFactory.getInvoker(service, interfaceClass, url);
+            return proxyFactory.getProxy(invoker, generic);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private Object invoke(Object proxy, String methodName, Class<?>[] parameterTypes, Object... arguments)
+            throws Throwable {
+        Method method = proxy.getClass().getMethod(methodName, parameterTypes);
+        try {
+            return method.invoke(proxy, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static File writeSource(File sourceDirectory, String path, String... lines) throws IOException {
+        File source = new File(sourceDirectory, path);
+        source.getParentFile().mkdirs();
+        Files.write(source.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return source;
+    }
+
+    private static List<String> readLines(File file) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        lines.removeIf(line -> line.startsWith("#"));
+        return lines;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.compression;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.ACCEPT_COMPRESSION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_ATTACHMENT;
+import static org.apache.dubbo.spring.boot.compression.CompressionConstants.COMPRESSION_PAYLOAD_ATTACHMENT;
+
+/**
+ * {@link ResponseCompressor} Test
+ *
+ * @see ResponseCompressor
+ * @since 2.7.10
+ */
+public class ResponseCompressorTest {
+
+    private final URL url = URL.valueOf("dubbo://127.0.0.1:20880/" + ListService.class.getName());
+
+    @After
+    public void destroy() {
+        setFilterCompressor(null);
+        ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo").destroy();
+    }
+
+    @Test
+    public void testCompress() throws Exception {
+        ResponseCompressor compressor = newCompressor();
+        Assert.assertEquals(Arrays.asList("lz4", "zstd"), compressor.getCodecs());
+        for (String codec : compressor.getCodecs()) {
+            URL providerUrl = url.addParameter("list.compression", codec);
+            RpcInvocation invocation = newInvocation(1000);
+            invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, "lz4,zstd");
+            List<String> list = newList(1000);
+            AppResponse response = new AppResponse(list);
+
+            Assert.assertTrue(compressor.compress(response, providerUrl, invocation));
+            Assert.assertNull(response.getValue());
+            Assert.assertEquals(codec, response.getObjectAttachment(COMPRESSION_ATTACHMENT));
+
+            Assert.assertTrue(compressor.decompress(response, url, invocation));
+            Assert.assertEquals(list, response.getValue());
+            Assert.assertTrue(response.getObjectAttachments().isEmpty());
+
+            CompressionStatistics statistics = compressor.getCompressionStatistics().get(codec);
+            Assert.assertEquals(1, statistics.getCount());
+            Assert.assertTrue(statistics.getCompressedBytes() < statistics.getUncompressedBytes());
+            Assert.assertEquals(statistics.getUncompressedBytes(),
+                    compressor.getDecompressionStatistics().get(codec).getUncompressedBytes());
+        }
+    }
+
+    @Test
+    public void testThreshold() throws Exception {
+        ResponseCompressor compressor = newCompressor();
+        RpcInvocation invocation = newInvocation(10);
+        invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, "zstd");
+        AppResponse response = new AppResponse(newList(10));
+        // The serialized bytes are sent as is, rather than serialized again
+        Assert.assertTrue(compressor.compress(response, url.addParameter("compression", "zstd"), invocation));
+        Assert.assertEquals("identity", response.getObjectAttachment(COMPRESSION_ATTACHMENT));
+        Assert.assertEquals(1, compressor.getSkippedCount());
+        Assert.assertEquals(0, compressor.getCompressionStatistics().get("zstd").getCount());
+        Assert.assertTrue(compressor.decompress(response, url, invocation));
+        Assert.assertEquals(newList(10), response.getValue());
+        Assert.assertEquals(0, compressor.getDecompressionStatistics().get("zstd").getCount());
+
+        // The threshold of method takes precedence
+        response = new AppResponse(newList(10));
+        Assert.assertTrue(compressor.compress(response, url.addParameter("compression", "zstd")
+                .addParameter("list.compression-threshold", 64), invocation));
+        Assert.assertEquals("zstd", response.getObjectAttachment(COMPRESSION_ATTACHMENT));
+    }
+
+    @Test
+    public void testUnserializable() throws Exception {
+        ResponseCompressor compressor = newCompressor();
+        RpcInvocation invocation = newInvocation(1);
+        invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, "zstd");
+        URL providerUrl = url.addParameter("compression", "zstd");
+        AppResponse response = new AppResponse(Collections.singletonList(new Object()));
+        Assert.assertFalse(compressor.compress(response, providerUrl, invocation));
+        Assert.assertNotNull(response.getValue());
+
+        // The method isn't compressed any more, its responses are serialized once by Dubbo
+        response = new AppResponse(newList(1000));
+        Assert.assertFalse(compressor.compress(response, providerUrl, invocation));
+        Assert.assertEquals(newList(1000), response.getValue());
+    }
+
+    @Test
+    public void testNegotiate() throws Exception {
+        ResponseCompressor compressor = newCompressor();
+        URL providerUrl = url.addParameter("compression", "zstd,lz4");
+
+        RpcInvocation invocation = newInvocation(1000);
+        AppResponse response = new AppResponse(newList(1000));
+        Assert.assertFalse(compressor.compress(response, providerUrl, invocation));
+
+        invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, "gzip");
+        Assert.assertFalse(compressor.compress(response, providerUrl, invocation));
+
+        invocation.setObjectAttachment(ACCEPT_COMPRESSION_ATTACHMENT, "gzip,lz4");
+        Assert.assertTrue(compressor.compress(response, providerUrl, invocation));
+        Assert.assertEquals("lz4", response.getObjectAttachment(COMPRESSION_ATTACHMENT));
+
+        // The methods without parameter aren't compressed by default
+        response = new AppResponse(newList(1000));
+        Assert.assertFalse(compressor.compress(response, url, invocation));
+    }
+
+    @Test
+    public void testAcceptedCodecs() {
+        ResponseCompressor compressor = newCompressor();
+        Assert.assertEquals("lz4,zstd", compressor.getAcceptedCodecs(url, "list"));
+        Assert.assertEquals("zstd", compressor.getAcceptedCodecs(url.addParameter("list.compression", "gzip,zstd"),
+                "list"));
+        Assert.assertNull(compressor.getAcceptedCodecs(url.addParameter("compression", "gzip"), "list"));
+    }
+
+    @Test(expected = RpcException.class)
+    public void testUnsupportedCodec() throws Exception {
+        ResponseCompressor compressor = new ResponseCompressor(Collections.singletonList(new Lz4Compressor()),
+                new DubboCompressionProperties());
+        AppResponse response = new AppResponse();
+        response.setObjectAttachment(COMPRESSION_ATTACHMENT, "zstd");
+        response.setObjectAttachment(COMPRESSION_PAYLOAD_ATTACHMENT, new byte[0]);
+        compressor.decompress(response, url, newInvocation(1));
+    }
+
+    @Test
+    public void testFilters() {
+        ResponseCompressor compressor = newCompressor();
+        setFilterCompressor(compressor);
+        URL serviceUrl = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                + ListService.class.getName() + "?list.compression=zstd");
+        Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+        ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class).getAdaptiveExtension();
+        ApplicationModel.getServiceRepository().registerService(ListService.class);
+        Exporter<ListService> exporter = protocol.export(proxyFactory.getInvoker(ResponseCompressorTest::newList,
+                ListService.class, serviceUrl));
+        Invoker<ListService> invoker = protocol.refer(ListService.class, serviceUrl);
+        try {
+            ListService listService = proxyFactory.getProxy(invoker);
+            Assert.assertEquals(newList(1000), listService.list(1000));
+            Assert.assertEquals(newList(1), listService.list(1));
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+        Assert.assertEquals(1, compressor.getCompressionStatistics().get("zstd").getCount());
+        Assert.assertEquals(1, compressor.getDecompressionStatistics().get("zstd").getCount());
+        Assert.assertEquals(1, compressor.getSkippedCount());
+    }
+
+    private void setFilterCompressor(ResponseCompressor compressor) {
+        ExtensionLoader<Filter> loader = ExtensionLoader.getExtensionLoader(Filter.class);
+        ((ResponseCompressionFilter) loader.getExtension("response-compression"))
+                .setDubboResponseCompressor(compressor);
+        ((ResponseDecompressionFilter) loader.getExtension("response-decompression"))
+                .setDubboResponseCompressor(compressor);
+    }
+
+    private ResponseCompressor newCompressor() {
+        DubboCompressionProperties properties = new DubboCompressionProperties();
+        properties.setThreshold(1024);
+        return new ResponseCompressor(properties);
+    }
+
+    private RpcInvocation newInvocation(int size) throws NoSuchMethodException {
+        return new RpcInvocation(ListService.class.getMethod("list", int.class), ListService.class.getName(),
+                ListService.class.getName(), new Object[]{size});
+    }
+
+    private static List<String> newList(int size) {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add("The element of list #" + i);
+        }
+        return list;
+    }
+
+    public interface ListService {
+
+        List<String> list(int size);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.connection;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.protocol.dubbo.DubboProtocol;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+/**
+ * {@link SharedConnectionsProtocolWrapper} Test
+ *
+ * @see SharedConnectionsProtocolWrapper
+ * @see SharedConnections
+ * @since 2.7.10
+ */
+public class SharedConnectionsProtocolWrapperTest {
+
+    private final Protocol dubboProtocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final SharedConnectionsProtocolWrapper protocol = new SharedConnectionsProtocolWrapper(dubboProtocol);
+
+    private final DubboSharedConnectionsProperties properties = new DubboSharedConnectionsProperties();
+
+    private final int port = NetUtils.getAvailablePort();
+
+    private Exporter<EchoService> echoExporter;
+
+    private Exporter<GreetingService> greetingExporter;
+
+    @Before
+    public void init() {
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+        ApplicationModel.getServiceRepository().registerService(GreetingService.class);
+        echoExporter = dubboProtocol.export(proxyFactory.getInvoker(message -> message, EchoService.class,
+                newUrl(EchoService.class, "")));
+        greetingExporter = dubboProtocol.export(proxyFactory.getInvoker(name -> "Hello," + name,
+                GreetingService.class, newUrl(GreetingService.class, "")));
+    }
+
+    @After
+    public void destroy() {
+        echoExporter.unexport();
+        greetingExporter.unexport();
+        dubboProtocol.destroy();
+    }
+
+    @Test
+    public void testSharedConnections() throws Exception {
+        SharedConnections sharedConnections = new SharedConnections(properties);
+        protocol.setDubboSharedConnections(sharedConnections);
+        Invoker<EchoService> echoInvoker = protocol.refer(EchoService.class, newUrl(EchoService.class,
+                "connections=2"));
+        Invoker<GreetingService> greetingInvoker = protocol.refer(GreetingService.class,
+                newUrl(GreetingService.class, "connections=2"));
+        Invoker<EchoService> anotherEchoInvoker = protocol.refer(EchoService.class, newUrl(EchoService.class, ""));
+        try {
+            Assert.assertEquals("Hello", proxyFactory.getProxy(echoInvoker).echo("Hello"));
+            Assert.assertEquals("Hello,World", proxyFactory.getProxy(greetingInvoker).greet("World"));
+            Assert.assertEquals("Hello", proxyFactory.getProxy(anotherEchoInvoker).echo("Hello"));
+            assertServerChannels(1);
+
+            Map<String, Object> data = sharedConnections.getAddressConnections().get("127.0.0.1:" + port);
+            Assert.assertEquals(1, data.get("connections"));
+            Map<?, ?> references = (Map<?, ?>) data.get("references");
+            Assert.assertEquals(2, references.get(EchoService.class.getName()));
+            Assert.assertEquals(1, references.get(GreetingService.class.getName()));
+        } finally {
+            echoInvoker.destroy();
+            greetingInvoker.destroy();
+            anotherEchoInvoker.destroy();
+        }
+        Assert.assertTrue(sharedConnections.getAddressConnections().isEmpty());
+    }
+
+    @Test
+    public void testAddressSize() throws Exception {
+        properties.setSize(2);
+        properties.getAddresses().put("127.0.0.1:" + port, 3);
+        SharedConnections sharedConnections = new SharedConnections(properties);
+        protocol.setDubboSharedConnections(sharedConnections);
+        Invoker<EchoService> echoInvoker = protocol.refer(EchoService.class, newUrl(EchoService.class, ""));
+        Invoker<GreetingService> greetingInvoker = protocol.refer(GreetingService.class,
+                newUrl(GreetingService.class, ""));
+        try {
+            Assert.assertEquals("Hello", proxyFactory.getProxy(echoInvoker).echo("Hello"));
+            Assert.assertEquals("Hello,World", proxyFactory.getProxy(greetingInvoker).greet("World"));
+            assertServerChannels(3);
+            Assert.assertEquals(3, sharedConnections.getAddressConnections().get("127.0.0.1:" + port)
+                    .get("connections"));
+        } finally {
+            echoInvoker.destroy();
+            greetingInvoker.destroy();
+        }
+    }
+
+    @Test
+    public void testOwnConnections() throws Exception {
+        SharedConnections sharedConnections = new SharedConnections(properties);
+        protocol.setDubboSharedConnections(sharedConnections);
+        Invoker<EchoService> echoInvoker = protocol.refer(EchoService.class, newUrl(EchoService.class,
+                "connections=2&shared-connections=false"));
+        try {
+            Assert.assertEquals("Hello", proxyFactory.getProxy(echoInvoker).echo("Hello"));
+            assertServerChannels(2);
+            Assert.assertTrue(sharedConnections.getAddressConnections().isEmpty());
+        } finally {
+            echoInvoker.destroy();
+        }
+    }
+
+    private void assertServerChannels(int expected) throws InterruptedException {
+        int channels = 0;
+        // The channels are registered by the server asynchronously
+        for (int i = 0; i < 100 && channels != expected; i++) {
+            Thread.sleep(20);
+            channels = DubboProtocol.getDubboProtocol().getServers().get(0).getRemotingServer().getChannels().size();
+        }
+        Assert.assertEquals(expected, channels);
+    }
+
+    private URL newUrl(Class<?> type, String parameters) {
+        return URL.valueOf("dubbo://127.0.0.1:" + port + "/" + type.getName() + "?" + parameters);
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+
+    public interface GreetingService {
+
+        String greet(String name);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.dispatch;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.spring.ReferenceBean;
+import org.apache.dubbo.config.spring.ServiceBean;
+import org.apache.dubbo.config.spring.extension.SpringExtensionFactory;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link MethodDirectDispatcher} Test
+ *
+ * @see MethodDirectDispatcher
+ * @since 2.7.10
+ */
+public class MethodDirectDispatcherTest {
+
+    private static final StaticApplicationContext applicationContext = new StaticApplicationContext();
+
+    private static final DirectDispatchStatistics statistics = new DirectDispatchStatistics();
+
+    static {
+        // The statistics are injected once when the dispatcher extension is created
+        applicationContext.getBeanFactory().registerSingleton(DirectDispatchStatistics.BEAN_NAME, statistics);
+    }
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    @BeforeClass
+    public static void init() {
+        SpringExtensionFactory.addApplicationContext(applicationContext);
+    }
+
+    @AfterClass
+    public static void destroyApplicationContext() {
+        SpringExtensionFactory.removeApplicationContext(applicationContext);
+    }
+
+    @After
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Test
+    public void testDispatch() {
+        URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                + ThreadNameService.class.getName() + "?dispatcher=method-direct&io.direct=true");
+        ApplicationModel.getServiceRepository().registerService(ThreadNameService.class);
+        Exporter<ThreadNameService> exporter = protocol.export(proxyFactory.getInvoker(new ThreadNameServiceImpl(),
+                ThreadNameService.class, url));
+        Invoker<ThreadNameService> invoker = protocol.refer(ThreadNameService.class, url);
+        try {
+            ThreadNameService threadNameService = proxyFactory.getProxy(invoker);
+            long directCount = statistics.getDirectCount();
+            long dispatchedCount = statistics.getDispatchedCount();
+            String ioMethod = ThreadNameService.class.getName() + "#io";
+            long ioCount = statistics.getDirectCounts().getOrDefault(ioMethod, 0L);
+            for (int i = 0; i < 4; i++) {
+                Assert.assertTrue(threadNameService.io().startsWith("NettyServerWorker"));
+                Assert.assertTrue(threadNameService.annotated().startsWith("NettyServerWorker"));
+                Assert.assertTrue(threadNameService.worker().startsWith("DubboServerHandler"));
+            }
+            Assert.assertEquals(directCount + 8, statistics.getDirectCount());
+            Assert.assertEquals(dispatchedCount + 4, statistics.getDispatchedCount());
+            Assert.assertEquals(Long.valueOf(ioCount + 4), statistics.getDirectCounts().get(ioMethod));
+
+            // The arguments of the other methods are decoded by the worker threads
+            Assert.assertTrue(threadNameService.decoded(new Argument()).startsWith("DubboServerHandler"));
+
+            // The unknown methods are dispatched to fail as usual
+            try {
+                invoker.invoke(new RpcInvocation("unknown", ThreadNameService.class.getName(),
+                        ThreadNameService.class.getName(), new Class<?>[0], new Object[0]));
+                Assert.fail();
+            } catch (RpcException e) {
+                Assert.assertTrue(e.getMessage().contains("Not found method \"unknown\""));
+            }
+            Assert.assertEquals(dispatchedCount + 6, statistics.getDispatchedCount());
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+    }
+
+    @Test
+    public void testValidate() {
+        Assert.assertNull(validate(new ThreadNameServiceImpl()));
+        Assert.assertNull(validate(new AsyncReferenceService()));
+        String message = validate(new BlockingReferenceService());
+        Assert.assertNotNull(message);
+        Assert.assertTrue(message.contains(BlockingReferenceService.class.getName() + "#io -> "
+                + ReferenceService.class.getName() + "#get"));
+        Assert.assertFalse(message.contains("#worker"));
+    }
+
+    private String validate(ThreadNameService ref) {
+        StaticApplicationContext applicationContext = new StaticApplicationContext();
+        ServiceBean<ThreadNameService> serviceBean = new ServiceBean<>();
+        serviceBean.setInterface(ThreadNameService.class);
+        serviceBean.setRef(ref);
+        serviceBean.setParameters(Collections.singletonMap("io.direct", "true"));
+        ReferenceBean<ReferenceService> referenceBean = new ReferenceBean<>();
+        referenceBean.setInterface(ReferenceService.class);
+        applicationContext.getBeanFactory().registerSingleton("serviceBean", serviceBean);
+        applicationContext.getBeanFactory().registerSingleton("referenceBean", referenceBean);
+        DirectDispatchValidator validator = new DirectDispatchValidator();
+        validator.setApplicationContext(applicationContext);
+        try {
+            validator.afterSingletonsInstantiated();
+            return null;
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    public interface ThreadNameService {
+
+        String io();
+
+        @DirectDispatch
+        String annotated();
+
+        String worker();
+
+        String decoded(Argument argument);
+    }
+
+    public static class Argument implements Serializable {
+
+        private transient String decodingThread;
+
+        private Object readResolve() {
+            decodingThread = Thread.currentThread().getName();
+            return this;
+        }
+    }
+
+    public interface ReferenceService {
+
+        String get();
+
+        CompletableFuture<String> getAsync();
+    }
+
+    private static class ThreadNameServiceImpl implements ThreadNameService {
+
+        @Override
+        public String io() {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public String annotated() {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public String worker() {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public String decoded(Argument argument) {
+            return argument.decodingThread;
+        }
+    }
+
+    private static class BlockingReferenceService extends ThreadNameServiceImpl {
+
+        private ReferenceService referenceService;
+
+        @Override
+        public String io() {
+            return referenceService.get();
+        }
+
+        @Override
+        public String worker() {
+            return referenceService.get();
+        }
+    }
+
+    private static class AsyncReferenceService extends ThreadNameServiceImpl {
+
+        private ReferenceService referenceService;
+
+        @Override
+        public String io() {
+            referenceService.getAsync();
+            return super.io();
+        }
+    }
+}
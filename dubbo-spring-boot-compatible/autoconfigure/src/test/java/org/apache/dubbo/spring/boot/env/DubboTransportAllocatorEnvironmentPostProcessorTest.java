@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.env;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.CHUNK_SIZE_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.DIRECT_ARENAS_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.DIRECT_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.HEAP_ARENAS_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.LEAK_DETECTION_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.NETTY_LEAK_DETECTION_LEVEL;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.PAGE_SIZE_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboTransportAllocatorEnvironmentPostProcessor.TYPE_PROPERTY;
+
+/**
+ * {@link DubboTransportAllocatorEnvironmentPostProcessor} Test
+ *
+ * @since 2.7.10
+ */
+public class DubboTransportAllocatorEnvironmentPostProcessorTest {
+
+    private DubboTransportAllocatorEnvironmentPostProcessor instance =
+            new DubboTransportAllocatorEnvironmentPostProcessor();
+
+    @Test
+    public void testResolveNettyProperties() {
+        MockEnvironment environment = new MockEnvironment();
+        Assert.assertTrue(instance.resolveNettyProperties(environment).isEmpty());
+
+        environment.setProperty(TYPE_PROPERTY, "Unpooled");
+        environment.setProperty(DIRECT_PROPERTY, "false");
+        environment.setProperty(HEAP_ARENAS_PROPERTY, "2");
+        environment.setProperty(DIRECT_ARENAS_PROPERTY, "0");
+        environment.setProperty(PAGE_SIZE_PROPERTY, "4096");
+        environment.setProperty(CHUNK_SIZE_PROPERTY, "1048576");
+        environment.setProperty(LEAK_DETECTION_PROPERTY, "paranoid");
+        Map<String, String> nettyProperties = instance.resolveNettyProperties(environment);
+
+        Assert.assertEquals("unpooled", nettyProperties.get("io.netty.allocator.type"));
+        Assert.assertEquals("true", nettyProperties.get("io.netty.noPreferDirect"));
+        Assert.assertEquals("2", nettyProperties.get("io.netty.allocator.numHeapArenas"));
+        Assert.assertEquals("0", nettyProperties.get("io.netty.allocator.numDirectArenas"));
+        Assert.assertEquals("4096", nettyProperties.get("io.netty.allocator.pageSize"));
+        Assert.assertEquals("8", nettyProperties.get("io.netty.allocator.maxOrder"));
+        Assert.assertEquals("PARANOID", nettyProperties.get("io.netty.leakDetection.level"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidType() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(TYPE_PROPERTY, "direct");
+        instance.resolveNettyProperties(environment);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(CHUNK_SIZE_PROPERTY, "100000");
+        instance.resolveNettyProperties(environment);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLeakDetection() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(LEAK_DETECTION_PROPERTY, "always");
+        instance.resolveNettyProperties(environment);
+    }
+
+    @Test
+    public void testSystemPropertyTakesPrecedence() {
+        String level = System.getProperty(NETTY_LEAK_DETECTION_LEVEL);
+        System.setProperty(NETTY_LEAK_DETECTION_LEVEL, "SIMPLE");
+        try {
+            MockEnvironment environment = new MockEnvironment();
+            environment.setProperty(LEAK_DETECTION_PROPERTY, "paranoid");
+            instance.postProcessEnvironment(environment, new SpringApplication());
+            Assert.assertEquals("SIMPLE", System.getProperty(NETTY_LEAK_DETECTION_LEVEL));
+        } finally {
+            if (level == null) {
+                System.clearProperty(NETTY_LEAK_DETECTION_LEVEL);
+            } else {
+                System.setProperty(NETTY_LEAK_DETECTION_LEVEL, level);
+            }
+        }
+    }
+}
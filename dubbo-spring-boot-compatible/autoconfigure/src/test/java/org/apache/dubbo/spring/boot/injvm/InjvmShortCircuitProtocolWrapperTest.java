@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.injvm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.config.spring.ServiceBean;
+import org.apache.dubbo.rpc.AsyncRpcResult;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.rpc.cluster.Constants.REFER_KEY;
+
+/**
+ * {@link InjvmShortCircuitProtocolWrapper} Test
+ *
+ * @see InjvmShortCircuitProtocolWrapper
+ * @see LocalServices
+ * @since 2.7.10
+ */
+public class InjvmShortCircuitProtocolWrapperTest {
+
+    private final Protocol injvmProtocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("injvm");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final AtomicInteger remoteInvocations = new AtomicInteger();
+
+    private final StaticApplicationContext applicationContext = new StaticApplicationContext();
+
+    private final InjvmShortCircuitProtocolWrapper protocol = new InjvmShortCircuitProtocolWrapper(
+            new RemoteProtocol());
+
+    private final DubboInjvmProperties properties = new DubboInjvmProperties();
+
+    @Before
+    public void init() {
+        MutablePropertyValues propertyValues = new MutablePropertyValues();
+        propertyValues.add("interface", EchoService.class.getName());
+        propertyValues.add("version", "1.0.0");
+        applicationContext.registerSingleton("serviceBean", ServiceBean.class, propertyValues);
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+    }
+
+    @After
+    public void destroy() {
+        injvmProtocol.destroy();
+    }
+
+    @Test
+    public void testShortCircuit() {
+        EchoService echoService = refer("interface=" + EchoService.class.getName() + "&version=1.0.0");
+        Assert.assertEquals("remote", echoService.echo("Hello"));
+        Assert.assertEquals(1, remoteInvocations.get());
+
+        Exporter<EchoService> exporter = export("version=1.0.0");
+        try {
+            String message = new String("Hello");
+            Assert.assertEquals(message, echoService.echo(message));
+            Assert.assertNotSame(message, echoService.echo(message));
+            List<String> messages = new ArrayList<>(Collections.singletonList("Hello"));
+            List<String> appended = echoService.append(messages);
+            Assert.assertEquals(1, messages.size());
+            Assert.assertEquals(2, appended.size());
+            Assert.assertEquals(1, remoteInvocations.get());
+        } finally {
+            exporter.unexport();
+        }
+        Assert.assertEquals("remote", echoService.echo("Hello"));
+        Assert.assertEquals(2, remoteInvocations.get());
+    }
+
+    @Test
+    public void testPassByReference() {
+        properties.setPassByReference(true);
+        EchoService echoService = refer("interface=" + EchoService.class.getName() + "&version=1.0.0");
+        Exporter<EchoService> exporter = export("version=1.0.0");
+        try {
+            String message = new String("Hello");
+            Assert.assertSame(message, echoService.echo(message));
+            List<String> messages = new ArrayList<>(Collections.singletonList("Hello"));
+            echoService.append(messages);
+            Assert.assertEquals(1, messages.size());
+            Assert.assertEquals(0, remoteInvocations.get());
+        } finally {
+            exporter.unexport();
+        }
+    }
+
+    @Test
+    public void testVersionMismatch() {
+        EchoService echoService = refer("interface=" + EchoService.class.getName() + "&version=1.0.0");
+        Exporter<EchoService> exporter = export("version=2.0.0");
+        try {
+            Assert.assertEquals("remote", echoService.echo("Hello"));
+            Assert.assertEquals(1, remoteInvocations.get());
+        } finally {
+            exporter.unexport();
+        }
+    }
+
+    @Test
+    public void testAvailable() {
+        Invoker<EchoService> invoker = referInvoker("interface=" + EchoService.class.getName() + "&version=1.0.0");
+        Assert.assertTrue(invoker instanceof InjvmShortCircuitInvoker);
+        // The service is declared in the context, but isn't exported yet
+        Assert.assertTrue(invoker.isAvailable());
+        invoker = referInvoker("interface=" + EchoService.class.getName() + "&version=2.0.0");
+        Assert.assertFalse(invoker.isAvailable());
+    }
+
+    @Test
+    public void testExplicitReference() {
+        Assert.assertTrue(referInvoker("interface=" + EchoService.class.getName() + "&scope=remote")
+                instanceof RemoteInvoker);
+        Assert.assertTrue(referInvoker("interface=" + EchoService.class.getName() + "&injvm=false")
+                instanceof RemoteInvoker);
+        Assert.assertTrue(referInvoker("interface=" + EchoService.class.getName() + "&generic=true")
+                instanceof RemoteInvoker);
+        protocol.setDubboLocalServices(null);
+        Assert.assertTrue(protocol.refer(EchoService.class, registryUrl("interface=" + EchoService.class.getName()))
+                instanceof RemoteInvoker);
+    }
+
+    private Exporter<EchoService> export(String parameters) {
+        URL url = URL.valueOf("injvm://127.0.0.1/" + EchoService.class.getName() + "?" + parameters);
+        return injvmProtocol.export(proxyFactory.getInvoker(new EchoServiceImpl(), EchoService.class, url));
+    }
+
+    private EchoService refer(String referParameters) {
+        return proxyFactory.getProxy(referInvoker(referParameters));
+    }
+
+    private Invoker<EchoService> referInvoker(String referParameters) {
+        LocalServices localServices = new LocalServices(properties);
+        localServices.setBeanFactory(applicationContext.getBeanFactory());
+        protocol.setDubboLocalServices(localServices);
+        return protocol.refer(EchoService.class, registryUrl(referParameters));
+    }
+
+    private URL registryUrl(String referParameters) {
+        return URL.valueOf("registry://127.0.0.1:2181/org.apache.dubbo.registry.RegistryService")
+                .addParameterAndEncoded(REFER_KEY, referParameters);
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+
+        List<String> append(List<String> messages);
+    }
+
+    private static class EchoServiceImpl implements EchoService {
+
+        @Override
+        public String echo(String message) {
+            return message;
+        }
+
+        @Override
+        public List<String> append(List<String> messages) {
+            messages.add("local");
+            return messages;
+        }
+    }
+
+    private class RemoteProtocol implements Protocol {
+
+        @Override
+        public int getDefaultPort() {
+            return 0;
+        }
+
+        @Override
+        public <T> Exporter<T> export(Invoker<T> invoker) throws RpcException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Invoker<T> refer(Class<T> type, URL url) throws RpcException {
+            return new RemoteInvoker<>(type, url);
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+
+    private class RemoteInvoker<T> implements Invoker<T> {
+
+        private final Class<T> type;
+
+        private final URL url;
+
+        private RemoteInvoker(Class<T> type, URL url) {
+            this.type = type;
+            this.url = url;
+        }
+
+        @Override
+        public Class<T> getInterface() {
+            return type;
+        }
+
+        @Override
+        public Result invoke(Invocation invocation) throws RpcException {
+            remoteInvocations.incrementAndGet();
+            return AsyncRpcResult.newDefaultAsyncResult("remote", invocation);
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return false;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
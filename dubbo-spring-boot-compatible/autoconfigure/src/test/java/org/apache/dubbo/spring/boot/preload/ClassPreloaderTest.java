@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.preload;
+
+import org.apache.dubbo.config.spring.ReferenceBean;
+import org.apache.dubbo.config.spring.ServiceBean;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ClassPreloader} Test
+ *
+ * @see ClassPreloader
+ * @since 2.7.10
+ */
+public class ClassPreloaderTest {
+
+    @Test
+    public void testPreload() throws Exception {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("calculatorServiceImpl", BeanDefinitionBuilder
+                .rootBeanDefinition(CalculatorServiceImpl.class).getBeanDefinition());
+        beanFactory.registerBeanDefinition("calculatorService", BeanDefinitionBuilder
+                .rootBeanDefinition(ServiceBean.class)
+                .addPropertyValue("interface", CalculatorService.class.getName())
+                .addPropertyReference("ref", "calculatorServiceImpl")
+                .getBeanDefinition());
+        beanFactory.registerBeanDefinition("echoService", BeanDefinitionBuilder
+                .rootBeanDefinition(ReferenceBean.class)
+                .addPropertyValue("interface", EchoService.class.getName())
+                .getBeanDefinition());
+        ClassPreloader preloader = new ClassPreloader(4);
+        preloader.setBeanClassLoader(getClass().getClassLoader());
+        preloader.postProcessBeanFactory(beanFactory);
+        preloader.getFuture().get(30, TimeUnit.SECONDS);
+        // The extensions, Wrapper, proxy, methods and the types listed in "META-INF/dubbo-preload/types"
+        Assert.assertTrue(preloader.getLoadedClasses() > 10);
+        Assert.assertEquals(Collections.singleton(getClass().getPackage().getName() + ".MissingType"),
+                preloader.getFailedClasses());
+        // No bean is created
+        Assert.assertFalse(beanFactory.containsSingleton("calculatorServiceImpl"));
+    }
+
+    @Test
+    public void testPreloadWithoutDefinitions() throws Exception {
+        ClassPreloader preloader = new ClassPreloader(1);
+        preloader.postProcessBeanFactory(new DefaultListableBeanFactory());
+        preloader.getFuture().get(30, TimeUnit.SECONDS);
+        Assert.assertTrue(preloader.getLoadedClasses() > 0);
+        preloader.destroy();
+    }
+
+    public interface CalculatorService {
+
+        Payload add(Payload left, Payload right);
+    }
+
+    public interface EchoService {
+
+        Payload[] echo(Payload payload);
+    }
+
+    public static class CalculatorServiceImpl implements CalculatorService {
+
+        @Override
+        public Payload add(Payload left, Payload right) {
+            return new Payload(left.value + right.value);
+        }
+    }
+
+    public static class Payload {
+
+        private final int value;
+
+        public Payload(int value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.preload;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link DubboPreloadProcessor} Test
+ *
+ * @see DubboPreloadProcessor
+ * @since 2.7.10
+ */
+public class DubboPreloadProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testProcess() throws Exception {
+        File sourceDirectory = temporaryFolder.newFolder("sources");
+        File outputDirectory = temporaryFolder.newFolder("classes");
+        File orderService = writeSource(sourceDirectory, "com/acme/OrderService.java",
+                "package com.acme;",
+                "public interface OrderService {",
+                "    java.util.List<Order> list(String customer);",
+                "    Order[] get(long[] ids);",
+                "}");
+        File order = writeSource(sourceDirectory, "com/acme/Order.java",
+                "package com.acme;",
+                "public class Order implements java.io.Serializable {",
+                "    public static class Item {",
+                "    }",
+                "}");
+        File inventoryService = writeSource(sourceDirectory, "com/acme/InventoryService.java",
+                "package com.acme;",
+                "public interface InventoryService {",
+                "    int count(Order.Item item);",
+                "}");
+        File orderServiceImpl = writeSource(sourceDirectory, "com/acme/OrderServiceImpl.java",
+                "package com.acme;",
+                "@org.apache.dubbo.config.annotation.DubboService",
+                "public class OrderServiceImpl implements OrderService {",
+                "    @org.apache.dubbo.config.annotation.DubboReference",
+                "    private InventoryService inventoryService;",
+                "    public java.util.List<Order> list(String customer) {",
+                "        return null;",
+                "    }",
+                "    public Order[] get(long[] ids) {",
+                "        return null;",
+                "    }",
+                "}");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-proc:only",
+                "-processor", DubboPreloadProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", outputDirectory.getAbsolutePath(),
+                orderService.getAbsolutePath(), order.getAbsolutePath(), inventoryService.getAbsolutePath(),
+                orderServiceImpl.getAbsolutePath());
+        Assert.assertEquals(0, result);
+        Assert.assertEquals(Arrays.asList("com.acme.OrderServiceImpl"), readClassNames(outputDirectory, "services"));
+        Assert.assertEquals(Arrays.asList("com.acme.InventoryService"), readClassNames(outputDirectory,
+                "references"));
+        Assert.assertEquals(Arrays.asList("com.acme.Order", "com.acme.Order$Item"), readClassNames(outputDirectory,
+                "types"));
+    }
+
+    private File writeSource(File sourceDirectory, String path, String... lines) throws IOException {
+        File source = new File(sourceDirectory, path);
+        source.getParentFile().mkdirs();
+        Files.write(source.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return source;
+    }
+
+    private List<String> readClassNames(File outputDirectory, String kind) throws IOException {
+        List<String> lines = Files.readAllLines(new File(outputDirectory, String.format(
+                ClassPreloader.LOCATION_PATTERN, kind)).toPath(), StandardCharsets.UTF_8);
+        lines.removeIf(line -> line.startsWith("#"));
+        return lines;
+    }
+}
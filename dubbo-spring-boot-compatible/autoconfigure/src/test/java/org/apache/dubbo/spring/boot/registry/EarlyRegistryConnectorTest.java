@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.registry;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.registry.NotifyListener;
+import org.apache.dubbo.registry.Registry;
+import org.apache.dubbo.registry.RegistryFactory;
+import org.apache.dubbo.registry.support.AbstractRegistryFactory;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link EarlyRegistryConnector} Test
+ *
+ * @see EarlyRegistryConnector
+ * @since 2.7.10
+ */
+public class EarlyRegistryConnectorTest {
+
+    private static final AtomicInteger createdRegistries = new AtomicInteger();
+
+    @Before
+    public void init() throws Exception {
+        // The registries may have been destroyed by the previous tests in the same JVM
+        Field destroyed = AbstractRegistryFactory.class.getDeclaredField("destroyed");
+        destroyed.setAccessible(true);
+        ((AtomicBoolean) destroyed.get(null)).set(false);
+    }
+
+    @Test
+    public void testConnect() throws Exception {
+        int port = NetUtils.getAvailablePort();
+        int anotherPort = NetUtils.getAvailablePort(port + 1);
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("dubbo.application.name", "early-connect-test");
+        environment.setProperty("dubbo.registry.address", "counting://127.0.0.1:" + port);
+        environment.setProperty("dubbo.registry.timeout", "5000");
+        environment.setProperty("dubbo.registry.zone", "zone-a");
+        environment.setProperty("dubbo.registry.simplified", "true");
+        environment.setProperty("dubbo.registry.extra-keys", "retries");
+        environment.setProperty("dubbo.registry.parameters.key", "value");
+        environment.setProperty("dubbo.registries.another.address", "counting://127.0.0.1:" + anotherPort);
+        environment.setProperty("dubbo.registries.another.group", "another");
+        environment.setProperty("dubbo.registries.none.address", "N/A");
+        int created = createdRegistries.get();
+        new EarlyRegistryConnector(environment).connect().get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(created + 2, createdRegistries.get());
+
+        // Dubbo takes over the registries which are connected early
+        RegistryFactory registryFactory = ExtensionLoader.getExtensionLoader(RegistryFactory.class)
+                .getAdaptiveExtension();
+        Registry registry = registryFactory.getRegistry(URL.valueOf("counting://127.0.0.1:" + port
+                + "/org.apache.dubbo.registry.RegistryService?application=early-connect-test&dubbo=2.0.2"
+                + "&interface=org.apache.dubbo.registry.RegistryService&pid=1&timeout=5000&timestamp=1"));
+        // The settings are kept since the registry connected early wins the cache
+        Assert.assertEquals(5000, registry.getUrl().getParameter("timeout", 0));
+        Assert.assertEquals("zone-a", registry.getUrl().getParameter("zone"));
+        Assert.assertTrue(registry.getUrl().getParameter("simplified", false));
+        Assert.assertEquals("retries", registry.getUrl().getParameter("extra-keys"));
+        Assert.assertEquals("value", registry.getUrl().getParameter("key"));
+        registryFactory.getRegistry(URL.valueOf("counting://127.0.0.1:" + anotherPort
+                + "/org.apache.dubbo.registry.RegistryService?application=early-connect-test&group=another"));
+        Assert.assertEquals(created + 2, createdRegistries.get());
+    }
+
+    @Test
+    public void testNothingToConnect() throws Exception {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("dubbo.registry.address", "N/A");
+        Assert.assertTrue(new EarlyRegistryConnector(environment).connect().isDone());
+    }
+
+    /**
+     * The {@link RegistryFactory} counts the created registries
+     */
+    public static class CountingRegistryFactory extends AbstractRegistryFactory {
+
+        @Override
+        protected Registry createRegistry(URL url) {
+            createdRegistries.incrementAndGet();
+            return new Registry() {
+
+                @Override
+                public URL getUrl() {
+                    return url;
+                }
+
+                @Override
+                public boolean isAvailable() {
+                    return true;
+                }
+
+                @Override
+                public void destroy() {
+                }
+
+                @Override
+                public void register(URL url) {
+                }
+
+                @Override
+                public void unregister(URL url) {
+                }
+
+                @Override
+                public void subscribe(URL url, NotifyListener listener) {
+                }
+
+                @Override
+                public void unsubscribe(URL url, NotifyListener listener) {
+                }
+
+                @Override
+                public List<URL> lookup(URL url) {
+                    return Collections.emptyList();
+                }
+            };
+        }
+    }
+}
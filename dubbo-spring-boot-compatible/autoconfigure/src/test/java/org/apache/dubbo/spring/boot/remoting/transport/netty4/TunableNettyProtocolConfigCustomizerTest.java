@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.config.ProtocolConfig;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * {@link TunableNettyProtocolConfigCustomizer} Test
+ *
+ * @see TunableNettyProtocolConfigCustomizer
+ * @since 2.7.10
+ */
+public class TunableNettyProtocolConfigCustomizerTest {
+
+    private final TunableNettyProtocolConfigCustomizer customizer = new TunableNettyProtocolConfigCustomizer();
+
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Before
+    public void init() {
+        environment.setProperty("dubbo.protocol.transport-native", "epoll");
+        environment.setProperty("dubbo.protocols.fast.transport-native", "nio");
+        environment.setProperty("dubbo.protocols.fast.reuse-port", "true");
+        environment.setProperty("dubbo.protocols.fast.flush-consolidation", "true");
+        customizer.setEnvironment(environment);
+    }
+
+    @Test
+    public void testCustomize() {
+        ProtocolConfig protocolConfig = new ProtocolConfig("dubbo");
+        customizer.customize("fast", protocolConfig);
+        Assert.assertEquals(TunableNettyTransporter.NAME, protocolConfig.getServer());
+        Assert.assertEquals("nio", protocolConfig.getParameters().get("transport-native"));
+        Assert.assertEquals("true", protocolConfig.getParameters().get("reuse-port"));
+        Assert.assertEquals("true", protocolConfig.getParameters().get("flush-consolidation"));
+        Assert.assertNull(protocolConfig.getClient());
+
+        protocolConfig = new ProtocolConfig("dubbo");
+        protocolConfig.setServer("netty");
+        customizer.customize("slow", protocolConfig);
+        Assert.assertEquals("netty", protocolConfig.getServer());
+        Assert.assertEquals("epoll", protocolConfig.getParameters().get("transport-native"));
+        Assert.assertNull(protocolConfig.getParameters().get("reuse-port"));
+        Assert.assertNull(protocolConfig.getParameters().get("flush-consolidation"));
+    }
+
+    @Test
+    public void testUnixSocket() {
+        environment.setProperty("dubbo.protocol.unix-socket-path", "/var/run/dubbo.sock");
+        ProtocolConfig protocolConfig = new ProtocolConfig("dubbo");
+        customizer.customize("dubbo", protocolConfig);
+        Assert.assertEquals(TunableNettyTransporter.NAME, protocolConfig.getServer());
+        Assert.assertEquals(TunableNettyTransporter.NAME, protocolConfig.getClient());
+        Assert.assertEquals("/var/run/dubbo.sock", protocolConfig.getParameters().get("unix-socket-path"));
+    }
+
+    @Test
+    public void testShareEventLoops() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("dubbo.transport.share-event-loops", "true");
+        customizer.setEnvironment(environment);
+        ProtocolConfig protocolConfig = new ProtocolConfig("dubbo");
+        customizer.customize("dubbo", protocolConfig);
+        Assert.assertEquals(TunableNettyTransporter.NAME, protocolConfig.getServer());
+        Assert.assertNull(protocolConfig.getParameters());
+    }
+
+    @Test
+    public void testOtherProtocol() {
+        ProtocolConfig protocolConfig = new ProtocolConfig("rest");
+        customizer.customize("fast", protocolConfig);
+        Assert.assertNull(protocolConfig.getServer());
+        Assert.assertNull(protocolConfig.getParameters());
+    }
+}
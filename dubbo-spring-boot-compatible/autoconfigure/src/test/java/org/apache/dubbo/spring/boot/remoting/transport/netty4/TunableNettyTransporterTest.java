@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.netty4;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.ProtocolConfig;
+import org.apache.dubbo.config.SslConfig;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.cluster.support.ClusterUtils;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.ssl.DubboSslProperties;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.dubbo.common.constants.CommonConstants.INTERFACE_KEY;
+import static org.apache.dubbo.remoting.Constants.CLIENT_KEY;
+import static org.apache.dubbo.remoting.Constants.SERVER_KEY;
+
+/**
+ * {@link TunableNettyTransporter} Test
+ *
+ * @see TunableNettyTransporter
+ * @since 2.7.10
+ */
+public class TunableNettyTransporterTest {
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @After
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Test
+    public void testNio() {
+        assertEcho("transport-native=nio");
+    }
+
+    @Test
+    public void testAuto() {
+        assertEcho("transport-native=auto");
+    }
+
+    @Test
+    public void testReusePort() {
+        Assume.assumeTrue(TransportNative.isEpollAvailable());
+        assertEcho("transport-native=epoll&reuse-port=true&iothreads=4&connections=4");
+    }
+
+    @Test
+    public void testReusePortWithoutEpoll() {
+        assertEcho("transport-native=nio&reuse-port=true");
+    }
+
+    @Test
+    public void testUnixSocket() throws Exception {
+        Assume.assumeTrue(TransportNative.isEpollAvailable());
+        File socketFile = new File(temporaryFolder.getRoot(), "sockets/dubbo.sock");
+        URL url = newUrl("transport-native=epoll&unix-socket-path=" + socketFile.getAbsolutePath());
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+        Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                EchoService.class, url));
+        Assert.assertTrue(socketFile.exists());
+        // Nothing listens on the TCP port of reference, thus the invocations must go through the socket file
+        URL referenceUrl = url.setPort(NetUtils.getAvailablePort());
+        Invoker<EchoService> invoker = protocol.refer(EchoService.class, referenceUrl);
+        try {
+            Assert.assertEquals("Hello", proxyFactory.getProxy(invoker).echo("Hello"));
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+        protocol.destroy();
+        Assert.assertFalse(socketFile.exists());
+    }
+
+    @Test
+    public void testAdvertisedUnixSocket() {
+        Assume.assumeTrue(TransportNative.isEpollAvailable());
+        File socketFile = new File(temporaryFolder.getRoot(), "advertised.sock");
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("dubbo.protocol.transport-native", "epoll");
+        environment.setProperty("dubbo.protocol.unix-socket-path", socketFile.getAbsolutePath());
+        TunableNettyProtocolConfigCustomizer customizer = new TunableNettyProtocolConfigCustomizer();
+        customizer.setEnvironment(environment);
+        ProtocolConfig protocolConfig = new ProtocolConfig("dubbo", NetUtils.getAvailablePort());
+        customizer.customize("dubbo", protocolConfig);
+        Map<String, String> parameters = new HashMap<>(protocolConfig.getParameters());
+        parameters.put(SERVER_KEY, protocolConfig.getServer());
+        parameters.put(CLIENT_KEY, protocolConfig.getClient());
+        URL url = new URL("dubbo", "127.0.0.1", protocolConfig.getPort(), EchoService.class.getName(), parameters);
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+        Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                EchoService.class, url));
+        // The consumer doesn't set the client, but inherits it from the provider URL like it's discovered
+        Map<String, String> consumerParameters = new HashMap<>();
+        consumerParameters.put(INTERFACE_KEY, EchoService.class.getName());
+        URL referenceUrl = ClusterUtils.mergeUrl(url, consumerParameters).setPort(NetUtils.getAvailablePort());
+        Assert.assertEquals(TunableNettyTransporter.NAME, referenceUrl.getParameter(CLIENT_KEY));
+        // Nothing listens on the TCP port of reference, thus the invocations must go through the socket file
+        Invoker<EchoService> invoker = protocol.refer(EchoService.class, referenceUrl);
+        try {
+            Assert.assertEquals("Hello", proxyFactory.getProxy(invoker).echo("Hello"));
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+    }
+
+    @Test
+    public void testStaleUnixSocket() throws Exception {
+        Assume.assumeTrue(TransportNative.isEpollAvailable());
+        File socketFile = temporaryFolder.newFile("dubbo.sock");
+        assertEcho("transport-native=epoll&unix-socket-path=" + socketFile.getAbsolutePath());
+    }
+
+    @Test
+    public void testUnixSocketWithoutEpoll() {
+        assertEcho("transport-native=nio&unix-socket-path=" + new File(temporaryFolder.getRoot(), "dubbo.sock"));
+    }
+
+    @Test
+    public void testFlushConsolidation() {
+        assertEcho("flush-consolidation=true");
+        assertEcho("flush-consolidation=true&flush-consolidation-explicit-flushes=1");
+    }
+
+    @Test
+    public void testSsl() throws Exception {
+        SelfSignedCertificate certificate = new SelfSignedCertificate();
+        SslConfig sslConfig = new SslConfig();
+        sslConfig.setServerKeyCertChainPath(certificate.certificate().getAbsolutePath());
+        sslConfig.setServerPrivateKeyPath(certificate.privateKey().getAbsolutePath());
+        sslConfig.setClientTrustCertCollectionPath(certificate.certificate().getAbsolutePath());
+        ApplicationModel.getConfigManager().setSsl(sslConfig);
+        TunableNettyTransporter transporter = new TunableNettyTransporter();
+        try {
+            for (String provider : new String[]{"jdk", "openssl"}) {
+                if ("openssl".equals(provider) && !OpenSsl.isAvailable()) {
+                    continue;
+                }
+                DubboSslProperties properties = new DubboSslProperties();
+                properties.setProvider(provider);
+                transporter.setDubboSslContextFactory(new SslContextFactory(properties));
+                assertEcho("ssl-enabled=true");
+                assertEcho("ssl-enabled=true&flush-consolidation=true");
+            }
+        } finally {
+            transporter.setDubboSslContextFactory(null);
+            ApplicationModel.getConfigManager().removeConfig(sslConfig);
+            certificate.delete();
+        }
+    }
+
+    @Test
+    public void testSharedEventLoops() {
+        EventLoopGroup group = NettyEventLoops.eventLoopGroup(false, 2, "SharedEventLoop");
+        TunableNettyTransporter transporter = new TunableNettyTransporter();
+        try {
+            int ownedEventLoops = NettyEventLoops.getOwnedEventLoops();
+            transporter.setDubboEventLoopResources(new NioEventLoopResources(group));
+            assertEcho("reuse-port=true&iothreads=4");
+            assertEcho("unix-socket-path=" + new File(temporaryFolder.getRoot(), "dubbo.sock"));
+            // The groups of previous servers may be terminated meanwhile, but no group is created
+            Assert.assertTrue(NettyEventLoops.getOwnedEventLoops() <= ownedEventLoops);
+            Assert.assertFalse(group.isShuttingDown());
+        } finally {
+            transporter.setDubboEventLoopResources(null);
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownTransportNative() {
+        TransportNative.of(URL.valueOf("dubbo://127.0.0.1:20880?transport-native=kqueue"));
+    }
+
+    private URL newUrl(String parameters) {
+        return URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + EchoService.class.getName()
+                + "?server=tunable-netty&client=tunable-netty&" + parameters);
+    }
+
+    private void assertEcho(String parameters) {
+        URL url = newUrl(parameters);
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+        Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                EchoService.class, url));
+        Invoker<EchoService> invoker = protocol.refer(EchoService.class, url);
+        try {
+            EchoService echoService = proxyFactory.getProxy(invoker);
+            for (int i = 0; i < 8; i++) {
+                Assert.assertEquals("Hello," + i, echoService.echo("Hello," + i));
+            }
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+    }
+
+    private static class NioEventLoopResources implements EventLoopResources {
+
+        private final EventLoopGroup group;
+
+        private NioEventLoopResources(EventLoopGroup group) {
+            this.group = group;
+        }
+
+        @Override
+        public EventLoopGroup getServerSelectGroup() {
+            return group;
+        }
+
+        @Override
+        public EventLoopGroup getServerGroup() {
+            return group;
+        }
+
+        @Override
+        public EventLoopGroup getClientGroup() {
+            return group;
+        }
+
+        @Override
+        public ServerChannel newServerChannel(EventLoopGroup group) {
+            return new NioServerSocketChannel();
+        }
+
+        @Override
+        public Channel newChannel(EventLoopGroup group) {
+            return new NioSocketChannel();
+        }
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+}
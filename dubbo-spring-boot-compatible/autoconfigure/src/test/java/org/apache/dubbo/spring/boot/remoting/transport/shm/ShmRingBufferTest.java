@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ShmRingBuffer} Test
+ *
+ * @see ShmRingBuffer
+ * @since 2.7.10
+ */
+public class ShmRingBufferTest {
+
+    private ByteBuffer memory;
+
+    private ShmRingBuffer ringBuffer;
+
+    @Before
+    public void init() {
+        memory = ByteBuffer.allocateDirect(ShmRingBuffer.size(64));
+        ringBuffer = new ShmRingBuffer(ShmMemory.address(memory), 64);
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        Assert.assertNull(ringBuffer.poll());
+        Assert.assertTrue(offer("Hello"));
+        Assert.assertTrue(offer(""));
+        Assert.assertEquals("Hello", poll());
+        Assert.assertEquals("", poll());
+        Assert.assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    public void testWrapAround() {
+        for (int i = 0; i < 100; i++) {
+            String message = "Message-" + i + "-" + repeat('x', i % 20);
+            Assert.assertTrue(offer(message));
+            Assert.assertEquals(message, poll());
+        }
+    }
+
+    @Test
+    public void testFull() {
+        // 4 bytes of length and 28 bytes of data
+        String message = repeat('x', 28);
+        Assert.assertTrue(offer(message));
+        Assert.assertTrue(offer(message));
+        Assert.assertFalse(offer(message));
+        Assert.assertFalse(offer("x"));
+        Assert.assertEquals(message, poll());
+        Assert.assertTrue(offer(message));
+        Assert.assertEquals(message, poll());
+        Assert.assertEquals(message, poll());
+        Assert.assertNull(ringBuffer.poll());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMessageExceedsCapacity() {
+        offer(repeat('x', 61));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityNotPowerOfTwo() {
+        new ShmRingBuffer(ShmMemory.address(memory), 48);
+    }
+
+    private boolean offer(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        return ringBuffer.offer(bytes, 0, bytes.length);
+    }
+
+    private String poll() {
+        return new String(ringBuffer.poll(), StandardCharsets.UTF_8);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
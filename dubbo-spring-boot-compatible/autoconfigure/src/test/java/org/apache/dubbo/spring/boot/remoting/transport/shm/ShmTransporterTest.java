@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.remoting.transport.shm;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link ShmTransporter} Test
+ *
+ * @see ShmTransporter
+ * @since 2.7.10
+ */
+public class ShmTransporterTest {
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private URL url;
+
+    @Before
+    public void init() {
+        url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + EchoService.class.getName()
+                + "?server=shm&client=shm&shm-buffer-size=65536&shm-spin-iterations=1000&shm-directory="
+                + temporaryFolder.getRoot().getAbsolutePath());
+        ApplicationModel.getServiceRepository().registerService(EchoService.class);
+    }
+
+    @After
+    public void destroy() {
+        protocol.destroy();
+    }
+
+    @Test
+    public void testEcho() throws Exception {
+        Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                EchoService.class, url));
+        Invoker<EchoService> invoker = protocol.refer(EchoService.class, url);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            EchoService echoService = proxyFactory.getProxy(invoker);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String message = "Hello," + i;
+                futures.add(executorService.submit(() -> echoService.echo(message)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Assert.assertEquals("Hello," + i, futures.get(i).get());
+            }
+            File directory = new File(temporaryFolder.getRoot(), "dubbo-" + url.getPort());
+            Assert.assertEquals(1, directory.listFiles((dir, name) -> name.endsWith(".shm")).length);
+        } finally {
+            executorService.shutdown();
+            invoker.destroy();
+            exporter.unexport();
+        }
+    }
+
+    @Test
+    public void testMessageExceedsBuffer() {
+        Exporter<EchoService> exporter = protocol.export(proxyFactory.getInvoker(message -> message,
+                EchoService.class, url));
+        Invoker<EchoService> invoker = protocol.refer(EchoService.class, url);
+        try {
+            EchoService echoService = proxyFactory.getProxy(invoker);
+            StringBuilder message = new StringBuilder();
+            for (int i = 0; i < 70000; i++) {
+                message.append('x');
+            }
+            try {
+                echoService.echo(message.toString());
+                Assert.fail();
+            } catch (RpcException e) {
+                Assert.assertTrue(e.getMessage().contains("exceeds the shared memory buffer"));
+            }
+            // The channel is still available
+            Assert.assertEquals("Hello", echoService.echo("Hello"));
+        } finally {
+            invoker.destroy();
+            exporter.unexport();
+        }
+    }
+
+    @Test(expected = RpcException.class)
+    public void testNoServer() {
+        protocol.refer(EchoService.class, url);
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.slow;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.remoting.ChannelHandler;
+import org.apache.dubbo.remoting.exchange.Request;
+import org.apache.dubbo.remoting.transport.ChannelHandlerAdapter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.rpc.protocol.AbstractInvoker;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SlowInvocationRecorder} Test
+ *
+ * @see SlowInvocationRecorder
+ * @since 2.7.10
+ */
+public class SlowInvocationRecorderTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Invoker<?> invoker = new AbstractInvoker<Object>(Object.class,
+            URL.valueOf("dubbo://127.0.0.1:12345/DemoService?version=1.0.0")) {
+        @Override
+        protected Result doInvoke(Invocation invocation) {
+            return null;
+        }
+    };
+
+    private final InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 54321);
+
+    @Test
+    public void testThreshold() {
+        SlowInvocationRecorder recorder = new SlowInvocationRecorder(properties(10, 4));
+        Assert.assertFalse(recorder.record(invoker, invocation("sayHello", "fast"), remoteAddress, 0, 9 * MILLIS, null));
+        Assert.assertTrue(recorder.record(invoker, invocation("sayHello", "slow"), remoteAddress, 0, 10 * MILLIS, null));
+        Assert.assertEquals(1, recorder.getRecordedCount());
+        Assert.assertEquals(10, recorder.getThreshold());
+    }
+
+    @Test
+    public void testTimingBreakdown() {
+        SlowInvocationRecorder recorder = new SlowInvocationRecorder(properties(10, 4));
+        RpcInvocation invocation = invocation("sayHello", "breakdown");
+        SlowInvocationDispatcherWrapper.Stamps stamps = new SlowInvocationDispatcherWrapper.Stamps(100 * MILLIS);
+        stamps.dequeuedNanos = 103 * MILLIS;
+        stamps.decodeStartedNanos = 103 * MILLIS;
+        invocation.put(SlowInvocationDispatcherWrapper.STAMPS, stamps);
+        recorder.record(invoker, invocation, remoteAddress, 105 * MILLIS, 120 * MILLIS, new IllegalStateException());
+
+        SlowInvocation slowInvocation = recorder.getSlowestInvocations().get("DemoService:1.0.0#sayHello").get(0);
+        Assert.assertEquals(20 * MILLIS, slowInvocation.getElapsed());
+        Assert.assertEquals(3 * MILLIS, slowInvocation.getQueueWait());
+        Assert.assertEquals(2 * MILLIS, slowInvocation.getDecode());
+        Assert.assertEquals(15 * MILLIS, slowInvocation.getExecute());
+        Assert.assertEquals(SlowInvocation.UNAVAILABLE, slowInvocation.getEncode());
+        Assert.assertEquals("127.0.0.1:54321", slowInvocation.getRemoteAddress());
+        Assert.assertEquals("java.lang.IllegalStateException", slowInvocation.getException());
+        Assert.assertEquals("bre...", slowInvocation.getArguments().get(0));
+        Assert.assertEquals("val...", slowInvocation.getAttachments().get("key"));
+    }
+
+    @Test
+    public void testSlowestInvocations() {
+        SlowInvocationRecorder recorder = new SlowInvocationRecorder(properties(1, 2));
+        for (int i = 1; i <= 20; i++) {
+            recorder.record(invoker, invocation(i % 2 == 0 ? "sayHello" : "sayGoodbye", "" + i), remoteAddress,
+                    0, i * MILLIS, null);
+        }
+        Map<String, List<SlowInvocation>> slowestInvocations = recorder.getSlowestInvocations();
+        Assert.assertEquals(2, slowestInvocations.size());
+        List<SlowInvocation> invocations = slowestInvocations.get("DemoService:1.0.0#sayHello");
+        Assert.assertEquals(2, invocations.size());
+        Assert.assertEquals(20 * MILLIS, invocations.get(0).getElapsed());
+        Assert.assertEquals(18 * MILLIS, invocations.get(1).getElapsed());
+
+        recorder.clear();
+        Assert.assertTrue(recorder.getSlowestInvocations().isEmpty());
+        Assert.assertEquals(20, recorder.getRecordedCount());
+    }
+
+    @Test
+    public void testStamping() throws Exception {
+        SlowInvocationDispatcherWrapper wrapper = new SlowInvocationDispatcherWrapper((handler, url) -> handler);
+        wrapper.setDubboSlowInvocationRecorder(new SlowInvocationRecorder(properties(10, 4)));
+        ChannelHandler handler = wrapper.dispatch(new ChannelHandlerAdapter(),
+                URL.valueOf("dubbo://127.0.0.1:12345/DemoService?decode.in.io=false"));
+        RpcInvocation invocation = invocation("sayHello", "stamped");
+        Request request = new Request();
+        request.setData(invocation);
+        handler.received(null, request);
+
+        // The timestamps are stamped into a single attribute
+        Assert.assertEquals(1, invocation.getAttributes().size());
+        SlowInvocationDispatcherWrapper.Stamps stamps = (SlowInvocationDispatcherWrapper.Stamps) invocation.get(
+                SlowInvocationDispatcherWrapper.STAMPS);
+        Assert.assertTrue(stamps.getDequeuedNanos() >= stamps.getReceivedNanos());
+        Assert.assertEquals(stamps.getDequeuedNanos(), stamps.getDecodeStartedNanos());
+    }
+
+    private DubboSlowInvocationProperties properties(long threshold, int top) {
+        DubboSlowInvocationProperties properties = new DubboSlowInvocationProperties();
+        properties.setThreshold(threshold);
+        properties.setTop(top);
+        properties.setStripes(1);
+        properties.setBufferSize(16);
+        properties.setMaxArgumentLength(3);
+        return properties;
+    }
+
+    private RpcInvocation invocation(String methodName, String argument) {
+        RpcInvocation invocation = new RpcInvocation(methodName, "DemoService", "DemoService:1.0.0",
+                new Class<?>[]{String.class}, new Object[]{argument});
+        invocation.setAttachment("key", "value");
+        return invocation;
+    }
+}
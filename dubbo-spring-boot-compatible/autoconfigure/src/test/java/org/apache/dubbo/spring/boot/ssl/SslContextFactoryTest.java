@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.ssl;
+
+import org.apache.dubbo.config.SslConfig;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * {@link SslContextFactory} Test
+ *
+ * @see SslContextFactory
+ * @since 2.7.10
+ */
+public class SslContextFactoryTest {
+
+    private static final String CIPHER = "TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256";
+
+    private SelfSignedCertificate certificate;
+
+    private SslConfig sslConfig;
+
+    @Before
+    public void init() throws Exception {
+        certificate = new SelfSignedCertificate();
+        sslConfig = new SslConfig();
+        sslConfig.setServerKeyCertChainPath(certificate.certificate().getAbsolutePath());
+        sslConfig.setServerPrivateKeyPath(certificate.privateKey().getAbsolutePath());
+        sslConfig.setClientTrustCertCollectionPath(certificate.certificate().getAbsolutePath());
+        ApplicationModel.getConfigManager().setSsl(sslConfig);
+    }
+
+    @After
+    public void destroy() {
+        ApplicationModel.getConfigManager().removeConfig(sslConfig);
+        certificate.delete();
+    }
+
+    @Test
+    public void testResolveProvider() {
+        Assert.assertEquals(SslProvider.JDK, SslContextFactory.resolveProvider("jdk"));
+        Assert.assertEquals(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK,
+                SslContextFactory.resolveProvider("auto"));
+        if (OpenSsl.isAvailable()) {
+            Assert.assertEquals(SslProvider.OPENSSL, SslContextFactory.resolveProvider("OpenSSL"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProvider() {
+        SslContextFactory.resolveProvider("conscrypt");
+    }
+
+    @Test
+    public void testContexts() {
+        for (String provider : new String[]{"jdk", "auto"}) {
+            DubboSslProperties properties = new DubboSslProperties();
+            properties.setProvider(provider);
+            properties.setCiphers(Collections.singletonList(CIPHER));
+            properties.setSessionCacheSize(128);
+            properties.setSessionTimeout(600);
+            SslContextFactory factory = new SslContextFactory(properties);
+
+            SslContext serverContext = factory.getServerContext();
+            Assert.assertTrue(serverContext.isServer());
+            Assert.assertSame(serverContext, factory.getServerContext());
+            Assert.assertEquals(Collections.singletonList(CIPHER), serverContext.cipherSuites());
+            Assert.assertEquals(128, serverContext.sessionCacheSize());
+            Assert.assertEquals(600, serverContext.sessionTimeout());
+
+            SslContext clientContext = factory.getClientContext();
+            Assert.assertTrue(clientContext.isClient());
+            Assert.assertSame(clientContext, factory.getClientContext());
+            Assert.assertEquals(Collections.singletonList(CIPHER), clientContext.cipherSuites());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAbsentSslConfig() {
+        ApplicationModel.getConfigManager().removeConfig(sslConfig);
+        new SslContextFactory(new DubboSslProperties()).getServerContext();
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.stream;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link StreamManager} Test
+ *
+ * @see StreamManager
+ * @since 2.7.10
+ */
+public class StreamManagerTest {
+
+    private StreamManager manager;
+
+    private Exporter<FileService> exporter;
+
+    private Invoker<FileService> invoker;
+
+    private FileService fileService;
+
+    @Before
+    public void init() {
+        DubboStreamingProperties properties = new DubboStreamingProperties();
+        properties.setChunkSize(1024);
+        properties.setBatchSize(10);
+        properties.setWindow(2);
+        manager = new StreamManager(properties);
+        setFilterManager(manager);
+        URL serviceUrl = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                + FileService.class.getName() + "?timeout=5000");
+        Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+        ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class).getAdaptiveExtension();
+        ApplicationModel.getServiceRepository().registerService(FileService.class);
+        exporter = protocol.export(proxyFactory.getInvoker(new DefaultFileService(), FileService.class, serviceUrl));
+        invoker = protocol.refer(FileService.class, serviceUrl);
+        fileService = proxyFactory.getProxy(invoker);
+    }
+
+    @After
+    public void destroy() {
+        invoker.destroy();
+        exporter.unexport();
+        setFilterManager(null);
+        manager.destroy();
+        ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo").destroy();
+    }
+
+    @Test
+    public void testDownload() throws IOException {
+        try (InputStream inputStream = fileService.download(100 * 1000)) {
+            Assert.assertEquals(checksum(newInputStream(100 * 1000)), checksum(inputStream));
+        }
+        Assert.assertEquals(0, manager.getSourceCount());
+
+        // The small stream is returned in a chunk
+        try (InputStream inputStream = fileService.download(100)) {
+            Assert.assertEquals(checksum(newInputStream(100)), checksum(inputStream));
+        }
+        Assert.assertEquals(0, manager.getSourceCount());
+    }
+
+    @Test
+    public void testDownloadElements() {
+        Iterator<String> iterator = fileService.elements(1000);
+        List<String> elements = new ArrayList<>();
+        iterator.forEachRemaining(elements::add);
+        Assert.assertEquals(newElements(1000), elements);
+        Assert.assertEquals(0, manager.getSourceCount());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        InputStream inputStream = fileService.download(100 * 1000);
+        Assert.assertTrue(inputStream.read() >= 0);
+        Assert.assertEquals(1, manager.getSourceCount());
+        inputStream.close();
+        for (int i = 0; i < 50 && manager.getSourceCount() > 0; i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(0, manager.getSourceCount());
+    }
+
+    @Test
+    public void testUpload() {
+        Assert.assertEquals(checksum(newInputStream(100 * 1000)), fileService.upload(newInputStream(100 * 1000)));
+        Assert.assertEquals(newElements(1000), fileService.collect(newElements(1000).iterator()));
+    }
+
+    @Test
+    public void testPushWindow() throws IOException {
+        PushChunkChannel channel = new PushChunkChannel("test", 2, 1000);
+        Assert.assertTrue(channel.push(new byte[]{1}, false, null).isDone());
+        Assert.assertTrue(channel.push(new byte[]{2}, false, null).isDone());
+        CompletableFuture<AppResponse> ack = channel.push(new byte[]{3}, true, null);
+        Assert.assertFalse(ack.isDone());
+
+        Assert.assertArrayEquals(new byte[]{1}, (byte[]) channel.take());
+        Assert.assertTrue(ack.isDone());
+        Assert.assertArrayEquals(new byte[]{2}, (byte[]) channel.take());
+        Assert.assertArrayEquals(new byte[]{3}, (byte[]) channel.take());
+        Assert.assertNull(channel.take());
+
+        channel.close();
+        Assert.assertTrue(channel.push(new byte[]{4}, false, null).join().hasException());
+    }
+
+    private void setFilterManager(StreamManager manager) {
+        ExtensionLoader<Filter> loader = ExtensionLoader.getExtensionLoader(Filter.class);
+        ((StreamProviderFilter) loader.getExtension("stream-provider")).setDubboStreamManager(manager);
+        ((StreamConsumerFilter) loader.getExtension("stream-consumer")).setDubboStreamManager(manager);
+    }
+
+    private static InputStream newInputStream(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static List<String> newElements(int size) {
+        List<String> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add("The element #" + i);
+        }
+        return elements;
+    }
+
+    private static long checksum(InputStream inputStream) {
+        long checksum = 0;
+        long length = 0;
+        try {
+            byte[] buffer = new byte[4096];
+            int count;
+            while ((count = inputStream.read(buffer)) >= 0) {
+                for (int i = 0; i < count; i++) {
+                    checksum = checksum * 31 + buffer[i];
+                }
+                length += count;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return checksum * 31 + length;
+    }
+
+    public interface FileService {
+
+        InputStream download(int size);
+
+        Iterator<String> elements(int size);
+
+        long upload(InputStream inputStream);
+
+        List<String> collect(Iterator<String> elements);
+    }
+
+    static class DefaultFileService implements FileService {
+
+        @Override
+        public InputStream download(int size) {
+            return newInputStream(size);
+        }
+
+        @Override
+        public Iterator<String> elements(int size) {
+            return newElements(size).iterator();
+        }
+
+        @Override
+        public long upload(InputStream inputStream) {
+            return checksum(inputStream);
+        }
+
+        @Override
+        public List<String> collect(Iterator<String> elements) {
+            List<String> list = new ArrayList<>();
+            elements.forEachRemaining(list::add);
+            return list;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.threadpool;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.threadpool.ThreadPool;
+import org.apache.dubbo.common.utils.ExecutorUtil;
+import org.apache.dubbo.spring.boot.env.DubboVirtualThreadEnvironmentPostProcessor;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.apache.dubbo.spring.boot.env.DubboVirtualThreadEnvironmentPostProcessor.CONSUMER_THREADPOOL_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboVirtualThreadEnvironmentPostProcessor.ENABLED_PROPERTY;
+import static org.apache.dubbo.spring.boot.env.DubboVirtualThreadEnvironmentPostProcessor.PROVIDER_THREADPOOL_PROPERTY;
+
+/**
+ * {@link VirtualThreadPool} Test
+ *
+ * @see VirtualThreadPool
+ * @see DubboVirtualThreadEnvironmentPostProcessor
+ * @since 2.7.10
+ */
+public class VirtualThreadPoolTest {
+
+    private final URL url = URL.valueOf("dubbo://127.0.0.1:20880/DemoService?threadpool=virtual&threadname=Demo");
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+        Executor executor = ExtensionLoader.getExtensionLoader(ThreadPool.class).getAdaptiveExtension()
+                .getExecutor(url);
+        try {
+            Future<Thread> future = ((ExecutorService) executor).submit(Thread::currentThread);
+            Thread thread = future.get();
+            Assert.assertTrue(thread.getName().startsWith("Demo-virtual-"));
+            Assert.assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+        } finally {
+            ExecutorUtil.shutdownNow(executor, 1000);
+        }
+    }
+
+    @Test
+    public void testFallback() {
+        Assume.assumeFalse(VirtualThreads.isSupported());
+        Executor executor = new VirtualThreadPool().getExecutor(url);
+        try {
+            Assert.assertTrue(executor instanceof ThreadPoolExecutor);
+        } finally {
+            ExecutorUtil.shutdownNow(executor, 1000);
+        }
+    }
+
+    @Test
+    public void testEnvironmentPostProcessor() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty(ENABLED_PROPERTY, "true");
+        environment.setProperty(CONSUMER_THREADPOOL_PROPERTY, "cached");
+        new DubboVirtualThreadEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+        if (VirtualThreads.isSupported()) {
+            Assert.assertEquals("virtual", environment.getProperty(PROVIDER_THREADPOOL_PROPERTY));
+        } else {
+            Assert.assertNull(environment.getProperty(PROVIDER_THREADPOOL_PROPERTY));
+        }
+        Assert.assertEquals("cached", environment.getProperty(CONSUMER_THREADPOOL_PROPERTY));
+    }
+}
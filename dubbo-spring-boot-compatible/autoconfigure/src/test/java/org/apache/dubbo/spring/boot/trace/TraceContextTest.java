@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.apache.dubbo.spring.boot.trace.TraceContext.B3_ATTACHMENT_NAME;
+import static org.apache.dubbo.spring.boot.trace.TraceContext.SAMPLED_ATTACHMENT_NAME;
+import static org.apache.dubbo.spring.boot.trace.TraceContext.SPAN_ID_ATTACHMENT_NAME;
+import static org.apache.dubbo.spring.boot.trace.TraceContext.TRACE_ID_ATTACHMENT_NAME;
+
+/**
+ * {@link TraceContext} Test
+ *
+ * @see TraceContext
+ * @since 2.7.10
+ */
+public class TraceContextTest {
+
+    @Test
+    public void testInjectAndExtract() {
+        TraceContext root = TraceContext.newRoot();
+        TraceContext child = root.newChild();
+        Assert.assertEquals(root.getTraceId(), child.getTraceId());
+        Assert.assertEquals(root.getSpanId(), child.getParentId());
+
+        RpcInvocation invocation = new RpcInvocation();
+        child.inject(invocation);
+        Assert.assertEquals(child.traceIdString() + "-" + child.spanIdString() + "-1-" + child.parentIdString(),
+                invocation.getObjectAttachment(B3_ATTACHMENT_NAME));
+
+        TraceContext extracted = TraceContext.extract(invocation);
+        Assert.assertEquals(child.getTraceId(), extracted.getTraceId());
+        Assert.assertEquals(child.getSpanId(), extracted.getSpanId());
+    }
+
+    @Test
+    public void testExtract() {
+        RpcInvocation invocation = new RpcInvocation();
+        Assert.assertNull(TraceContext.extract(invocation));
+
+        invocation.setAttachment(B3_ATTACHMENT_NAME, "0");
+        Assert.assertSame(TraceContext.NOT_SAMPLED, TraceContext.extract(invocation));
+
+        invocation.setAttachment(B3_ATTACHMENT_NAME, "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-0");
+        Assert.assertSame(TraceContext.NOT_SAMPLED, TraceContext.extract(invocation));
+
+        invocation.setAttachment(B3_ATTACHMENT_NAME, "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-1-05e3ac9a4f6e3b90");
+        TraceContext context = TraceContext.extract(invocation);
+        Assert.assertEquals("80f198ee56343ba864fe8b2a57d3eff7", context.traceIdString());
+        Assert.assertEquals("e457b5a2e4d86bd1", context.spanIdString());
+
+        invocation.setAttachment(B3_ATTACHMENT_NAME, "not-a-trace");
+        Assert.assertNull(TraceContext.extract(invocation));
+
+        invocation = new RpcInvocation();
+        invocation.setAttachment(TRACE_ID_ATTACHMENT_NAME, "463ac35c9f6413ad");
+        invocation.setAttachment(SPAN_ID_ATTACHMENT_NAME, "a2fb4a1d1a96d312");
+        context = TraceContext.extract(invocation);
+        Assert.assertEquals("463ac35c9f6413ad", context.traceIdString());
+        Assert.assertEquals("a2fb4a1d1a96d312", context.spanIdString());
+
+        invocation.setAttachment(SAMPLED_ATTACHMENT_NAME, "0");
+        Assert.assertSame(TraceContext.NOT_SAMPLED, TraceContext.extract(invocation));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.trace;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * {@link TracingFilter} Test
+ *
+ * @see TracingFilter
+ * @since 2.7.10
+ */
+public class TracingFilterTest {
+
+    private final List<SimpleTraceSpan> spans = new LinkedList<>();
+
+    private final TraceReporter reporter = spans::add;
+
+    @Test
+    public void testPassThroughWithoutTracer() {
+        TracingFilter filter = new TracingFilter();
+        RpcInvocation invocation = newInvocation();
+        filter.invoke(new TestInvoker("consumer", null), invocation);
+        Assert.assertNull(invocation.getObjectAttachment(TraceContext.B3_ATTACHMENT_NAME));
+    }
+
+    @Test
+    public void testUnsampled() {
+        TracingFilter filter = new TracingFilter();
+        filter.setDubboTracer(new SimpleDubboTracer(TraceSampler.NEVER_SAMPLE, reporter));
+        RpcInvocation invocation = newInvocation();
+        TestInvoker invoker = new TestInvoker("consumer", null);
+        Result result = filter.invoke(invoker, invocation);
+        filter.onResponse(result, invoker, invocation);
+
+        // The decision is propagated, thus the provider doesn't sample again
+        Assert.assertEquals("0", invocation.getObjectAttachment(TraceContext.B3_ATTACHMENT_NAME));
+        Assert.assertTrue(invocation.getAttributes().isEmpty());
+        Assert.assertTrue(spans.isEmpty());
+    }
+
+    @Test
+    public void testUnsampledPropagation() {
+        TracingFilter providerFilter = new TracingFilter();
+        providerFilter.setDubboTracer(new SimpleDubboTracer(TraceSampler.ALWAYS_SAMPLE, reporter));
+        TracingFilter nestedFilter = new TracingFilter();
+        nestedFilter.setDubboTracer(new SimpleDubboTracer(TraceSampler.ALWAYS_SAMPLE, reporter));
+
+        RpcInvocation nestedInvocation = newInvocation();
+        TestInvoker nestedInvoker = new TestInvoker("consumer", null);
+        TestInvoker providerInvoker = new TestInvoker("provider", invocation -> {
+            Assert.assertSame(TraceContext.NOT_SAMPLED, SimpleDubboTracer.currentContext());
+            Result result = nestedFilter.invoke(nestedInvoker, nestedInvocation);
+            nestedFilter.onResponse(result, nestedInvoker, nestedInvocation);
+        });
+        RpcInvocation providerInvocation = newInvocation();
+        providerInvocation.setAttachment(TraceContext.B3_ATTACHMENT_NAME, "0");
+
+        Result result = providerFilter.invoke(providerInvoker, providerInvocation);
+        providerFilter.onResponse(result, providerInvoker, providerInvocation);
+
+        // The nested invocation isn't sampled though its sampler would
+        Assert.assertEquals("0", nestedInvocation.getObjectAttachment(TraceContext.B3_ATTACHMENT_NAME));
+        Assert.assertTrue(spans.isEmpty());
+        Assert.assertNull(SimpleDubboTracer.currentContext());
+    }
+
+    @Test
+    public void testPropagation() {
+        TracingFilter consumerFilter = new TracingFilter();
+        consumerFilter.setDubboTracer(new SimpleDubboTracer(TraceSampler.ALWAYS_SAMPLE, reporter));
+        TracingFilter providerFilter = new TracingFilter();
+        providerFilter.setDubboTracer(new SimpleDubboTracer(TraceSampler.NEVER_SAMPLE, reporter));
+
+        RpcInvocation consumerInvocation = newInvocation();
+        TestInvoker providerInvoker = new TestInvoker("provider", null);
+        TestInvoker consumerInvoker = new TestInvoker("consumer", invocation -> {
+            RpcInvocation providerInvocation = newInvocation();
+            providerInvocation.setAttachment(TraceContext.B3_ATTACHMENT_NAME,
+                    invocation.getAttachment(TraceContext.B3_ATTACHMENT_NAME));
+            Result result = providerFilter.invoke(providerInvoker, providerInvocation);
+            providerFilter.onResponse(result, providerInvoker, providerInvocation);
+        });
+
+        Result result = consumerFilter.invoke(consumerInvoker, consumerInvocation);
+        consumerFilter.onResponse(result, consumerInvoker, consumerInvocation);
+
+        Assert.assertEquals(2, spans.size());
+        SimpleTraceSpan providerSpan = spans.get(0);
+        SimpleTraceSpan consumerSpan = spans.get(1);
+        Assert.assertFalse(providerSpan.isConsumerSide());
+        Assert.assertTrue(consumerSpan.isConsumerSide());
+        Assert.assertEquals(consumerSpan.getContext().getTraceId(), providerSpan.getContext().getTraceId());
+        Assert.assertEquals(consumerSpan.getContext().getSpanId(), providerSpan.getContext().getParentId());
+        Assert.assertEquals("sayHello", consumerSpan.getMethodName());
+        Assert.assertEquals("127.0.0.1:12345", consumerSpan.getRemoteAddress());
+        Assert.assertTrue(consumerSpan.getDurationNanos() >= 0);
+        Assert.assertNull(SimpleDubboTracer.currentContext());
+    }
+
+    @Test
+    public void testError() {
+        TracingFilter filter = new TracingFilter();
+        filter.setDubboTracer(new SimpleDubboTracer(TraceSampler.ALWAYS_SAMPLE, reporter));
+        RpcInvocation invocation = newInvocation();
+        TestInvoker invoker = new TestInvoker("consumer", null);
+        filter.invoke(invoker, invocation);
+        RpcException exception = new RpcException("test");
+        filter.onError(exception, invoker, invocation);
+
+        Assert.assertEquals(1, spans.size());
+        Assert.assertSame(exception, spans.get(0).getError());
+    }
+
+    private RpcInvocation newInvocation() {
+        RpcInvocation invocation = new RpcInvocation();
+        invocation.setMethodName("sayHello");
+        invocation.setServiceName("org.apache.dubbo.spring.boot.sample.consumer.DemoService");
+        invocation.setParameterTypes(new Class[]{String.class});
+        invocation.setArguments(new Object[]{"Tracing"});
+        return invocation;
+    }
+
+    private interface Callback {
+
+        void invoke(Invocation invocation);
+    }
+
+    private static class TestInvoker implements Invoker<Object> {
+
+        private final URL url;
+
+        private final Callback callback;
+
+        TestInvoker(String side, Callback callback) {
+            this.url = URL.valueOf("dubbo://127.0.0.1:12345/DemoService?side=" + side);
+            this.callback = callback;
+        }
+
+        @Override
+        public Class<Object> getInterface() {
+            return Object.class;
+        }
+
+        @Override
+        public Result invoke(Invocation invocation) throws RpcException {
+            if (callback != null) {
+                callback.invoke(invocation);
+            }
+            return new AppResponse("OK");
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
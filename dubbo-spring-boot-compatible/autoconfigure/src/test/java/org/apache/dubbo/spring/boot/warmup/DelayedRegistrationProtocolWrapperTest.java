@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.ApplicationConfig;
+import org.apache.dubbo.registry.NotifyListener;
+import org.apache.dubbo.registry.Registry;
+import org.apache.dubbo.registry.RegistryFactory;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.rpc.model.ServiceDescriptor;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.dubbo.rpc.cluster.Constants.EXPORT_KEY;
+
+/**
+ * {@link DelayedRegistrationProtocolWrapper} Test
+ *
+ * @see DelayedRegistrationProtocolWrapper
+ * @see DelayedRegistration
+ * @since 2.7.10
+ */
+public class DelayedRegistrationProtocolWrapperTest {
+
+    private static final Set<URL> registered = new CopyOnWriteArraySet<>();
+
+    private final Protocol dubboProtocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final ApplicationConfig application = new ApplicationConfig("dubbo-delayed-registration-test");
+
+    private DelayedRegistrationProtocolWrapper protocol;
+
+    private final DubboDelayedRegistrationProperties properties = new DubboDelayedRegistrationProperties();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final int port = NetUtils.getAvailablePort();
+
+    private final List<Exporter<?>> exporters = new ArrayList<>();
+
+    @Before
+    public void init() {
+        // The registry protocol requires the application when it's created
+        ApplicationModel.getConfigManager().setApplication(application);
+        protocol = new DelayedRegistrationProtocolWrapper(ExtensionLoader.getExtensionLoader(Protocol.class)
+                .getExtension("registry"));
+    }
+
+    @After
+    public void destroy() {
+        for (Exporter<?> exporter : exporters) {
+            exporter.unexport();
+        }
+        dubboProtocol.destroy();
+        registered.clear();
+        ApplicationModel.getConfigManager().removeConfig(application);
+    }
+
+    @Test
+    public void testDelayedRegistration() {
+        Invocation invocation = new Invocation();
+        invocation.setInterfaceName(EchoService.class.getName());
+        invocation.setVersion("1.0.0");
+        invocation.setMethod("echo");
+        invocation.setArguments(Collections.singletonList("Hello"));
+        properties.setInvocations(Collections.singletonList(invocation));
+        properties.setIterations(5);
+        DelayedRegistration delayedRegistration = new DelayedRegistration(properties);
+        protocol.setDubboDelayedRegistration(delayedRegistration);
+
+        export(EchoService.class, "version=1.0.0");
+        export(GreetingService.class, "register=false");
+        Assert.assertTrue(registered.isEmpty());
+        Assert.assertEquals(0, invocations.get());
+
+        delayedRegistration.register();
+        Assert.assertTrue(delayedRegistration.isRegistered());
+        Assert.assertEquals(5, invocations.get());
+        Map<?, ?> statistics = (Map<?, ?>) delayedRegistration.getSampleInvocationStatistics()
+                .get(EchoService.class.getName() + ":1.0.0#echo");
+        Assert.assertEquals(5, statistics.get("iterations"));
+        Assert.assertEquals(0, statistics.get("failures"));
+        Assert.assertEquals(1, registered.size());
+        Assert.assertEquals(EchoService.class.getName() + ":1.0.0", registered.iterator().next().getServiceKey());
+
+        // The services exported later are registered immediately
+        export(EchoService.class, "version=2.0.0");
+        Assert.assertEquals(2, registered.size());
+
+        for (Exporter<?> exporter : exporters) {
+            exporter.unexport();
+        }
+        exporters.clear();
+        Assert.assertTrue(registered.isEmpty());
+    }
+
+    @Test
+    public void testDisabled() {
+        export(EchoService.class, "version=1.0.0");
+        Assert.assertEquals(1, registered.size());
+    }
+
+    private <T> void export(Class<T> type, String parameters) {
+        URL providerUrl = URL.valueOf("dubbo://127.0.0.1:" + port + "/" + type.getName() + "?interface="
+                + type.getName() + "&" + parameters);
+        ServiceDescriptor serviceDescriptor = ApplicationModel.getServiceRepository().registerService(type);
+        Object service = type == EchoService.class ? (EchoService) message -> {
+            invocations.incrementAndGet();
+            return message;
+        } : (GreetingService) name -> "Hello," + name;
+        ApplicationModel.getServiceRepository().registerProvider(providerUrl.getServiceKey(), service,
+                serviceDescriptor, null, null);
+        URL registryUrl = URL.valueOf("registry://127.0.0.1:2181/org.apache.dubbo.registry.RegistryService"
+                + "?registry=recording").addParameterAndEncoded(EXPORT_KEY, providerUrl.toFullString());
+        exporters.add(protocol.export(proxyFactory.getInvoker(type.cast(service), type, registryUrl)));
+    }
+
+    public interface EchoService {
+
+        String echo(String message);
+    }
+
+    public interface GreetingService {
+
+        String greet(String name);
+    }
+
+    /**
+     * The {@link RegistryFactory} records the registered URLs
+     */
+    public static class RecordingRegistryFactory implements RegistryFactory {
+
+        @Override
+        public Registry getRegistry(URL url) {
+            return new Registry() {
+
+                @Override
+                public URL getUrl() {
+                    return url;
+                }
+
+                @Override
+                public boolean isAvailable() {
+                    return true;
+                }
+
+                @Override
+                public void destroy() {
+                }
+
+                @Override
+                public void register(URL url) {
+                    registered.add(url);
+                }
+
+                @Override
+                public void unregister(URL url) {
+                    registered.remove(url);
+                }
+
+                @Override
+                public void subscribe(URL url, NotifyListener listener) {
+                }
+
+                @Override
+                public void unsubscribe(URL url, NotifyListener listener) {
+                }
+
+                @Override
+                public List<URL> lookup(URL url) {
+                    return Collections.emptyList();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.warmup;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.ApplicationConfig;
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.warmup.DubboWarmUpProperties.Invocation;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DubboWarmUp} Test
+ *
+ * @see DubboWarmUp
+ * @since 2.7.10
+ */
+public class DubboWarmUpTest {
+
+    private final Protocol protocol = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo");
+
+    private final ProxyFactory proxyFactory = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final DubboWarmUpProperties properties = new DubboWarmUpProperties();
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private final int port = NetUtils.getAvailablePort();
+
+    private final ApplicationConfig application = new ApplicationConfig("dubbo-warm-up-test");
+
+    private Exporter<CalculatorService> exporter;
+
+    private ReferenceConfig<CalculatorService> reference;
+
+    @Before
+    public void init() {
+        ApplicationModel.getServiceRepository().registerService(CalculatorService.class);
+        exporter = protocol.export(proxyFactory.getInvoker((CalculatorService) (a, b) -> {
+            invocations.incrementAndGet();
+            if (b < 0) {
+                throw new IllegalArgumentException("Negative");
+            }
+            if (b > 100) {
+                try {
+                    Thread.sleep(b);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return a + b;
+        }, CalculatorService.class, URL.valueOf("dubbo://127.0.0.1:" + port + "/"
+                + CalculatorService.class.getName())));
+        ApplicationModel.getConfigManager().setApplication(application);
+        reference = new ReferenceConfig<>();
+        reference.setInterface(CalculatorService.class);
+        reference.setUrl("dubbo://127.0.0.1:" + port);
+    }
+
+    @After
+    public void destroy() {
+        reference.destroy();
+        exporter.unexport();
+        protocol.destroy();
+        ApplicationModel.getConfigManager().removeConfig(application);
+    }
+
+    @Test
+    public void testWarmUp() {
+        properties.setIterations(10);
+        properties.setInvocations(Arrays.asList(newInvocation(CalculatorService.class.getName(), "1", "2"),
+                newInvocation("com.acme.UnknownService", "1", "2")));
+        DubboWarmUp warmUp = new DubboWarmUp(properties);
+        Assert.assertEquals(DubboWarmUp.State.PENDING, warmUp.getReport().get("state"));
+        warmUp.warmUp(Collections.singletonList(reference));
+
+        Map<String, Object> report = warmUp.getReport();
+        Assert.assertEquals(DubboWarmUp.State.COMPLETED, report.get("state"));
+        Map<?, ?> providers = (Map<?, ?>) report.get("providers");
+        Assert.assertEquals(1, providers.get("connected"));
+        Assert.assertEquals(0, providers.get("failed"));
+        Map<?, ?> statistics = (Map<?, ?>) ((Map<?, ?>) report.get("invocations"))
+                .get(CalculatorService.class.getName() + "#add");
+        Assert.assertEquals(10, statistics.get("iterations"));
+        Assert.assertEquals(0, statistics.get("failures"));
+        Assert.assertEquals(1, ((Map<?, ?>) report.get("invocations")).size());
+        // The echo invocations aren't delegated to the service
+        Assert.assertEquals(10, invocations.get());
+
+        // The warm-up is executed once
+        warmUp.warmUp(Collections.singletonList(reference));
+        Assert.assertEquals(10, invocations.get());
+    }
+
+    @Test
+    public void testFailures() {
+        properties.setConnect(false);
+        properties.setIterations(3);
+        properties.setInvocations(Collections.singletonList(newInvocation(CalculatorService.class.getName(), "1",
+                "-1")));
+        DubboWarmUp warmUp = new DubboWarmUp(properties);
+        warmUp.warmUp(Collections.singletonList(reference));
+
+        Map<String, Object> report = warmUp.getReport();
+        Assert.assertEquals(DubboWarmUp.State.COMPLETED, report.get("state"));
+        Assert.assertEquals(0, ((Map<?, ?>) report.get("providers")).get("connected"));
+        Map<?, ?> statistics = (Map<?, ?>) ((Map<?, ?>) report.get("invocations"))
+                .get(CalculatorService.class.getName() + "#add");
+        Assert.assertEquals(3, statistics.get("iterations"));
+        Assert.assertEquals(3, statistics.get("failures"));
+    }
+
+    @Test
+    public void testTimeBudget() {
+        properties.setIterations(100);
+        properties.setTimeBudget(500);
+        properties.setInvocations(Collections.singletonList(newInvocation(CalculatorService.class.getName(), "1",
+                "200")));
+        DubboWarmUp warmUp = new DubboWarmUp(properties);
+        warmUp.warmUp(Collections.singletonList(reference));
+
+        Map<String, Object> report = warmUp.getReport();
+        Assert.assertEquals(DubboWarmUp.State.EXPIRED, report.get("state"));
+        Map<?, ?> statistics = (Map<?, ?>) ((Map<?, ?>) report.get("invocations"))
+                .get(CalculatorService.class.getName() + "#add");
+        Assert.assertTrue((Integer) statistics.get("iterations") < 100);
+    }
+
+    private Invocation newInvocation(String interfaceName, String... arguments) {
+        Invocation invocation = new Invocation();
+        invocation.setInterfaceName(interfaceName);
+        invocation.setMethod("add");
+        invocation.setArguments(Arrays.asList(arguments));
+        return invocation;
+    }
+
+    public interface CalculatorService {
+
+        int add(int a, int b);
+    }
+}
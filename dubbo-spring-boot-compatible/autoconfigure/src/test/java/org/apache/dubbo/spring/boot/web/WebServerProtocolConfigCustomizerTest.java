@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.web;
+
+import org.apache.dubbo.config.ProtocolConfig;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * {@link WebServerProtocolConfigCustomizer} Test
+ *
+ * @see WebServerProtocolConfigCustomizer
+ * @since 2.7.10
+ */
+public class WebServerProtocolConfigCustomizerTest {
+
+    @Test
+    public void testNormalizePath() {
+        Assert.assertEquals("", WebServerProtocolConfigCustomizer.normalizePath(null));
+        Assert.assertEquals("", WebServerProtocolConfigCustomizer.normalizePath("/"));
+        Assert.assertEquals("/dubbo", WebServerProtocolConfigCustomizer.normalizePath("dubbo/"));
+        Assert.assertEquals("/dubbo/rpc", WebServerProtocolConfigCustomizer.normalizePath(" /dubbo/rpc "));
+    }
+
+    @Test
+    public void testCustomize() {
+        DubboWebServerProperties properties = new DubboWebServerProperties();
+        WebServerProtocolConfigCustomizer customizer = new WebServerProtocolConfigCustomizer(properties);
+        customizer.setEnvironment(new MockEnvironment().withProperty("server.port", "8081"));
+        Assert.assertEquals("/dubbo/*", customizer.getServletMapping());
+
+        ProtocolConfig http = new ProtocolConfig("http");
+        customizer.customize("http", http);
+        Assert.assertEquals("servlet", http.getServer());
+        Assert.assertEquals(8081, http.getPort().intValue());
+        Assert.assertEquals("dubbo", http.getContextpath());
+
+        // The port of external servlet container
+        ProtocolConfig rest = new ProtocolConfig("rest", 8080);
+        rest.setContextpath("dubbo/rest");
+        customizer.customize("rest", rest);
+        Assert.assertEquals(8080, rest.getPort().intValue());
+        Assert.assertEquals("dubbo/rest", rest.getContextpath());
+
+        ProtocolConfig jetty = new ProtocolConfig("http");
+        jetty.setServer("jetty");
+        customizer.customize("jetty", jetty);
+        Assert.assertEquals("jetty", jetty.getServer());
+        Assert.assertNull(jetty.getPort());
+
+        ProtocolConfig dubbo = new ProtocolConfig("dubbo");
+        customizer.customize("dubbo", dubbo);
+        Assert.assertNull(dubbo.getServer());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContextPathOutOfPath() {
+        WebServerProtocolConfigCustomizer customizer = new WebServerProtocolConfigCustomizer(
+                new DubboWebServerProperties());
+        customizer.setEnvironment(new MockEnvironment());
+        ProtocolConfig protocolConfig = new ProtocolConfig("hessian");
+        protocolConfig.setContextpath("dubbox");
+        customizer.customize("hessian", protocolConfig);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Exporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+/**
+ * The {@link BenchmarkDemoService} which is exported and referred by Dubbo protocol on the loopback address without
+ * registry, thus the transport benchmarks measure the cost of the round trip.
+ *
+ * @see BenchmarkDemoService
+ * @since 2.7.10
+ */
+public class LoopbackDemoService {
+
+    private static final Protocol PROTOCOL = ExtensionLoader.getExtensionLoader(Protocol.class).getAdaptiveExtension();
+
+    private static final ProxyFactory PROXY_FACTORY = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    private final Exporter<DemoService> exporter;
+
+    private final Invoker<DemoService> invoker;
+
+    private final DemoService demoService;
+
+    /**
+     * @param parameters the URL parameters of both provider and consumer, e.g. "server=tunable-netty"
+     */
+    public LoopbackDemoService(String parameters) {
+        this(URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + DemoService.class.getName()
+                + "?" + parameters));
+    }
+
+    public LoopbackDemoService(URL url) {
+        ApplicationModel.getServiceRepository().registerService(DemoService.class);
+        this.exporter = PROTOCOL.export(PROXY_FACTORY.getInvoker(new BenchmarkDemoService(), DemoService.class, url));
+        this.invoker = PROTOCOL.refer(DemoService.class, url);
+        this.demoService = PROXY_FACTORY.getProxy(invoker);
+    }
+
+    public DemoService getDemoService() {
+        return demoService;
+    }
+
+    public void destroy() {
+        invoker.destroy();
+        exporter.unexport();
+        ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo").destroy();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.spring.boot.reactive.ReactiveProxyFactoryWrapper;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.dubbo.spring.boot.reactive.ReactiveProxyFactoryWrapper.REACTIVE_VIEW_KEY;
+
+/**
+ * Compares a batch of concurrent {@link DemoService#sayHello(String)} invocations of a reactive consumer, which are
+ * either offloaded to the blocking threads of {@link Schedulers#boundedElastic()}, or invoked by the reactive view
+ * without blocking any thread :
+ * <pre>
+ * java -jar target/benchmarks.jar ReactiveReferenceBenchmark
+ * </pre>
+ *
+ * @see ReactiveProxyFactoryWrapper
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReactiveReferenceBenchmark {
+
+    /**
+     * The count of concurrent invocations per batch
+     */
+    private static final int CONCURRENCY = 64;
+
+    /**
+     * "bounded-elastic" : the synchronous proxy on {@link Schedulers#boundedElastic()},
+     * "reactive-view" : the proxy of {@link ReactiveDemoService}
+     */
+    @Param({"bounded-elastic", "reactive-view"})
+    private String mode;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private Invoker<DemoService> reactiveInvoker;
+
+    private ReactiveDemoService reactiveDemoService;
+
+    @Setup
+    public void setup() {
+        URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + DemoService.class.getName());
+        loopbackDemoService = new LoopbackDemoService(url);
+        if ("reactive-view".equals(mode)) {
+            reactiveInvoker = ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("dubbo")
+                    .refer(DemoService.class, url.addParameter(REACTIVE_VIEW_KEY, ReactiveDemoService.class.getName()));
+            reactiveDemoService = (ReactiveDemoService) ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+                    .getAdaptiveExtension().getProxy((Invoker<?>) reactiveInvoker);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (reactiveInvoker != null) {
+            reactiveInvoker.destroy();
+        }
+        loopbackDemoService.destroy();
+    }
+
+    @Benchmark
+    public Object sayHello() {
+        return Flux.range(0, CONCURRENCY).flatMap(this::sayHello, CONCURRENCY).blockLast();
+    }
+
+    private Mono<String> sayHello(int index) {
+        if (reactiveDemoService != null) {
+            return reactiveDemoService.sayHello("Reactive");
+        }
+        DemoService demoService = loopbackDemoService.getDemoService();
+        return Mono.fromCallable(() -> demoService.sayHello("Reactive")).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReactiveReferenceBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * The reactive view of {@link DemoService}
+     */
+    public interface ReactiveDemoService {
+
+        Mono<String> sayHello(String name);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.config.spring.extension.SpringExtensionFactory;
+import org.apache.dubbo.spring.boot.autoconfigure.DubboReactorNettyAutoConfiguration;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.NettyEventLoops;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the event loops of "tunable-netty" transporter by {@link DemoService#sayHello(String)} in a Spring WebFlux
+ * application :
+ * <ul>
+ * <li>"false" : the servers and clients of Dubbo create their own event loops besides the ones of Reactor Netty</li>
+ * <li>"true" : the servers and clients of Dubbo share the event loops of Reactor Netty</li>
+ * </ul>
+ * The event loops which are owned by Dubbo, the live and peak thread counts are printed once the trial is finished.
+ *
+ * @see DubboReactorNettyAutoConfiguration
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class SharedEventLoopsBenchmark {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Param({"false", "true"})
+    private boolean shareEventLoops;
+
+    private ConfigurableApplicationContext context;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private DemoService demoService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(WebFluxApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("server.port=0", "dubbo.transport.share-event-loops=" + shareEventLoops,
+                        "dubbo.application.name=shared-event-loops-benchmark", "dubbo.application.qos-enable=false",
+                        "dubbo.registry.address=N/A")
+                .run();
+        // The service is exported directly rather than by ServiceBean, thus the beans are injected from the context
+        SpringExtensionFactory.addApplicationContext(context);
+        loopbackDemoService = new LoopbackDemoService("server=tunable-netty&client=tunable-netty");
+        demoService = loopbackDemoService.getDemoService();
+        THREAD_MX_BEAN.resetPeakThreadCount();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("Share event loops : " + shareEventLoops + ", owned event loops : "
+                + NettyEventLoops.getOwnedEventLoops() + ", live threads : " + THREAD_MX_BEAN.getThreadCount()
+                + ", peak threads : " + THREAD_MX_BEAN.getPeakThreadCount());
+        loopbackDemoService.destroy();
+        SpringExtensionFactory.removeApplicationContext(context);
+        context.close();
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return demoService.sayHello("Shared Event Loops");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SharedEventLoopsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @EnableAutoConfiguration
+    static class WebFluxApplication {
+    }
+}
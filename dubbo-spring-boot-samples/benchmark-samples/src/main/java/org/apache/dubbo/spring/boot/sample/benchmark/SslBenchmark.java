@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.SslConfig;
+import org.apache.dubbo.remoting.Transporter;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.rpc.ProxyFactory;
+import org.apache.dubbo.rpc.model.ApplicationModel;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+import org.apache.dubbo.spring.boot.ssl.DubboSslProperties;
+import org.apache.dubbo.spring.boot.ssl.SslContextFactory;
+
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the TLS providers of {@link TunableNettyTransporter} by {@link DemoService#sayHello(String)} with a
+ * self-signed certificate :
+ * <ul>
+ * <li>{@link #sayHello()} : the throughput over the established connection, i.e. the cost of encryption</li>
+ * <li>{@link #reconnect()} : the throughput of a new connection per invocation, i.e. the cost of handshake, the
+ * sessions are resumed by the shared context</li>
+ * </ul>
+ * The provider "none" is the baseline without TLS, "openssl" requires netty-tcnative.
+ *
+ * @see SslContextFactory
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class SslBenchmark {
+
+    private static final ProxyFactory PROXY_FACTORY = ExtensionLoader.getExtensionLoader(ProxyFactory.class)
+            .getAdaptiveExtension();
+
+    @Param({"none", "jdk", "openssl"})
+    private String provider;
+
+    private SelfSignedCertificate certificate;
+
+    private SslConfig sslConfig;
+
+    private URL reconnectUrl;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private DemoService demoService;
+
+    @Setup
+    public void setup() throws Exception {
+        boolean sslEnabled = !"none".equals(provider);
+        if (sslEnabled) {
+            certificate = new SelfSignedCertificate();
+            sslConfig = new SslConfig();
+            sslConfig.setServerKeyCertChainPath(certificate.certificate().getAbsolutePath());
+            sslConfig.setServerPrivateKeyPath(certificate.privateKey().getAbsolutePath());
+            sslConfig.setClientTrustCertCollectionPath(certificate.certificate().getAbsolutePath());
+            ApplicationModel.getConfigManager().setSsl(sslConfig);
+            DubboSslProperties properties = new DubboSslProperties();
+            properties.setProvider(provider);
+            getTransporter().setDubboSslContextFactory(new SslContextFactory(properties));
+        }
+        URL url = URL.valueOf("dubbo://127.0.0.1:" + NetUtils.getAvailablePort() + "/" + DemoService.class.getName()
+                + "?server=" + TunableNettyTransporter.NAME + "&client=" + TunableNettyTransporter.NAME
+                + "&ssl-enabled=" + sslEnabled);
+        loopbackDemoService = new LoopbackDemoService(url);
+        demoService = loopbackDemoService.getDemoService();
+        // The dedicated connection isn't shared with the others, thus it's closed once the invoker is destroyed
+        reconnectUrl = url.addParameter("connections", 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loopbackDemoService.destroy();
+        if (sslConfig != null) {
+            getTransporter().setDubboSslContextFactory(null);
+            ApplicationModel.getConfigManager().removeConfig(sslConfig);
+            certificate.delete();
+        }
+    }
+
+    private static TunableNettyTransporter getTransporter() {
+        return (TunableNettyTransporter) ExtensionLoader.getExtensionLoader(Transporter.class)
+                .getExtension(TunableNettyTransporter.NAME);
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return demoService.sayHello("TLS");
+    }
+
+    @Benchmark
+    public String reconnect() {
+        Invoker<DemoService> invoker = ExtensionLoader.getExtensionLoader(Protocol.class).getAdaptiveExtension()
+                .refer(DemoService.class, reconnectUrl);
+        try {
+            return PROXY_FACTORY.getProxy(invoker).sayHello("TLS");
+        } finally {
+            invoker.destroy();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SslBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.apache.dubbo.config.annotation.DubboService;
+import org.apache.dubbo.config.spring.context.annotation.DubboComponentScan;
+import org.apache.dubbo.spring.boot.bytecode.PrecompiledProxyFactory;
+import org.apache.dubbo.spring.boot.preload.ClassPreloader;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold startup of a Spring Boot application which exports and refers {@link DemoService}, until the
+ * first invocation returns, with and without {@link ClassPreloader}, and with the proxies generated by Javassist at
+ * runtime or by {@link org.apache.dubbo.spring.boot.bytecode.DubboProxyProcessor} at build time. Every fork starts
+ * the application once, thus no class is loaded beforehand. The preloading lists of the annotated service and
+ * reference are generated at build time by {@link org.apache.dubbo.spring.boot.preload.DubboPreloadProcessor}.
+ *
+ * @see ClassPreloader
+ * @see PrecompiledProxyFactory
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({"false", "true"})
+    private boolean preload;
+
+    @Param({"javassist", PrecompiledProxyFactory.NAME})
+    private String proxy;
+
+    @Benchmark
+    public String startup() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(StartupApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("dubbo.preload.enabled=" + preload,
+                        "dubbo.precompiled-proxy.enabled=" + PrecompiledProxyFactory.NAME.equals(proxy),
+                        "dubbo.application.name=startup-benchmark",
+                        "dubbo.application.qos-enable=false", "dubbo.registry.address=N/A",
+                        "dubbo.protocol.name=dubbo", "dubbo.protocol.port=" + NetUtils.getAvailablePort())
+                .run();
+        try {
+            return context.getBean(StartupConsumer.class).demoService.sayHello("Startup");
+        } finally {
+            context.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StartupBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @EnableAutoConfiguration
+    @DubboComponentScan(basePackageClasses = StartupBenchmark.class)
+    static class StartupApplication {
+
+        @Bean
+        public StartupConsumer startupConsumer() {
+            return new StartupConsumer();
+        }
+    }
+
+    @DubboService
+    public static class StartupDemoService extends BenchmarkDemoService {
+    }
+
+    static class StartupConsumer {
+
+        @DubboReference(url = "dubbo://127.0.0.1:${dubbo.protocol.port}")
+        private DemoService demoService;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.rpc.AppResponse;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.RpcInvocation;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+import org.apache.dubbo.spring.boot.trace.SimpleDubboTracer;
+import org.apache.dubbo.spring.boot.trace.TraceSampler;
+import org.apache.dubbo.spring.boot.trace.TracingFilter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the consumer and provider {@link TracingFilter} on the {@link DemoService#sayHello(String)}
+ * path, run it with the GC profiler to see the allocation rate of the unsampled invocations :
+ * <pre>
+ * java -jar target/benchmarks.jar TracingFilterBenchmark -prof gc
+ * </pre>
+ *
+ * @see TracingFilter
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TracingFilterBenchmark {
+
+    /**
+     * "untraced" : no tracer is injected, "unsampled" : none of invocations is sampled,
+     * "sampled" : all invocations are sampled
+     */
+    @Param({"untraced", "unsampled", "sampled"})
+    private String mode;
+
+    private final DemoService demoService = new BenchmarkDemoService();
+
+    private final TracingFilter consumerFilter = new TracingFilter();
+
+    private final TracingFilter providerFilter = new TracingFilter();
+
+    private Invoker<DemoService> consumerInvoker;
+
+    @Setup
+    public void setup() {
+        if (!"untraced".equals(mode)) {
+            TraceSampler sampler = "sampled".equals(mode) ? TraceSampler.ALWAYS_SAMPLE : TraceSampler.NEVER_SAMPLE;
+            consumerFilter.setDubboTracer(new SimpleDubboTracer(sampler, span -> {
+            }));
+            providerFilter.setDubboTracer(new SimpleDubboTracer(sampler, span -> {
+            }));
+        }
+        Invoker<DemoService> serviceInvoker = new DemoServiceInvoker("provider", invocation -> {
+            Object[] arguments = invocation.getArguments();
+            return new AppResponse(demoService.sayHello((String) arguments[0]));
+        });
+        Invoker<DemoService> providerInvoker = new DemoServiceInvoker("provider", invocation -> {
+            // Simulates the attachments which are transferred to the provider
+            RpcInvocation providerInvocation = new RpcInvocation(invocation);
+            Result result = providerFilter.invoke(serviceInvoker, providerInvocation);
+            providerFilter.onResponse(result, serviceInvoker, providerInvocation);
+            return result;
+        });
+        consumerInvoker = new DemoServiceInvoker("consumer", invocation -> {
+            Result result = consumerFilter.invoke(providerInvoker, invocation);
+            consumerFilter.onResponse(result, providerInvoker, invocation);
+            return result;
+        });
+    }
+
+    @Benchmark
+    public Object sayHello() {
+        RpcInvocation invocation = new RpcInvocation("sayHello", DemoService.class.getName(), null,
+                new Class<?>[]{String.class}, new Object[]{"Tracing"});
+        return consumerInvoker.invoke(invocation).getValue();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TracingFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private interface Invocable {
+
+        Result invoke(Invocation invocation);
+    }
+
+    private static class DemoServiceInvoker implements Invoker<DemoService> {
+
+        private final URL url;
+
+        private final Invocable invocable;
+
+        DemoServiceInvoker(String side, Invocable invocable) {
+            this.url = URL.valueOf("dubbo://127.0.0.1:12345/" + DemoService.class.getName() + "?side=" + side);
+            this.invocable = invocable;
+        }
+
+        @Override
+        public Class<DemoService> getInterface() {
+            return DemoService.class;
+        }
+
+        @Override
+        public Result invoke(Invocation invocation) throws RpcException {
+            return invocable.invoke(invocation);
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TransportNative;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput and the latency percentiles (p0.99 of sample mode) of {@link DemoService#sayHello(String)}
+ * on the loopback address between NIO, epoll and epoll with SO_REUSEPORT of {@link TunableNettyTransporter}, epoll
+ * requires Linux :
+ * <pre>
+ * java -jar target/benchmarks.jar TransportNativeBenchmark
+ * </pre>
+ *
+ * @see TransportNative
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class TransportNativeBenchmark {
+
+    @Param({
+            "transport-native=nio",
+            "transport-native=epoll",
+            "transport-native=epoll&reuse-port=true"
+    })
+    private String transport;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private DemoService demoService;
+
+    @Setup
+    public void setup() {
+        loopbackDemoService = new LoopbackDemoService("server=" + TunableNettyTransporter.NAME + "&client="
+                + TunableNettyTransporter.NAME + "&connections=4&" + transport);
+        demoService = loopbackDemoService.getDemoService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        loopbackDemoService.destroy();
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return demoService.sayHello("Transport");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TransportNativeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyConstants;
+import org.apache.dubbo.spring.boot.remoting.transport.netty4.TunableNettyTransporter;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput and the latency percentiles (p0.99 of sample mode) of {@link DemoService#sayHello(String)}
+ * between TCP loopback and Unix domain socket of {@link TunableNettyTransporter}, both are on epoll that requires
+ * Linux :
+ * <pre>
+ * java -jar target/benchmarks.jar UnixSocketBenchmark
+ * </pre>
+ *
+ * @see TunableNettyConstants#UNIX_SOCKET_PATH_KEY
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class UnixSocketBenchmark {
+
+    @Param({"tcp", "unix-socket"})
+    private String transport;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private DemoService demoService;
+
+    @Setup
+    public void setup() {
+        String parameters = "server=" + TunableNettyTransporter.NAME + "&client=" + TunableNettyTransporter.NAME
+                + "&transport-native=epoll&connections=4";
+        if ("unix-socket".equals(transport)) {
+            File socketFile = new File(System.getProperty("java.io.tmpdir"), "dubbo-benchmark-" + System.nanoTime()
+                    + ".sock");
+            parameters += "&" + TunableNettyConstants.UNIX_SOCKET_PATH_KEY + "=" + socketFile.getAbsolutePath();
+        }
+        loopbackDemoService = new LoopbackDemoService(parameters);
+        demoService = loopbackDemoService.getDemoService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        loopbackDemoService.destroy();
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return demoService.sayHello("Transport");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UnixSocketBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.dubbo.spring.boot.sample.benchmark;
+
+import org.apache.dubbo.common.URL;
+import org.apache.dubbo.common.extension.ExtensionLoader;
+import org.apache.dubbo.common.utils.NetUtils;
+import org.apache.dubbo.rpc.Protocol;
+import org.apache.dubbo.spring.boot.autoconfigure.DubboWebServerAutoConfiguration;
+import org.apache.dubbo.spring.boot.sample.consumer.DemoService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the servers of Hessian protocol by {@link DemoService#sayHello(String)} in a Spring Boot web application :
+ * <ul>
+ * <li>"tomcat" : the dedicated Tomcat of Dubbo on its own port, besides the web server of Spring Boot</li>
+ * <li>"servlet" : the web server of Spring Boot, i.e. its connector, executor and port</li>
+ * </ul>
+ * The live and peak thread counts are printed once the trial is finished.
+ *
+ * @see DubboWebServerAutoConfiguration
+ * @since 2.7.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class WebServerBenchmark {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Param({"tomcat", "servlet"})
+    private String server;
+
+    private ConfigurableApplicationContext context;
+
+    private LoopbackDemoService loopbackDemoService;
+
+    private DemoService demoService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(WebApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "dubbo.web-server.enabled=true", "dubbo.application.name=web-server-benchmark",
+                        "dubbo.application.qos-enable=false", "dubbo.registry.address=N/A")
+                .run();
+        URL url;
+        if ("servlet".equals(server)) {
+            // "bind.port" is the key of handler, it's added by ServiceConfig unless the service is exported directly
+            String port = context.getEnvironment().getProperty("local.server.port");
+            url = URL.valueOf("hessian://127.0.0.1:" + port + "/dubbo/" + DemoService.class.getName()
+                    + "?server=servlet&bind.port=" + port);
+        } else {
+            url = URL.valueOf("hessian://127.0.0.1:" + NetUtils.getAvailablePort() + "/"
+                    + DemoService.class.getName() + "?server=" + server);
+        }
+        loopbackDemoService = new LoopbackDemoService(url);
+        demoService = loopbackDemoService.getDemoService();
+        THREAD_MX_BEAN.resetPeakThreadCount();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("Server : " + server + ", live threads : " + THREAD_MX_BEAN.getThreadCount()
+                + ", peak threads : " + THREAD_MX_BEAN.getPeakThreadCount());
+        loopbackDemoService.destroy();
+        ExtensionLoader.getExtensionLoader(Protocol.class).getExtension("hessian").destroy();
+        context.close();
+    }
+
+    @Benchmark
+    public String sayHello() {
+        return demoService.sayHello("Web Server");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WebServerBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @EnableAutoConfiguration
+    static class WebApplication {
+    }
+}